@@ -156,6 +156,22 @@ import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger
  * <td>model of extraction on disk 1 or 2 (default 2)</td>
  * </tr>
  * <tr>
+ * <td>--extractthreads x</td>
+ * <td>number of threads extracting the messages, once read in store order (default 1)</td>
+ * </tr>
+ * <tr>
+ * <td>--extractfolderthreads x</td>
+ * <td>number of threads extracting the sibling folders stored in distinct files, as Thunderbird mbox files (default 1)</td>
+ * </tr>
+ * <tr>
+ * <td>--persistmboxindex</td>
+ * <td>keep an index of the messages boundaries next to each mbox file, reused by later extractions (default no file written in the source directory)</td>
+ * </tr>
+ * <tr>
+ * <td>--linkduplicateattachments</td>
+ * <td>write only once the identical attachments, the other occurrences being hard links to the first one (falls back to copies when links are not supported)</td>
+ * </tr>
+ * <tr>
  * <td>--verbatim x</td>
  * <td>event level to log (OFF|GLOBAL|WARNING|FOLDER|MESSAGE_GROUP|MESSAGE|MESSAGE_DETAILS)</td>
  * </tr>
@@ -273,6 +289,22 @@ public class MailExtractApp {
                 "model of extraction on disk 1 or 2 (default 2)");
         options.addOption(model);
 
+        Option extractthreads = new Option("extractthreads", "extractthreads", true,
+                "number of threads extracting the messages, once read in store order (default 1)");
+        options.addOption(extractthreads);
+
+        Option extractfolderthreads = new Option("extractfolderthreads", "extractfolderthreads", true,
+                "number of threads extracting the sibling folders stored in distinct files, as Thunderbird mbox files (default 1)");
+        options.addOption(extractfolderthreads);
+
+        Option persistmboxindex = new Option("persistmboxindex", "persistmboxindex", false,
+                "keep an index of the messages boundaries next to each mbox file, reused by later extractions (default no file written in the source directory)");
+        options.addOption(persistmboxindex);
+
+        Option linkduplicateattachments = new Option("linkduplicateattachments", "linkduplicateattachments", false,
+                "write only once the identical attachments, the other occurrences being hard links to the first one (falls back to copies when links are not supported)");
+        options.addOption(linkduplicateattachments);
+
         Option warning = new Option("w", "warning", false,
                 "generate warning when there's a problem on a message (otherwise log at MESSAGE_DETAILS level)");
         options.addOption(warning);
@@ -311,6 +343,8 @@ public class MailExtractApp {
         int port = -1;
         int namesLength = 12;
         int model = 2;
+        int extractThreads = 1;
+        int extractFolderThreads = 1;
         StoreExtractorOptions storeExtractorOptions;
         boolean local = false;
         String logLevel, defaultCharset;
@@ -375,6 +409,34 @@ public class MailExtractApp {
             }
         }
 
+        if (cmd.hasOption("extractthreads")) {
+            try {
+                extractThreads = Integer.parseInt((String) cmd.getOptionValue("extractthreads"));
+
+            } catch (NumberFormatException e) {
+                System.err.println("the extract threads argument must be numeric");
+                System.exit(1);
+            }
+            if (extractThreads < 1) {
+                System.err.println("the extract threads argument must be at least 1");
+                System.exit(1);
+            }
+        }
+
+        if (cmd.hasOption("extractfolderthreads")) {
+            try {
+                extractFolderThreads = Integer.parseInt((String) cmd.getOptionValue("extractfolderthreads"));
+
+            } catch (NumberFormatException e) {
+                System.err.println("the extract folder threads argument must be numeric");
+                System.exit(1);
+            }
+            if (extractFolderThreads < 1) {
+                System.err.println("the extract folder threads argument must be at least 1");
+                System.exit(1);
+            }
+        }
+
         // identify protocol option
         if (cmd.hasOption("type"))
             protocol = (String) cmd.getOptionValue("type");
@@ -392,6 +454,10 @@ public class MailExtractApp {
                 cmd.hasOption("warning"), namesLength, defaultCharset, cmd.hasOption("extractlists"), cmd.hasOption("extractmessagetextfile"),
                 cmd.hasOption("extractmessagetextmetadata"), cmd.hasOption("extractfiletextfile"),
                 cmd.hasOption("extractfiletextmetadata"), model);
+        storeExtractorOptions.extractThreads = extractThreads;
+        storeExtractorOptions.linkDuplicateAttachments = cmd.hasOption("linkduplicateattachments");
+        storeExtractorOptions.extractFolderThreads = extractFolderThreads;
+        storeExtractorOptions.persistMboxIndex = cmd.hasOption("persistmboxindex");
 
         // specific option parsing for local type extraction
         switch (protocol) {
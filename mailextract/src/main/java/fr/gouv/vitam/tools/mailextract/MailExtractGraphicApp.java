@@ -299,6 +299,7 @@ public class MailExtractGraphicApp implements ActionListener, Runnable {
         password = null;
         container = "";
         folder = "";
+        StoreExtractorOptions commandLineOptions = storeExtractorOptions;
         storeExtractorOptions = new StoreExtractorOptions();
         local = true;
 
@@ -348,6 +349,12 @@ public class MailExtractGraphicApp implements ActionListener, Runnable {
         storeExtractorOptions.extractFileTextFile = mainWindow.extractfiletextfileCheckBox.isSelected();
         storeExtractorOptions.extractFileTextMetadata = mainWindow.extractfiletextmetadataCheckBox.isSelected();
 
+        // options only defined on the command line
+        storeExtractorOptions.extractThreads = commandLineOptions.extractThreads;
+        storeExtractorOptions.linkDuplicateAttachments = commandLineOptions.linkDuplicateAttachments;
+        storeExtractorOptions.extractFolderThreads = commandLineOptions.extractFolderThreads;
+        storeExtractorOptions.persistMboxIndex = commandLineOptions.persistMboxIndex;
+
         debugFlag = mainWindow.debugCheckBox.isSelected();
 
         try {
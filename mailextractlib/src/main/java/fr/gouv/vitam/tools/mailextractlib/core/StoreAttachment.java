@@ -32,9 +32,11 @@ import fr.gouv.vitam.tools.mailextractlib.nodes.ArchiveUnit;
 import fr.gouv.vitam.tools.mailextractlib.utils.DateRange;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
@@ -122,10 +124,40 @@ public class StoreAttachment {
     public byte[] getRawAttachmentContent() throws MailExtractLibException {
         if (attachmentContent instanceof byte[])
             return (byte[]) attachmentContent;
+        else if (attachmentContent instanceof RawContent)
+            try {
+                return ((RawContent) attachmentContent).getBytes();
+            } catch (IOException e) {
+                throw new MailExtractLibException("mailextractlib: can't read the attachment spilled content", e);
+            }
         else
             throw new MailExtractLibException("mailextractlib: this attachment has no binary form", null);
     }
 
+    /**
+     * Checks if the attachment content has a binary form, either byte[] or
+     * {@link RawContent}.
+     *
+     * @return true, if binary
+     */
+    public boolean hasBinaryContent() {
+        return (attachmentContent instanceof byte[]) || (attachmentContent instanceof RawContent);
+    }
+
+    /**
+     * Release the attachments contents spilled to temporary files.
+     *
+     * @param attachments the attachments
+     */
+    static void releaseAttachmentsContent(List<StoreAttachment> attachments) {
+        if (attachments != null) {
+            for (StoreAttachment a : attachments) {
+                if (a.attachmentContent instanceof RawContent)
+                    ((RawContent) a.attachmentContent).release();
+            }
+        }
+    }
+
     /**
      * Gets the scheme.
      *
@@ -136,7 +168,7 @@ public class StoreAttachment {
     }
 
     /**
-     * Gets the store content, either byte[] or a specific objet treated by the extractor.
+     * Gets the store content, either byte[], {@link RawContent} or a specific objet treated by the extractor.
      *
      * @return the store content
      */
@@ -221,13 +253,16 @@ public class StoreAttachment {
         if (attachments != null && !attachments.isEmpty()) {
             for (StoreAttachment a : attachments) {
                 if ((a.attachmentType != StoreAttachment.STORE_ATTACHMENT)
-                        && (a.attachmentContent instanceof byte[])
+                        && a.hasBinaryContent()
                         // special case for ms-tnef attachments "winmail.dat" because tika can identify them as rfc822
                         // when part of it is mail
                         && (!a.mimeType.toLowerCase().equals("application/ms-tnef")
                         && (!a.mimeType.toLowerCase().equals("application/vnd.ms-tnef")))) {
                     try {
-                        mimeType = TikaExtractor.getInstance().getMimeType(a.getRawAttachmentContent());
+                        if (a.attachmentContent instanceof RawContent)
+                            mimeType = TikaExtractor.getInstance().getMimeType((RawContent) a.attachmentContent);
+                        else
+                            mimeType = TikaExtractor.getInstance().getMimeType(a.getRawAttachmentContent());
                         if (mimeType == null)
                             continue;
                         for (String mt : StoreExtractor.mimeTypeSchemeMap.keySet()) {
@@ -301,14 +336,20 @@ public class StoreAttachment {
         if (date != null)
             attachmentNode.addMetadata("CreatedDate", DateRange.getISODateString(creationDate), true);
 
-        // Raw object extraction
-        attachmentNode.addObject(getRawAttachmentContent(), name, "BinaryMaster", 1);
+        // Raw object extraction, streamed from the temporary file if spilled
+        if (attachmentContent instanceof RawContent)
+            attachmentNode.addObject((RawContent) attachmentContent, name, "BinaryMaster", 1);
+        else
+            attachmentNode.addObject(getRawAttachmentContent(), name, "BinaryMaster", 1);
 
         // Text object extraction
         String textExtract = null;
         if (fatherExtractor.options.extractFileTextFile || fatherExtractor.options.extractFileTextMetadata)
             try {
-                textExtract = TikaExtractor.getInstance().extractTextFromBinary(getRawAttachmentContent());
+                if (attachmentContent instanceof RawContent)
+                    textExtract = TikaExtractor.getInstance().extractTextFromBinary((RawContent) attachmentContent);
+                else
+                    textExtract = TikaExtractor.getInstance().extractTextFromBinary(getRawAttachmentContent());
             } catch (MailExtractLibException ee) {
                 doProgressLog(fatherExtractor.getProgressLogger(), MailExtractProgressLogger.MESSAGE_DETAILS,
                         "mailextractlib: can't extract text content from attachment " + name, ee);
@@ -355,6 +396,12 @@ public class StoreAttachment {
                         "Extraction d'un conteneur " + attachmentStoreScheme + (name == null ? "" : " " + name),
                         true);
             }
+            // nested store extractors read the store from a byte array
+            if (attachmentContent instanceof RawContent) {
+                RawContent rawContent = (RawContent) attachmentContent;
+                attachmentContent = getRawAttachmentContent();
+                rawContent.release();
+            }
             try {
                 extractor = (StoreExtractor) storeExtractorClass
                         .getConstructor(StoreAttachment.class, ArchiveUnit.class, StoreExtractorOptions.class,
@@ -54,6 +54,12 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger.*;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -291,6 +297,18 @@ public abstract class StoreExtractor {
     // private logger
     private MailExtractProgressLogger logger;
 
+    // private pool extracting the messages read by the folders, null if extraction is sequential
+    private ExecutorService messageExecutor;
+
+    // private pool extracting sibling folders, null if extraction is sequential
+    private ExecutorService folderExecutor;
+
+    // private map of written attachments files by content key, for duplicates linking
+    private final Map<String, String> attachmentFilesMap = new ConcurrentHashMap<>();
+
+    // private counter for extraction threads naming
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
     /**
      * The Global lists ps map.
      * private map of printstreams for global lists extraction
@@ -388,7 +406,7 @@ public abstract class StoreExtractor {
      * @return the initialized global list ps
      */
     @SuppressWarnings("unchecked")
-    public PrintStream getGlobalListPS(Class listClass) {
+    public synchronized PrintStream getGlobalListPS(Class listClass) {
         String globalListName = null;
         PrintStream result = null;
         try {
@@ -420,7 +438,7 @@ public abstract class StoreExtractor {
      * @return the initialized global list counter
      */
     @SuppressWarnings("unchecked")
-    public int getElementCounter(Class listClass, boolean subFlag) {
+    public synchronized int getElementCounter(Class listClass, boolean subFlag) {
         String elementName = null;
         Integer result = 0;
         try {
@@ -449,7 +467,7 @@ public abstract class StoreExtractor {
      * @return the int
      */
     @SuppressWarnings("unchecked")
-    public int addElementCounter(int value, Class listClass, boolean subFlag) {
+    public synchronized int addElementCounter(int value, Class listClass, boolean subFlag) {
         String elementName = null;
         Integer result = 0;
         try {
@@ -602,6 +620,8 @@ public abstract class StoreExtractor {
             if (!first)
                 optionsLog += ", ";
             optionsLog += "with names length=" + Integer.toString(options.namesLength);
+            if (options.persistMboxIndex)
+                optionsLog += ", keeping mbox index files";
             optionsLog += ", ";
             optionsLog += "with log level " + getProgressLogger().getLevelName();
 
@@ -644,7 +664,7 @@ public abstract class StoreExtractor {
      *
      * @return a uniq ID
      */
-    public int getUniqID() {
+    public synchronized int getUniqID() {
         int id;
         if (rootStoreExtractor == null)
             id = uniqID++;
@@ -653,12 +673,96 @@ public abstract class StoreExtractor {
         return id;
     }
 
+    // create a pool of daemon threads for extraction tasks
+    private static ExecutorService newExtractionThreadPool(int threads, String kind) {
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "mailextractlib-" + kind + "-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Checks if sibling folders are extracted by a thread pool.
+     *
+     * @return true, if folders extraction is concurrent
+     */
+    boolean isConcurrentFolderExtraction() {
+        return folderExecutor != null;
+    }
+
+    /**
+     * Execute a folder extraction task in the thread pool.
+     *
+     * @param task the folder extraction task
+     */
+    void executeFolderExtraction(Runnable task) {
+        folderExecutor.execute(task);
+    }
+
+    /**
+     * Checks if messages are extracted by a thread pool while the folders are read.
+     *
+     * @return true, if messages extraction is concurrent
+     */
+    boolean isConcurrentMessageExtraction() {
+        return messageExecutor != null;
+    }
+
+    /**
+     * Gets the maximum number of messages read and waiting for their extraction in a folder.
+     *
+     * @return the maximum number of pending messages
+     */
+    int getMaxPendingMessages() {
+        return 4 * options.extractThreads;
+    }
+
+    /**
+     * Submit a message extraction task to the thread pool.
+     *
+     * @param task the message extraction task
+     * @return the future of the task
+     */
+    Future<?> submitMessageExtraction(Callable<Void> task) {
+        return messageExecutor.submit(task);
+    }
+
+    /**
+     * Gets the path of an already written attachment file with the same content.
+     * <p>
+     * The map is kept in root store extractor context to find duplicates in the
+     * whole extraction process even in nested extractions.
+     *
+     * @param contentKey the content key (digest and size)
+     * @return the file path, or null if none
+     */
+    public String getAttachmentFile(String contentKey) {
+        if (rootStoreExtractor != null)
+            return rootStoreExtractor.getAttachmentFile(contentKey);
+        return attachmentFilesMap.get(contentKey);
+    }
+
+    /**
+     * Record a written attachment file, if no other one with the same content
+     * is already recorded.
+     *
+     * @param contentKey the content key (digest and size)
+     * @param filePath   the file path
+     */
+    public void putAttachmentFile(String contentKey, String filePath) {
+        if (rootStoreExtractor != null)
+            rootStoreExtractor.putAttachmentFile(contentKey, filePath);
+        else
+            attachmentFilesMap.putIfAbsent(contentKey, filePath);
+    }
+
     /**
      * Add to total raw size.
      *
      * @param elementSize the element size
      */
-    public void addTotalRawSize(long elementSize) {
+    public synchronized void addTotalRawSize(long elementSize) {
         totalRawSize += elementSize;
     }
 
@@ -865,7 +969,22 @@ public abstract class StoreExtractor {
         writeTargetLog();
         doProgressLog(logger, MailExtractProgressLogger.GLOBAL, "mailextractlib: extraction begin", null);
 
-        rootStoreFolder.extractFolderAsRoot(true);
+        if (isRoot() && (options.extractThreads > 1))
+            messageExecutor = newExtractionThreadPool(options.extractThreads, "message");
+        if (isRoot() && (options.extractFolderThreads > 1))
+            folderExecutor = newExtractionThreadPool(options.extractFolderThreads, "folder");
+        try {
+            rootStoreFolder.extractFolderAsRoot(true);
+        } finally {
+            if (messageExecutor != null) {
+                messageExecutor.shutdownNow();
+                messageExecutor = null;
+            }
+            if (folderExecutor != null) {
+                folderExecutor.shutdownNow();
+                folderExecutor = null;
+            }
+        }
 
         ArchiveUnit rootNode = rootStoreFolder.getArchiveUnit();
         rootNode.addMetadata("DescriptionLevel", "RecordGrp", true);
@@ -80,6 +80,30 @@ public class StoreExtractorOptions {
     /** The model of extraction on disk. */
     public int model;
 
+    /**
+     * The number of threads used to extract messages, after they are read and analyzed in store order. With 1 the
+     * messages are extracted one at a time by the reading thread.
+     */
+    public int extractThreads;
+
+    /**
+     * The number of threads used to extract sibling folders which are independent files in the store (Thunderbird
+     * mbox files). With 1 the folders are extracted one after the other.
+     */
+    public int extractFolderThreads;
+
+    /**
+     * The flag to write only once the identical attachments files of the extraction, the other occurrences being hard
+     * links to the first one.
+     */
+    public boolean linkDuplicateAttachments;
+
+    /**
+     * The flag to keep the messages boundaries of each mbox file in an index file next to it, reused by later
+     * extractions of the unchanged file. As it writes in the source directory, it's off by default.
+     */
+    public boolean persistMboxIndex;
+
     /**
      * Instantiates a new store extractor options.
      */
@@ -99,6 +123,10 @@ public class StoreExtractorOptions {
         extractFileTextMetadata = false;
         defaultCharsetName = "windows-1252";
         model = 2;
+        extractThreads = 1;
+        extractFolderThreads = 1;
+        linkDuplicateAttachments = false;
+        persistMboxIndex = false;
     }
 
     /**
@@ -135,6 +163,10 @@ public class StoreExtractorOptions {
         this.extractFileTextFile = extractFileTextFile;
         this.extractFileTextMetadata = extractFileTextMetadata;
         this.model = model;
+        this.extractThreads = 1;
+        this.extractFolderThreads = 1;
+        this.linkDuplicateAttachments = false;
+        this.persistMboxIndex = false;
     }
 
     /**
@@ -179,6 +211,10 @@ public class StoreExtractorOptions {
         this.extractFileTextFile = extractFileTextFile;
         this.extractFileTextMetadata = extractFileTextMetadata;
         this.model = model;
+        this.extractThreads = 1;
+        this.extractFolderThreads = 1;
+        this.linkDuplicateAttachments = false;
+        this.persistMboxIndex = false;
     }
 
 }
@@ -32,6 +32,16 @@ import fr.gouv.vitam.tools.mailextractlib.utils.DateRange;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
 import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger.doProgressLog;
 
 /**
@@ -80,6 +90,49 @@ public abstract class StoreFolder {
     private int folderSubFoldersCount;
     private long folderElementsRawSize;
 
+    // private queue of messages extractions, in reading order, submitted to the store extractor pool
+    private Deque<PendingMessageExtraction> pendingMessageExtractions;
+
+    // a message extraction submitted to the store extractor pool, which can be started only once, either by the
+    // pool task or by the cancellation, so that its content is released by the one which started it
+    static class PendingMessageExtraction {
+        private final StoreMessage message;
+        private final AtomicBoolean started;
+        private Future<?> future;
+
+        PendingMessageExtraction(StoreMessage message) {
+            this.message = message;
+            this.started = new AtomicBoolean();
+        }
+
+        boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        // pool task, extracting the message, which releases its content itself, if not already cancelled
+        Void run() throws MailExtractLibException, InterruptedException {
+            if (start())
+                extract();
+            return null;
+        }
+
+        // cancellation, releasing the content only if the extraction has never started
+        void cancel() {
+            if (start())
+                release();
+            if (future != null)
+                future.cancel(true);
+        }
+
+        void extract() throws MailExtractLibException, InterruptedException {
+            message.extractMessageContent(true);
+        }
+
+        void release() {
+            StoreAttachment.releaseAttachmentsContent(message.attachments);
+        }
+    }
+
     /**
      * Instantiates a new store folder.
      *
@@ -335,8 +388,87 @@ public abstract class StoreFolder {
     private void extractFolderElements(boolean writeFlag) throws MailExtractLibException, InterruptedException {
         folderElementsCount = 0;
         folderElementsRawSize = 0;
-        if (hasElements())
-            doExtractFolderElements(writeFlag);
+        if (hasElements()) {
+            boolean completed = false;
+            try {
+                doExtractFolderElements(writeFlag);
+                completePendingMessageExtractions();
+                completed = true;
+            } finally {
+                if (!completed)
+                    cancelPendingMessageExtractions();
+            }
+        }
+    }
+
+    /**
+     * Submit the extraction of an analyzed message to the store extractor pool.
+     * <p>
+     * The messages whose extraction is done are then completed, in reading
+     * order, and the reading thread waits if too many messages are pending.
+     *
+     * @param message the analyzed message
+     * @throws MailExtractLibException Any unrecoverable extraction exception (access trouble, major             format problems...)
+     * @throws InterruptedException    the interrupted exception
+     */
+    void submitMessageExtraction(StoreMessage message) throws MailExtractLibException, InterruptedException {
+        if (pendingMessageExtractions == null)
+            pendingMessageExtractions = new ArrayDeque<>();
+        PendingMessageExtraction extraction = new PendingMessageExtraction(message);
+        pendingMessageExtractions.addLast(extraction);
+        extraction.future = storeExtractor.submitMessageExtraction(extraction::run);
+        while (!pendingMessageExtractions.isEmpty() && (pendingMessageExtractions.peekFirst().future.isDone()
+                || (pendingMessageExtractions.size() > storeExtractor.getMaxPendingMessages())))
+            completeFirstPendingMessageExtraction();
+    }
+
+    /**
+     * Wait for and complete, in reading order, all the pending messages
+     * extractions.
+     *
+     * @throws MailExtractLibException Any unrecoverable extraction exception (access trouble, major             format problems...)
+     * @throws InterruptedException    the interrupted exception
+     */
+    void completePendingMessageExtractions() throws MailExtractLibException, InterruptedException {
+        while ((pendingMessageExtractions != null) && !pendingMessageExtractions.isEmpty())
+            completeFirstPendingMessageExtraction();
+    }
+
+    // complete the first pending message, counting it and writing it in the mails csv list
+    private void completeFirstPendingMessageExtraction() throws MailExtractLibException, InterruptedException {
+        PendingMessageExtraction extraction = pendingMessageExtractions.pollFirst();
+        StoreMessage message = extraction.message;
+        getExtractionResult(extraction.future, message::getLogDescription);
+        message.completeMessageExtraction(true);
+        message.countMessage();
+    }
+
+    // wait for an extraction task result, rethrowing the task exception
+    private static <T> T getExtractionResult(Future<T> extraction, Supplier<String> description)
+            throws MailExtractLibException, InterruptedException {
+        try {
+            return extraction.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MailExtractLibException)
+                throw (MailExtractLibException) cause;
+            if (cause instanceof InterruptedException)
+                throw (InterruptedException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new MailExtractLibException("mailextractlib: can't extract " + description.get(), cause);
+        }
+    }
+
+    // cancel all the pending messages extractions after a failure
+    private void cancelPendingMessageExtractions() {
+        if (pendingMessageExtractions != null) {
+            // an extraction never started has to release its attachments content, as a started one does it
+            // itself, even when interrupted
+            for (PendingMessageExtraction extraction : pendingMessageExtractions)
+                extraction.cancel();
+            pendingMessageExtractions.clear();
+        }
     }
 
     /**
@@ -352,6 +484,60 @@ public abstract class StoreFolder {
      */
     protected abstract void doExtractFolderElements(boolean writeFlag) throws MailExtractLibException, InterruptedException;
 
+    /**
+     * Checks if the sub folders can be extracted concurrently by the store
+     * extractor thread pool, with
+     * {@link #extractSubFoldersConcurrently extractSubFoldersConcurrently}.
+     *
+     * @return true, if sub folders extraction is concurrent
+     */
+    protected boolean isConcurrentSubFoldersExtraction() {
+        return storeExtractor.isConcurrentFolderExtraction();
+    }
+
+    /**
+     * Extract sub folders concurrently, each one with
+     * {@link #extractFolder extractFolder} in the store extractor thread pool.
+     * <p>
+     * The sub folders have to be independent in the store, with their own
+     * native access. Results are accumulated in this folder, in the sub
+     * folders order, when all are extracted.
+     *
+     * @param subFolders the sub folders
+     * @param level      distance from the root folder of this folder (used for drop options)
+     * @param writeFlag  the write flag
+     * @throws MailExtractLibException Any unrecoverable extraction exception (access trouble, major             format problems...)
+     * @throws InterruptedException    the interrupted exception
+     */
+    protected void extractSubFoldersConcurrently(List<? extends StoreFolder> subFolders, int level, boolean writeFlag)
+            throws MailExtractLibException, InterruptedException {
+        List<FutureTask<Boolean>> extractions = new ArrayList<>(subFolders.size());
+        for (StoreFolder subFolder : subFolders) {
+            FutureTask<Boolean> extraction = new FutureTask<>(() -> subFolder.extractFolder(level + 1, writeFlag));
+            extractions.add(extraction);
+            storeExtractor.executeFolderExtraction(extraction);
+        }
+        boolean completed = false;
+        try {
+            for (int i = 0; i < extractions.size(); i++) {
+                StoreFolder subFolder = subFolders.get(i);
+                FutureTask<Boolean> extraction = extractions.get(i);
+                // run here the extractions not yet taken by the pool, so that a folder waiting for its sub folders
+                // never starves the pool
+                extraction.run();
+                if (getExtractionResult(extraction, () -> "folder " + subFolder.getFullName()))
+                    incFolderSubFoldersCount();
+                dateRange.extendRange(subFolder.getDateRange());
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                for (FutureTask<Boolean> extraction : extractions)
+                    extraction.cancel(true);
+            }
+        }
+    }
+
     // encapsulate the subclasses real processing method
     private void extractSubFolders(int level, boolean writeFlag) throws MailExtractLibException, InterruptedException {
         folderSubFoldersCount = 0;
@@ -547,11 +547,29 @@ public abstract class StoreMessage extends StoreElement {
             listLineId = storeFolder.getStoreExtractor().incElementCounter(this.getClass());
             analyzeMessage();
             storeFolder.getDateRange().extendRange(sentDate);
-            extractMessage(writeFlag);
-            countMessage();
+            if (writeFlag && getStoreExtractor().isConcurrentMessageExtraction() && isConcurrentlyExtractable())
+                storeFolder.submitMessageExtraction(this);
+            else {
+                // keep the mails list in reading order
+                storeFolder.completePendingMessageExtractions();
+                extractMessage(writeFlag);
+                countMessage();
+            }
         }
     }
 
+    // a message can be extracted out of the reading thread only if all its content has been read, that is if no
+    // attachment is a native store object or has to be extracted by a nested store extractor
+    private boolean isConcurrentlyExtractable() {
+        if (attachments != null) {
+            for (StoreAttachment a : attachments) {
+                if ((a.attachmentType == StoreAttachment.STORE_ATTACHMENT) || !a.hasBinaryContent())
+                    return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void listElement(boolean statsFlag) throws InterruptedException, MailExtractLibException {
         if (storeFolder.getStoreExtractor().getOptions().extractMessages) {
@@ -559,6 +577,8 @@ public abstract class StoreMessage extends StoreElement {
             analyzeMessage();
             if (statsFlag)
                 extractMessage(false);
+            else
+                StoreAttachment.releaseAttachmentsContent(attachments);
             countMessage();
         }
     }
@@ -576,6 +596,31 @@ public abstract class StoreMessage extends StoreElement {
      * @throws InterruptedException    the interrupted exception
      */
     public final void extractMessage(boolean writeFlag) throws MailExtractLibException, InterruptedException {
+        extractMessageContent(writeFlag);
+        completeMessageExtraction(writeFlag);
+    }
+
+    /**
+     * Create the Archive Unit structures and write them on disk if writeFlag is
+     * true, using only what has been read during message analysis.
+     * <p>
+     * This part of the extraction can be done out of the reading thread.
+     *
+     * @param writeFlag write or not flag (no write used for stats)
+     * @throws MailExtractLibException Any unrecoverable extraction exception (access trouble, major                             format problems...)
+     * @throws InterruptedException    the interrupted exception
+     */
+    final void extractMessageContent(boolean writeFlag) throws MailExtractLibException, InterruptedException {
+        try {
+            buildMessageNode(writeFlag);
+        } finally {
+            // attachments contents spilled to temporary files are no more needed
+            StoreAttachment.releaseAttachmentsContent(attachments);
+        }
+    }
+
+    // create the message unit with its attachments, and write them
+    private void buildMessageNode(boolean writeFlag) throws MailExtractLibException, InterruptedException {
         // String description = "[Vide]";
         String textContent = null;
 
@@ -654,7 +699,19 @@ public abstract class StoreMessage extends StoreElement {
 
         doProgressLog(getProgressLogger(), logLevel, "mailextractlib: extracted " + getLogDescription() +
                 " with SentDate=" + (sentDate == null ? "Unknown sent date" : sentDate.toString()), null);
+    }
 
+    /**
+     * Complete the message extraction, writing it in the mails csv list if
+     * asked for.
+     * <p>
+     * This part of the extraction is done in the reading thread and in reading
+     * order.
+     *
+     * @param writeFlag write or not flag (no write used for stats)
+     * @throws InterruptedException the interrupted exception
+     */
+    final void completeMessageExtraction(boolean writeFlag) throws InterruptedException {
         // write in csv list if asked for
         if (writeFlag
                 && getStoreExtractor().options.extractElementsList
@@ -688,34 +745,37 @@ public abstract class StoreMessage extends StoreElement {
         SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy HH:mm");
         PrintStream ps = storeFolder.getStoreExtractor().getGlobalListPS(this.getClass());
         try {
-            ps.format("\"%d\";", listLineId);
-            ps.format("\"%s\";",
-                    (sentDate == null ? "" : sdf.format(sentDate)));
-            ps.format("\"%s\";",
-                    (receivedDate == null ? "" : sdf.format(receivedDate)));
-            if ((from != null) && !from.isEmpty()) {
-                MetadataPerson p = new MetadataPerson(from);
-                ps.format("\"%s\";\"%s\";", filterHyphenForCsv(p.fullName),
-                        filterHyphenForCsv(p.identifier));
-            } else
-                ps.print("\"\";\"\";");
-            ps.format("\"%s\";",
-                    filterHyphenForCsv(personStringListToIndentifierString(recipientTo)));
-            ps.format("\"%s\";", filterHyphenForCsv(subject));
-            ps.format("\"%s\";", filterHyphenForCsv(messageID));
-            ps.format("\"%s\";", filterHyphenForCsv(attachmentsNamesList()));
-            if ((replyTo == null) || replyTo.isEmpty())
-                ps.format("\"\";");
-            else {
-                MetadataPerson p = new MetadataPerson(replyTo.get(0));
-                ps.format("\"%s\";", filterHyphenForCsv(p.identifier));
+            // lines are written by all the folders extraction threads
+            synchronized (ps) {
+                ps.format("\"%d\";", listLineId);
+                ps.format("\"%s\";",
+                        (sentDate == null ? "" : sdf.format(sentDate)));
+                ps.format("\"%s\";",
+                        (receivedDate == null ? "" : sdf.format(receivedDate)));
+                if ((from != null) && !from.isEmpty()) {
+                    MetadataPerson p = new MetadataPerson(from);
+                    ps.format("\"%s\";\"%s\";", filterHyphenForCsv(p.fullName),
+                            filterHyphenForCsv(p.identifier));
+                } else
+                    ps.print("\"\";\"\";");
+                ps.format("\"%s\";",
+                        filterHyphenForCsv(personStringListToIndentifierString(recipientTo)));
+                ps.format("\"%s\";", filterHyphenForCsv(subject));
+                ps.format("\"%s\";", filterHyphenForCsv(messageID));
+                ps.format("\"%s\";", filterHyphenForCsv(attachmentsNamesList()));
+                if ((replyTo == null) || replyTo.isEmpty())
+                    ps.format("\"\";");
+                else {
+                    MetadataPerson p = new MetadataPerson(replyTo.get(0));
+                    ps.format("\"%s\";", filterHyphenForCsv(p.identifier));
+                }
+                ps.format("\"%s\";", filterHyphenForCsv(storeFolder.getFullName()));
+                ps.format("\"%d\";", this.getMessageSize());
+                if (!storeFolder.getStoreExtractor().isRoot())
+                    ps.format("\"Attached\"");
+                ps.println();
+                ps.flush();
             }
-            ps.format("\"%s\";", filterHyphenForCsv(storeFolder.getFullName()));
-            ps.format("\"%d\";", this.getMessageSize());
-            if (!storeFolder.getStoreExtractor().isRoot())
-                ps.format("\"Attached\"");
-            ps.println();
-            ps.flush();
         } catch (Exception e) {
             logMessageWarning("mailextractlib: can't write in mails csv list", e);
         }
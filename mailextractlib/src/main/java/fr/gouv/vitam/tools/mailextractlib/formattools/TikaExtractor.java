@@ -27,9 +27,13 @@
 package fr.gouv.vitam.tools.mailextractlib.formattools;
 
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
 import org.apache.tika.Tika;
+import org.apache.tika.io.TikaInputStream;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -126,4 +130,74 @@ public class TikaExtractor {
         return result;
     }
 
+    // open a stream on the raw content, on the temporary file if spilled so that container formats can be detected
+    private static InputStream newTikaInputStream(RawContent rawContent) throws IOException {
+        if (rawContent.isInMemory())
+            return TikaInputStream.get(rawContent.getBytes());
+        return TikaInputStream.get(rawContent.getSpillFile());
+    }
+
+    /**
+     * Gets the text form of the file raw content, reading it as a stream.
+     *
+     * @param rawContent
+     *            the raw content
+     * @return the text String
+     * @throws MailExtractLibException
+     *             if text extract was not possible
+     */
+    public String extractTextFromBinary(RawContent rawContent) throws MailExtractLibException {
+        String s = null;
+        Level memLevel;
+        Logger logger;
+
+        logger = Logger.getGlobal();
+        memLevel = logger.getLevel();
+        if (memLevel != Level.FINEST)
+            logger.setLevel(Level.OFF);
+        try {
+            if (rawContent.getSize() > 0) {
+                try (InputStream is = newTikaInputStream(rawContent)) {
+                    s = tika.parseToString(is);
+                }
+            }
+        } catch (Throwable e) {
+            throw new MailExtractLibException("mailextractlib.formattools: can't extract text content", e);
+        } finally {
+            logger.setLevel(memLevel);
+        }
+
+        return s;
+    }
+
+    /**
+     * Gets the mime type of the file raw content, reading it as a stream.
+     *
+     * @param rawContent
+     *            the raw content
+     * @return the mime type
+     * @throws MailExtractLibException
+     *             if text extract was not possible
+     */
+    public String getMimeType(RawContent rawContent) throws MailExtractLibException {
+        String result = null;
+        Level memLevel;
+        Logger logger;
+
+        if (rawContent.getSize() > 0) {
+            logger = Logger.getGlobal();
+            memLevel = logger.getLevel();
+            if (memLevel != Level.FINEST)
+                logger.setLevel(Level.OFF);
+            try (InputStream is = newTikaInputStream(rawContent)) {
+                result = tika.detect(is);
+            } catch (Exception e) {
+                // if any problem in identification tools, default mimetype
+                result = "application/octet-stream";
+            }
+            logger.setLevel(memLevel);
+        }
+        return result;
+    }
+
 }
@@ -31,15 +31,20 @@ import fr.gouv.vitam.tools.mailextractlib.core.StoreExtractor;
 import fr.gouv.vitam.tools.mailextractlib.core.StoreExtractorOptions;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
 import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger.doProgressLog;
+import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger.doProgressLogIfDebug;
 
 /**
  * Class for SEDA Archive Unit managing metadata, objects, if any, and on disk
@@ -57,6 +62,7 @@ public class ArchiveUnit {
     private String rootPath;
     private String name;
     private boolean forceMessageUnit;
+    private boolean attachmentUnit;
     private MetadataXMLList contentmetadatalist = new MetadataXMLList();
     private List<ArchiveObject> objects = new ArrayList<ArchiveObject>();
 
@@ -78,6 +84,10 @@ public class ArchiveUnit {
          * The Raw content.
          */
         byte[] rawContent;
+        /**
+         * The spillable content, used instead of the raw content if not null.
+         */
+        RawContent content;
 
         /**
          * Instantiates a new Archive object.
@@ -93,6 +103,19 @@ public class ArchiveUnit {
             this.usage = usage;
             this.version = version;
         }
+
+        /**
+         * Instantiates a new Archive object with a spillable content.
+         *
+         * @param content  the content
+         * @param filename the filename
+         * @param usage    the usage
+         * @param version  the version
+         */
+        ArchiveObject(RawContent content, String filename, String usage, int version) {
+            this((byte[]) null, filename, usage, version);
+            this.content = content;
+        }
     }
 
     /**
@@ -130,6 +153,8 @@ public class ArchiveUnit {
             this.name = this.normalizeUniqUnitname(unitType, name);
             if (unitType.equals("Message"))
                 forceMessageUnit = true;
+            else if (unitType.equals("Attachment"))
+                attachmentUnit = true;
         }
         this.rootPath = father.getFullName();
     }
@@ -439,6 +464,21 @@ public class ArchiveUnit {
         objects.add(new ArchiveObject(byteContent, normalizeFilename(filename), usage, version));
     }
 
+    /**
+     * Adds an object with a raw content, kept in memory or spilled to a
+     * temporary file.
+     * <p>
+     * This object will be saved to disk in raw binary format.
+     *
+     * @param content  Object content
+     * @param filename File name
+     * @param usage    Usage type (BinaryMaster| TextContent...)
+     * @param version  Object version (usually 1)
+     */
+    public void addObject(RawContent content, String filename, String usage, int version) {
+        objects.add(new ArchiveObject(content, normalizeFilename(filename), usage, version));
+    }
+
     // create all the directories hierarchy
     private void createDirectory(String dirname) throws MailExtractLibException {
         File dir = new File(dirname);
@@ -464,6 +504,56 @@ public class ArchiveUnit {
         }
     }
 
+    // create a file from a raw content
+    private void writeFile(String dirPath, String filename, RawContent content) throws MailExtractLibException {
+        try {
+            content.writeTo(Paths.get(dirPath, filename));
+        } catch (IOException | InvalidPathException ex) {
+            if (dirPath.length() + filename.length() > 250) {
+                throw new MailExtractLibException(
+                        "mailextractlib: illegal destination file (may be too long pathname), writing unit \"" + name
+                                + "\"" + " dir=" + dirPath + " filename=" + filename, ex);
+            } else {
+                throw new MailExtractLibException("mailextractlib: illegal destination file, writing unit \"" + name + "\""
+                        + " dir=" + dirPath + " filename=" + filename, ex);
+            }
+        }
+    }
+
+    // create a file as a hard link to an already written file with the same content, or else write it
+    private void writeLinkedFile(String dirPath, String filename, ArchiveObject o) throws MailExtractLibException {
+        String contentKey;
+        try {
+            if (o.content != null)
+                contentKey = o.content.getDigest() + "-" + o.content.getSize();
+            else if (o.rawContent != null)
+                contentKey = RawContent.getDigest(o.rawContent) + "-" + o.rawContent.length;
+            else
+                contentKey = null;
+        } catch (IOException e) {
+            doProgressLogIfDebug(getProgressLogger(), "mailextractlib: can't compute digest of file " + filename, e);
+            contentKey = null;
+        }
+
+        String linkedFilePath = (contentKey == null ? null : storeExtractor.getAttachmentFile(contentKey));
+        if (linkedFilePath != null) {
+            try {
+                Files.createLink(Paths.get(dirPath, filename), Paths.get(linkedFilePath));
+                return;
+            } catch (IOException | UnsupportedOperationException | SecurityException | InvalidPathException e) {
+                doProgressLogIfDebug(getProgressLogger(), "mailextractlib: can't link file " + filename + " to "
+                        + linkedFilePath + ", it is written", e);
+            }
+        }
+
+        if (o.content != null)
+            writeFile(dirPath, filename, o.content);
+        else
+            writeFile(dirPath, filename, o.rawContent);
+        if (contentKey != null)
+            storeExtractor.putAttachmentFile(contentKey, dirPath + File.separator + filename);
+    }
+
     /**
      * Write the Archive Unit representation on disk.
      *
@@ -497,9 +587,16 @@ public class ArchiveUnit {
                 else
                     filename = o.filename;
                 if (storeExtractor.getOptions().model == StoreExtractorOptions.MODEL_V1)
-                    writeFile(dirPath, "__" + o.usage + "_" + Integer.toString(o.version) + "_" + filename, o.rawContent);
+                    filename = "__" + o.usage + "_" + Integer.toString(o.version) + "_" + filename;
+                else
+                    filename = "__" + o.usage + "_" + Integer.toString(o.version) + "__" + filename;
+                if (attachmentUnit && o.usage.equals("BinaryMaster")
+                        && storeExtractor.getOptions().linkDuplicateAttachments)
+                    writeLinkedFile(dirPath, filename, o);
+                else if (o.content != null)
+                    writeFile(dirPath, filename, o.content);
                 else
-                    writeFile(dirPath, "__" + o.usage + "_" + Integer.toString(o.version) + "__" + filename, o.rawContent);
+                    writeFile(dirPath, filename, o.rawContent);
             }
         }
     }
@@ -39,6 +39,8 @@ import javax.mail.Folder;
 import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * StoreFolder sub-class for mail boxes extracted through JavaMail library.
@@ -60,10 +62,13 @@ public class JMStoreFolder extends StoreFolder {
     private JMStoreFolder(StoreExtractor storeExtractor, final Folder folder, StoreFolder father) {
         super(storeExtractor);
         this.folder = folder;
-        if (folder instanceof ThunderbirdFolder)
+        if (folder instanceof ThunderbirdFolder) {
             ((ThunderbirdFolder) folder).setLogger(storeExtractor.getProgressLogger());
-        else if (folder instanceof MboxFolder)
+            ((ThunderbirdFolder) folder).setMboxIndexPersisted(storeExtractor.getOptions().persistMboxIndex);
+        } else if (folder instanceof MboxFolder) {
             ((MboxFolder) folder).setLogger(storeExtractor.getProgressLogger());
+            ((MboxFolder) folder).setMboxIndexPersisted(storeExtractor.getOptions().persistMboxIndex);
+        }
         if (father != null)
             finalizeStoreFolder(father);
     }
@@ -131,6 +136,15 @@ public class JMStoreFolder extends StoreFolder {
         try {
             final Folder[] subfolders = folder.list();
 
+            // Thunderbird folders are independent mbox files, each one read by its own MboxReader
+            if ((folder instanceof ThunderbirdFolder) && isConcurrentSubFoldersExtraction()) {
+                List<JMStoreFolder> mBSubFolders = new ArrayList<>(subfolders.length);
+                for (final Folder subfolder : subfolders)
+                    mBSubFolders.add(new JMStoreFolder(storeExtractor, subfolder, this));
+                extractSubFoldersConcurrently(mBSubFolders, level, writeFlag);
+                return;
+            }
+
             for (final Folder subfolder : subfolders) {
 
                 mBSubFolder = new JMStoreFolder(storeExtractor, subfolder, this);
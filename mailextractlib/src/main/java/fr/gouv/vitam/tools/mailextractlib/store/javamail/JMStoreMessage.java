@@ -34,6 +34,7 @@ import fr.gouv.vitam.tools.mailextractlib.core.StoreAttachment;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
 import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
 import fr.gouv.vitam.tools.mailextractlib.utils.RFC822Headers;
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
 
 import javax.activation.DataHandler;
 import javax.mail.*;
@@ -522,6 +523,14 @@ public class JMStoreMessage extends StoreMessage {
         return baos.toByteArray();
     }
 
+    // content of a part, spilled to a temporary file if large, with its digest if needed for duplicates linking
+    private RawContent getPartContent(BodyPart bp) throws IOException, MessagingException {
+        try (InputStream is = bp.getInputStream()) {
+            return RawContent.read(is, RawContent.DEFAULT_MEMORY_THRESHOLD,
+                    getStoreExtractor().getOptions().linkDuplicateAttachments);
+        }
+    }
+
     // rawcontent of a part, replacing LF by CRLF in quoted-printable encoded parts (used for windows TNEF fixing)
     private byte[] getPartLFFixedRawContent(BodyPart bp) throws IOException, MessagingException, InterruptedException {
         InputStream is = bp.getInputStream();
@@ -631,7 +640,7 @@ public class JMStoreMessage extends StoreMessage {
                 lStoreMessageAttachment.add(new StoreAttachment(this,getPartLFFixedRawContent(bodyPart), "file",
                         MimeUtility.decodeText(aName), aCreationDate, aModificationDate, aMimeType, aContentID, aType));
             else
-                lStoreMessageAttachment.add(new StoreAttachment(this,getPartRawContent(bodyPart), "file",
+                lStoreMessageAttachment.add(new StoreAttachment(this,getPartContent(bodyPart), "file",
                         MimeUtility.decodeText(aName), aCreationDate, aModificationDate, aMimeType, aContentID, aType));
         }
     }
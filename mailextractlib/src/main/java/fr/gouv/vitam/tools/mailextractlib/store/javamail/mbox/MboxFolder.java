@@ -50,6 +50,7 @@ public class MboxFolder extends Folder {
     private MboxStore mboxstore;
     private MboxReader mboxfilereader;
     private MailExtractProgressLogger logger;
+    private boolean mboxIndexPersisted;
     private List<MessageFork> messages;
     private int total; // total number of messages in mailbox
 
@@ -75,6 +76,19 @@ public class MboxFolder extends Folder {
         this.logger = logger;
     }
 
+    /**
+     * Sets the mbox index persistence flag
+     * <p>
+     * This method is directly called from MailExtract library to keep, or
+     * not, the messages boundaries index file next to the mbox file
+     *
+     * @param mboxIndexPersisted
+     *            the mbox index persistence flag
+     */
+    public void setMboxIndexPersisted(boolean mboxIndexPersisted) {
+        this.mboxIndexPersisted = mboxIndexPersisted;
+    }
+
     /**
      * Instantiates a new mbox simulated folder.
      *
@@ -263,18 +277,16 @@ public class MboxFolder extends Folder {
         try {
             if (mboxstore.getObjectContent() != null)
                 mboxfilereader = new MboxReader(logger, (byte[]) mboxstore.getObjectContent());
-            else
+            else {
                 mboxfilereader = new MboxReader(logger, new File(mboxstore.getContainer()));
+                mboxfilereader.setIndexPersisted(mboxIndexPersisted);
+            }
             opened = true; // now really opened
-            long beg, end;
 
-            mboxfilereader.getNextFromLineBeg();
-            beg = mboxfilereader.getLastFromLineEnd();
-            while (beg != -1) {
-                end = mboxfilereader.getNextFromLineBeg();
-                mf = new MessageFork(beg, end);
+            long[] boundaries = mboxfilereader.getMessagesBoundaries();
+            for (int i = 0; i < boundaries.length; i += 2) {
+                mf = new MessageFork(boundaries[i], boundaries[i + 1]);
                 messages.add(mf);
-                beg = mboxfilereader.getLastFromLineEnd();
             }
         } catch (IOException e) {
             throw new MessagingException("mbox: open failure, can't read: " + mboxstore.getContainer() + " file");
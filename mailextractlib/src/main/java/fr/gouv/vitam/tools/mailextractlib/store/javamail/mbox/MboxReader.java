@@ -33,32 +33,57 @@ import javax.mail.internet.SharedInputStream;
 import javax.mail.util.SharedByteArrayInputStream;
 import javax.mail.util.SharedFileInputStream;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger.doProgressLogIfDebug;
 
 /**
- * Optimized buffered mbox file reader for Thunderbird mbox file.
+ * Optimized mbox file reader for Thunderbird mbox file.
+ * <p>
+ * The file is scanned through memory mapped regions, eight bytes at a time,
+ * to find the "From " separator lines, and the messages boundaries are kept in
+ * an index file next to the mbox file, so that a new extraction or listing of
+ * an unchanged file doesn't scan it again.
  * <p>
  * <b>Warning:</b>Only for reading and without file locking or new messages
  * management.
  */
 public class MboxReader {
 
+    /**
+     * The suffix of the messages boundaries index file, kept next to the mbox file.
+     */
+    public static final String INDEX_FILE_SUFFIX = ".mxidx";
+
+    // "MXIDX001" index file header
+    private static final long INDEX_MAGIC = 0x4D58494458303031L;
+
+    // default size of the file regions mapped during the scan
+    private static final int DEFAULT_MAPPED_REGION_SIZE = 1 << 28;
+
+    // for word at a time search of '\n'
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
     private MailExtractProgressLogger logger;
 
-    private String filePath;
+    private File file;
 
-    // for random access to data when file
-    private RandomAccessFile raf;
+    private byte[] source;
 
     private SharedInputStream sifs;
 
-    // for buffered access to RandomAccessFile
-    private static int BUFFER_SIZE = 4096;
-    private byte[] buffer = new byte[BUFFER_SIZE];
-    private int len = 0;
-    private long bufferPos = 0;
-    private int curPos = 0;
-    private int lineNum = 0;
-    private long fromLineEnd = 0;
+    private int mappedRegionSize = DEFAULT_MAPPED_REGION_SIZE;
+
+    private boolean indexPersisted;
 
     /**
      * Instantiates a new thunder mbox file reader.
@@ -69,9 +94,8 @@ public class MboxReader {
      */
     public MboxReader(MailExtractProgressLogger logger, File file) throws IOException {
         this.logger = logger;
-        this.filePath = file.getPath();
+        this.file = file;
         sifs = new SharedFileInputStream(file);
-        raf = new RandomAccessFile(file, "r");
     }
 
     /**
@@ -82,6 +106,7 @@ public class MboxReader {
      */
     public MboxReader(MailExtractProgressLogger logger, byte[] source) {
         this.logger = logger;
+        this.source = source;
         sifs = new SharedByteArrayInputStream(source);
     }
 
@@ -105,8 +130,6 @@ public class MboxReader {
      * @throws IOException Unable to close the file.
      */
     public void close() throws IOException {
-        if (raf != null)
-            raf.close();
         if (sifs instanceof InputStream)
             ((InputStream) sifs).close();
     }
@@ -125,64 +148,144 @@ public class MboxReader {
         return sifs.newStream(start, end);
     }
 
-    // buffered read
-    private final int read() throws IOException {
-        if (raf != null) {
-            // if File
-            if (curPos >= len) {
-                bufferPos = raf.getFilePointer();
-                if ((len = raf.read(buffer)) == -1)
-                    return -1;
-                curPos = 0;
-            }
-        } else {
-            // if byte[]
-            // TODO get rid of buffer when byte[]
-            if (curPos >= len) {
-                bufferPos = sifs.getPosition();
-                if ((len = ((ByteArrayInputStream) sifs).read(buffer)) == -1)
-                    return -1;
-                curPos = 0;
-            }
-        }
-        return buffer[curPos++];
+    /**
+     * Sets the size of the file regions mapped during the scan, which is by
+     * default 256MB. Smaller regions are only useful for tests.
+     *
+     * @param mappedRegionSize the mapped region size
+     */
+    void setMappedRegionSize(int mappedRegionSize) {
+        this.mappedRegionSize = mappedRegionSize;
+    }
+
+    /**
+     * Sets the index persistence flag, false by default. When set, the messages
+     * boundaries of a file are kept in an index file next to it, and read from
+     * there while the file is unchanged.
+     *
+     * @param indexPersisted the index persistence flag
+     */
+    public void setIndexPersisted(boolean indexPersisted) {
+        this.indexPersisted = indexPersisted;
     }
 
-    // buffered get file pointer
-    private final long getPointer() {
-        return bufferPos + curPos;
+    /**
+     * Gets the index file of a mbox file.
+     *
+     * @param file the mbox file
+     * @return the index file
+     */
+    public static File getIndexFile(File file) {
+        return new File(file.getPath() + INDEX_FILE_SUFFIX);
     }
 
-    // read a complete line but return only first 64 bytes
-    private final int readFirstBytesLine(byte[] buffer) throws IOException {
-        int i = 0;
-        int b;
-
-        lineNum++;
-        while (true) {
-            b = read();
-            if (b == -1)
-                return -1;
-            if (b == '\n')
-                return i;
-            if (i < 64) {
-                buffer[i++] = (byte) b;
+    /**
+     * Gets the messages boundaries.
+     * <p>
+     * A message begins after a "From " line, that is a complete line beginning
+     * with the five characters 'F', 'r', 'o', 'm' and ' ' (space), and ends at
+     * the beginning of the next "From " line. The result contains two positions
+     * for each message, the begin and the end, the end of the last message
+     * being -1 for the end of the file.
+     * <p>
+     * For a file with index persistence, the boundaries are read from the index
+     * file if it is consistent with the mbox file, or else computed and written
+     * in the index file if possible.
+     *
+     * @return the messages boundaries
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public long[] getMessagesBoundaries() throws IOException {
+        long[] result;
+
+        if (file == null) {
+            BoundariesScanner scanner = new BoundariesScanner();
+            scanner.scan(ByteBuffer.wrap(source).order(ByteOrder.LITTLE_ENDIAN), 0, source.length, source.length);
+            return scanner.getBoundaries();
+        }
+
+        if (!indexPersisted)
+            return scanFile();
+
+        long fileLength = file.length();
+        long fileLastModified = file.lastModified();
+        result = readIndex(fileLength, fileLastModified);
+        if (result == null) {
+            result = scanFile();
+            writeIndex(result, fileLength, fileLastModified);
+        }
+        return result;
+    }
+
+    // scan the file through memory mapped regions, each one overlapping the next to read the "From " after a '\n'
+    private long[] scanFile() throws IOException {
+        BoundariesScanner scanner = new BoundariesScanner();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long regionStart = 0; regionStart < size; regionStart += mappedRegionSize) {
+                int scanLength = (int) Math.min(mappedRegionSize, size - regionStart);
+                int mapLength = (int) Math.min(mappedRegionSize + 8L, size - regionStart);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, mapLength)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                scanner.scan(region, regionStart, scanLength, mapLength);
             }
         }
+        return scanner.getBoundaries();
     }
 
-    // construct a String from buffer
-    private String constructLine(byte[] buffer, int len) {
-        StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < len; i++) {
-            final char c = (char) (buffer[i]);
-            if (c >= 32)
-                stringBuilder.append(c);
+    // read the index file, null if it doesn't exist or is not consistent with the mbox file
+    private long[] readIndex(long fileLength, long fileLastModified) {
+        File indexFile = getIndexFile(file);
+        if (!indexFile.isFile())
+            return null;
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if ((dis.readLong() != INDEX_MAGIC) || (dis.readLong() != fileLength)
+                    || (dis.readLong() != fileLastModified))
+                return null;
+            int count = dis.readInt();
+            if ((count < 0) || (indexFile.length() != 28L + 8L * count))
+                return null;
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++)
+                result[i] = dis.readLong();
+            return result;
+        } catch (IOException e) {
+            doProgressLogIfDebug(logger, "mbox: can't read index file " + indexFile.getPath(), e);
+            return null;
+        }
+    }
+
+    // write the index file through a temporary file, silently if the mbox directory is not writable
+    private void writeIndex(long[] boundaries, long fileLength, long fileLastModified) {
+        File indexFile = getIndexFile(file);
+        Path tmpPath = null;
+        try {
+            tmpPath = Files.createTempFile(indexFile.getAbsoluteFile().getParentFile().toPath(),
+                    indexFile.getName(), ".tmp");
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tmpPath)))) {
+                dos.writeLong(INDEX_MAGIC);
+                dos.writeLong(fileLength);
+                dos.writeLong(fileLastModified);
+                dos.writeInt(boundaries.length);
+                for (long boundary : boundaries)
+                    dos.writeLong(boundary);
+            }
+            Files.move(tmpPath, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | SecurityException e) {
+            doProgressLogIfDebug(logger, "mbox: can't write index file " + indexFile.getPath(), e);
+            if (tmpPath != null) {
+                try {
+                    Files.deleteIfExists(tmpPath);
+                } catch (IOException ignored) {
+                    // forget it
+                }
+            }
         }
-        return stringBuilder.toString();
     }
 
-    // verify line compliance to the delimiter pattern
+    // "From " lines scanner accumulating the messages boundaries
+    //
     // A message encoded in MBOX format begins with a "From " line, continues with a series of non-"From " lines,
     // and ends with a blank line.  A "From " line means any line in the message or header that  begins with the five
     // characters 'F', 'r', 'o', 'm', and ' ' (space).
@@ -195,47 +298,62 @@ public class MboxReader {
     //
     //After the "From " line is the message itself in RFC 5322 format. The final line is a completely blank line with no spaces or tabs.
     // WARNING: due to tested mbox files diversity the only kept filter is the beginning "From " pattern!
-    private boolean isCompliantMBoxDelimiterLine(byte[] buffer, int len) {
-        if ((buffer[0] == 'F') && (buffer[1] == 'r') && (buffer[2] == 'o') && (buffer[3] == 'm')
-                && (buffer[4] == ' '))
-            return true;
-        else
-            return false;
+    private static class BoundariesScanner {
+        private long[] boundaries = new long[64];
+        private int count = 0;
+        // begin of the "From " line waiting for its end, -1 if none
+        private long fromLineBeg = -1;
 
-    }
+        // scan '\n' in [0, scanLength) of the buffer, with bytes up to readLength readable for the next line begin
+        void scan(ByteBuffer buffer, long base, int scanLength, int readLength) {
+            if ((base == 0) && isFromLine(buffer, 0, readLength))
+                fromLineBeg = 0;
+            int i = 0;
+            int wordsEnd = scanLength & ~7;
+            for (; i < wordsEnd; i += 8) {
+                long x = buffer.getLong(i) ^ NEWLINES;
+                long found = (x - LOW_BITS) & ~x & HIGH_BITS;
+                while (found != 0) {
+                    int pos = i + (Long.numberOfTrailingZeros(found) >>> 3);
+                    // borrows can flag a byte following a real '\n', so check it
+                    if (buffer.get(pos) == '\n')
+                        newLine(buffer, base, pos, readLength);
+                    found &= found - 1;
+                }
+            }
+            for (; i < scanLength; i++) {
+                if (buffer.get(i) == '\n')
+                    newLine(buffer, base, i, readLength);
+            }
+        }
 
-    /**
-     * Gets the next position of a "From - date" line start.
-     *
-     * @return File position
-     * @throws IOException Signals that an I/O exception has occurred.
-     */
-    public long getNextFromLineBeg() throws IOException {
-        long beg;
-        int len;
-        byte[] buffer = new byte[64];
-
-        while (true) {
-            beg = getPointer();
-            len = readFirstBytesLine(buffer);
-            if (len == -1) {
-                fromLineEnd = -1;
-                return -1;
+        private void newLine(ByteBuffer buffer, long base, int pos, int readLength) {
+            if (fromLineBeg != -1) {
+                if (count > 0)
+                    add(fromLineBeg);
+                add(base + pos + 1);
+                fromLineBeg = -1;
             }
-                if (isCompliantMBoxDelimiterLine(buffer, len)) {
-                    fromLineEnd = getPointer();
-                    return beg;
-                }
+            if (isFromLine(buffer, pos + 1, readLength))
+                fromLineBeg = base + pos + 1;
         }
-    }
 
-    /**
-     * Gets the end position of the last "From " line identified.
-     *
-     * @return File position
-     * @throws IOException Signals that an I/O exception has occurred.
-     */
-    public long getLastFromLineEnd() throws IOException {
-        return fromLineEnd;
+        private static boolean isFromLine(ByteBuffer buffer, int pos, int readLength) {
+            return (pos + 5 <= readLength) && (buffer.get(pos) == 'F') && (buffer.get(pos + 1) == 'r')
+                    && (buffer.get(pos + 2) == 'o') && (buffer.get(pos + 3) == 'm') && (buffer.get(pos + 4) == ' ');
+        }
+
+        private void add(long position) {
+            if (count == boundaries.length)
+                boundaries = Arrays.copyOf(boundaries, 2 * count);
+            boundaries[count++] = position;
+        }
+
+        // the end of the last message is the end of the file
+        long[] getBoundaries() {
+            if (count > 0)
+                add(-1);
+            return Arrays.copyOf(boundaries, count);
+        }
     }
 }
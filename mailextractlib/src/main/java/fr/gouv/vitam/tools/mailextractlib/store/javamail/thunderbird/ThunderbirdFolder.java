@@ -60,6 +60,7 @@ public class ThunderbirdFolder extends Folder {
     private File folderFile;
     private MboxReader mboxfilereader;
     private MailExtractProgressLogger logger;
+    private boolean mboxIndexPersisted;
 
     private class MessageFork {
         long beg, end;
@@ -83,6 +84,19 @@ public class ThunderbirdFolder extends Folder {
         this.logger = logger;
     }
 
+    /**
+     * Sets the mbox index persistence flag
+     * <p>
+     * This method is directly called from MailExtract library to keep, or
+     * not, the messages boundaries index file next to the mbox file
+     *
+     * @param mboxIndexPersisted
+     *            the mbox index persistence flag
+     */
+    public void setMboxIndexPersisted(boolean mboxIndexPersisted) {
+        this.mboxIndexPersisted = mboxIndexPersisted;
+    }
+
     /**
      * Instantiates a new thunder mbox folder.
      *
@@ -349,6 +363,9 @@ public class ThunderbirdFolder extends Folder {
             // fourth case empty file
             if (listOfFiles[i].isFile() && listOfFiles[i].length() == 0)
                 continue;
+            // fifth case messages boundaries index file written by the mbox reader
+            if (listOfFiles[i].isFile() && listOfFiles[i].getName().endsWith(MboxReader.INDEX_FILE_SUFFIX))
+                continue;
             // then garbage and warning
             doProgressLogWithoutInterruption(logger, MailExtractProgressLogger.WARNING, "ThunderMBox: Wrong mailbox file " + listOfFiles[i].getName() + " in "
                     + (folderFullName == null ? "root folder" : "folder " + folderFullName) + " is ignored", null);
@@ -496,16 +513,13 @@ public class ThunderbirdFolder extends Folder {
 
         try {
             mboxfilereader = new MboxReader(logger, folderFile);
+            mboxfilereader.setIndexPersisted(mboxIndexPersisted);
             opened = true; // now really opened
-            long beg, end;
 
-            mboxfilereader.getNextFromLineBeg();
-            beg = mboxfilereader.getLastFromLineEnd();
-            while (beg != -1) {
-                end = mboxfilereader.getNextFromLineBeg();
-                mf = new MessageFork(beg, end);
+            long[] boundaries = mboxfilereader.getMessagesBoundaries();
+            for (int i = 0; i < boundaries.length; i += 2) {
+                mf = new MessageFork(boundaries[i], boundaries[i + 1]);
                 messages.add(mf);
-                beg = mboxfilereader.getLastFromLineEnd();
             }
         } catch (IOException e) {
             throw new MessagingException("ThunderMBox: open failure, can't read: " + folderFile.getPath());
@@ -0,0 +1,296 @@
+/**
+ * Copyright French Prime minister Office/SGMAP/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@culture.gouv.fr
+ * <p>
+ * This software is a computer program whose purpose is to implement a digital archiving back-office system managing
+ * high volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA at the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+
+package fr.gouv.vitam.tools.mailextractlib.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Class for raw content of extracted elements, kept in memory when small and
+ * spilled to a temporary file when large.
+ * <p>
+ * This avoids to have several copies on heap of big attachments, from the
+ * store reading to the archive unit object file writing, which is done through
+ * NIO channels.
+ */
+public class RawContent {
+
+    /**
+     * The default size above which a content is spilled to a temporary file.
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+    // size of the chunks transfered from and to the temporary file
+    private static final long TRANSFER_CHUNK_SIZE = 1024L * 1024L;
+
+    private byte[] bytes;
+    private Path file;
+    private long size;
+    private String digest;
+
+    private RawContent(byte[] bytes) {
+        this.bytes = bytes;
+        this.size = bytes.length;
+    }
+
+    private RawContent(Path file, long size) {
+        this.file = file;
+        this.size = size;
+    }
+
+    /**
+     * Read a raw content from a stream, in memory if it is not bigger than the
+     * threshold, or else in a temporary file.
+     * <p>
+     * The stream is not closed.
+     *
+     * @param is              the input stream
+     * @param memoryThreshold the size above which the content is spilled to a temporary file
+     * @return the raw content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static RawContent read(InputStream is, int memoryThreshold) throws IOException {
+        return read(is, memoryThreshold, false);
+    }
+
+    /**
+     * Read a raw content from a stream, in memory if it is not bigger than the
+     * threshold, or else in a temporary file, and if asked compute its SHA-256
+     * digest while reading.
+     * <p>
+     * The stream is not closed.
+     *
+     * @param is              the input stream
+     * @param memoryThreshold the size above which the content is spilled to a temporary file
+     * @param withDigest      true if the digest has to be computed while reading
+     * @return the raw content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static RawContent read(InputStream is, int memoryThreshold, boolean withDigest) throws IOException {
+        MessageDigest md = null;
+        if (withDigest) {
+            md = newDigest();
+            is = new DigestInputStream(is, md);
+        }
+        byte[] buffer = new byte[(int) Math.min(memoryThreshold + 1L, 8192)];
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        RawContent result = null;
+        int bytesRead;
+
+        while ((bytesRead = is.read(buffer, 0, (int) Math.min(buffer.length,
+                memoryThreshold + 1L - baos.size()))) > 0) {
+            baos.write(buffer, 0, bytesRead);
+            if (baos.size() > memoryThreshold) {
+                result = spill(baos.toByteArray(), is);
+                break;
+            }
+        }
+        if (result == null)
+            result = new RawContent(baos.toByteArray());
+        if (md != null)
+            result.digest = toHexString(md.digest());
+        return result;
+    }
+
+    // write the already read head and the rest of the stream in a temporary file
+    private static RawContent spill(byte[] head, InputStream is) throws IOException {
+        Path file = Files.createTempFile("mailextractlib-", ".tmp");
+        long position = head.length;
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            fc.write(ByteBuffer.wrap(head));
+            ReadableByteChannel source = Channels.newChannel(is);
+            long transfered;
+            while ((transfered = fc.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0)
+                position += transfered;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new RawContent(file, position);
+    }
+
+    /**
+     * Gets the content size.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Checks if the content is kept in memory.
+     *
+     * @return true, if in memory
+     */
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    /**
+     * Open a new input stream on the content.
+     *
+     * @return the input stream
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public InputStream newInputStream() throws IOException {
+        if (file == null)
+            return new ByteArrayInputStream(bytes);
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * Gets the temporary file if the content is spilled, or null if in memory.
+     *
+     * @return the temporary file path
+     */
+    public Path getSpillFile() {
+        return file;
+    }
+
+    /**
+     * Gets the whole content as a byte array, reading the temporary file if
+     * spilled.
+     *
+     * @return the byte array
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public byte[] getBytes() throws IOException {
+        if (file == null)
+            return bytes;
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Gets the SHA-256 digest of the content, as an hexadecimal string.
+     * <p>
+     * It is computed while reading if asked, or else once, streaming the
+     * temporary file if spilled.
+     *
+     * @return the digest
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public String getDigest() throws IOException {
+        if (digest == null) {
+            MessageDigest md = newDigest();
+            if (file == null)
+                md.update(bytes);
+            else {
+                try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+                    ByteBuffer buffer = ByteBuffer.allocate((int) TRANSFER_CHUNK_SIZE);
+                    while (fc.read(buffer) > 0) {
+                        buffer.flip();
+                        md.update(buffer);
+                        buffer.clear();
+                    }
+                }
+            }
+            digest = toHexString(md.digest());
+        }
+        return digest;
+    }
+
+    /**
+     * Gets the SHA-256 digest of a byte array, as an hexadecimal string.
+     *
+     * @param bytes the bytes
+     * @return the digest
+     */
+    public static String getDigest(byte[] bytes) {
+        MessageDigest md = newDigest();
+        md.update(bytes);
+        return toHexString(md.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // impossible case with SHA-256, mandatory in all JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes)
+            sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    /**
+     * Write the content in a file, transfering it from the temporary file if
+     * spilled.
+     *
+     * @param target the target file path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void writeTo(Path target) throws IOException {
+        if (file == null) {
+            Files.write(target, bytes);
+            return;
+        }
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel destination = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transfered;
+            while ((position < size) && ((transfered = source.transferTo(position,
+                    Math.min(TRANSFER_CHUNK_SIZE, size - position), destination)) > 0))
+                position += transfered;
+        }
+    }
+
+    /**
+     * Release the content, deleting the temporary file if spilled.
+     */
+    public void release() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // forget it
+            }
+            file = null;
+            bytes = new byte[0];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package fr.gouv.vitam.tools.mailextractlib.core;
+
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestPendingMessageExtraction {
+
+    private static final int THRESHOLD = 1000;
+
+    private static byte[] content(int size) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++)
+            result[i] = (byte) i;
+        return result;
+    }
+
+    // pending extraction of a spilled attachment content, streaming it as the message extraction does, and
+    // releasing it in its own finally
+    private static class ContentExtraction extends StoreFolder.PendingMessageExtraction {
+        private final RawContent content;
+        private final CountDownLatch streaming;
+        private final CountDownLatch resume;
+        private final AtomicInteger extractions = new AtomicInteger();
+        private final AtomicInteger releases = new AtomicInteger();
+        private volatile long readSize = -1;
+
+        ContentExtraction(RawContent content, CountDownLatch streaming, CountDownLatch resume) {
+            super(null);
+            this.content = content;
+            this.streaming = streaming;
+            this.resume = resume;
+        }
+
+        @Override
+        void extract() throws InterruptedException {
+            extractions.incrementAndGet();
+            try (InputStream is = content.newInputStream()) {
+                long size = is.read(new byte[10]);
+                streaming.countDown();
+                resume.await();
+                while (is.read() != -1)
+                    size++;
+                readSize = size;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                content.release();
+            }
+        }
+
+        @Override
+        void release() {
+            releases.incrementAndGet();
+            content.release();
+        }
+    }
+
+    private static RawContent spilledContent() throws IOException {
+        RawContent result = RawContent.read(new ByteArrayInputStream(content(3 * THRESHOLD)), THRESHOLD);
+        assertThat(result.isInMemory()).isFalse();
+        return result;
+    }
+
+    @Test
+    public void testCancelDuringExtraction() throws Exception {
+        // given an extraction streaming a spilled content
+        RawContent content = spilledContent();
+        Path spillFile = content.getSpillFile();
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ContentExtraction extraction = new ContentExtraction(content, streaming, resume);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Void> task = executor.submit(extraction::run);
+            streaming.await();
+
+            // when cancelled, then the content is not released under the running extraction
+            extraction.cancel();
+            assertThat(extraction.releases.get()).isEqualTo(0);
+            assertThat(spillFile).isRegularFile();
+
+            // and the extraction reads the whole content, then releases it itself
+            resume.countDown();
+            task.get();
+            assertThat(extraction.readSize).isEqualTo(3 * THRESHOLD);
+            assertThat(spillFile).doesNotExist();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancelBeforeExtraction() throws Exception {
+        // given an extraction not yet started
+        RawContent content = spilledContent();
+        Path spillFile = content.getSpillFile();
+        ContentExtraction extraction = new ContentExtraction(content, new CountDownLatch(1), new CountDownLatch(0));
+
+        // when cancelled, then the content is released
+        extraction.cancel();
+        assertThat(extraction.releases.get()).isEqualTo(1);
+        assertThat(spillFile).doesNotExist();
+
+        // and when the pool task runs afterwards, then it does nothing
+        extraction.run();
+        assertThat(extraction.extractions.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void testCancelRace() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 200; i++) {
+                // given an extraction and its cancellation starting at the same time
+                RawContent content = spilledContent();
+                Path spillFile = content.getSpillFile();
+                ContentExtraction extraction = new ContentExtraction(content, new CountDownLatch(1),
+                        new CountDownLatch(0));
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> task = executor.submit(() -> {
+                    barrier.await();
+                    return extraction.run();
+                });
+                Future<?> cancellation = executor.submit(() -> {
+                    barrier.await();
+                    extraction.cancel();
+                    return null;
+                });
+                task.get();
+                cancellation.get();
+
+                // then exactly one of them has started, and the content is released once after being whole read
+                assertThat(extraction.extractions.get() + extraction.releases.get()).as("round " + i).isEqualTo(1);
+                if (extraction.extractions.get() == 1)
+                    assertThat(extraction.readSize).as("round " + i).isEqualTo(3 * THRESHOLD);
+                assertThat(spillFile).as("round " + i).doesNotExist();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package fr.gouv.vitam.tools.mailextractlib.store;
+
+import fr.gouv.vitam.tools.mailextractlib.AllTests;
+import fr.gouv.vitam.tools.mailextractlib.core.*;
+import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
+import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConcurrentStoreExtractor implements AllTests {
+
+    private static final Class<?>[] COUNTED_CLASSES = {StoreFolder.class, StoreMessage.class,
+            StoreAppointment.class, StoreContact.class};
+
+    // one mbox message, with an attachment one time out of three (the same content every two attachments),
+    // an attached message one time out of seven, and subjects shared by several messages
+    private static String mboxMessage(String folder, int i) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("From sender").append(i).append("@example.org Mon Jan  6 10:00:00 2020\n");
+        sb.append("Message-ID: <").append(folder).append('.').append(i).append("@example.org>\n");
+        sb.append(String.format("Date: Mon, 6 Jan 2020 10:%02d:00 +0100\n", i % 60));
+        sb.append("From: Sender ").append(i).append(" <sender").append(i).append("@example.org>\n");
+        sb.append("To: Recipient <recipient@example.org>\n");
+        sb.append("Subject: ").append(folder).append(" message ").append(i % 5).append('\n');
+        sb.append("MIME-Version: 1.0\n");
+        String text = "Body of message " + i + " in " + folder + "\nsecond line\n";
+        if ((i % 3 != 0) && (i % 7 != 0)) {
+            sb.append("Content-Type: text/plain; charset=UTF-8\n\n").append(text).append('\n');
+            return sb.toString();
+        }
+        String boundary = "boundary-" + folder + "-" + i;
+        sb.append("Content-Type: multipart/mixed; boundary=\"").append(boundary).append("\"\n\n");
+        sb.append("--").append(boundary).append('\n');
+        sb.append("Content-Type: text/plain; charset=UTF-8\n\n").append(text);
+        if (i % 3 == 0) {
+            StringBuilder attachment = new StringBuilder();
+            for (int j = 0; j < 200; j++)
+                attachment.append("attachment content ").append(i % 2).append(" line ").append(j).append('\n');
+            sb.append("--").append(boundary).append('\n');
+            sb.append("Content-Type: text/plain; name=\"file").append(i % 2).append(".txt\"\n");
+            sb.append("Content-Disposition: attachment; filename=\"file").append(i % 2).append(".txt\"\n");
+            sb.append("Content-Transfer-Encoding: base64\n\n");
+            sb.append(Base64.getMimeEncoder().encodeToString(attachment.toString().getBytes(StandardCharsets.UTF_8)))
+                    .append('\n');
+        }
+        if (i % 7 == 0) {
+            sb.append("--").append(boundary).append('\n');
+            sb.append("Content-Type: message/rfc822\n\n");
+            sb.append("Message-ID: <attached.").append(folder).append('.').append(i).append("@example.org>\n");
+            sb.append("Date: Sun, 5 Jan 2020 09:00:00 +0100\n");
+            sb.append("From: Other <other@example.org>\n");
+            sb.append("To: Sender ").append(i).append(" <sender").append(i).append("@example.org>\n");
+            sb.append("Subject: attached to ").append(i).append('\n');
+            sb.append("MIME-Version: 1.0\n");
+            sb.append("Content-Type: text/plain; charset=UTF-8\n\n");
+            sb.append("Attached message body\n");
+        }
+        sb.append("--").append(boundary).append("--\n\n");
+        return sb.toString();
+    }
+
+    private static void writeMbox(File file, String folder, int messagesCount) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= messagesCount; i++)
+            sb.append(mboxMessage(folder, i));
+        FileUtils.writeStringToFile(file, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    // a thunderbird directory with mbox files, sub folders, and a folder only holding sub folders
+    private static void writeThunderbirdDirectory(File dir) throws IOException {
+        writeMbox(new File(dir, "Inbox"), "Inbox", 25);
+        writeMbox(new File(dir, "Inbox.sbd/First"), "First", 12);
+        writeMbox(new File(dir, "Inbox.sbd/Second"), "Second", 18);
+        writeMbox(new File(dir, "Inbox.sbd/Second.sbd/Deep"), "Deep", 8);
+        writeMbox(new File(dir, "Sent"), "Sent", 15);
+        writeMbox(new File(dir, "Archives.sbd/2019"), "2019", 10);
+        writeMbox(new File(dir, "Archives.sbd/2020"), "2020", 10);
+    }
+
+    private static StoreExtractor extract(String scheme, String path, String destPath, int extractThreads,
+                                          int extractFolderThreads, MailExtractProgressLogger mepl)
+            throws MailExtractLibException, InterruptedException {
+        StoreExtractorOptions storeExtractorOptions = new StoreExtractorOptions(false,
+                true, true, 12, "UTF-8",
+                true, true, true, true,
+                true, 2);
+        storeExtractorOptions.extractThreads = extractThreads;
+        storeExtractorOptions.extractFolderThreads = extractFolderThreads;
+        String urlString = StoreExtractor.composeStoreURL(scheme, "", "", "", path);
+        StoreExtractor storeExtractor = StoreExtractor.createStoreExtractor(urlString, "",
+                destPath, storeExtractorOptions, mepl);
+        storeExtractor.extractAllFolders();
+        storeExtractor.endStoreExtractor();
+        return storeExtractor;
+    }
+
+    private static List<Long> counters(StoreExtractor storeExtractor) {
+        List<Long> result = new ArrayList<>();
+        for (Class<?> countedClass : COUNTED_CLASSES) {
+            result.add((long) storeExtractor.getElementCounter(countedClass, false));
+            result.add((long) storeExtractor.getElementCounter(countedClass, true));
+        }
+        return result;
+    }
+
+    // units names uniq ids and regenerated mime boundaries depend on the extraction order
+    private static String normalize(String s) {
+        return s.replaceAll("#\\d+-", "#-").replaceAll("----=_Part[^\\s\"]*", "----=_Part");
+    }
+
+    // sorted csv lines, without the line id when it depends on the folders extraction order
+    private static List<String> csvLines(File file, boolean withoutId) throws IOException {
+        List<String> result = new ArrayList<>();
+        for (String line : FileUtils.readLines(file, StandardCharsets.UTF_8))
+            result.add(withoutId ? line.replaceFirst("^\"\\d+\";", "") : line);
+        Collections.sort(result);
+        return result;
+    }
+
+    // sorted relative path and content of all the extracted files, but the csv lists
+    private static List<String> unitTree(File dir) throws IOException {
+        Path root = dir.toPath();
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(root)) {
+            files = paths.filter(Files::isRegularFile).filter(p -> !p.toString().endsWith(".csv"))
+                    .collect(Collectors.toList());
+        }
+        List<String> result = new ArrayList<>();
+        for (Path file : files)
+            result.add(normalize(root.relativize(file).toString().replace(File.separatorChar, '/'))
+                    + "\n" + normalize(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)));
+        Collections.sort(result);
+        return result;
+    }
+
+    @Test
+    public void testConcurrentMessagesExtraction() throws MailExtractLibException, InterruptedException, IOException {
+        //given
+        AllTests.initializeTests("testConcurrentMessagesExtraction");
+        MailExtractProgressLogger mepl = AllTests.initLogger("testConcurrentMessagesExtraction");
+        File mbox = new File("target/tmpJUnit/testConcurrentMessagesExtraction/Messages.mbox");
+        writeMbox(mbox, "Messages", 60);
+
+        //when
+        StoreExtractor sequential = extract("mbox", mbox.getPath(),
+                "target/tmpJUnit/testConcurrentMessagesExtraction/sequential", 1, 1, mepl);
+        StoreExtractor concurrent = extract("mbox", mbox.getPath(),
+                "target/tmpJUnit/testConcurrentMessagesExtraction/concurrent", 4, 1, mepl);
+
+        //then
+
+        // element counters
+        assertThat(sequential.getElementCounter(StoreMessage.class, false)).isEqualTo(60);
+        assertThat(sequential.getElementCounter(StoreMessage.class, true)).isGreaterThanOrEqualTo(8);
+        assertThat(counters(concurrent)).isEqualTo(counters(sequential));
+
+        // mails extraction, lines ids are given in reading order but attached messages lines can be written
+        // before their message one
+        File sequentialDir = new File("target/tmpJUnit/testConcurrentMessagesExtraction/sequential");
+        File concurrentDir = new File("target/tmpJUnit/testConcurrentMessagesExtraction/concurrent");
+        assertThat(csvLines(new File(concurrentDir, "messages.csv"), false))
+                .hasSizeGreaterThan(60)
+                .isEqualTo(csvLines(new File(sequentialDir, "messages.csv"), false));
+
+        // units tree
+        assertThat(unitTree(concurrentDir)).isEqualTo(unitTree(sequentialDir));
+    }
+
+    @Test
+    public void testConcurrentFoldersExtraction() throws MailExtractLibException, InterruptedException, IOException {
+        //given
+        AllTests.initializeTests("testConcurrentFoldersExtraction");
+        MailExtractProgressLogger mepl = AllTests.initLogger("testConcurrentFoldersExtraction");
+        File thunderbird = new File("target/tmpJUnit/testConcurrentFoldersExtraction/Thunderbird");
+        writeThunderbirdDirectory(thunderbird);
+
+        //when
+        StoreExtractor sequential = extract("thunderbird", thunderbird.getPath(),
+                "target/tmpJUnit/testConcurrentFoldersExtraction/sequential", 1, 1, mepl);
+        StoreExtractor concurrentFolders = extract("thunderbird", thunderbird.getPath(),
+                "target/tmpJUnit/testConcurrentFoldersExtraction/concurrentFolders", 1, 3, mepl);
+        StoreExtractor concurrent = extract("thunderbird", thunderbird.getPath(),
+                "target/tmpJUnit/testConcurrentFoldersExtraction/concurrent", 3, 3, mepl);
+
+        //then
+
+        // element counters
+        assertThat(sequential.getElementCounter(StoreMessage.class, false)).isEqualTo(98);
+        assertThat(counters(concurrentFolders)).isEqualTo(counters(sequential));
+        assertThat(counters(concurrent)).isEqualTo(counters(sequential));
+
+        // mails extraction, lines ids and order depend on the folders extraction order
+        File sequentialDir = new File("target/tmpJUnit/testConcurrentFoldersExtraction/sequential");
+        List<String> sequentialLines = csvLines(new File(sequentialDir, "messages.csv"), true);
+        assertThat(sequentialLines).hasSizeGreaterThan(98);
+        for (String destName : new String[]{"concurrentFolders", "concurrent"}) {
+            File dir = new File("target/tmpJUnit/testConcurrentFoldersExtraction/" + destName);
+            assertThat(csvLines(new File(dir, "messages.csv"), true)).as(destName)
+                    .isEqualTo(sequentialLines);
+
+            // units tree
+            assertThat(unitTree(dir)).as(destName).isEqualTo(unitTree(sequentialDir));
+        }
+    }
+}
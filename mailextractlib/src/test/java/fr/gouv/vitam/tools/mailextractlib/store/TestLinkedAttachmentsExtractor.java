@@ -0,0 +1,154 @@
+package fr.gouv.vitam.tools.mailextractlib.store;
+
+import fr.gouv.vitam.tools.mailextractlib.AllTests;
+import fr.gouv.vitam.tools.mailextractlib.core.StoreExtractor;
+import fr.gouv.vitam.tools.mailextractlib.core.StoreExtractorOptions;
+import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractLibException;
+import fr.gouv.vitam.tools.mailextractlib.utils.MailExtractProgressLogger;
+import fr.gouv.vitam.tools.mailextractlib.utils.RawContent;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestLinkedAttachmentsExtractor implements AllTests {
+
+    // a small attachment kept in memory, and a big one spilled to a temporary file
+    private static final byte[] SMALL_ATTACHMENT = attachment(10 * 1024, 1);
+    private static final byte[] BIG_ATTACHMENT = attachment(RawContent.DEFAULT_MEMORY_THRESHOLD + 1024, 2);
+
+    private static byte[] attachment(int size, int seed) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++)
+            result[i] = (byte) (i * seed + i / 251);
+        return result;
+    }
+
+    private static String mboxMessage(int i, byte[] attachment) {
+        String boundary = "boundary-" + i;
+        return "From sender@example.org Mon Jan  6 10:00:00 2020\n" +
+                "Message-ID: <linked." + i + "@example.org>\n" +
+                "Date: Mon, 6 Jan 2020 10:0" + i + ":00 +0100\n" +
+                "From: Sender <sender@example.org>\n" +
+                "To: Recipient <recipient@example.org>\n" +
+                "Subject: message " + i + "\n" +
+                "MIME-Version: 1.0\n" +
+                "Content-Type: multipart/mixed; boundary=\"" + boundary + "\"\n\n" +
+                "--" + boundary + "\n" +
+                "Content-Type: text/plain; charset=UTF-8\n\n" +
+                "Body of message " + i + "\n" +
+                "--" + boundary + "\n" +
+                "Content-Type: application/octet-stream; name=\"data" + i + ".bin\"\n" +
+                "Content-Disposition: attachment; filename=\"data" + i + ".bin\"\n" +
+                "Content-Transfer-Encoding: base64\n\n" +
+                Base64.getMimeEncoder().encodeToString(attachment) + "\n" +
+                "--" + boundary + "--\n\n";
+    }
+
+    // two messages with the same small attachment, and two with the same big one
+    private static File writeMbox(String testName) throws IOException {
+        File mbox = new File("target/tmpJUnit/" + testName + "/Linked.mbox");
+        FileUtils.writeStringToFile(mbox, mboxMessage(1, SMALL_ATTACHMENT) + mboxMessage(2, BIG_ATTACHMENT)
+                + mboxMessage(3, SMALL_ATTACHMENT) + mboxMessage(4, BIG_ATTACHMENT), StandardCharsets.US_ASCII);
+        return mbox;
+    }
+
+    private static StoreExtractor createStoreExtractor(File mbox, String destPath, MailExtractProgressLogger mepl)
+            throws MailExtractLibException {
+        StoreExtractorOptions storeExtractorOptions = new StoreExtractorOptions(false,
+                true, true, 12, "UTF-8",
+                true, false, false, false,
+                false, 2);
+        storeExtractorOptions.linkDuplicateAttachments = true;
+        String urlString = StoreExtractor.composeStoreURL("mbox", "", "", "", mbox.getPath());
+        return StoreExtractor.createStoreExtractor(urlString, "", destPath, storeExtractorOptions, mepl);
+    }
+
+    // all the extracted files with the given content
+    private static List<Path> filesWithContent(File dir, byte[] content) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        List<Path> result = new ArrayList<>();
+        for (Path file : files)
+            if ((Files.size(file) == content.length) && Arrays.equals(Files.readAllBytes(file), content))
+                result.add(file);
+        return result;
+    }
+
+    private static Object inode(Path file) throws IOException {
+        return Files.getAttribute(file, "unix:ino");
+    }
+
+    private static int linksCount(Path file) throws IOException {
+        return (Integer) Files.getAttribute(file, "unix:nlink");
+    }
+
+    @Test
+    public void testIdenticalAttachmentsLinked() throws MailExtractLibException, InterruptedException, IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("unix"));
+
+        //given
+        AllTests.initializeTests("testIdenticalAttachmentsLinked");
+        MailExtractProgressLogger mepl = AllTests.initLogger("testIdenticalAttachmentsLinked");
+        File mbox = writeMbox("testIdenticalAttachmentsLinked");
+        File destDir = new File("target/tmpJUnit/testIdenticalAttachmentsLinked/extract");
+        StoreExtractor storeExtractor = createStoreExtractor(mbox, destDir.getPath(), mepl);
+
+        //when
+        storeExtractor.extractAllFolders();
+        storeExtractor.endStoreExtractor();
+
+        //then each attachment, in memory or spilled, is written once and linked in the second message unit
+        for (byte[] content : new byte[][]{SMALL_ATTACHMENT, BIG_ATTACHMENT}) {
+            List<Path> files = filesWithContent(destDir, content);
+            assertThat(files).hasSize(2);
+            assertThat(files.get(0).getParent()).isNotEqualTo(files.get(1).getParent());
+            assertThat(inode(files.get(0))).isEqualTo(inode(files.get(1)));
+            assertThat(linksCount(files.get(0))).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testLinkFailureFallback() throws MailExtractLibException, InterruptedException, IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("unix"));
+
+        //given already recorded attachments files which can't be linked, as they don't exist
+        AllTests.initializeTests("testLinkFailureFallback");
+        MailExtractProgressLogger mepl = AllTests.initLogger("testLinkFailureFallback");
+        File mbox = writeMbox("testLinkFailureFallback");
+        File destDir = new File("target/tmpJUnit/testLinkFailureFallback/extract");
+        StoreExtractor storeExtractor = createStoreExtractor(mbox, destDir.getPath(), mepl);
+        for (byte[] content : new byte[][]{SMALL_ATTACHMENT, BIG_ATTACHMENT})
+            storeExtractor.putAttachmentFile(RawContent.getDigest(content) + "-" + content.length,
+                    "target/tmpJUnit/testLinkFailureFallback/missing/data.bin");
+
+        //when
+        storeExtractor.extractAllFolders();
+        storeExtractor.endStoreExtractor();
+
+        //then each attachment is written in its own file
+        for (byte[] content : new byte[][]{SMALL_ATTACHMENT, BIG_ATTACHMENT}) {
+            List<Path> files = filesWithContent(destDir, content);
+            assertThat(files).hasSize(2);
+            assertThat(inode(files.get(0))).isNotEqualTo(inode(files.get(1)));
+            assertThat(linksCount(files.get(0))).isEqualTo(1);
+            assertThat(linksCount(files.get(1))).isEqualTo(1);
+        }
+    }
+}
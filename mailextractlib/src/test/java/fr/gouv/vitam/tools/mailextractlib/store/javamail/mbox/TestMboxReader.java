@@ -0,0 +1,217 @@
+package fr.gouv.vitam.tools.mailextractlib.store.javamail.mbox;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestMboxReader {
+
+    private static final File TEST_DIR = new File("target/tmpJUnit/TestMboxReader");
+
+    private static final String[] SAMPLES = {
+            // "From " at offset 0
+            "From a\nbody1\nFrom b\nbody2\n",
+            // "From " lines on 8 bytes words boundaries
+            "From ab\nxxxxxxx\nFrom cd\nyyyyyyy\nFrom ef\n\n",
+            // "From " not at a line beginning
+            "From a\nbody From b\n>From c\nxFrom d\n",
+            // trailing "From " line without new line
+            "From a\nbody\nFrom b",
+            // CRLF lines
+            "From a\r\nbody\r\nFrom b\r\nbody2\r\n",
+            // no "From " line
+            "body\nwithout separator\n",
+            // many short messages, with "Fro" and "From" false starts
+            "From 1\na\nFrom 2\nFro\nFrom\nFrom 3\n\nFrom 4\nbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\nFrom 5\nc\n"
+    };
+
+    @BeforeEach
+    public void initializeTestDir() throws IOException {
+        FileUtils.deleteDirectory(TEST_DIR);
+        Files.createDirectories(TEST_DIR.toPath());
+    }
+
+    // reference line by line boundaries computation, as done before the mapped scan
+    private static long[] naiveBoundaries(byte[] content) {
+        List<Long> boundaries = new ArrayList<>();
+        int lineBeg = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n')
+                continue;
+            if ((i - lineBeg >= 5) && new String(content, lineBeg, 5, StandardCharsets.US_ASCII).equals("From ")) {
+                if (!boundaries.isEmpty())
+                    boundaries.add((long) lineBeg);
+                boundaries.add((long) i + 1);
+            }
+            lineBeg = i + 1;
+        }
+        if (!boundaries.isEmpty())
+            boundaries.add(-1L);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long[] byteArrayBoundaries(String content) throws IOException {
+        return new MboxReader(null, content.getBytes(StandardCharsets.US_ASCII)).getMessagesBoundaries();
+    }
+
+    private static long[] fileBoundaries(File file, int mappedRegionSize) throws IOException {
+        return fileBoundaries(file, mappedRegionSize, false);
+    }
+
+    private static long[] fileBoundaries(File file, int mappedRegionSize, boolean indexPersisted) throws IOException {
+        MboxReader reader = new MboxReader(null, file);
+        try {
+            reader.setMappedRegionSize(mappedRegionSize);
+            reader.setIndexPersisted(indexPersisted);
+            return reader.getMessagesBoundaries();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static File writeMbox(String name, String content) throws IOException {
+        File file = new File(TEST_DIR, name);
+        FileUtils.writeStringToFile(file, content, StandardCharsets.US_ASCII);
+        return file;
+    }
+
+    @Test
+    public void testByteArrayBoundaries() throws IOException {
+        // given a byte array source, when scanned, then boundaries are those of "From " lines
+        assertThat(byteArrayBoundaries(SAMPLES[0]))
+                .containsExactly(7, 13, 20, -1);
+        for (String sample : SAMPLES) {
+            byte[] content = sample.getBytes(StandardCharsets.US_ASCII);
+            assertThat(byteArrayBoundaries(sample))
+                    .as(sample).containsExactly(naiveBoundaries(content));
+        }
+    }
+
+    @Test
+    public void testSpecificBoundaries() throws IOException {
+        // trailing "From " line without new line is not a separator
+        assertThat(byteArrayBoundaries(SAMPLES[3]))
+                .containsExactly(7, -1);
+        // with CRLF the message begins after the '\n'
+        assertThat(byteArrayBoundaries(SAMPLES[4]))
+                .containsExactly(8, 14, 22, -1);
+        // words boundaries
+        assertThat(byteArrayBoundaries(SAMPLES[1]))
+                .containsExactly(8, 16, 24, 32, 40, -1);
+        // no message
+        assertThat(byteArrayBoundaries(SAMPLES[5]))
+                .isEmpty();
+    }
+
+    @Test
+    public void testFileBoundariesWithSmallRegions() throws IOException {
+        // given each sample in a file, when scanned with regions small enough to have "From " lines
+        // and '\n' straddling all the regions boundaries, then boundaries are the same as the reference
+        for (int s = 0; s < SAMPLES.length; s++) {
+            byte[] content = SAMPLES[s].getBytes(StandardCharsets.US_ASCII);
+            for (int mappedRegionSize : new int[]{1, 3, 5, 8, 13, 16, 1 << 20}) {
+                File file = writeMbox("sample" + s + "-" + mappedRegionSize + ".mbox", SAMPLES[s]);
+                assertThat(fileBoundaries(file, mappedRegionSize)).as(SAMPLES[s] + " by " + mappedRegionSize)
+                        .containsExactly(naiveBoundaries(content));
+            }
+        }
+    }
+
+    @Test
+    public void testFromLineStraddlingRegionBoundary() throws IOException {
+        // given a '\n' as last byte of a 16 bytes region, and a "From " line split by the next region boundary
+        String content = "From a\n12345678\nFrom b\n" + "12345\nFrom c\nend\n";
+        assertThat(content.indexOf("From b")).isEqualTo(16);
+        assertThat(content.indexOf("From c")).isEqualTo(29);
+        File file = writeMbox("straddling.mbox", content);
+
+        // when scanned with 16 bytes regions, then all separators are found
+        assertThat(fileBoundaries(file, 16)).containsExactly(7, 16, 23, 29, 36, -1);
+    }
+
+    @Test
+    public void testNoIndexByDefault() throws IOException {
+        // given a file scanned without index persistence
+        File file = writeMbox("noindex.mbox", SAMPLES[0]);
+        File indexFile = MboxReader.getIndexFile(file);
+        assertThat(fileBoundaries(file, 16)).containsExactly(7, 13, 20, -1);
+
+        // then no index file is written in the mbox directory
+        assertThat(indexFile).doesNotExist();
+
+        // when a consistent index exists, then it's not read either
+        fileBoundaries(file, 16, true);
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            raf.seek(raf.length() - 8);
+            raf.writeLong(12345L);
+        }
+        assertThat(fileBoundaries(file, 16)).containsExactly(7, 13, 20, -1);
+    }
+
+    @Test
+    public void testIndexReuse() throws IOException {
+        // given a scanned file, with its index file
+        File file = writeMbox("reuse.mbox", SAMPLES[0]);
+        assertThat(fileBoundaries(file, 16, true)).containsExactly(7, 13, 20, -1);
+        File indexFile = MboxReader.getIndexFile(file);
+        assertThat(indexFile).isFile();
+
+        // when the index last boundary is changed, then the index is used instead of scanning the file
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            raf.seek(raf.length() - 8);
+            raf.writeLong(12345L);
+        }
+        assertThat(fileBoundaries(file, 16, true)).containsExactly(7, 13, 20, 12345);
+    }
+
+    @Test
+    public void testStaleIndexRejection() throws IOException {
+        // given a scanned file, with a recognisable index
+        File file = writeMbox("stale.mbox", SAMPLES[0]);
+        fileBoundaries(file, 16, true);
+        File indexFile = MboxReader.getIndexFile(file);
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            raf.seek(raf.length() - 8);
+            raf.writeLong(12345L);
+        }
+
+        // when the mbox file is changed, then the index is rejected and rewritten
+        FileUtils.writeStringToFile(file, SAMPLES[0] + "From c\nbody3\n", StandardCharsets.US_ASCII);
+        assertThat(fileBoundaries(file, 16, true)).containsExactly(7, 13, 20, 26, 33, -1);
+        assertThat(fileBoundaries(file, 16, true)).containsExactly(7, 13, 20, 26, 33, -1);
+
+        // when only the last modified time is changed, then the index is rejected too
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            raf.seek(raf.length() - 8);
+            raf.writeLong(12345L);
+        }
+        assertThat(file.setLastModified(file.lastModified() - 10000)).isTrue();
+        assertThat(fileBoundaries(file, 16, true)).containsExactly(7, 13, 20, 26, 33, -1);
+    }
+
+    @Test
+    public void testTruncatedIndex() throws IOException {
+        // given a scanned file whose index is truncated
+        File file = writeMbox("truncated.mbox", SAMPLES[0]);
+        fileBoundaries(file, 16, true);
+        File indexFile = MboxReader.getIndexFile(file);
+        for (long length : new long[]{indexFile.length() - 1, 30, 10, 0}) {
+            try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+                raf.setLength(length);
+            }
+
+            // when read, then the index is rejected and the file scanned again
+            assertThat(fileBoundaries(file, 16, true)).as("index length " + length).containsExactly(7, 13, 20, -1);
+        }
+    }
+}
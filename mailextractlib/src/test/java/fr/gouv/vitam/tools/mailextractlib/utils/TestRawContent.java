@@ -0,0 +1,153 @@
+package fr.gouv.vitam.tools.mailextractlib.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestRawContent {
+
+    private static final File TEST_DIR = new File("target/tmpJUnit/TestRawContent");
+
+    private static final int THRESHOLD = 1000;
+
+    @BeforeEach
+    public void initializeTestDir() throws IOException {
+        FileUtils.deleteDirectory(TEST_DIR);
+        Files.createDirectories(TEST_DIR.toPath());
+    }
+
+    private static byte[] content(int size) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++)
+            result[i] = (byte) (i * 31 + 7);
+        return result;
+    }
+
+    // stream giving at most 7 bytes by read, as network or decoding streams may do
+    private static InputStream smallReadsStream(byte[] content) {
+        return new FilterInputStream(new ByteArrayInputStream(content)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+    }
+
+    @Test
+    public void testThresholdBoundary() throws IOException {
+        // given a content exactly of the threshold size, when read, then it's kept in memory
+        byte[] content = content(THRESHOLD);
+        RawContent rawContent = RawContent.read(smallReadsStream(content), THRESHOLD);
+        assertThat(rawContent.isInMemory()).isTrue();
+        assertThat(rawContent.getSpillFile()).isNull();
+        assertThat(rawContent.getSize()).isEqualTo(THRESHOLD);
+        assertThat(rawContent.getBytes()).isEqualTo(content);
+
+        // given a content one byte bigger than the threshold, when read, then it's spilled to a temporary file
+        content = content(THRESHOLD + 1);
+        rawContent = RawContent.read(smallReadsStream(content), THRESHOLD);
+        try {
+            assertThat(rawContent.isInMemory()).isFalse();
+            assertThat(rawContent.getSpillFile()).isRegularFile();
+            assertThat(rawContent.getSize()).isEqualTo(THRESHOLD + 1);
+            assertThat(Files.size(rawContent.getSpillFile())).isEqualTo(THRESHOLD + 1);
+            assertThat(rawContent.getBytes()).isEqualTo(content);
+        } finally {
+            rawContent.release();
+        }
+    }
+
+    @Test
+    public void testSpilledStreamTail() throws IOException {
+        // given a stream much bigger than the threshold, when read, then it's consumed to the end and spilled
+        byte[] content = content(10 * THRESHOLD + 3);
+        ByteArrayInputStream is = new ByteArrayInputStream(content);
+        RawContent rawContent = RawContent.read(is, THRESHOLD);
+        try {
+            assertThat(is.available()).isEqualTo(0);
+            assertThat(rawContent.getSize()).isEqualTo(content.length);
+            try (InputStream ris = rawContent.newInputStream()) {
+                assertThat(ris).hasSameContentAs(new ByteArrayInputStream(content));
+            }
+        } finally {
+            rawContent.release();
+        }
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        for (int size : new int[]{0, THRESHOLD, THRESHOLD + 1, 5 * THRESHOLD}) {
+            // given a content in memory or spilled, and an already existing longer target file
+            byte[] content = content(size);
+            RawContent rawContent = RawContent.read(new ByteArrayInputStream(content), THRESHOLD);
+            Path target = new File(TEST_DIR, "target" + size).toPath();
+            Files.write(target, content(6 * THRESHOLD));
+
+            // when written, then the target file has exactly the content
+            try {
+                rawContent.writeTo(target);
+                assertThat(Files.readAllBytes(target)).as("size " + size).isEqualTo(content);
+            } finally {
+                rawContent.release();
+            }
+        }
+    }
+
+    @Test
+    public void testRelease() throws IOException {
+        // given a spilled content
+        RawContent rawContent = RawContent.read(new ByteArrayInputStream(content(2 * THRESHOLD)), THRESHOLD);
+        Path spillFile = rawContent.getSpillFile();
+        assertThat(spillFile).isRegularFile();
+
+        // when released, then the temporary file is deleted and the content empty
+        rawContent.release();
+        assertThat(spillFile).doesNotExist();
+        assertThat(rawContent.getSpillFile()).isNull();
+        assertThat(rawContent.getSize()).isEqualTo(0);
+        assertThat(rawContent.getBytes()).isEmpty();
+
+        // when released again, then nothing happens
+        rawContent.release();
+        assertThat(rawContent.getSize()).isEqualTo(0);
+
+        // given a content in memory, when released, then it's still readable
+        byte[] content = content(THRESHOLD);
+        rawContent = RawContent.read(new ByteArrayInputStream(content), THRESHOLD);
+        rawContent.release();
+        assertThat(rawContent.getBytes()).isEqualTo(content);
+    }
+
+    @Test
+    public void testDigestWhileReading() throws IOException {
+        for (int size : new int[]{0, THRESHOLD, THRESHOLD + 1, 5 * THRESHOLD}) {
+            // given a content read with its digest, in memory or spilled
+            byte[] content = content(size);
+            RawContent rawContent = RawContent.read(smallReadsStream(content), THRESHOLD, true);
+            RawContent withoutDigest = RawContent.read(new ByteArrayInputStream(content), THRESHOLD);
+            try {
+                // when the spilled file is removed, then the digest is still the one of the content, computed
+                // while reading
+                if (!rawContent.isInMemory())
+                    Files.write(rawContent.getSpillFile(), new byte[0]);
+                assertThat(rawContent.getDigest()).as("size " + size).isEqualTo(RawContent.getDigest(content));
+
+                // and it's the same as the one computed afterwards
+                assertThat(withoutDigest.getDigest()).as("size " + size).isEqualTo(RawContent.getDigest(content));
+            } finally {
+                rawContent.release();
+                withoutDigest.release();
+            }
+        }
+    }
+}
@@ -98,6 +98,10 @@ import java.util.List;
  * <td>exclude from the import by diskimport the files with names compliant with one of the regexp in a file, argument is file name</td>
  * </tr>
  * <tr>
+ * <td>--extractionthreads</td>
+ * <td>number of threads used by diskimport for the files format identification and digest, and by listimport for the csv lines conversion and files analysis, argument is a strictly positive number (1 by default)</td>
+ * </tr>
+ * <tr>
  * <td>--listimport</td>
  * <td>import an ArchiveUnit hierarchy from a set of disk directories and files, the hierarchy and metadata defined in a csv file</td>
  * </tr>
@@ -114,6 +118,10 @@ import java.util.List;
  * <td>generate a SEDA SIP, argument is SIP file name</td>
  * </tr>
  * <tr>
+ * <td>--compressionthreads</td>
+ * <td>number of threads used by generatesip to compress the files, argument is a strictly positive number (by default the one of the context or 1)</td>
+ * </tr>
+ * <tr>
  * <td>--manifest</td>
  * <td>generate a SEDA manifest, argument is manifest file name</td>
  * </tr>
@@ -163,6 +171,12 @@ public class ResipApp {
             " les fichiers dont le nom sont conformes aux expressions régulières contenue sur chaque ligne du fichier");
         options.addOption(exclude);
 
+        Option extractionthreads = new Option("t", "extractionthreads", true,
+            "nombre de fils d'exécution utilisés par diskimport pour l'identification de format et " +
+                "l'empreinte des fichiers, et par listimport pour l'interprétation des lignes du csv et " +
+                "l'analyse des fichiers, à 1 par défaut");
+        options.addOption(extractionthreads);
+
         Option listimport = new Option("l", "listimport", true,
             "importe une hiérarchie d'AU depuis un ensemble de répertoires et de fichiers dont " +
                 "la hiérarchie et les métadonnées sont décrits dans un csv");
@@ -181,6 +195,10 @@ public class ResipApp {
                 "générer");
         options.addOption(generatesip);
 
+        Option compressionthreads = new Option("z", "compressionthreads", true,
+            "nombre de fils d'exécution utilisés par generatesip pour compresser les fichiers, à 1 par défaut");
+        options.addOption(compressionthreads);
+
         Option manifest = new Option("m", "manifest", true,
             "génère le manifest SEDA de la structure importée avec en argument le nom du fichier à " +
                 "générer");
@@ -238,6 +256,7 @@ public class ResipApp {
 
         String workdirString;
         int logLevel;
+        int extractionThreadCount;
         CreationContext creationContext;
         ExportContext exportContext;
 
@@ -355,6 +374,20 @@ public class ResipApp {
             }
         }
 
+        // define the diskimport extraction thread count
+        extractionThreadCount = 1;
+        if (cmd.hasOption("extractionthreads")) {
+            try {
+                extractionThreadCount = Integer.parseInt(cmd.getOptionValue("extractionthreads"));
+                if (extractionThreadCount <= 0)
+                    throw new NumberFormatException("Doit être strictement positif");
+            } catch (NumberFormatException e) {
+                System.err.println(
+                        "Resip: Le nombre de fils d'exécution de l'import doit être un nombre strictement positif");
+                System.exit(1);
+            }
+        }
+
         // define the global logger
         ResipLogger.createGlobalLogger(workdirString + File.separator + "log.txt", logLevel);
         ResipLogger.getGlobalLogger().log(ResipLogger.GLOBAL, "Début du journal au niveau=" +
@@ -376,6 +409,7 @@ public class ResipApp {
             creationContext =
                 new DiskImportContext(Arrays.asList(excludePatterns), false, cmd.getOptionValue("diskimport"),
                     workdirString);
+            ((DiskImportContext) creationContext).setExtractionThreadCount(extractionThreadCount);
         } else if (cmd.hasOption("sipimport"))
             creationContext = new SIPImportContext(cmd.getOptionValue("sipimport"), workdirString);
         else if (cmd.hasOption("listimport")) {
@@ -385,6 +419,7 @@ public class ResipApp {
             else
                 creationContext =
                     new CSVMetadataImportContext("UTF-8", ';', cmd.getOptionValue("listimport"), workdirString);
+            ((CSVMetadataImportContext) creationContext).setThreadCount(extractionThreadCount);
         } else
             creationContext = null;
 
@@ -407,6 +442,18 @@ public class ResipApp {
                 exportContext.setDefaultPrefs();
             }
         }
+        if (cmd.hasOption("compressionthreads")) {
+            try {
+                int tmp = Integer.parseInt(cmd.getOptionValue("compressionthreads"));
+                if (tmp <= 0)
+                    throw new NumberFormatException("Doit être strictement positif");
+                exportContext.setCompressionThreadCount(tmp);
+            } catch (NumberFormatException e) {
+                System.err.println(
+                        "Resip: Le nombre de fils d'exécution de la compression doit être un nombre strictement positif");
+                System.exit(1);
+            }
+        }
 
         // graphic application
         if (!cmd.hasOption("xcommand")) {
@@ -428,6 +475,7 @@ public class ResipApp {
                         new DiskToArchiveTransferImporter(diskImportContext.getOnDiskInput(), spl);
                     for (String ip : diskImportContext.getIgnorePatternList())
                         di.addIgnorePattern(ip);
+                    di.setExtractionThreadCount(diskImportContext.getExtractionThreadCount());
                     di.doImport();
                     packet = di.getArchiveTransfer();
                 } else //noinspection ConstantConditions
@@ -444,6 +492,7 @@ public class ResipApp {
                         CSVMetadataToDataObjectPackageImporter cmi = new CSVMetadataToDataObjectPackageImporter(
                             cSVMetadataImportContext.getOnDiskInput(), cSVMetadataImportContext.getCsvCharsetName(),
                             cSVMetadataImportContext.getDelimiter(), spl);
+                        cmi.setThreadCount(cSVMetadataImportContext.getThreadCount());
                         cmi.doImport();
 
                         packet = new ArchiveTransfer();
@@ -461,6 +510,7 @@ public class ResipApp {
                         packet.getDataObjectPackage()
                             .setManagementMetadataXmlData(exportContext.getManagementMetadataXmlData());
                     ArchiveTransferToSIPExporter se = new ArchiveTransferToSIPExporter(packet, spl);
+                    se.setCompressionThreadCount(exportContext.getCompressionThreadCount());
                     if (cmd.hasOption("generatesip")) {
                         se.doExportToSEDASIP(cmd.getOptionValue("generatesip"), cmd.hasOption("hierarchical"),
                             cmd.hasOption("indented"));
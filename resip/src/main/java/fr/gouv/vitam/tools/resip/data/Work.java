@@ -28,27 +28,28 @@
 package fr.gouv.vitam.tools.resip.data;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import fr.gouv.vitam.tools.resip.parameters.CreationContext;
 import fr.gouv.vitam.tools.resip.parameters.ExportContext;
 import fr.gouv.vitam.tools.resip.utils.ResipException;
 import fr.gouv.vitam.tools.resip.utils.ResipLogger;
 import fr.gouv.vitam.tools.sedalib.core.*;
+import fr.gouv.vitam.tools.sedalib.core.binary.DataObjectPackageBinaryDeserializer;
+import fr.gouv.vitam.tools.sedalib.core.binary.DataObjectPackageBinarySerializer;
 import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageDeserializer;
 import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageSerializer;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLog;
 
@@ -69,6 +70,15 @@ public class Work {
      */
     static final String JSON_FILENAME = "work.json";
 
+    /**
+     * The magic bytes of binary save files.
+     * <p>
+     * A binary save file contains these magic bytes, the length and the json form of the Work without the
+     * DataObjectPackage, and then the DataObjectPackage in sedalib binary form. Previous zipped json save files are
+     * still read.
+     */
+    static final byte[] BINARY_MAGIC = "RESIPWRK".getBytes(StandardCharsets.US_ASCII);
+
     /**
      * The version of this object used for to distinct serialization in prefs or on
      * disk.
@@ -151,6 +161,8 @@ public class Work {
      */
     public static int getSeda2VersionFromFile(String file) throws ResipException {
         Work ow;
+        if (isBinaryFile(file))
+            return readBinaryHeader(file).work.seda2Version;
         try (ZipInputStream zis = new ZipInputStream(new FileInputStream(file))) {
             ObjectMapper mapper = new ObjectMapper();
             SimpleModule module = new SimpleModule();
@@ -179,6 +191,19 @@ public class Work {
      */
     public static Work createFromFile(String file) throws ResipException {
         Work ow;
+        if (isBinaryFile(file)) {
+            BinaryHeader header = readBinaryHeader(file);
+            ow = header.work;
+            try {
+                // all links are restored by the binary deserializer
+                ow.setDataObjectPackage(DataObjectPackageBinaryDeserializer.deserialize(Paths.get(file),
+                        header.dataObjectPackageOffset));
+            } catch (SEDALibException e) {
+                throw new ResipException("Resip: La lecture du fichier [" + file
+                        + "] ne permet pas de retrouver une session Resip", e);
+            }
+            return ow;
+        }
         try (ZipInputStream zis = new ZipInputStream(new FileInputStream(file))) {
             ObjectMapper mapper = new ObjectMapper();
             SimpleModule module = new SimpleModule();
@@ -229,19 +254,76 @@ public class Work {
             module.addSerializer(DataObjectPackage.class, new DataObjectPackageSerializer());
             module.addDeserializer(DataObjectPackage.class, new DataObjectPackageDeserializer());
             mapper.registerModule(module);
-            mapper.enable(SerializationFeature.INDENT_OUTPUT);
-            try(ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(file))) {
-                ZipEntry e = new ZipEntry(JSON_FILENAME);
-                zos.putNextEntry(e);
-                mapper.writeValue(zos, this);
-                zos.closeEntry();
+            byte[] header = mapper.writeValueAsBytes(new Work(null, creationContext, exportContext, seda2Version));
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                dos.write(BINARY_MAGIC);
+                dos.writeInt(header.length);
+                dos.write(header);
+                new DataObjectPackageBinarySerializer(dos).serialize(dataObjectPackage);
             }
-        } catch (IOException e) {
+        } catch (IOException | SEDALibException e) {
             ResipLogger.getGlobalLogger().log(ResipLogger.STEP, "Impossible de sauvegarder la session", e);
         }
 
     }
 
+    /**
+     * The binary save file header, with the Work without DataObjectPackage.
+     */
+    private static class BinaryHeader {
+        /**
+         * The Work without DataObjectPackage.
+         */
+        Work work;
+        /**
+         * The offset of the DataObjectPackage in binary form.
+         */
+        long dataObjectPackageOffset;
+    }
+
+    /**
+     * Checks if the file is a binary save file.
+     *
+     * @param file the file
+     * @return true, if binary
+     */
+    private static boolean isBinaryFile(String file) {
+        byte[] magic = new byte[BINARY_MAGIC.length];
+        try (DataInputStream dis = new DataInputStream(new FileInputStream(file))) {
+            dis.readFully(magic);
+        } catch (IOException e) {
+            return false;
+        }
+        return Arrays.equals(magic, BINARY_MAGIC);
+    }
+
+    /**
+     * Read the binary save file header.
+     *
+     * @param file the file
+     * @return the binary header
+     * @throws ResipException the resip exception
+     */
+    private static BinaryHeader readBinaryHeader(String file) throws ResipException {
+        BinaryHeader result = new BinaryHeader();
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            dis.skipBytes(BINARY_MAGIC.length);
+            byte[] header = new byte[dis.readInt()];
+            dis.readFully(header);
+            ObjectMapper mapper = new ObjectMapper();
+            SimpleModule module = new SimpleModule();
+            module.addSerializer(DataObjectPackage.class, new DataObjectPackageSerializer());
+            module.addDeserializer(DataObjectPackage.class, new DataObjectPackageDeserializer());
+            mapper.registerModule(module);
+            result.work = mapper.readValue(header, Work.class);
+            result.dataObjectPackageOffset = BINARY_MAGIC.length + 4L + header.length;
+        } catch (IOException e) {
+            throw new ResipException("Resip: La lecture du fichier [" + file
+                    + "] ne permet pas de retrouver une session Resip", e);
+        }
+        return result;
+    }
+
     /**
      * Gets the archive transfer.
      *
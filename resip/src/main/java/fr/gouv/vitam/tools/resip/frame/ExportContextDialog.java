@@ -74,6 +74,7 @@ public class ExportContextDialog extends JDialog {
 	private JRadioButton hierarchicalRadioButton;
 	private JRadioButton indentedRadioButton;
 	private JRadioButton reindexYesRadioButton;
+	private JTextField compressionThreadCountTextField;
 	private JRadioButton firstUsageButton;
 	private JRadioButton lastUsageButton;
 	private JRadioButton allUsageButton;
@@ -462,7 +463,7 @@ public class ExportContextDialog extends JDialog {
 		GridBagLayout gblExportParametersPanel = new GridBagLayout();
 		gblExportParametersPanel.columnWeights = new double[]{0.1, 0.1, 0.5, 0.1};
 		gblExportParametersPanel.rowHeights = new int[]{0, 0, 0, 0, 0, 0};
-		gblExportParametersPanel.rowWeights = new double[]{0, 0, 0, 0,0,0,0,0,0,1};
+		gblExportParametersPanel.rowWeights = new double[]{0, 0, 0, 0,0,0,0,0,0,0,1};
 		exportParametersPanel.setLayout(gblExportParametersPanel);
 
 		JLabel inSIPLabel = new JLabel("Options de formation du SIP");
@@ -575,6 +576,29 @@ public class ExportContextDialog extends JDialog {
 		else
 			reindexNoRadioButton.setSelected(true);
 
+		JLabel compressionThreadCountLabel = new JLabel("Nombre de fils d'exécution de la compression:");
+		compressionThreadCountLabel.setToolTipText("Nombre de fichiers compressés en parallèle dans le SIP, 1 pour une compression séquentielle");
+		gbc = new GridBagConstraints();
+		gbc.anchor = GridBagConstraints.EAST;
+		gbc.insets = new Insets(0, 0, 0, 5);
+		gbc.gridx = 0;
+		gbc.gridy = 4;
+		exportParametersPanel.add(compressionThreadCountLabel, gbc);
+
+		compressionThreadCountTextField = new JTextField();
+		DocumentFilter compressionThreadCountFilter = new NumericFilter();
+		((AbstractDocument) compressionThreadCountTextField.getDocument()).setDocumentFilter(compressionThreadCountFilter);
+		compressionThreadCountTextField.setText(Integer.toString(exportContext.getCompressionThreadCount()));
+		compressionThreadCountTextField.setFont(MainWindow.DETAILS_FONT);
+		compressionThreadCountTextField.setColumns(10);
+		gbc = new GridBagConstraints();
+		gbc.insets = new Insets(0, 0, 0, 5);
+		gbc.gridwidth = 2;
+		gbc.gridx = 1;
+		gbc.gridy = 4;
+		gbc.anchor = GridBagConstraints.WEST;
+		exportParametersPanel.add(compressionThreadCountTextField, gbc);
+
 		JLabel inCSVLabel = new JLabel("Options d'export en hiérarchie simplifiée et fichier csv");
 		inCSVLabel.setFont(MainWindow.BOLD_LABEL_FONT);
 		gbc = new GridBagConstraints();
@@ -584,7 +608,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.NORTHWEST;
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 		gbc.gridx = 0;
-		gbc.gridy = 4;
+		gbc.gridy = 5;
 		exportParametersPanel.add(inCSVLabel, gbc);
 
 		JLabel exportModeChoiceLabel = new JLabel("Mode de choix des objets exportés:");
@@ -592,7 +616,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.EAST;
 		gbc.insets = new Insets(0, 0, 5, 5);
 		gbc.gridx = 0;
-		gbc.gridy = 5;
+		gbc.gridy = 6;
 		exportParametersPanel.add(exportModeChoiceLabel, gbc);
 
 		firstUsageButton = new JRadioButton("Premier");
@@ -600,7 +624,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.WEST;
 		gbc.insets = new Insets(0, 0, 5, 5);
 		gbc.gridx = 1;
-		gbc.gridy = 5;
+		gbc.gridy = 6;
 		exportParametersPanel.add(firstUsageButton, gbc);
 
 		lastUsageButton = new JRadioButton("Dernier");
@@ -608,7 +632,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.WEST;
 		gbc.insets = new Insets(0, 0, 5, 5);
 		gbc.gridx = 2;
-		gbc.gridy = 5;
+		gbc.gridy = 6;
 		exportParametersPanel.add(lastUsageButton, gbc);
 
 		allUsageButton = new JRadioButton("Tous");
@@ -616,7 +640,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.WEST;
 		gbc.insets = new Insets(0, 0, 5, 5);
 		gbc.gridx = 3;
-		gbc.gridy = 5;
+		gbc.gridy = 6;
 		exportParametersPanel.add(allUsageButton, gbc);
 
 		ButtonGroup exportModeChoiceButtonGroup = new ButtonGroup();
@@ -642,7 +666,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.EAST;
 		gbc.insets = new Insets(0, 5, 5, 5);
 		gbc.gridx = 0;
-		gbc.gridy = 6;
+		gbc.gridy = 7;
 		exportParametersPanel.add(lblNameMaxSize, gbc);
 
 		nameMaxSizeTextField = new JTextField();
@@ -654,7 +678,7 @@ public class ExportContextDialog extends JDialog {
 		gbc = new GridBagConstraints();
 		gbc.insets = new Insets(0, 5, 5, 5);
 		gbc.gridx = 1;
-		gbc.gridy = 6;
+		gbc.gridy = 7;
 		gbc.anchor = GridBagConstraints.WEST;
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 		exportParametersPanel.add(nameMaxSizeTextField, gbc);
@@ -664,7 +688,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.EAST;
 		gbc.insets = new Insets(0, 5, 5, 5);
 		gbc.gridx = 0;
-		gbc.gridy = 7;
+		gbc.gridy = 8;
 		exportParametersPanel.add(lblCsvExtendedFormat, gbc);
 
 		csvExtendedFormatChexBox = new JCheckBox("étendu");
@@ -673,7 +697,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 		gbc.insets = new Insets(0, 0, 5, 5);
 		gbc.gridx = 1;
-		gbc.gridy = 7;
+		gbc.gridy = 8;
 		exportParametersPanel.add(csvExtendedFormatChexBox, gbc);
 		csvExtendedFormatChexBox.setSelected(exportContext.isCsvExtendedFormat());
 
@@ -687,7 +711,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.NORTHWEST;
 		gbc.fill = GridBagConstraints.BOTH;
 		gbc.gridx = 0;
-		gbc.gridy = 8;
+		gbc.gridy = 9;
 		exportParametersPanel.add(metadataFilterLabel, gbc);
 
 		scrollPane = new JScrollPane();
@@ -698,7 +722,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.fill = GridBagConstraints.BOTH;
 		gbc.insets = new Insets(0, 5, 5, 5);
 		gbc.gridx = 1;
-		gbc.gridy = 9;
+		gbc.gridy = 10;
 		exportParametersPanel.add(scrollPane, gbc);
 
 		metadataFilterTextArea = new JTextArea();
@@ -716,7 +740,7 @@ public class ExportContextDialog extends JDialog {
 		gbc.anchor = GridBagConstraints.EAST;
 		gbc.insets = new Insets(0, 5, 5, 5);
 		gbc.gridx = 0;
-		gbc.gridy = 9;
+		gbc.gridy = 10;
 		gbc.weighty = 1.0;
 		exportParametersPanel.add(metadataFilterCheckBox, gbc);
 		metadataFilterCheckBox.addItemListener(this::metadataFilterEvent);
@@ -782,6 +806,19 @@ public class ExportContextDialog extends JDialog {
 		gmc.setHierarchicalArchiveUnits(hierarchicalRadioButton.isSelected());
 		gmc.setIndented(indentedRadioButton.isSelected());
 		gmc.setReindex(reindexYesRadioButton.isSelected());
+		try {
+			tmp = Integer.parseInt(compressionThreadCountTextField.getText());
+			if (tmp <= 0)
+				throw new NumberFormatException("Number not strictly positive");
+		} catch (NumberFormatException e) {
+			tabbedPane.setSelectedIndex(2);
+			UserInteractionDialog.getUserAnswer(ResipGraphicApp.mainWindow,
+					"Le nombre de fils d'exécution de la compression doit être un nombre strictement supérieur à 0.",
+					"Information", UserInteractionDialog.IMPORTANT_DIALOG,
+					null);
+			return false;
+		}
+		gmc.setCompressionThreadCount(tmp);
 		if (firstUsageButton.isSelected())
 			gmc.setUsageVersionSelectionMode(FIRST_DATAOBJECT);
 		else  if (allUsageButton.isSelected())
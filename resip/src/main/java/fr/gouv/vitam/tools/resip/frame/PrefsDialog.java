@@ -84,10 +84,16 @@ public class PrefsDialog extends JDialog {
     private final JCheckBox attachementFileCheckBox;
     private final JCheckBox messageMetadataCheckBox;
     private final JCheckBox attachementMetadataCheckBox;
+    private final JCheckBox linkDuplicateAttachmentsCheckBox;
+    private final JTextField extractFolderThreadsTextField;
+    private final JCheckBox persistMboxIndexCheckBox;
+    private final JTextField extractThreadsTextField;
     private final JTextArea ignorePatternsTextArea;
     private final JCheckBox ignoreLinksChexBox;
+    private final JTextField extractionThreadCountTextField;
     private final JComboBox<String> csvCharsetCombobox;
     private final JTextField csvDelimiterTextField;
+    private final JTextField csvThreadCountTextField;
 
     private final JTextField workDirTextField;
     private final JRadioButton hierarchicalRadioButton;
@@ -98,6 +104,7 @@ public class PrefsDialog extends JDialog {
     private final JTextField nameMaxSizeTextField;
     private final JCheckBox csvExtendedFormatChexBox;
     private final JRadioButton reindexYesRadioButton;
+    private final JTextField compressionThreadCountTextField;
     private final JTextArea metadataFilterTextArea;
     private final JCheckBox metadataFilterCheckBox;
 
@@ -536,7 +543,7 @@ public class PrefsDialog extends JDialog {
         GridBagLayout gblExportParametersPanel = new GridBagLayout();
         gblExportParametersPanel.columnWeights = new double[]{0, 0.5, 0.5, 0};
         gblExportParametersPanel.rowHeights = new int[]{0, 0, 0, 0, 0, 0, 0, 0};
-        gblExportParametersPanel.rowWeights = new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0};
+        gblExportParametersPanel.rowWeights = new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0};
         exportParametersPanel.setLayout(gblExportParametersPanel);
 
         JLabel inSIPLabel = new JLabel("Options de formation du SIP");
@@ -649,6 +656,29 @@ public class PrefsDialog extends JDialog {
         else
             reindexNoRadioButton.setSelected(true);
 
+        JLabel compressionThreadCountLabel = new JLabel("Nombre de fils d'exécution de la compression:");
+        compressionThreadCountLabel.setToolTipText("Nombre de fichiers compressés en parallèle dans le SIP, 1 pour une compression séquentielle");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 0, 0, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 6;
+        exportParametersPanel.add(compressionThreadCountLabel, gbc);
+
+        compressionThreadCountTextField = new JTextField();
+        DocumentFilter compressionThreadCountFilter = new NumericFilter();
+        ((AbstractDocument) compressionThreadCountTextField.getDocument()).setDocumentFilter(compressionThreadCountFilter);
+        compressionThreadCountTextField.setText(Integer.toString(gmc.getCompressionThreadCount()));
+        compressionThreadCountTextField.setFont(MainWindow.DETAILS_FONT);
+        compressionThreadCountTextField.setColumns(10);
+        gbc = new GridBagConstraints();
+        gbc.insets = new Insets(0, 0, 0, 5);
+        gbc.gridwidth = 2;
+        gbc.gridx = 1;
+        gbc.gridy = 6;
+        gbc.anchor = GridBagConstraints.WEST;
+        exportParametersPanel.add(compressionThreadCountTextField, gbc);
+
         JLabel inCSVLabel = new JLabel("Options d'export en hiérarchie simplifiée et fichier csv");
         inCSVLabel.setFont(MainWindow.BOLD_LABEL_FONT);
         gbc = new GridBagConstraints();
@@ -658,7 +688,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.NORTHWEST;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.gridx = 0;
-        gbc.gridy = 6;
+        gbc.gridy = 7;
         exportParametersPanel.add(inCSVLabel, gbc);
 
         JLabel exportModeChoiceLabel = new JLabel("Mode de choix des objets exportés:");
@@ -666,7 +696,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 7;
+        gbc.gridy = 8;
         exportParametersPanel.add(exportModeChoiceLabel, gbc);
 
         firstUsageButton = new JRadioButton("Premier");
@@ -674,7 +704,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.WEST;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 1;
-        gbc.gridy = 7;
+        gbc.gridy = 8;
         exportParametersPanel.add(firstUsageButton, gbc);
 
         lastUsageButton = new JRadioButton("Dernier");
@@ -682,7 +712,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.WEST;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 2;
-        gbc.gridy = 7;
+        gbc.gridy = 8;
         exportParametersPanel.add(lastUsageButton, gbc);
 
         allUsageButton = new JRadioButton("Tous");
@@ -690,7 +720,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.WEST;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 3;
-        gbc.gridy = 7;
+        gbc.gridy = 8;
         exportParametersPanel.add(allUsageButton, gbc);
 
         ButtonGroup exportModeChoiceButtonGroup = new ButtonGroup();
@@ -716,7 +746,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 8;
+        gbc.gridy = 9;
         exportParametersPanel.add(lblNameMaxSize, gbc);
 
         nameMaxSizeTextField = new JTextField();
@@ -728,7 +758,7 @@ public class PrefsDialog extends JDialog {
         gbc = new GridBagConstraints();
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 1;
-        gbc.gridy = 8;
+        gbc.gridy = 9;
         gbc.anchor = GridBagConstraints.WEST;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         exportParametersPanel.add(nameMaxSizeTextField, gbc);
@@ -738,7 +768,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 9;
+        gbc.gridy = 10;
         exportParametersPanel.add(lblCsvExtendedFormat, gbc);
 
         csvExtendedFormatChexBox = new JCheckBox("étendu");
@@ -747,7 +777,7 @@ public class PrefsDialog extends JDialog {
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 1;
-        gbc.gridy = 9;
+        gbc.gridy = 10;
         exportParametersPanel.add(csvExtendedFormatChexBox, gbc);
         csvExtendedFormatChexBox.setSelected(gmc.isCsvExtendedFormat());
 
@@ -760,7 +790,7 @@ public class PrefsDialog extends JDialog {
         gbc.weighty = 0.0;
         gbc.anchor = GridBagConstraints.NORTHWEST;
         gbc.gridx = 0;
-        gbc.gridy = 10;
+        gbc.gridy = 11;
         exportParametersPanel.add(metadataFilterLabel, gbc);
 
         scrollPane = new JScrollPane();
@@ -771,7 +801,7 @@ public class PrefsDialog extends JDialog {
         gbc.fill = GridBagConstraints.BOTH;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 1;
-        gbc.gridy = 11;
+        gbc.gridy = 12;
         exportParametersPanel.add(scrollPane, gbc);
 
         metadataFilterTextArea = new JTextArea();
@@ -789,7 +819,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 11;
+        gbc.gridy = 12;
         gbc.weighty = 1.0;
         gbc.fill = GridBagConstraints.BOTH;
         exportParametersPanel.add(metadataFilterCheckBox, gbc);
@@ -884,6 +914,88 @@ public class PrefsDialog extends JDialog {
         importParametersPanel.add(attachementMetadataCheckBox, gbc);
         attachementMetadataCheckBox.setSelected(mic.isExtractAttachmentTextMetadata());
 
+        JLabel extractThreadsLabel = new JLabel("Fils d'extraction des messages :");
+        extractThreadsLabel.setToolTipText("Nombre de messages extraits en parallèle, une fois lus dans l'ordre de la messagerie, 1 pour une extraction séquentielle");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 4;
+        importParametersPanel.add(extractThreadsLabel, gbc);
+
+        extractThreadsTextField = new JTextField();
+        DocumentFilter extractThreadsFilter = new NumericFilter();
+        ((AbstractDocument) extractThreadsTextField.getDocument()).setDocumentFilter(extractThreadsFilter);
+        extractThreadsTextField.setText(Integer.toString(mic.getExtractThreads()));
+        extractThreadsTextField.setFont(MainWindow.DETAILS_FONT);
+        extractThreadsTextField.setColumns(10);
+        gbc = new GridBagConstraints();
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridwidth = 2;
+        gbc.gridx = 1;
+        gbc.gridy = 4;
+        gbc.anchor = GridBagConstraints.WEST;
+        importParametersPanel.add(extractThreadsTextField, gbc);
+
+        JLabel extractFolderThreadsLabel = new JLabel("Fils d'extraction des dossiers :");
+        extractFolderThreadsLabel.setToolTipText("Nombre de dossiers d'une messagerie Thunderbird extraits en parallèle, 1 pour une extraction séquentielle");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 5;
+        importParametersPanel.add(extractFolderThreadsLabel, gbc);
+
+        extractFolderThreadsTextField = new JTextField();
+        DocumentFilter extractFolderThreadsFilter = new NumericFilter();
+        ((AbstractDocument) extractFolderThreadsTextField.getDocument()).setDocumentFilter(extractFolderThreadsFilter);
+        extractFolderThreadsTextField.setText(Integer.toString(mic.getExtractFolderThreads()));
+        extractFolderThreadsTextField.setFont(MainWindow.DETAILS_FONT);
+        extractFolderThreadsTextField.setColumns(10);
+        gbc = new GridBagConstraints();
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridwidth = 2;
+        gbc.gridx = 1;
+        gbc.gridy = 5;
+        gbc.anchor = GridBagConstraints.WEST;
+        importParametersPanel.add(extractFolderThreadsTextField, gbc);
+
+        JLabel persistMboxIndexLabel = new JLabel("Index des fichiers mbox :");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 6;
+        importParametersPanel.add(persistMboxIndexLabel, gbc);
+
+        persistMboxIndexCheckBox = new JCheckBox("conservés à côté des fichiers");
+        persistMboxIndexCheckBox.setToolTipText("Conserve l'index des messages à côté de chaque fichier mbox pour accélérer les extractions suivantes, en écrivant dans le répertoire source");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 1;
+        gbc.gridy = 6;
+        importParametersPanel.add(persistMboxIndexCheckBox, gbc);
+        persistMboxIndexCheckBox.setSelected(mic.isPersistMboxIndex());
+
+        JLabel linkDuplicateAttachmentsLabel = new JLabel("Pièces jointes identiques :");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 7;
+        importParametersPanel.add(linkDuplicateAttachmentsLabel, gbc);
+
+        linkDuplicateAttachmentsCheckBox = new JCheckBox("écrites une seule fois");
+        linkDuplicateAttachmentsCheckBox.setToolTipText("Les autres occurrences d'une pièce jointe déjà extraite sont des liens physiques vers le premier fichier, ou des copies si le système de fichiers ne le permet pas");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridx = 1;
+        gbc.gridy = 7;
+        importParametersPanel.add(linkDuplicateAttachmentsCheckBox, gbc);
+        linkDuplicateAttachmentsCheckBox.setSelected(mic.isLinkDuplicateAttachments());
+
         JLabel diskImportLabel = new JLabel("Import des hiérarchies sur disque");
         diskImportLabel.setFont(MainWindow.BOLD_LABEL_FONT);
         gbc = new GridBagConstraints();
@@ -893,7 +1005,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.NORTHWEST;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.gridx = 0;
-        gbc.gridy = 4;
+        gbc.gridy = 8;
         importParametersPanel.add(diskImportLabel, gbc);
 
         JScrollPane scrollPane5 = new JScrollPane();
@@ -904,7 +1016,7 @@ public class PrefsDialog extends JDialog {
         gbc.fill = GridBagConstraints.BOTH;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 1;
-        gbc.gridy = 5;
+        gbc.gridy = 9;
         importParametersPanel.add(scrollPane5, gbc);
 
         ignorePatternsTextArea = new JTextArea();
@@ -919,7 +1031,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 5;
+        gbc.gridy = 9;
         gbc.weighty = 1.0;
         importParametersPanel.add(ignorePatternsLabel, gbc);
 
@@ -932,9 +1044,32 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.CENTER;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.gridx = 1;
-        gbc.gridy = 6;
+        gbc.gridy = 10;
         importParametersPanel.add(ignoreLinksChexBox, gbc);
 
+        JLabel extractionThreadCountLabel = new JLabel("Nombre de fils d'exécution de l'analyse des fichiers :");
+        extractionThreadCountLabel.setToolTipText("Nombre de fichiers dont le format et l'empreinte sont calculés en parallèle, 1 pour un traitement séquentiel");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 5, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 11;
+        importParametersPanel.add(extractionThreadCountLabel, gbc);
+
+        extractionThreadCountTextField = new JTextField();
+        DocumentFilter extractionThreadCountFilter = new NumericFilter();
+        ((AbstractDocument) extractionThreadCountTextField.getDocument()).setDocumentFilter(extractionThreadCountFilter);
+        extractionThreadCountTextField.setText(Integer.toString(dic.getExtractionThreadCount()));
+        extractionThreadCountTextField.setFont(MainWindow.DETAILS_FONT);
+        extractionThreadCountTextField.setColumns(10);
+        gbc = new GridBagConstraints();
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridwidth = 2;
+        gbc.gridx = 1;
+        gbc.gridy = 11;
+        gbc.anchor = GridBagConstraints.WEST;
+        importParametersPanel.add(extractionThreadCountTextField, gbc);
+
         JLabel csvImportLabel = new JLabel("Import/export des csv");
         csvImportLabel.setFont(MainWindow.BOLD_LABEL_FONT);
         gbc = new GridBagConstraints();
@@ -944,7 +1079,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.NORTHWEST;
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.gridx = 0;
-        gbc.gridy = 7;
+        gbc.gridy = 12;
         importParametersPanel.add(csvImportLabel, gbc);
 
         JLabel csvCharsetLabel = new JLabel("Encodage des csv :");
@@ -952,7 +1087,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 8;
+        gbc.gridy = 13;
         importParametersPanel.add(csvCharsetLabel, gbc);
 
         csvCharsetCombobox = new JComboBox<>(charsetStrings);
@@ -961,7 +1096,7 @@ public class PrefsDialog extends JDialog {
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.fill = GridBagConstraints.HORIZONTAL;
         gbc.gridx = 1;
-        gbc.gridy = 8;
+        gbc.gridy = 13;
         importParametersPanel.add(csvCharsetCombobox, gbc);
         csvCharsetCombobox.setSelectedItem(cic.getCsvCharsetName());
 
@@ -970,7 +1105,7 @@ public class PrefsDialog extends JDialog {
         gbc.anchor = GridBagConstraints.EAST;
         gbc.insets = new Insets(0, 5, 5, 5);
         gbc.gridx = 0;
-        gbc.gridy = 9;
+        gbc.gridy = 14;
         importParametersPanel.add(lblCsvDelimiter, gbc);
 
         csvDelimiterTextField = new JTextField();
@@ -980,11 +1115,34 @@ public class PrefsDialog extends JDialog {
         gbc.insets = new Insets(0, 0, 5, 5);
         gbc.gridwidth = 2;
         gbc.gridx = 1;
-        gbc.gridy = 9;
+        gbc.gridy = 14;
         gbc.anchor = GridBagConstraints.WEST;
         importParametersPanel.add(csvDelimiterTextField, gbc);
         csvDelimiterTextField.setColumns(1);
 
+        JLabel csvThreadCountLabel = new JLabel("Nombre de fils d'exécution de l'import csv de métadonnées :");
+        csvThreadCountLabel.setToolTipText("Nombre de lignes du csv interprétées et de fichiers analysés en parallèle, 1 pour un traitement séquentiel");
+        gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.insets = new Insets(0, 5, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 15;
+        importParametersPanel.add(csvThreadCountLabel, gbc);
+
+        csvThreadCountTextField = new JTextField();
+        DocumentFilter csvThreadCountFilter = new NumericFilter();
+        ((AbstractDocument) csvThreadCountTextField.getDocument()).setDocumentFilter(csvThreadCountFilter);
+        csvThreadCountTextField.setText(Integer.toString(cic.getThreadCount()));
+        csvThreadCountTextField.setFont(MainWindow.DETAILS_FONT);
+        csvThreadCountTextField.setColumns(10);
+        gbc = new GridBagConstraints();
+        gbc.insets = new Insets(0, 0, 5, 5);
+        gbc.gridwidth = 2;
+        gbc.gridx = 1;
+        gbc.gridy = 15;
+        gbc.anchor = GridBagConstraints.WEST;
+        importParametersPanel.add(csvThreadCountTextField, gbc);
+
         if (ResipGraphicApp.getTheApp().interfaceParameters.isExperimentalFlag()) {
             // CompactParameters Panel
             JPanel compactParametersPanel = new JPanel();
@@ -1514,16 +1672,62 @@ public class PrefsDialog extends JDialog {
 
         dic.setIgnorePatternList(Arrays.asList(ignorePatternsTextArea.getText().split("\\s*\n\\s*")));
         dic.setNoLinkFlag(ignoreLinksChexBox.isSelected());
+        try {
+            tmp = getPositiveInt(extractionThreadCountTextField.getText());
+        } catch (NumberFormatException e) {
+            tabbedPane.setSelectedIndex(3);
+            UserInteractionDialog.getUserAnswer(ResipGraphicApp.getTheWindow(),
+                    "Le nombre de fils d'exécution de l'analyse des fichiers doit être un nombre strictement supérieur à 0.",
+                    "Information", UserInteractionDialog.IMPORTANT_DIALOG,
+                    null);
+            return false;
+        }
+        dic.setExtractionThreadCount(tmp);
 
         mic.setExtractMessageTextMetadata(messageMetadataCheckBox.isSelected());
         mic.setExtractAttachmentTextMetadata(attachementMetadataCheckBox.isSelected());
         mic.setExtractMessageTextFile(messageFileCheckBox.isSelected());
         mic.setExtractAttachmentTextFile(attachementFileCheckBox.isSelected());
         mic.setDefaultCharsetName((String) defaultMailCharsetCombobox.getSelectedItem());
+        mic.setLinkDuplicateAttachments(linkDuplicateAttachmentsCheckBox.isSelected());
+        try {
+            tmp = getPositiveInt(extractFolderThreadsTextField.getText());
+        } catch (NumberFormatException e) {
+            tabbedPane.setSelectedIndex(3);
+            UserInteractionDialog.getUserAnswer(ResipGraphicApp.getTheWindow(),
+                    "Le nombre de fils d'extraction des dossiers doit être un nombre strictement supérieur à 0.",
+                    "Information", UserInteractionDialog.IMPORTANT_DIALOG,
+                    null);
+            return false;
+        }
+        mic.setExtractFolderThreads(tmp);
+        mic.setPersistMboxIndex(persistMboxIndexCheckBox.isSelected());
+        try {
+            tmp = getPositiveInt(extractThreadsTextField.getText());
+        } catch (NumberFormatException e) {
+            tabbedPane.setSelectedIndex(3);
+            UserInteractionDialog.getUserAnswer(ResipGraphicApp.getTheWindow(),
+                    "Le nombre de fils d'extraction des messages doit être un nombre strictement supérieur à 0.",
+                    "Information", UserInteractionDialog.IMPORTANT_DIALOG,
+                    null);
+            return false;
+        }
+        mic.setExtractThreads(tmp);
 
         gmc.setHierarchicalArchiveUnits(hierarchicalRadioButton.isSelected());
         gmc.setIndented(indentedRadioButton.isSelected());
         gmc.setReindex(reindexYesRadioButton.isSelected());
+        try {
+            tmp = getPositiveInt(compressionThreadCountTextField.getText());
+        } catch (NumberFormatException e) {
+            tabbedPane.setSelectedIndex(2);
+            UserInteractionDialog.getUserAnswer(ResipGraphicApp.getTheWindow(),
+                    "Le nombre de fils d'exécution de la compression doit être un nombre strictement supérieur à 0.",
+                    "Information", UserInteractionDialog.IMPORTANT_DIALOG,
+                    null);
+            return false;
+        }
+        gmc.setCompressionThreadCount(tmp);
         if (firstUsageButton.isSelected())
             gmc.setUsageVersionSelectionMode(FIRST_DATAOBJECT);
         else if (allUsageButton.isSelected())
@@ -1563,6 +1767,17 @@ public class PrefsDialog extends JDialog {
 
         cic.setDelimiter((csvDelimiterTextField.getText().isEmpty() ? ';' : csvDelimiterTextField.getText().charAt(0)));
         cic.setCsvCharsetName((String) csvCharsetCombobox.getSelectedItem());
+        try {
+            tmp = getPositiveInt(csvThreadCountTextField.getText());
+        } catch (NumberFormatException e) {
+            tabbedPane.setSelectedIndex(3);
+            UserInteractionDialog.getUserAnswer(ResipGraphicApp.getTheWindow(),
+                    "Le nombre de fils d'exécution de l'import csv de métadonnées doit être un nombre strictement supérieur à 0.",
+                    "Information", UserInteractionDialog.IMPORTANT_DIALOG,
+                    null);
+            return false;
+        }
+        cic.setThreadCount(tmp);
 
         if (ResipGraphicApp.getTheApp().interfaceParameters.isExperimentalFlag()) {
             try {
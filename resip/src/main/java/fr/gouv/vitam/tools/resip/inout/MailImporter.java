@@ -152,12 +152,23 @@ public class MailImporter {
                 + (storeExtractorOptions.extractFileTextFile ? "oui" : "non") + "\n";
         result += "extraction des métadonnées texte des pièces jointes: "
                 + (storeExtractorOptions.extractFileTextMetadata ? "oui" : "non") + "\n";
+        result += "fils d'extraction des messages: " + storeExtractorOptions.extractThreads + "\n";
+        result += "fils d'extraction des dossiers: " + storeExtractorOptions.extractFolderThreads + "\n";
         result += "résultat: " + storeExtractor.getSummary();
         if (start != null)
             result += "en " + Duration.between(start, end).toString().substring(2) + "\n";
         return result;
     }
 
+    /**
+     * Gets the store extractor options, to set the options not given to the constructor before the extraction.
+     *
+     * @return the store extractor options
+     */
+    public StoreExtractorOptions getStoreExtractorOptions() {
+        return storeExtractorOptions;
+    }
+
     /**
      * Gets the target.
      *
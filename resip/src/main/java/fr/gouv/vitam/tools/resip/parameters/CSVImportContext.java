@@ -19,6 +19,11 @@ public class CSVImportContext extends CreationContext {
      */
     private char delimiter;
 
+    /**
+     * The number of threads used for the csv metadata import lines conversion and files analysis.
+     */
+    private int threadCount;
+
     /**
      * Instantiates a new CSV import context.
      */
@@ -38,6 +43,7 @@ public class CSVImportContext extends CreationContext {
         super(onDiskInput, workDir);
         this.csvCharsetName = csvCharsetName;
         this.delimiter = delimiter;
+        this.threadCount = 1;
     }
 
     /**
@@ -60,6 +66,12 @@ public class CSVImportContext extends CreationContext {
             delimiter = ';';
         else
             delimiter = tmp.charAt(0);
+        try {
+            threadCount = Integer.parseInt(prefs.getPrefProperties().getProperty("importContext.csv.threadCount", "1"));
+        } catch (NumberFormatException e) {
+            threadCount = 1;
+        }
+        if (threadCount < 1) threadCount = 1;
     }
 
     /* (non-Javadoc)
@@ -71,6 +83,7 @@ public class CSVImportContext extends CreationContext {
         else
             prefs.getPrefProperties().setProperty("importContext.csv.charsetName", (csvCharsetName == null ? "UTF-8" : csvCharsetName));
         prefs.getPrefProperties().setProperty("importContext.csv.delimiter", (delimiter == '\0' ? ";" : Character.toString(delimiter)));
+        prefs.getPrefProperties().setProperty("importContext.csv.threadCount", Integer.toString(threadCount));
     }
 
     /* (non-Javadoc)
@@ -83,6 +96,7 @@ public class CSVImportContext extends CreationContext {
         else
             this.csvCharsetName = "UTF-8";
         this.delimiter = ';';
+        this.threadCount = 1;
     }
 
     /**
@@ -120,4 +134,23 @@ public class CSVImportContext extends CreationContext {
     public void setCsvCharsetName(String csvCharsetName) {
         this.csvCharsetName = csvCharsetName;
     }
+
+    /**
+     * Gets the number of threads used for the csv metadata import.
+     *
+     * @return the thread count
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the number of threads used for the csv metadata import lines conversion and files analysis, 1 (the
+     * default) meaning all is done on the importing thread.
+     *
+     * @param threadCount the thread count
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
 }
@@ -23,6 +23,11 @@ public class DiskImportContext extends CreationContext {
      */
     boolean noLinkFlag;
 
+    /**
+     * The number of threads used for the technical elements extraction of the imported files.
+     */
+    int extractionThreadCount;
+
 // session element
     /**
      * The model version.
@@ -51,6 +56,7 @@ public class DiskImportContext extends CreationContext {
 		else
 			this.ignorePatternList = ignorePatternList;
 		this.noLinkFlag=noLinkFlag;
+		this.extractionThreadCount=1;
 	}
 
 	/**
@@ -66,6 +72,13 @@ public class DiskImportContext extends CreationContext {
 		else
 			ignorePatternList = Arrays.asList(ignorePatternsString.split("\\s*\n\\s*"));
 		noLinkFlag=Boolean.parseBoolean(prefs.getPrefProperties().getProperty("importContext.disk.noLinkFlag", "false"));
+		try {
+			extractionThreadCount=Integer.parseInt(prefs.getPrefProperties().getProperty("importContext.disk.extractionThreadCount","1"));
+		}
+		catch (NumberFormatException e){
+			extractionThreadCount=1;
+		}
+		if (extractionThreadCount<1) extractionThreadCount=1;
 	}
 
 	/* (non-Javadoc)
@@ -74,6 +87,7 @@ public class DiskImportContext extends CreationContext {
 	public void toPrefs(Prefs prefs) {
 		prefs.getPrefProperties().setProperty("importContext.disk.ignorePatternList", String.join("\n", ignorePatternList));
 		prefs.getPrefProperties().setProperty("importContext.disk.noLinkFlag",Boolean.toString(noLinkFlag));
+		prefs.getPrefProperties().setProperty("importContext.disk.extractionThreadCount",Integer.toString(extractionThreadCount));
 	}
 
 	/* (non-Javadoc)
@@ -83,6 +97,7 @@ public class DiskImportContext extends CreationContext {
 		super.setDefaultPrefs();
 		ignorePatternList = Arrays.asList("Thumbs.db", "pagefile.sys");
 		noLinkFlag=false;
+		extractionThreadCount=1;
 	}
 
 	// Getters and setters
@@ -123,6 +138,26 @@ public class DiskImportContext extends CreationContext {
 		this.noLinkFlag = noLinkFlag;
 	}
 
+    /**
+     * Gets the number of threads used for the technical elements extraction (format identification and digest)
+     * of the imported files.
+     *
+     * @return the extraction thread count
+     */
+    public int getExtractionThreadCount() {
+		return extractionThreadCount;
+	}
+
+    /**
+     * Sets the number of threads used for the technical elements extraction of the imported files, 1 (the default)
+     * meaning sequential extraction.
+     *
+     * @param extractionThreadCount the extraction thread count
+     */
+    public void setExtractionThreadCount(int extractionThreadCount) {
+		this.extractionThreadCount = extractionThreadCount;
+	}
+
     /**
      * Gets the model version.
      *
@@ -35,6 +35,9 @@ public class ExportContext {
 	/** The DataObjectPackage elements reindex before export flag. */
 	private boolean reindex;
 
+	/** The number of threads used to compress the files in the SIP export. */
+	private int compressionThreadCount;
+
 	/** The csv export mode for usage_version object selection. */
 	private int usageVersionSelectionMode;
 
@@ -66,6 +69,7 @@ public class ExportContext {
 		this.hierarchicalArchiveUnits = true;
 		this.indented = true;
 		this.reindex = false;
+		this.compressionThreadCount = 1;
 		this.usageVersionSelectionMode = LAST_DATAOBJECT;
 		this.maxNameSize = 32;
 		this.csvExtendedFormat = true;
@@ -97,6 +101,7 @@ public class ExportContext {
 		this.hierarchicalArchiveUnits = hierarchicalArchiveUnits;
 		this.indented = indented;
 		this.reindex = indented;
+		this.compressionThreadCount = 1;
 		this.usageVersionSelectionMode = usageVersionSelectionMode;
 		this.maxNameSize = maxNameSize;
 		this.csvExtendedFormat=csvExtendedFormat;
@@ -126,6 +131,7 @@ public class ExportContext {
 			this.hierarchicalArchiveUnits = sec.hierarchicalArchiveUnits;
 			this.indented = sec.indented;
 			this.reindex = sec.reindex;
+			this.compressionThreadCount = sec.compressionThreadCount;
 			this.usageVersionSelectionMode = sec.usageVersionSelectionMode;
 			this.maxNameSize = sec.maxNameSize;
 			this.csvExtendedFormat= sec.csvExtendedFormat;
@@ -161,6 +167,13 @@ public class ExportContext {
 		hierarchicalArchiveUnits = Boolean.parseBoolean(prefs.getPrefProperties().getProperty("exportContext.general.hierarchicalArchiveUnits", "true"));
 		indented = Boolean.parseBoolean(prefs.getPrefProperties().getProperty("exportContext.general.indented", "true"));
 		reindex = Boolean.parseBoolean(prefs.getPrefProperties().getProperty("exportContext.general.reindex", "false"));
+		try {
+			compressionThreadCount=Integer.parseInt(prefs.getPrefProperties().getProperty("exportContext.general.compressionThreadCount","1"));
+		}
+		catch (NumberFormatException e){
+			compressionThreadCount=1;
+		}
+		if (compressionThreadCount<1) compressionThreadCount=1;
 		try {
 			usageVersionSelectionMode=Integer.parseInt(prefs.getPrefProperties().getProperty("exportContext.csvExport.usageVersionSelectionMode",Integer.toString(LAST_DATAOBJECT)));
 		}
@@ -213,6 +226,7 @@ public class ExportContext {
 		prefs.getPrefProperties().setProperty("exportContext.general.hierarchicalArchiveUnits", Boolean.toString(hierarchicalArchiveUnits));
 		prefs.getPrefProperties().setProperty("exportContext.general.indented", Boolean.toString(indented));
 		prefs.getPrefProperties().setProperty("exportContext.general.reindex", Boolean.toString(reindex));
+		prefs.getPrefProperties().setProperty("exportContext.general.compressionThreadCount", Integer.toString(compressionThreadCount));
 		prefs.getPrefProperties().setProperty("exportContext.csvExport.usageVersionSelectionMode", Integer.toString(usageVersionSelectionMode));
 		prefs.getPrefProperties().setProperty("exportContext.csvExport.maxNameSize", Integer.toString(maxNameSize));
 		prefs.getPrefProperties().setProperty("exportContext.csvExport.csvExtendedFormat", Boolean.toString(csvExtendedFormat));
@@ -257,6 +271,7 @@ public class ExportContext {
 		this.hierarchicalArchiveUnits = true;
 		this.indented = true;
 		this.reindex = false;
+		this.compressionThreadCount = 1;
 		this.usageVersionSelectionMode = LAST_DATAOBJECT;
 		this.maxNameSize = 32;
 		this.csvExtendedFormat = true;
@@ -378,6 +393,25 @@ public class ExportContext {
 		this.reindex = reindex;
 	}
 
+	/**
+	 * Gets the number of threads used to compress the files in the SIP export.
+	 *
+	 * @return the compression thread count
+	 */
+	public int getCompressionThreadCount() {
+		return compressionThreadCount;
+	}
+
+	/**
+	 * Sets the number of threads used to compress the files in the SIP export, 1 (the default) meaning
+	 * sequential compression.
+	 *
+	 * @param compressionThreadCount the compression thread count
+	 */
+	public void setCompressionThreadCount(int compressionThreadCount) {
+		this.compressionThreadCount = compressionThreadCount;
+	}
+
 	/**
 	 * Gets usage version selection mode.
 	 *
@@ -42,6 +42,26 @@ public class MailImportContext extends CreationContext {
      */
     String defaultCharsetName;
 
+    /**
+     * The number of threads extracting the messages.
+     */
+    int extractThreads;
+
+    /**
+     * The flag to keep the messages boundaries index next to each mbox file.
+     */
+    boolean persistMboxIndex;
+
+    /**
+     * The number of threads extracting the sibling folders stored in distinct files.
+     */
+    int extractFolderThreads;
+
+    /**
+     * The flag to write only once the identical attachments.
+     */
+    boolean linkDuplicateAttachments;
+
 // session elements
     /**
      * The mail folder.
@@ -79,6 +99,10 @@ public class MailImportContext extends CreationContext {
         this.protocol = protocol;
         this.mailFolder = "";
         this.defaultCharsetName=defaultCharsetName;
+        this.extractThreads = 1;
+        this.persistMboxIndex = false;
+        this.extractFolderThreads = 1;
+        this.linkDuplicateAttachments = false;
     }
 
     /**
@@ -95,6 +119,22 @@ public class MailImportContext extends CreationContext {
         this.protocol = prefs.getPrefProperties().getProperty("importContext.mail.protocol", "thunderbird");
         this.mailFolder = "";
         this.defaultCharsetName = prefs.getPrefProperties().getProperty("importContext.mail.defaultCharsetName", "windows-1252");
+        try {
+            this.extractThreads = Integer.parseInt(prefs.getPrefProperties().getProperty("importContext.mail.extractThreads", "1"));
+        } catch (NumberFormatException e) {
+            this.extractThreads = 1;
+        }
+        if (this.extractThreads < 1)
+            this.extractThreads = 1;
+        this.persistMboxIndex = Boolean.parseBoolean(prefs.getPrefProperties().getProperty("importContext.mail.persistMboxIndex", "false"));
+        try {
+            this.extractFolderThreads = Integer.parseInt(prefs.getPrefProperties().getProperty("importContext.mail.extractFolderThreads", "1"));
+        } catch (NumberFormatException e) {
+            this.extractFolderThreads = 1;
+        }
+        if (this.extractFolderThreads < 1)
+            this.extractFolderThreads = 1;
+        this.linkDuplicateAttachments = Boolean.parseBoolean(prefs.getPrefProperties().getProperty("importContext.mail.linkDuplicateAttachments", "false"));
     }
 
     /* (non-Javadoc)
@@ -107,6 +147,10 @@ public class MailImportContext extends CreationContext {
         prefs.getPrefProperties().setProperty("importContext.mail.extractAttachmentTextMetadata", Boolean.toString(extractAttachmentTextMetadata));
         prefs.getPrefProperties().setProperty("importContext.mail.protocol", (protocol == null ? "" : protocol));
         prefs.getPrefProperties().setProperty("importContext.mail.defaultCharsetName", (defaultCharsetName == null ? "" : defaultCharsetName));
+        prefs.getPrefProperties().setProperty("importContext.mail.extractThreads", Integer.toString(extractThreads));
+        prefs.getPrefProperties().setProperty("importContext.mail.persistMboxIndex", Boolean.toString(persistMboxIndex));
+        prefs.getPrefProperties().setProperty("importContext.mail.extractFolderThreads", Integer.toString(extractFolderThreads));
+        prefs.getPrefProperties().setProperty("importContext.mail.linkDuplicateAttachments", Boolean.toString(linkDuplicateAttachments));
     }
 
     /* (non-Javadoc)
@@ -121,6 +165,10 @@ public class MailImportContext extends CreationContext {
         this.protocol = "thunderbird";
         this.mailFolder = "";
         this.defaultCharsetName="windows-1252";
+        this.extractThreads = 1;
+        this.persistMboxIndex = false;
+        this.extractFolderThreads = 1;
+        this.linkDuplicateAttachments = false;
     }
 
     // Getters and setters
@@ -252,6 +300,81 @@ public class MailImportContext extends CreationContext {
         this.defaultCharsetName = defaultCharsetName;
     }
 
+    /**
+     * Gets the number of threads extracting the messages, once read in store order.
+     *
+     * @return the extract threads
+     */
+    public int getExtractThreads() {
+        return extractThreads;
+    }
+
+    /**
+     * Sets the number of threads extracting the messages, 1 (the default) meaning sequential extraction.
+     *
+     * @param extractThreads the extract threads
+     */
+    public void setExtractThreads(int extractThreads) {
+        this.extractThreads = extractThreads;
+    }
+
+    /**
+     * Checks if the messages boundaries index of each mbox file is kept next to it, to be reused by later extractions.
+     *
+     * @return the persist mbox index
+     */
+    public boolean isPersistMboxIndex() {
+        return persistMboxIndex;
+    }
+
+    /**
+     * Sets if the messages boundaries index of each mbox file is kept next to it, false (the default) meaning that
+     * no file is written in the source directory.
+     *
+     * @param persistMboxIndex the persist mbox index
+     */
+    public void setPersistMboxIndex(boolean persistMboxIndex) {
+        this.persistMboxIndex = persistMboxIndex;
+    }
+
+    /**
+     * Gets the number of threads extracting the sibling folders stored in distinct files (Thunderbird mbox files).
+     *
+     * @return the extract folder threads
+     */
+    public int getExtractFolderThreads() {
+        return extractFolderThreads;
+    }
+
+    /**
+     * Sets the number of threads extracting the sibling folders stored in distinct files, 1 (the default) meaning
+     * that the folders are extracted one after the other.
+     *
+     * @param extractFolderThreads the extract folder threads
+     */
+    public void setExtractFolderThreads(int extractFolderThreads) {
+        this.extractFolderThreads = extractFolderThreads;
+    }
+
+    /**
+     * Checks if the identical attachments are written only once, the other occurrences being hard links to the first one.
+     *
+     * @return the link duplicate attachments
+     */
+    public boolean isLinkDuplicateAttachments() {
+        return linkDuplicateAttachments;
+    }
+
+    /**
+     * Sets if the identical attachments are written only once, the other occurrences being hard links to the first one,
+     * false (the default) meaning that each occurrence is a copy.
+     *
+     * @param linkDuplicateAttachments the link duplicate attachments
+     */
+    public void setLinkDuplicateAttachments(boolean linkDuplicateAttachments) {
+        this.linkDuplicateAttachments = linkDuplicateAttachments;
+    }
+
     @Override
     public void setOnDiskInput(String onDiskInput) {
         this.onDiskInput = onDiskInput;
@@ -164,8 +164,7 @@ public class DataObjectPackageTreeViewer extends JTree implements ActionListener
                                 boolean isDocumentContainer=false;
                                 try {
                                     isDocumentContainer=(stn.getArchiveUnit() != null)
-                                            && (stn.getArchiveUnit().getContent() != null)
-                                            && (stn.getArchiveUnit().getContent().getFirstNamedMetadata("DocumentContainer") != null);
+                                            && stn.getArchiveUnit().containsContentMetadata("DocumentContainer");
                                 } catch (SEDALibException ignored) {
                                     // no real case
                                 }
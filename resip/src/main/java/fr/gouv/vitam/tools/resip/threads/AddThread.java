@@ -166,6 +166,7 @@ public class AddThread extends SwingWorker<String, String> {
             di = new DiskToDataObjectPackageImporter(lp, dic.isNoLinkFlag(), null, spl);
             for (String ip : dic.getIgnorePatternList())
                 di.addIgnorePattern(ip);
+            di.setExtractionThreadCount(dic.getExtractionThreadCount());
             di.doImport();
             summary = di.getSummary();
         } catch (Throwable e) {
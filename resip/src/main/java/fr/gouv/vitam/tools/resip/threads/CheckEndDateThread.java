@@ -77,8 +77,8 @@ public class CheckEndDateThread  extends SwingWorker<String, InOutDialog> {
             boolean isError = false;
             for (Map.Entry<String, ArchiveUnit> entry : auInDataObjectPackageIdMap.entrySet()) {
                 ArchiveUnit archiveUnit = entry.getValue();
-                String startDateString = archiveUnit.getContent().getSimpleMetadata("StartDate");
-                String endDateString = archiveUnit.getContent().getSimpleMetadata("EndDate");
+                String startDateString = archiveUnit.getContentSimpleMetadata("StartDate");
+                String endDateString = archiveUnit.getContentSimpleMetadata("EndDate");
                 if(endDateString != null && startDateString != null) {
                     Date startDate = ISODateTimeFormat.dateTimeParser().parseDateTime(startDateString).toDate();
                     Date endDate = ISODateTimeFormat.dateTimeParser().parseDateTime(endDateString).toDate();
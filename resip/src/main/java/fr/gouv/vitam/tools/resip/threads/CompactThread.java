@@ -191,7 +191,7 @@ public class CompactThread extends SwingWorker<String, String> {
 
             ArchiveUnit targetArchiveUnit = targetNode.getArchiveUnit();
             doProgressLog(spl, GLOBAL, "Compactage de l'ArchiveUnit [" + targetArchiveUnit.getInDataObjectPackageId() + "]=" +
-                    targetArchiveUnit.getContent().getSimpleMetadata("Title"), null);
+                    targetArchiveUnit.getContentSimpleMetadata("Title"), null);
 
             CompactContext coc = new CompactContext(Prefs.getInstance());
 
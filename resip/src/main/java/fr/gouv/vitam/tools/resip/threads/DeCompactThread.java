@@ -192,7 +192,7 @@ public class DeCompactThread extends SwingWorker<String, String> {
 
             ArchiveUnit targetArchiveUnit = targetNode.getArchiveUnit();
             doProgressLog(spl, GLOBAL, "Décompactage de l'ArchiveUnit [" + targetArchiveUnit.getInDataObjectPackageId() + "]=" +
-                    targetArchiveUnit.getContent().getSimpleMetadata("Title"), null);
+                    targetArchiveUnit.getContentSimpleMetadata("Title"), null);
 
             CreationContext cc = new CreationContext(Prefs.getInstance());
 
@@ -99,7 +99,7 @@ public class DuplicatesThread extends SwingWorker<String, String> {
         List<ArchiveUnit> auList = au.getChildrenAuList().getArchiveUnitList();
 
         for (ArchiveUnit childUnit : auList) {
-            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId()))
+            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit))
                 continue;
             for (DataObject dataObject : childUnit.getDataObjectRefList().getDataObjectList()) {
                 if (dataObject instanceof DataObjectGroup) {
@@ -112,7 +112,7 @@ public class DuplicatesThread extends SwingWorker<String, String> {
                         sortedAuByDogDigestMap.get(dogKey).add(childUnit);
                 }
             }
-            dataObjectPackage.addTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId());
+            dataObjectPackage.addTouchedInDataObjectPackageId(childUnit);
             followTree(childUnit, dogByDogDigestMap);
         }
     }
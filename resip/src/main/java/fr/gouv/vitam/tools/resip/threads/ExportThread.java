@@ -163,6 +163,7 @@ public class ExportThread extends SwingWorker<String, String> {
                 case SIP_ALL_EXPORT:
                     inOutDialog.extProgressTextArea.setText("Export du SIP SEDA en " + work.getExportContext().getOnDiskOutput() + "\n");
                     ArchiveTransferToSIPExporter smm = new ArchiveTransferToSIPExporter(archiveTransfer, spl);
+                    smm.setCompressionThreadCount(work.getExportContext().getCompressionThreadCount());
                     smm.doExportToSEDASIP(work.getExportContext().getOnDiskOutput(), work.getExportContext().isHierarchicalArchiveUnits(),
                             work.getExportContext().isIndented());
                     doProgressLog(spl, GLOBAL,
@@ -168,6 +168,7 @@ public class ImportThread extends SwingWorker<String, String> {
                 spl);
         for (String ip : diskImportContext.getIgnorePatternList())
             di.addIgnorePattern(ip);
+        di.setExtractionThreadCount(diskImportContext.getExtractionThreadCount());
         di.doImport();
         diskImportContext.setModelVersion(di.getModelVersion());
         setWorkFromArchiveTransfer(di.getArchiveTransfer());
@@ -212,6 +213,7 @@ public class ImportThread extends SwingWorker<String, String> {
         CSVMetadataImportContext cmic = (CSVMetadataImportContext) work.getCreationContext();
         CSVMetadataToDataObjectPackageImporter cmi = new CSVMetadataToDataObjectPackageImporter(
                 cmic.getOnDiskInput(), cmic.getCsvCharsetName(), cmic.getDelimiter(), spl);
+        cmi.setThreadCount(cmic.getThreadCount());
         cmi.doImport();
         work.setDataObjectPackage(cmi.getDataObjectPackage());
         work.setExportContext(new ExportContext(Prefs.getInstance()));
@@ -241,15 +243,20 @@ public class ImportThread extends SwingWorker<String, String> {
         MailImporter mi = new MailImporter(mic.isExtractMessageTextFile(), mic.isExtractMessageTextMetadata(),
                 mic.isExtractAttachmentTextFile(), mic.isExtractAttachmentTextMetadata(), mic.getProtocol(),
                 mic.getDefaultCharsetName(), mic.getOnDiskInput(), mic.getMailFolder(), target, mepl);
+        mi.getStoreExtractorOptions().extractThreads = mic.getExtractThreads();
+        mi.getStoreExtractorOptions().extractFolderThreads = mic.getExtractFolderThreads();
+        mi.getStoreExtractorOptions().persistMboxIndex = mic.isPersistMboxIndex();
+        mi.getStoreExtractorOptions().linkDuplicateAttachments = mic.isLinkDuplicateAttachments();
         mi.doExtract();
         doProgressLog(spl, GLOBAL, "resip: extraction terminée\n" + mi.getSummary(), null);
 
         List<Path> lp = new ArrayList<>();
         lp.add(Paths.get(mi.getTarget()));
+        DiskImportContext diskImportContext = new DiskImportContext(Prefs.getInstance());
         DiskToArchiveTransferImporter di = new DiskToArchiveTransferImporter(lp, spl);
-        for (String ip : new DiskImportContext(Prefs.getInstance())
-                .getIgnorePatternList())
+        for (String ip : diskImportContext.getIgnorePatternList())
             di.addIgnorePattern(ip);
+        di.setExtractionThreadCount(diskImportContext.getExtractionThreadCount());
         di.doImport();
         setWorkFromArchiveTransfer(di.getArchiveTransfer());
         summary = mi.getSummary() + "\n" + di.getSummary();
@@ -93,7 +93,7 @@ public class SearchThread extends SwingWorker<String, String> {
         TreeDataObjectPackageEditorPanel treePane = ResipGraphicApp.getTheWindow().treePane;
 
         for (ArchiveUnit childUnit : auList) {
-            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId()))
+            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit))
                 continue;
             try {
                 String tmp;
@@ -130,7 +130,7 @@ public class SearchThread extends SwingWorker<String, String> {
                             searchResult.add(childUnit);
                     }
                 }
-                dataObjectPackage.addTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId());
+                dataObjectPackage.addTouchedInDataObjectPackageId(childUnit);
             } catch (SEDALibException ignored) {
             }
             searchInArchiveUnit(childUnit);
@@ -118,7 +118,7 @@ public class TechnicalSearchThread extends SwingWorker<String, String> {
         List<ArchiveUnit> auList = au.getChildrenAuList().getArchiveUnitList();
 
         for (ArchiveUnit childUnit : auList) {
-            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId()))
+            if (dataObjectPackage.isTouchedInDataObjectPackageId(childUnit))
                 continue;
             for (DataObject dataObject : childUnit.getDataObjectRefList().getDataObjectList()) {
                 if (dataObject instanceof PhysicalDataObject)
@@ -135,7 +135,7 @@ public class TechnicalSearchThread extends SwingWorker<String, String> {
                     }
                 }
             }
-            dataObjectPackage.addTouchedInDataObjectPackageId(childUnit.getInDataObjectPackageId());
+            dataObjectPackage.addTouchedInDataObjectPackageId(childUnit);
 
             searchInArchiveUnit(childUnit);
         }
@@ -0,0 +1,77 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalibbenchmarks;
+
+import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class DataObjectPackageBenchmark.
+ * <p>
+ * Benchmarks of the whole DataObjectPackage graph treatments, ids regeneration and Vitam normalization. Both are
+ * idempotent, so they are measured again and again on the same package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataObjectPackageBenchmark {
+
+    /**
+     * The number of leaf ArchiveUnits.
+     */
+    @Param({"1000", "10000"})
+    public int number;
+
+    /**
+     * The imported synthetic DataObjectPackage.
+     */
+    private DataObjectPackage dataObjectPackage;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        dataObjectPackage = SyntheticPackage.importSIP(4, number).getDataObjectPackage();
+    }
+
+    @Benchmark
+    public int regenerateContinuousIds() {
+        dataObjectPackage.regenerateContinuousIds();
+        return dataObjectPackage.getArchiveUnitCount();
+    }
+
+    @Benchmark
+    public int vitamNormalize() throws SEDALibException, InterruptedException {
+        dataObjectPackage.vitamNormalize(null);
+        return dataObjectPackage.getVitamNormalizationStatus();
+    }
+}
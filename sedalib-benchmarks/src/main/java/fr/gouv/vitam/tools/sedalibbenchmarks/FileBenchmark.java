@@ -0,0 +1,96 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalibbenchmarks;
+
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.droid.DroidIdentifier;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.openjdk.jmh.annotations.*;
+import uk.gov.nationalarchives.droid.core.interfaces.IdentificationResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class FileBenchmark.
+ * <p>
+ * Benchmarks of the technical metadata extraction from files, SHA-512 digest and DROID identification. DROID
+ * signature files are taken in the "config" directory, or in the one defined by the "sedalib.benchmarks.config"
+ * system property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileBenchmark {
+
+    /**
+     * The random file size in ko.
+     */
+    @Param({"1", "1024"})
+    public int size;
+
+    /**
+     * The random content file.
+     */
+    private Path randomFile;
+
+    /**
+     * The synthetic SIP file, identified as a zip container by DROID.
+     */
+    private Path sipFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        DroidIdentifier.init(null, System.getProperty("sedalib.benchmarks.config", "config"));
+        sipFile = SyntheticPackage.generateSIP(2, 100);
+        randomFile = SyntheticPackage.WORK_DIR.resolve("random-" + size + ".bin");
+        byte[] content = new byte[size * 1024];
+        new Random(size).nextBytes(content);
+        Files.write(randomFile, content);
+    }
+
+    @Benchmark
+    public String digestSha512() throws SEDALibException {
+        return BinaryDataObject.getDigestSha512(randomFile);
+    }
+
+    @Benchmark
+    public IdentificationResult droidIdentification() throws SEDALibException {
+        return DroidIdentifier.getInstance().getIdentificationResult(randomFile);
+    }
+
+    @Benchmark
+    public IdentificationResult droidContainerIdentification() throws SEDALibException {
+        return DroidIdentifier.getInstance().getIdentificationResult(sipFile);
+    }
+}
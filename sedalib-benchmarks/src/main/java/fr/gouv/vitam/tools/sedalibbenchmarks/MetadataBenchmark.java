@@ -0,0 +1,110 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalibbenchmarks;
+
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
+import fr.gouv.vitam.tools.sedalib.metadata.management.Management;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class MetadataBenchmark.
+ * <p>
+ * Benchmarks of metadata parsing with SEDAMetadata.fromString and of ComplexListType parsing and serialisation, on
+ * the Content of all the ArchiveUnits of a synthetic package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataBenchmark {
+
+    /**
+     * The number of leaf ArchiveUnits.
+     */
+    @Param({"1000"})
+    public int number;
+
+    /**
+     * The Content xml fragments.
+     */
+    private List<String> contentXmlDataList;
+
+    /**
+     * The Content in metadata form.
+     */
+    private List<Content> contentList;
+
+    /**
+     * A Management xml fragment with rules.
+     */
+    private String managementXmlData;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        contentXmlDataList = new ArrayList<>();
+        contentList = new ArrayList<>();
+        for (ArchiveUnit au : SyntheticPackage.importSIP(3, number).getDataObjectPackage()
+                .getAuInDataObjectPackageIdMap().values()) {
+            contentXmlDataList.add(au.getContentXmlData());
+            contentList.add(au.getContent());
+        }
+        managementXmlData = "<Management><AppraisalRule><Rule>APP-00001</Rule><StartDate>2018-01-01</StartDate>"
+                + "<FinalAction>Keep</FinalAction></AppraisalRule><AccessRule><Rule>ACC-00001</Rule>"
+                + "<StartDate>2018-01-01</StartDate></AccessRule></Management>";
+    }
+
+    @Benchmark
+    public int contentFromString() throws SEDALibException {
+        int result = 0;
+        for (String contentXmlData : contentXmlDataList)
+            result += ((Content) SEDAMetadata.fromString(contentXmlData, Content.class)).metadataList.size();
+        return result;
+    }
+
+    @Benchmark
+    public Management managementFromString() throws SEDALibException {
+        return (Management) SEDAMetadata.fromString(managementXmlData, Management.class);
+    }
+
+    @Benchmark
+    public int contentToString() {
+        int result = 0;
+        for (Content content : contentList)
+            result += content.toString().length();
+        return result;
+    }
+}
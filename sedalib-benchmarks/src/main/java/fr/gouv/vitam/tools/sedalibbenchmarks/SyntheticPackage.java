@@ -0,0 +1,95 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalibbenchmarks;
+
+import fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer;
+import fr.gouv.vitam.tools.sedalib.inout.importer.SIPToArchiveTransferImporter;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.testsipgenerator.TestSipGeneratorApp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The Class SyntheticPackage.
+ * <p>
+ * Class for synthetic SIP generation with testsipgenerator and import, used by all benchmarks states. Generated
+ * files are kept in the "target/benchmarks" directory, or in the one defined by the "sedalib.benchmarks.dir"
+ * system property.
+ */
+public final class SyntheticPackage {
+
+    /**
+     * The benchmarks work directory.
+     */
+    public static final Path WORK_DIR = Paths.get(System.getProperty("sedalib.benchmarks.dir", "target/benchmarks"))
+            .toAbsolutePath().normalize();
+
+    private SyntheticPackage() {
+    }
+
+    /**
+     * Generate, if not already done, a synthetic SIP with text objects of 1ko.
+     *
+     * @param depth  the ArchiveUnit tree depth
+     * @param number the number of objects, each one in a leaf ArchiveUnit
+     * @return the SIP path
+     * @throws IOException      if the work directory can't be created
+     * @throws SEDALibException if the SIP can't be generated
+     */
+    public static Path generateSIP(int depth, int number) throws IOException, SEDALibException {
+        Files.createDirectories(WORK_DIR);
+        Path sipPath = WORK_DIR.resolve("SIP-" + depth + "-" + number + ".zip");
+        if (!Files.exists(sipPath))
+            TestSipGeneratorApp.generateSIP(new String[]{"-d", Integer.toString(depth), "-n", Integer.toString(number),
+                    "-s", "1", "-S", "1", "-t", "-w", "Benchmark", "-o", sipPath.toString()});
+        return sipPath;
+    }
+
+    /**
+     * Import a synthetic SIP in memory.
+     *
+     * @param depth  the ArchiveUnit tree depth
+     * @param number the number of objects, each one in a leaf ArchiveUnit
+     * @return the ArchiveTransfer
+     * @throws IOException          if the work directory can't be created
+     * @throws SEDALibException     if the SIP can't be generated or imported
+     * @throws InterruptedException if import is interrupted
+     */
+    public static ArchiveTransfer importSIP(int depth, int number)
+            throws IOException, SEDALibException, InterruptedException {
+        Path sipPath = generateSIP(depth, number);
+        try (SIPToArchiveTransferImporter si = new SIPToArchiveTransferImporter(sipPath.toString(),
+                WORK_DIR.resolve("SIP-" + depth + "-" + number + "-tmpdir").toString(), null)) {
+            si.doImport();
+            return si.getArchiveTransfer();
+        }
+    }
+}
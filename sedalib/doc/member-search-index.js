@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AccessRule","l":"AccessRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AccessRule","l":"AccessRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool","l":"acquireBuffer()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"actualiseIdMaps()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"add(ArchiveUnit)","u":"add(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"add(DataObject)","u":"add(fr.gouv.vitam.tools.sedalib.core.DataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addArchiveUnit(ArchiveUnit)","u":"addArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addArchiveUnitSubTree(String, String)","u":"addArchiveUnitSubTree(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addBinaryDataObject(BinaryDataObject)","u":"addBinaryDataObject(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"addBinaryDataObject(DataObjectPackage, Path, String, ArchiveUnit, DataObjectGroup)","u":"addBinaryDataObject(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.nio.file.Path,java.lang.String,fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"addById(String)","u":"addById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"addById(String)","u":"addById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"addChildArchiveUnit(ArchiveUnit)","u":"addChildArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"addChildArchiveUnitById(String)","u":"addChildArchiveUnitById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addCSVMetadataSubTree(String, String, char, String)","u":"addCSVMetadataSubTree(java.lang.String,java.lang.String,char,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"addDataObject(DataObject)","u":"addDataObject(fr.gouv.vitam.tools.sedalib.core.DataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"addDataObjectById(String)","u":"addDataObjectById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addDataObjectGroup(DataObjectGroup)","u":"addDataObjectGroup(fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addDiskSubTree(String, String, boolean, Function<String, String>, String...)","u":"addDiskSubTree(java.lang.String,java.lang.String,boolean,java.util.function.Function,java.lang.String...)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addDiskSubTree(String, String, String...)","u":"addDiskSubTree(java.lang.String,java.lang.String,java.lang.String...)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addFileSubArchiveUnit(String, String, String, String, String, String)","u":"addFileSubArchiveUnit(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addFileToArchiveUnit(String, String, String)","u":"addFileToArchiveUnit(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"addHoldEndDate(LocalDate)","u":"addHoldEndDate(java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"addHoldOwner(String)","u":"addHoldOwner(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"addHoldReason(String)","u":"addHoldReason(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"addHoldReassessingDate(LocalDate)","u":"addHoldReassessingDate(java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"addIgnorePattern(String)","u":"addIgnorePattern(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"addIgnorePattern(String)","u":"addIgnorePattern(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"addIgnorePattern(String)","u":"addIgnorePattern(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ManagementMetadata","l":"addMetadata(SEDAMetadata)","u":"addMetadata(fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"addMetadata(SEDAMetadata)","u":"addMetadata(fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"addMetadata(SEDAMetadata)","u":"addMetadata(fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addNewContentMetadataInArchiveUnit(String, String, Object...)","u":"addNewContentMetadataInArchiveUnit(java.lang.String,java.lang.String,java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addNewManagementMetadataInArchiveUnit(String, String, Object...)","u":"addNewManagementMetadataInArchiveUnit(java.lang.String,java.lang.String,java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ManagementMetadata","l":"addNewMetadata(String, Object...)","u":"addNewMetadata(java.lang.String,java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"addNewMetadata(String, Object...)","u":"addNewMetadata(java.lang.String,java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"addNewMetadata(String, Object...)","u":"addNewMetadata(java.lang.String,java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addNewSubArchiveUnit(String, String, String, String, String)","u":"addNewSubArchiveUnit(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addPhysicalDataObject(PhysicalDataObject)","u":"addPhysicalDataObject(fr.gouv.vitam.tools.sedalib.core.PhysicalDataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"addPreventRearrangement(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"addRefNonRuleId(String)","u":"addRefNonRuleId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addRootAu(ArchiveUnit)","u":"addRootAu(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"addRule(String)","u":"addRule(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"addRule(String, LocalDate)","u":"addRule(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"addSedaXmlFragments(String)","u":"addSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"addSubArchiveUnit(String, String)","u":"addSubArchiveUnit(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addTouchedInDataObjectPackageId(DataObjectPackageIdElement)","u":"addTouchedInDataObjectPackageId(fr.gouv.vitam.tools.sedalib.core.DataObjectPackageIdElement)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"addTouchedInDataObjectPackageId(String)","u":"addTouchedInDataObjectPackageId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgencyType","l":"AgencyType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgencyType","l":"AgencyType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgentType","l":"AgentType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgentType","l":"AgentType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgentType","l":"AgentType(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgentType","l":"AgentType(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"ALL_DATAOBJECTS"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"analyzedSubTypeMetadataSet"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLListType","l":"AnyXMLListType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLListType","l":"AnyXMLListType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLListType","l":"AnyXMLListType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"AnyXMLType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"AnyXMLType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"AnyXMLType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"append(CharSequence)","u":"append(java.lang.CharSequence)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"AppraisalRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"AppraisalRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"AppraisalRule(String, LocalDate, String)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"archivalAgencyIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"archivalAgencyOrganizationDescriptiveMetadataXmlData"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"archivalAgreement"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"ArchiveDeliveryRequestReply()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"archiveTransfer"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"ArchiveTransfer()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToDiskExporter","l":"ArchiveTransferToDiskExporter(ArchiveTransfer, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"ArchiveTransferToSIPExporter(ArchiveTransfer, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"ArchiveUnit()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"ArchiveUnit(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ArchiveUnitIdentifierKey","l":"ArchiveUnitIdentifierKey()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ArchiveUnitIdentifierKey","l":"ArchiveUnitIdentifierKey(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ArchiveUnitProfile","l":"ArchiveUnitProfile()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ArchiveUnitProfile","l":"ArchiveUnitProfile(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"ArchiveUnitRefList()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"ArchiveUnitRefList(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"BinaryDataObject()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"BinaryDataObject(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"BinaryDataObject(DataObjectPackage, Path, String, String)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.nio.file.Path,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"BinaryDataObject(DataObjectPackage, String)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"BooleanType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"BooleanType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"BooleanType(String, Boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.Boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"BZIP2"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"BZIP2"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"canAnalyzeContainer()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkArchiveUnitsWithXSDSchema(DataObjectPackage, Schema, int, SEDALibProgressLogger)","u":"checkArchiveUnitsWithXSDSchema(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,javax.xml.validation.Schema,int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithRNGSchema(InputStream, Schema)","u":"checkWithRNGSchema(java.io.InputStream,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithRNGSchema(Path, Schema)","u":"checkWithRNGSchema(java.nio.file.Path,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithRNGSchema(String, Schema)","u":"checkWithRNGSchema(java.lang.String,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithXSDSchema(InputStream, Schema)","u":"checkWithXSDSchema(java.io.InputStream,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithXSDSchema(Path, Schema)","u":"checkWithXSDSchema(java.nio.file.Path,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"checkWithXSDSchema(String, Schema)","u":"checkWithXSDSchema(java.lang.String,javax.xml.validation.Schema)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ClassificationRule","l":"ClassificationRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ClassificationRule","l":"ClassificationRule(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"close()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"codeListVersionsXmlData"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"comment"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"Compactor(ArchiveUnit, String, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataKind","l":"ComplexListMetadataKind(Class<?>, boolean)","u":"%3Cinit%3E(java.lang.Class,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"ComplexListType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"compressed"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"CompressedFileToArchiveTransferImporter(String, String, String, Function<String, String>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.util.function.Function,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"CompressedXmlFragmentStore()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"CompressedXmlFragmentStore(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"CompressedXmlFragmentStore(Path, int, int)","u":"%3Cinit%3E(java.nio.file.Path,int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"CompressUtility(Path, Path, String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.nio.file.Path,java.nio.file.Path,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"ContainerDroidIdentifier","l":"ContainerDroidIdentifier(ContainerSignatureDefinitions, FFSignatureFile, String)","u":"%3Cinit%3E(uk.gov.nationalarchives.droid.container.ContainerSignatureDefinitions,uk.gov.nationalarchives.droid.core.signature.droid6.FFSignatureFile,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"containsContentMetadata(String)","u":"containsContentMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ContentFragmentIndex","l":"containsMetadata(String)","u":"containsMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Content","l":"Content()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ContentFragmentIndex","l":"ContentFragmentIndex(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"convertToSeda2Version(DataObjectPackage, int, SEDALibProgressLogger)","u":"convertToSeda2Version(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Coverage","l":"Coverage()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Coverage","l":"Coverage(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"createRootArchiveUnit(String)","u":"createRootArchiveUnit(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"createRootArchiveUnit(String, String, String, String)","u":"createRootArchiveUnit(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"createSystemExistingRootArchiveUnit(String, String)","u":"createSystemExistingRootArchiveUnit(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"createSystemExistingRootArchiveUnit(String, String, String, String, String)","u":"createSystemExistingRootArchiveUnit(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"CSVMetadataFormatter(String[], Path)","u":"%3Cinit%3E(java.lang.String[],java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataToDataObjectPackageImporter","l":"CSVMetadataToDataObjectPackageImporter(String, String, char, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,java.lang.String,char,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVTreeToDataObjectPackageImporter","l":"CSVTreeToDataObjectPackageImporter(String, String, char, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,java.lang.String,char,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"CustodialHistory","l":"CustodialHistory()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"CustodialHistory","l":"CustodialHistory(Object...)","u":"%3Cinit%3E(java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"DataObjectGroup()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"DataObjectGroup(DataObjectPackage, Path)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectGroupId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectGroupId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectGroupReferenceId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectGroupReferenceId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectGroupSystemId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectGroupSystemId"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DataObjectOrArchiveUnitReferenceType","l":"DataObjectOrArchiveUnitReferenceType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DataObjectOrArchiveUnitReferenceType","l":"DataObjectOrArchiveUnitReferenceType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"DataObjectPackage()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","c":"DataObjectPackageBinarySerializer","l":"DataObjectPackageBinarySerializer(OutputStream)","u":"%3Cinit%3E(java.io.OutputStream)"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageDeserializer","l":"DataObjectPackageDeserializer()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageDeserializer","l":"DataObjectPackageDeserializer(Class<DataObjectPackage>)","u":"%3Cinit%3E(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageElement","l":"DataObjectPackageElement()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageElement","l":"DataObjectPackageElement(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"DataObjectPackageIdElement()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"DataObjectPackageIdElement(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageSerializer","l":"DataObjectPackageSerializer()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageSerializer","l":"DataObjectPackageSerializer(Class<DataObjectPackage>)","u":"%3Cinit%3E(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"DataObjectPackageToCSVMetadataExporter(DataObjectPackage, String, char, int, boolean, int, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.lang.String,char,int,boolean,int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToDiskExporter","l":"DataObjectPackageToDiskExporter(DataObjectPackage, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectProfile"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectProfile"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DataObjectReference","l":"DataObjectReference()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DataObjectReference","l":"DataObjectReference(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"DataObjectRefList()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"DataObjectRefList(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectSystemId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectSystemId"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"dataObjectVersion"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"dataObjectVersion"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"date"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"DateTimeType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"DateTimeType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"DateTimeType(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"DateTimeType(String, LocalDateTime)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"DateTimeType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"DateType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"DateType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"DateType(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"DateType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"dayTimePattern"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"DeCompactor","l":"DeCompactor(ArchiveUnit, String, SEDALibProgressLogger)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"DEFAULT_CHUNK_SIZE"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"DEFAULT_HOT_CACHE_SIZE"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"DEFAULT_MAX_ENTRIES"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"DescriptionLevel()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"DescriptionLevel(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageDeserializer","l":"deserialize(JsonParser, DeserializationContext)","u":"deserialize(com.fasterxml.jackson.core.JsonParser,com.fasterxml.jackson.databind.DeserializationContext)"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","c":"DataObjectPackageBinaryDeserializer","l":"deserialize(Path, long)","u":"deserialize(java.nio.file.Path,long)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"DigestType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"DigestType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"DigestType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"DigestType(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DIPToArchiveDeliveryRequestReplyImporter","l":"DIPToArchiveDeliveryRequestReplyImporter(String, String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"DiskToArchiveTransferImporter(List<Path>, boolean, Function<String, String>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.util.List,boolean,java.util.function.Function,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"DiskToArchiveTransferImporter(List<Path>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.util.List,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"DiskToArchiveTransferImporter(String, boolean, Function<String, String>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,boolean,java.util.function.Function,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"DiskToArchiveTransferImporter(String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"DiskToDataObjectPackageImporter(List<Path>, boolean, Function<String, String>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.util.List,boolean,java.util.function.Function,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"DiskToDataObjectPackageImporter(List<Path>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.util.List,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"DiskToDataObjectPackageImporter(String, boolean, Function<String, String>, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,boolean,java.util.function.Function,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"DisseminationRule","l":"DisseminationRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"DisseminationRule","l":"DisseminationRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"doCompact()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"Document","l":"Document()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"Document","l":"Document(String, Content)","u":"%3Cinit%3E(java.lang.String,fr.gouv.vitam.tools.sedalib.metadata.content.Content)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentContainer","l":"DocumentContainer()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentContainer","l":"DocumentContainer(int, int, RecordGrp)","u":"%3Cinit%3E(int,int,fr.gouv.vitam.tools.sedalib.metadata.compacted.RecordGrp)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentPack","l":"DocumentPack()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentPack","l":"DocumentPack(RecordGrp)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.metadata.compacted.RecordGrp)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"DeCompactor","l":"doDeCompact()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToDiskExporter","l":"doExport(String)","u":"doExport(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToDiskExporter","l":"doExport(String)","u":"doExport(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"doExportToCSVDiskHierarchy(String, String)","u":"doExportToCSVDiskHierarchy(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"doExportToCSVMetadataFile(String)","u":"doExportToCSVMetadataFile(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"doExportToCSVZip(String, String)","u":"doExportToCSVZip(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"doExportToSEDASIP(String, boolean, boolean)","u":"doExportToSEDASIP(java.lang.String,boolean,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"doExportToSEDAXMLManifest(String, boolean, boolean)","u":"doExportToSEDAXMLManifest(java.lang.String,boolean,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"doFormatAndExtractContentXML(String[])","u":"doFormatAndExtractContentXML(java.lang.String[])"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataToDataObjectPackageImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVTreeToDataObjectPackageImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DIPToArchiveDeliveryRequestReplyImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"doImport()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger.ProgressLogFunc","l":"doProgressLog(int, String)","u":"doProgressLog(int,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"doProgressLog(SEDALibProgressLogger, int, String, Exception)","u":"doProgressLog(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger,int,java.lang.String,java.lang.Exception)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"doProgressLogIfDebug(SEDALibProgressLogger, String, Throwable)","u":"doProgressLogIfDebug(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger,java.lang.String,java.lang.Throwable)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"doProgressLogIfStep(SEDALibProgressLogger, int, int, String)","u":"doProgressLogIfStep(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger,int,int,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"doProgressLogWithoutInterruption(SEDALibProgressLogger, int, String, Throwable)","u":"doProgressLogWithoutInterruption(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger,int,java.lang.String,java.lang.Throwable)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"NamedTypeMetadata","l":"elementName"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"endBlockNamed(String)","u":"endBlockNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"enumValues"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"enumValues"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"enumValues"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"enumValues"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Event","l":"Event()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Event","l":"Event(String, String, LocalDateTime, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.LocalDateTime,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToDiskExporter","l":"exportArchiveTransferGlobalMetadata(GlobalMetadata, Path)","u":"exportArchiveTransferGlobalMetadata(fr.gouv.vitam.tools.sedalib.core.GlobalMetadata,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToDiskExporter","l":"exportBinaryDataObject(BinaryDataObject, Path)","u":"exportBinaryDataObject(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"exportDataObjectPackageMetadata(SEDAXMLStreamWriter, boolean, SEDALibProgressLogger)","u":"exportDataObjectPackageMetadata(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,boolean,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"exportDataObjectPackageObjects(SEDAXMLStreamWriter, SEDALibProgressLogger)","u":"exportDataObjectPackageObjects(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToDiskExporter","l":"exportManagementMetadata(String, Path)","u":"exportManagementMetadata(java.lang.String,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"exportManifestOutputStream(OutputStream, boolean, boolean)","u":"exportManifestOutputStream(java.io.OutputStream,boolean,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"Management","l":"externToCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Content","l":"externToCsvList(List<String>)","u":"externToCsvList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"LazyFileExtractor","l":"extract(BinaryDataObject, Path)","u":"extract(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"extract(BinaryDataObject, Path)","u":"extract(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"DeCompactor","l":"extractArchiveUnitsFromDocument(Document, Path)","u":"extractArchiveUnitsFromDocument(fr.gouv.vitam.tools.sedalib.metadata.compacted.Document,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"DeCompactor","l":"extractArchiveUnitsFromSubDocument(SubDocument, Path)","u":"extractArchiveUnitsFromSubDocument(fr.gouv.vitam.tools.sedalib.metadata.compacted.SubDocument,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"extractDataObjectVersion(String)","u":"extractDataObjectVersion(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"extractFragments(String, String)","u":"extractFragments(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"extractManagementXML()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"extractNamedElement(String, String)","u":"extractNamedElement(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"extractOnDisk()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"extractTechnicalElements(SEDALibProgressLogger)","u":"extractTechnicalElements(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"extractTechnicalElements(TechnicalMetadataCache, SEDALibProgressLogger)","u":"extractTechnicalElements(fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"fileInfo"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FileInfo","l":"FileInfo()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FileInfo","l":"FileInfo(String, String, String, LocalDateTime, String, String, FileTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.time.LocalDateTime,java.lang.String,java.lang.String,java.nio.file.attribute.FileTime)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"FileObject","l":"FileObject()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"FileObject","l":"FileObject(BinaryDataObject, String)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"fillFromSedaXml(SEDAXMLEventReader)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"fillFromSedaXml(SEDAXMLEventReader, Class<? extends SEDAMetadata>)","u":"fillFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Content","l":"filteredToString(List<String>)","u":"filteredToString(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"FINALACTION_TAG"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"finalActionList"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"finalActionList"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"findArchiveUnit(String)","u":"findArchiveUnit(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"findArchiveUnitBySimpleDescriptiveMetadata(String, String)","u":"findArchiveUnitBySimpleDescriptiveMetadata(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"findArchiveUnitSimpleDescriptiveMetadata(String, String)","u":"findArchiveUnitSimpleDescriptiveMetadata(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"findDataObjectByDataObjectVersion(String)","u":"findDataObjectByDataObjectVersion(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"FIRST_DATAOBJECT"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"flush()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"flush()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"formatIdentification"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FormatIdentification","l":"FormatIdentification()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FormatIdentification","l":"FormatIdentification(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"formatRawXMLBlock(String)","u":"formatRawXMLBlock(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"fromSedaXml(SEDAXMLEventReader, Class<?>)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"fromSedaXml(SEDAXMLEventReader, DataObjectPackage, SEDALibProgressLogger)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"fromSedaXml(SEDAXMLEventReader, DataObjectPackage, SEDALibProgressLogger)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"fromSedaXml(SEDAXMLEventReader, String, SEDALibProgressLogger)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"fromSedaXml(SEDAXMLEventReader, String, SEDALibProgressLogger)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"fromSedaXml(SEDAXMLEventReader, String, SEDALibProgressLogger)","u":"fromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObject","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"fromSedaXmlFragments(String)","u":"fromSedaXmlFragments(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"fromString(String, Class<?>)","u":"fromString(java.lang.String,java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"generateSIP()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"generateSIP(boolean, boolean)","u":"generateSIP(boolean,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"get(Path)","u":"get(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"getAlgorithm()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"getAllJavaStackString(Throwable)","u":"getAllJavaStackString(java.lang.Throwable)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DIPToArchiveDeliveryRequestReplyImporter","l":"getArchiveDeliveryRequestReply()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"getArchiveTransfer()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"getArchiveTransfer()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"getArchiveTransfer()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"getArchiveTransfer()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getArchiveUnitById(String)","u":"getArchiveUnitById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getArchiveUnitCount()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"getArchiveUnitList()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getArchiveUnitProfile()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"getArchiveUnitProfile(String)","u":"getArchiveUnitProfile(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getArchiveUnitProfileXmlData()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getAuInDataObjectPackageIdMap()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getBdoInDataObjectPackageIdMap()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getBinaryDataObjectCount()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"getBinaryDataObjectList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadataBinding","l":"getBinding(Class<?>)","u":"getBinding(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getByte(long)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getChildrenAuList()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"getCommandLineArguments()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"ContainerDroidIdentifier","l":"getContainerIdentification(InputStream, IdentificationResultCollection)","u":"getContainerIdentification(java.io.InputStream,uk.gov.nationalarchives.droid.core.interfaces.IdentificationResultCollection)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"ContainerDroidIdentifier","l":"getContainerIdentifierInit()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getContent()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"getContent(String)","u":"getContent(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getContentSimpleMetadata(String)","u":"getContentSimpleMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getContentXmlData()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"getCount()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"getCount()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ContentFragmentIndex","l":"getCount()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"getCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDataObjectById(String)","u":"getDataObjectById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"getDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObject","l":"getDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"getDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"getDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDataObjectGroupById(String)","u":"getDataObjectGroupById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDataObjectGroupCount()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"getDataObjectList()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageElement","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataToDataObjectPackageImporter","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVTreeToDataObjectPackageImporter","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"getDataObjectPackage()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getDataObjectRefList()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDataObjectsTotalSize()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"getDateFromString(String)","u":"getDateFromString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"getDateTimeFromString(String)","u":"getDateTimeFromString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"getDateTimeString()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"getDebugFlag()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"getDepth()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"getDescription()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"getDescription()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDescription()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"getDescription()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache.Entry","l":"getDigest()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"getDigestSha512(Path)","u":"getDigestSha512(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getDogInDataObjectPackageIdMap()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"getEntryNames()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getExportMetadataList()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getExtension()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"getFile(String[])","u":"getFile(java.lang.String[])"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"getFileDroidFormat(String)","u":"getFileDroidFormat(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getFileName()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getFilteredContentExportString()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"getFinalActionList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"getFinalActionList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"getFinalActionList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getFirstNamedMetadata(String)","u":"getFirstNamedMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache.Entry","l":"getFormatName()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"ContainerDroidIdentifier","l":"getFormats()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"LocalDateTimeUtil","l":"getFormattedDateTime(FileTime)","u":"getFormattedDateTime(java.nio.file.attribute.FileTime)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"LocalDateTimeUtil","l":"getFormattedDateTime(LocalDateTime)","u":"getFormattedDateTime(java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"LocalDateTimeUtil","l":"getFormattedDateTime(String)","u":"getFormattedDateTime(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getGhostRootAu()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"getGlobalMetadata()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"getGlobalMetadata()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"getGUID(String[])","u":"getGUID(java.lang.String[])"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"getHexDigest(MessageDigest, Path)","u":"getHexDigest(java.security.MessageDigest,java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"getIdentificationResult(Path)","u":"getIdentificationResult(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"getIdentificationResult(Path, MessageDigest)","u":"getIdentificationResult(java.nio.file.Path,java.security.MessageDigest)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getIdentifier()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObject","l":"getInDataObjectPackageId()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"getInDataObjectPackageId()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"getInDataObjectPackageIdList()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"getInDataObjectPackageIdList()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"getIndentLength()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getInOutCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"getInputStream(String)","u":"getInputStream(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"getInstance()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"IndentXMLTool","l":"getInstance(int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"getLang()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"getLogBook()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getManagement()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"getManagement(String)","u":"getManagement(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getManagementMetadataXmlData()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getManagementXmlData()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getManifestCacheGeneration()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"getMessagesStackString(Throwable)","u":"getMessagesStackString(java.lang.Throwable)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataKind","l":"getMetadataClass()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getMetadataMap()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getMetadataMap(Class<?>)","u":"getMetadataMap(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getMetadataOrderedList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ContentFragmentIndex","l":"getMetadataXmlData(String, String)","u":"getMetadataXmlData(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache.Entry","l":"getMimeType()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"getModelVersion()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"getModelVersion()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getNextInDataObjectPackageID()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getNextInOutCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getNextRefID()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"getNormalizedDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"getObjectFiles(String[])","u":"getObjectFiles(java.lang.String[])"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"getOnDiskPath()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"getOnDiskPathToString()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"getParentGUID(String[])","u":"getParentGUID(java.lang.String[])"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getPdoInDataObjectPackageIdMap()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getPhysicalDataObjectCount()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"getPhysicalDataObjectList()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache.Entry","l":"getPuid()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"getRawXml()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getReadOnlyContent()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getReadOnlyManagement()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"getRealFilename()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"getRelativePath()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"getReleasedBytes()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getRequestMetaData()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"getRuleID()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"getRuleMetadataKindList()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"getSchemaFromRNGFile(String)","u":"getSchemaFromRNGFile(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"getSchemaFromXSDFile(String)","u":"getSchemaFromXSDFile(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"getSchemaFromXSDResource(URL)","u":"getSchemaFromXSDResource(java.net.URL)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"getSeda2Version()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"getSeda2VersionString()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"getSeda2VersionString(int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"getSEDASchema()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"getSEDAXMLManifest(boolean, boolean)","u":"getSEDAXMLManifest(boolean,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getSimpleMetadata(List<SEDAMetadata>, String)","u":"getSimpleMetadata(java.util.List,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"getSimpleMetadata(String)","u":"getSimpleMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ContentFragmentIndex","l":"getSimpleMetadata(String, String)","u":"getSimpleMetadata(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getSourceInputStream()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"getStartDate()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"getStoredBytes()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"getStringFromDate(LocalDate)","u":"getStringFromDate(java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"getStringFromDateTime(LocalDateTime)","u":"getStringFromDateTime(java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToDiskExporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataToDataObjectPackageImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVTreeToDataObjectPackageImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DIPToArchiveDeliveryRequestReplyImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"DeCompactor","l":"getSummary()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"getTheDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getTouchedInDataObjectPackageId(String)","u":"getTouchedInDataObjectPackageId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"getTriggerPuidByPuid(String)","u":"getTriggerPuidByPuid(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"getUnit()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"getUnit()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"NamedTypeMetadata","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"getValue()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getVitamNormalizationStatus()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"getWindowReader()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"getWorkingDirectory()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"NamedTypeMetadata","l":"getXmlElementName()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"getXmlElementName()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"getXmlFragmentStore()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"getXmlWriter()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"GLOBAL"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"GLOBAL_MARKER"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"GlobalMetadata()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"GlobalMetadata(GlobalMetadata)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.GlobalMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Gps","l":"Gps()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Gps","l":"Gps(String, int, String, String, String)","u":"%3Cinit%3E(java.lang.String,int,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"GZIP"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"GZIP"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageStreamHandler","l":"handleArchiveUnit(ArchiveUnit)","u":"handleArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageStreamHandler","l":"handleDataObject(DataObject)","u":"handleDataObject(fr.gouv.vitam.tools.sedalib.core.DataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageStreamHandler","l":"handleDataObjectGroup(DataObjectGroup)","u":"handleDataObjectGroup(fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageStreamHandler","l":"handleGlobalMetadata(GlobalMetadata)","u":"handleGlobalMetadata(fr.gouv.vitam.tools.sedalib.core.GlobalMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageStreamHandler","l":"handleManagementMetadata(String)","u":"handleManagementMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"hasContent()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"HoldRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"HoldRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"HoldRule(String, LocalDate, Map<String, Object>)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate,java.util.Map)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"idFromSedaXml(SEDAXMLEventReader, DataObjectPackage, SEDALibProgressLogger)","u":"idFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"idFromSedaXml(SEDAXMLEventReader, DataObjectPackage, String, SEDALibProgressLogger)","u":"idFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"importDataObjectPackageMetadata(SEDAXMLEventReader, DataObjectPackage, SEDALibProgressLogger)","u":"importDataObjectPackageMetadata(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"importDataObjectPackageObjects(SEDAXMLEventReader, DataObjectPackage, String, SEDALibProgressLogger)","u":"importDataObjectPackageObjects(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"incTouchedInDataObjectPackageId(DataObjectPackageIdElement)","u":"incTouchedInDataObjectPackageId(fr.gouv.vitam.tools.sedalib.core.DataObjectPackageIdElement)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"incTouchedInDataObjectPackageId(String)","u":"incTouchedInDataObjectPackageId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"inDataPackageObjectId"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"IndentXMLTool","l":"indentString(String)","u":"indentString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"init(SEDALibProgressLogger, String)","u":"init(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"InnerIdentifierType","l":"InnerIdentifierType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"InnerIdentifierType","l":"InnerIdentifierType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"InnerIdentifierType","l":"InnerIdentifierType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"IntegerType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"IntegerType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"IntegerType(String, int)","u":"%3Cinit%3E(java.lang.String,int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"IntegerType(String, Long)","u":"%3Cinit%3E(java.lang.String,java.lang.Long)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"IntegerType(String, Object[])","u":"%3Cinit%3E(java.lang.String,java.lang.Object[])"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"invalidateManifestCache()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadataBinding","l":"invokeFromSedaXml(SEDAXMLEventReader)","u":"invokeFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"isAMultiValuedMetadata(String)","u":"isAMultiValuedMetadata(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","c":"DataObjectPackageBinaryDeserializer","l":"isBinarySerialized(Path, long)","u":"isBinarySerialized(java.nio.file.Path,long)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"isContentSEDACompliant()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"isDataObjectGroupDirectory(Path)","u":"isDataObjectGroupDirectory(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"isDeflatedFlag()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"isDirectory()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataMap","l":"isExpandable()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"isExtendedFormat()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"isExtractedOnDisk()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"isKnownCompressedDroidFormat(String)","u":"isKnownCompressedDroidFormat(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"isKnownCompressedMimeType(String)","u":"isKnownCompressedMimeType(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"isLocal()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataKind","l":"isMany()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"isMetadataLacking(String)","u":"isMetadataLacking(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadataBinding","l":"isNeedName()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"isNotExpendable()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"isNotExpendable(Class<?>)","u":"isNotExpendable(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"isNowFlag()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"isPotentialValidLink(File)","u":"isPotentialValidLink(java.io.File)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"isSubmitted(BinaryDataObject)","u":"isSubmitted(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"isSupportedSeda2Version(int)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"isTouchedInDataObjectPackageId(DataObjectPackageIdElement)","u":"isTouchedInDataObjectPackageId(fr.gouv.vitam.tools.sedalib.core.DataObjectPackageIdElement)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"isTouchedInDataObjectPackageId(String)","u":"isTouchedInDataObjectPackageId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Keyword","l":"Keyword()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Keyword","l":"Keyword(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"KeywordType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"KeywordType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"DataObjectPackageToCSVMetadataExporter","l":"LAST_DATAOBJECT"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"length()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"LinearDimensionType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"LinearDimensionType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"LinearDimensionType(String, Double)","u":"%3Cinit%3E(java.lang.String,java.lang.Double)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"LinearDimensionType(String, Double, String)","u":"%3Cinit%3E(java.lang.String,java.lang.Double,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinkingAgentIdentifierType","l":"LinkingAgentIdentifierType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinkingAgentIdentifierType","l":"LinkingAgentIdentifierType(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"load(long)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"XmlFragmentStore","l":"load(long)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"LocalDateTimeUtil","l":"LocalDateTimeUtil()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"logBook"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"LogBook","l":"LogBook()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"LogBook","l":"LogBook(Object...)","u":"%3Cinit%3E(java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"Management","l":"Management()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ManagementMetadata","l":"ManagementMetadata()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"MAX_SUPPORTED_VERSION"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"mergeDataObjectGroup(DataObjectGroup)","u":"mergeDataObjectGroup(fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"messageDigest"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"messageIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"metadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Metadata","l":"Metadata()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"metadataList"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Content","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Coverage","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"CustodialHistory","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DataObjectReference","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Gps","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Keyword","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ReferencedObject","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"RelatedObjectReference","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signature","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signer","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Validator","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FileInfo","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"FormatIdentification","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Metadata","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"PhysicalDimensions","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AccessRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"AppraisalRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ArchiveUnitIdentifierKey","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ClassificationRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"DisseminationRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"HoldRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"LogBook","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"Management","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ReuseRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"UpdateOperation","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"ManagementMetadata","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AgencyType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLListType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DataObjectOrArchiveUnitReferenceType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"InnerIdentifierType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinkingAgentIdentifierType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"PlaceType","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"Operation","l":"metadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"Document","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentContainer","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"DocumentPack","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"FileObject","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"RecordGrp","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"SubDocument","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Event","l":"metadataMap_default"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Content","l":"metadataMap_v2"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Event","l":"metadataMap_v2"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"moveContentFromDataObjectPackage(DataObjectPackage, ArchiveUnit)","u":"moveContentFromDataObjectPackage(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"NamedTypeMetadata","l":"NamedTypeMetadata()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"NamedTypeMetadata","l":"NamedTypeMetadata(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataFormatter","l":"needIdRegeneration()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadataBinding","l":"newEmptyInstance(String)","u":"newEmptyInstance(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool","l":"newFragmentsReader(CharSequence)","u":"newFragmentsReader(java.lang.CharSequence)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool","l":"newFragmentsReader(Reader)","u":"newFragmentsReader(java.io.Reader)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool","l":"newFragmentsStreamReader(CharSequence)","u":"newFragmentsStreamReader(java.lang.CharSequence)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadataBinding","l":"newInstanceFromArgs(String, Object[])","u":"newInstanceFromArgs(java.lang.String,java.lang.Object[])"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"newSEDAMetadata(String, Object[])","u":"newSEDAMetadata(java.lang.String,java.lang.Object[])"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextBlockAsStringIfNamed(String)","u":"nextBlockAsStringIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextBlockIfNamed(String)","u":"nextBlockIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextBooleanValueIfNamed(String)","u":"nextBooleanValueIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextDateValueIfNamed(String)","u":"nextDateValueIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextMandatoryBlockAsString(String)","u":"nextMandatoryBlockAsString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextMandatoryValue(String)","u":"nextMandatoryValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextUsefullEvent()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"nextValueIfNamed(String)","u":"nextValueIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"XmlFragmentStore","l":"NO_FRAGMENT"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataMap","l":"NON_SPECIFIC_SEDA2_VERSION"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"NORMALIZATION_STATUS_KO"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"NORMALIZATION_STATUS_OK"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"NORMALIZATION_STATUS_UNKNOWN"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"normalizeName(String)","u":"normalizeName(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"normalizeUniqDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"nowFlag"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS_GROUP"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS_GROUP_MARKER"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS_MARKER"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS_WARNINGS"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"OBJECTS_WARNINGS_MARKER"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"onDiskPath"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"open(Path)","u":"open(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"Operation","l":"Operation()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"Operation","l":"Operation(Object...)","u":"%3Cinit%3E(java.lang.Object...)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"otherDimensionsAbstractXml"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekAttribute(String)","u":"peekAttribute(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekAttribute(String, String)","u":"peekAttribute(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekAttributeBlockIfNamed(String, String)","u":"peekAttributeBlockIfNamed(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekBlockIfNamed(String)","u":"peekBlockIfNamed(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekName()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"peekUsefullEvent()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"PhysicalDataObject()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"PhysicalDataObject(DataObjectPackage)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"PhysicalDataObject(DataObjectPackage, String)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"physicalDimensions"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"PhysicalDimensions","l":"PhysicalDimensions()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"physicalId"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"PlaceType","l":"PlaceType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"PlaceType","l":"PlaceType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"PREVENTINHERITANCE_TAG"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"put(Path, long, long, String, String, String, String)","u":"put(java.nio.file.Path,long,long,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"readableFileSize(long)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"RecordGrp","l":"RecordGrp()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"RecordGrp","l":"RecordGrp(String, Content, Management)","u":"%3Cinit%3E(java.lang.String,fr.gouv.vitam.tools.sedalib.metadata.content.Content,fr.gouv.vitam.tools.sedalib.metadata.management.Management)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ReferencedObject","l":"ReferencedObject()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ReferencedObject","l":"ReferencedObject(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"ReferencedObject","l":"ReferencedObject(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"REFNONRULEID_TAG"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"regenerateContinuousIds()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"register(BinaryDataObject)","u":"register(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"RelatedObjectReference","l":"RelatedObjectReference()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"RelatedObjectReference","l":"RelatedObjectReference(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"relationshipsXmlData"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"relationshipsXmlData"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"release(long)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"XmlFragmentStore","l":"release(long)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"remove(ArchiveUnit)","u":"remove(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"remove(DataObject)","u":"remove(fr.gouv.vitam.tools.sedalib.core.DataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"removeById(String)","u":"removeById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"removeById(String)","u":"removeById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"removeChildArchiveUnit(ArchiveUnit)","u":"removeChildArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"removeChildArchiveUnitById(String)","u":"removeChildArchiveUnitById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"removeDataObject(DataObject)","u":"removeDataObject(fr.gouv.vitam.tools.sedalib.core.DataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"removeDataObjectById(String)","u":"removeDataObjectById(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"removeEmptyArchiveUnit(ArchiveUnit)","u":"removeEmptyArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"removeEmptyDataObjectGroup()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"removeRootAu(ArchiveUnit)","u":"removeRootAu(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"removeUnusedDataObjects(SEDALibProgressLogger)","u":"removeUnusedDataObjects(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"replace(ArchiveUnit, ArchiveUnit)","u":"replace(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"replaceArchiveUnitBy(ArchiveUnit, ArchiveUnit)","u":"replaceArchiveUnitBy(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"replaceChildArchiveUnit(ArchiveUnit, ArchiveUnit)","u":"replaceChildArchiveUnit(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit,fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"resetIdCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"resetInOutCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"resetRefIdCounter()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"resetTouchedInDataObjectPackageIdMap()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ReuseRule","l":"ReuseRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"ReuseRule","l":"ReuseRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"RULE_TAG"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"Rule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"Rule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleMetadataKind","l":"RuleMetadataKind(Class<?>, boolean)","u":"%3Cinit%3E(java.lang.Class,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"RuleType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"RuleType(String, String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"save()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"SEDA2_1"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"SEDA2_2"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataMap","l":"seda2Version()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibException","l":"SEDALibException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibException","l":"SEDALibException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibJsonProcessingException","l":"SEDALibJsonProcessingException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"SEDALibProgressLogger(Logger, int)","u":"%3Cinit%3E(org.slf4j.Logger,int)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"SEDALibProgressLogger(Logger, int, SEDALibProgressLogger.ProgressLogFunc, int)","u":"%3Cinit%3E(org.slf4j.Logger,int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.ProgressLogFunc,int)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"SEDALibProgressLogger(Logger, int, SEDALibProgressLogger.ProgressLogFunc, int, int)","u":"%3Cinit%3E(org.slf4j.Logger,int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.ProgressLogFunc,int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"SEDAMetadata()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"sedaProfileValidate(String)","u":"sedaProfileValidate(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"sedaProfileValidate(String, SEDALibProgressLogger)","u":"sedaProfileValidate(java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"sedaSchemaValidate()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"sedaSchemaValidate(SEDALibProgressLogger)","u":"sedaSchemaValidate(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"SEDAXMLEventReader(InputStream)","u":"%3Cinit%3E(java.io.InputStream)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"SEDAXMLEventReader(InputStream, boolean)","u":"%3Cinit%3E(java.io.InputStream,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"SEDAXMLEventReader(Reader, boolean)","u":"%3Cinit%3E(java.io.Reader,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"SEDAXMLStreamWriter(OutputStream, int)","u":"%3Cinit%3E(java.io.OutputStream,int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"SEDAXMLStreamWriter(OutputStream, int, boolean)","u":"%3Cinit%3E(java.io.OutputStream,int,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"SEDAXMLStreamWriter(Writer, int)","u":"%3Cinit%3E(java.io.Writer,int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"SEDAXMLStreamWriter(Writer, int, boolean)","u":"%3Cinit%3E(java.io.Writer,int,boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLValidator","l":"SEDAXMLValidator()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"DroidIdentifier","l":"selectBestResult(List<IdentificationResult>, String)","u":"selectBestResult(java.util.List,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","c":"DataObjectPackageBinarySerializer","l":"serialize(DataObjectPackage)","u":"serialize(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","c":"DataObjectPackageSerializer","l":"serialize(DataObjectPackage, JsonGenerator, SerializerProvider)","u":"serialize(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,com.fasterxml.jackson.core.JsonGenerator,com.fasterxml.jackson.databind.SerializerProvider)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setAgencies(String, String, String, String)","u":"setAgencies(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"setAlgorithm(String)","u":"setAlgorithm(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setArchivalAgreement(String)","u":"setArchivalAgreement(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"setArchiveUnitList(List<ArchiveUnit>)","u":"setArchiveUnitList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setArchiveUnitProfile(ArchiveUnitProfile)","u":"setArchiveUnitProfile(fr.gouv.vitam.tools.sedalib.metadata.ArchiveUnitProfile)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setArchiveUnitProfile(String, ArchiveUnitProfile)","u":"setArchiveUnitProfile(java.lang.String,fr.gouv.vitam.tools.sedalib.metadata.ArchiveUnitProfile)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setArchiveUnitProfileXmlData(String)","u":"setArchiveUnitProfileXmlData(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setAuInDataObjectPackageIdMap(HashMap<String, ArchiveUnit>)","u":"setAuInDataObjectPackageIdMap(java.util.HashMap)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setBdoInDataObjectPackageIdMap(HashMap<String, BinaryDataObject>)","u":"setBdoInDataObjectPackageIdMap(java.util.HashMap)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"setBinaryDataObjectList(List<BinaryDataObject>)","u":"setBinaryDataObjectList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setChildrenAuList(ArchiveUnitRefList)","u":"setChildrenAuList(fr.gouv.vitam.tools.sedalib.core.ArchiveUnitRefList)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setComment(String)","u":"setComment(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"setCompactedDocumentPackLimit(int, int)","u":"setCompactedDocumentPackLimit(int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"setCompressionThreadCount(int)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setContent(Content)","u":"setContent(fr.gouv.vitam.tools.sedalib.metadata.content.Content)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setContent(String, Content)","u":"setContent(java.lang.String,fr.gouv.vitam.tools.sedalib.metadata.content.Content)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setContentXmlData(String)","u":"setContentXmlData(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"setDataObjectGroup(DataObjectGroup)","u":"setDataObjectGroup(fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"setDataObjectGroup(DataObjectGroup)","u":"setDataObjectGroup(fr.gouv.vitam.tools.sedalib.core.DataObjectGroup)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"setDataObjectList(List<DataObject>)","u":"setDataObjectList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"setDataObjectPackage(DataObjectPackage)","u":"setDataObjectPackage(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"setDataObjectPackage(DataObjectPackage)","u":"setDataObjectPackage(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setDataObjectPackage(DataObjectPackage)","u":"setDataObjectPackage(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageElement","l":"setDataObjectPackage(DataObjectPackage)","u":"setDataObjectPackage(fr.gouv.vitam.tools.sedalib.core.DataObjectPackage)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setDataObjectRefList(DataObjectRefList)","u":"setDataObjectRefList(fr.gouv.vitam.tools.sedalib.core.DataObjectRefList)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"setDateTimeString(String)","u":"setDateTimeString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"setDebugFlag(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setDefaultContent(String, String)","u":"setDefaultContent(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"setDeflatedFlag(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"setDigestVerificationFlag(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setDogInDataObjectPackageIdMap(HashMap<String, DataObjectGroup>)","u":"setDogInDataObjectPackageIdMap(java.util.HashMap)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setExportMetadataList(List<String>)","u":"setExportMetadataList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"setExtractionThreadCount(int)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"setExtractionThreadCount(int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"setFinalAction(String)","u":"setFinalAction(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setGhostRootAu(ArchiveUnit)","u":"setGhostRootAu(fr.gouv.vitam.tools.sedalib.core.ArchiveUnit)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveDeliveryRequestReply","l":"setGlobalMetadata(GlobalMetadata)","u":"setGlobalMetadata(fr.gouv.vitam.tools.sedalib.core.GlobalMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"setGlobalMetadata(GlobalMetadata)","u":"setGlobalMetadata(fr.gouv.vitam.tools.sedalib.core.GlobalMetadata)"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"ContainerDroidIdentifier","l":"setIdentifierEngine(IdentifierEngine)","u":"setIdentifierEngine(uk.gov.nationalarchives.droid.container.IdentifierEngine)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"setInDataObjectPackageId(String)","u":"setInDataObjectPackageId(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectRefList","l":"setInDataObjectPackageIdList(ArrayList<String>)","u":"setInDataObjectPackageIdList(java.util.ArrayList)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnitRefList","l":"setInDataObjectPackageIdList(List<String>)","u":"setInDataObjectPackageIdList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"setLang(String)","u":"setLang(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"setLazyExtractionFlag(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"setLazyFileExtractor(LazyFileExtractor)","u":"setLazyFileExtractor(fr.gouv.vitam.tools.sedalib.core.LazyFileExtractor)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"setLogBook(LogBook)","u":"setLogBook(fr.gouv.vitam.tools.sedalib.metadata.management.LogBook)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setManagement(Management)","u":"setManagement(fr.gouv.vitam.tools.sedalib.metadata.management.Management)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setManagement(String, Management)","u":"setManagement(java.lang.String,fr.gouv.vitam.tools.sedalib.metadata.management.Management)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setManagementMetadataXmlData(String)","u":"setManagementMetadataXmlData(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"setManagementXmlData(String)","u":"setManagementXmlData(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataKind","l":"setMany(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setMessageIdentifier(String)","u":"setMessageIdentifier(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListMetadataKind","l":"setMetadataClass(Class<?>)","u":"setMetadataClass(java.lang.Class)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"setMetadataFilters(Map<String, Integer>, Map<String, Integer>)","u":"setMetadataFilters(java.util.Map,java.util.Map)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"setNowFlag(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.process","c":"Compactor","l":"setObjectVersionFilters(List<String>, List<String>)","u":"setObjectVersionFilters(java.util.List,java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"setOnDiskPath(Path)","u":"setOnDiskPath(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"setOnDiskPath(Path)","u":"setOnDiskPath(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"setOnDiskPathFromString(String)","u":"setOnDiskPathFromString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackageIdElement","l":"setOnDiskPathFromString(String)","u":"setOnDiskPathFromString(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setPdoInDataObjectPackageIdMap(HashMap<String, PhysicalDataObject>)","u":"setPdoInDataObjectPackageIdMap(java.util.HashMap)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"setPhysicalDataObjectList(List<PhysicalDataObject>)","u":"setPhysicalDataObjectList(java.util.List)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"setPreventInheritance(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"setRawXml(String)","u":"setRawXml(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"setRuleID(String)","u":"setRuleID(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"SEDA2Version","l":"setSeda2Version(int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"setStartDate(LocalDate)","u":"setStartDate(java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToArchiveTransferImporter","l":"setTechnicalMetadataCache(TechnicalMetadataCache)","u":"setTechnicalMetadataCache(fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"setTechnicalMetadataCache(TechnicalMetadataCache)","u":"setTechnicalMetadataCache(fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"setTechnicalMetadataCache(TechnicalMetadataCache)","u":"setTechnicalMetadataCache(fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CSVMetadataToDataObjectPackageImporter","l":"setThreadCount(int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"setUnit(String)","u":"setUnit(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"setUnit(String)","u":"setUnit(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"setValue(Boolean)","u":"setValue(java.lang.Boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"setValue(Double)","u":"setValue(java.lang.Double)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"setValue(Double)","u":"setValue(java.lang.Double)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"setValue(LocalDate)","u":"setValue(java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"setValue(LocalDateTime)","u":"setValue(java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"setValue(Long)","u":"setValue(java.lang.Long)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"setValue(String)","u":"setValue(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setVitamNormalizationStatus(int)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"setXmlFragmentStore(XmlFragmentStore)","u":"setXmlFragmentStore(fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"setXmlId(boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"SEVENZIP"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signature","l":"Signature()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signer","l":"Signer()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signer","l":"Signer(String, LocalDateTime)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signer","l":"Signer(String, String, LocalDateTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Signer","l":"Signer(String, String, LocalDateTime, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.LocalDateTime,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DiskToDataObjectPackageImporter","l":"simpleCopy"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"SinglePassIdentificationRequest(RequestMetaData, RequestIdentifier, MessageDigest)","u":"%3Cinit%3E(uk.gov.nationalarchives.droid.core.interfaces.resource.RequestMetaData,uk.gov.nationalarchives.droid.core.interfaces.RequestIdentifier,java.security.MessageDigest)"},{"p":"fr.gouv.vitam.tools.sedalib.inout","c":"SIPBuilder","l":"SIPBuilder(String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"SIPInternalIDType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"SIPInternalIDType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"SIPInternalIDType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"SIPToArchiveTransferImporter(String, String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"size"},{"p":"fr.gouv.vitam.tools.sedalib.droid","c":"SinglePassIdentificationRequest","l":"size()"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"size()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"IndentXMLTool","l":"splitLines(String)","u":"splitLines(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"IndentXMLTool","l":"STANDARD_INDENT"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"STEP"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"SEDALibProgressLogger","l":"STEP_MARKER"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"StorageRule()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"StorageRule(String, LocalDate)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"StorageRule","l":"StorageRule(String, LocalDate, String)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDate,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressedXmlFragmentStore","l":"store(String)","u":"store(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"XmlFragmentStore","l":"store(String)","u":"store(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"streamFromSedaXml(SEDAXMLEventReader, DataObjectPackage, DataObjectPackageStreamHandler, SEDALibProgressLogger)","u":"streamFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,fr.gouv.vitam.tools.sedalib.core.DataObjectPackage,fr.gouv.vitam.tools.sedalib.core.DataObjectPackageStreamHandler,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"streamFromSedaXml(SEDAXMLEventReader, String, DataObjectPackageStreamHandler, SEDALibProgressLogger)","u":"streamFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.String,fr.gouv.vitam.tools.sedalib.core.DataObjectPackageStreamHandler,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"streamFromSedaXml(SEDAXMLEventReader, String, DataObjectPackageStreamHandler, SEDALibProgressLogger)","u":"streamFromSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader,java.lang.String,fr.gouv.vitam.tools.sedalib.core.DataObjectPackageStreamHandler,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"StringType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"StringType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"StringType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"SubDocument","l":"SubDocument()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","c":"SubDocument","l":"SubDocument(Content)","u":"%3Cinit%3E(fr.gouv.vitam.tools.sedalib.metadata.content.Content)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"submit(BinaryDataObject)","u":"submit(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"subTypeMetadataMapMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"subTypeMetadataOrderedListMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"subTypeNotExpandableMap"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"TAR"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"TAR"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"TechnicalElementsExtractor(int, SEDALibProgressLogger)","u":"%3Cinit%3E(int,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"TechnicalElementsExtractor(int, TechnicalMetadataCache, SEDALibProgressLogger)","u":"%3Cinit%3E(int,fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"TechnicalMetadataCache(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"TechnicalMetadataCache","l":"TechnicalMetadataCache(Path, int)","u":"%3Cinit%3E(java.nio.file.Path,int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"TextType()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"TextType(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"TextType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"TextType(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"RuleType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"toCsvList()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"toCsvList(int)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"DescriptionLevel","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"KeywordType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Rule","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"AnyXMLType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"BooleanType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"ComplexListType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateTimeType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DateType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"DigestType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"IntegerType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"LinearDimensionType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"SIPInternalIDType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"StringType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","c":"TextType","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"toSedaXml(SEDAXMLStreamWriter)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveTransfer","l":"toSedaXml(SEDAXMLStreamWriter, boolean, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,boolean,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"toSedaXml(SEDAXMLStreamWriter, boolean, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,boolean,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"toSedaXml(SEDAXMLStreamWriter, boolean, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,boolean,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"toSedaXml(SEDAXMLStreamWriter, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObject","l":"toSedaXml(SEDAXMLStreamWriter, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"toSedaXml(SEDAXMLStreamWriter, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"toSedaXml(SEDAXMLStreamWriter, SEDALibProgressLogger)","u":"toSedaXml(fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObject","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectGroup","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"PhysicalDataObject","l":"toSedaXmlFragments()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"ArchiveUnit","l":"toString()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"toString()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","c":"SEDAMetadata","l":"toString()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"toString()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"transferRequestReplyIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"transferringAgencyIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"GlobalMetadata","l":"transferringAgencyOrganizationDescriptiveMetadataXmlData"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"unCompress()"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"DIPToArchiveDeliveryRequestReplyImporter","l":"unZipDip(String, String)","u":"unZipDip(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"SIPToArchiveTransferImporter","l":"unZipSip(String, String)","u":"unZipSip(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"UpdateOperation","l":"UpdateOperation()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"UpdateOperation","l":"UpdateOperation(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","c":"UpdateOperation","l":"UpdateOperation(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"BinaryDataObject","l":"uri"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Validator","l":"Validator()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","c":"Validator","l":"Validator(String, LocalDateTime)","u":"%3Cinit%3E(java.lang.String,java.time.LocalDateTime)"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"verifyAcyclic()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"verifyDogUnicityCapacity()"},{"p":"fr.gouv.vitam.tools.sedalib.core","c":"DataObjectPackage","l":"vitamNormalize(SEDALibProgressLogger)","u":"vitamNormalize(fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"TechnicalElementsExtractor","l":"waitForAll()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"Weight()","u":"%3Cinit%3E()"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"Weight(Double)","u":"%3Cinit%3E(java.lang.Double)"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","c":"Weight","l":"Weight(Double, String)","u":"%3Cinit%3E(java.lang.Double,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"WindowsShortcut","l":"WindowsShortcut(File)","u":"%3Cinit%3E(java.io.File)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"write(char[], int, int)","u":"write(char[],int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"write(int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLFragmentPool.FragmentBuffer","l":"write(String, int, int)","u":"write(java.lang.String,int,int)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeAttribute(String, String)","u":"writeAttribute(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeAttribute(String, String, String, String)","u":"writeAttribute(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeAttributeIfNotEmpty(String, String)","u":"writeAttributeIfNotEmpty(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeBooleanElementValue(String, Boolean)","u":"writeBooleanElementValue(java.lang.String,java.lang.Boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeCharacters(String)","u":"writeCharacters(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeCharactersIfNotEmpty(String)","u":"writeCharactersIfNotEmpty(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeComment(String)","u":"writeComment(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeDefaultNamespace(String)","u":"writeDefaultNamespace(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeElementValue(String, String)","u":"writeElementValue(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeElementValueIfNotEmpty(String, Boolean)","u":"writeElementValueIfNotEmpty(java.lang.String,java.lang.Boolean)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeElementValueIfNotEmpty(String, String)","u":"writeElementValueIfNotEmpty(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeElementValueWithDefault(String, String, String)","u":"writeElementValueWithDefault(java.lang.String,java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeEndDocument()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeEndElement()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeFormattedRawXMLBlockIfNotEmpty(String)","u":"writeFormattedRawXMLBlockIfNotEmpty(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeNamespace(String, String)","u":"writeNamespace(java.lang.String,java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeRawXMLBlockIfNotEmpty(String)","u":"writeRawXMLBlockIfNotEmpty(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeStartDocument()"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLStreamWriter","l":"writeStartElement(String)","u":"writeStartElement(java.lang.String)"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"XGZIP"},{"p":"fr.gouv.vitam.tools.sedalib.xml","c":"SEDAXMLEventReader","l":"xmlReader"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","c":"ArchiveTransferToSIPExporter","l":"xmlWriter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"CompressedFileToArchiveTransferImporter","l":"ZIP"},{"p":"fr.gouv.vitam.tools.sedalib.utils","c":"CompressUtility","l":"ZIP"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","c":"ZipEntryLazyFileExtractor","l":"ZipEntryLazyFileExtractor(String, SEDALibProgressLogger)","u":"%3Cinit%3E(java.lang.String,fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger)"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"fr.gouv.vitam.tools.sedalib.core"},{"l":"fr.gouv.vitam.tools.sedalib.core.binary"},{"l":"fr.gouv.vitam.tools.sedalib.core.json"},{"l":"fr.gouv.vitam.tools.sedalib.droid"},{"l":"fr.gouv.vitam.tools.sedalib.inout"},{"l":"fr.gouv.vitam.tools.sedalib.inout.exporter"},{"l":"fr.gouv.vitam.tools.sedalib.inout.importer"},{"l":"fr.gouv.vitam.tools.sedalib.metadata"},{"l":"fr.gouv.vitam.tools.sedalib.metadata.compacted"},{"l":"fr.gouv.vitam.tools.sedalib.metadata.content"},{"l":"fr.gouv.vitam.tools.sedalib.metadata.data"},{"l":"fr.gouv.vitam.tools.sedalib.metadata.management"},{"l":"fr.gouv.vitam.tools.sedalib.metadata.namedtype"},{"l":"fr.gouv.vitam.tools.sedalib.process"},{"l":"fr.gouv.vitam.tools.sedalib.utils"},{"l":"fr.gouv.vitam.tools.sedalib.xml"}];updateSearchResults();
\ No newline at end of file
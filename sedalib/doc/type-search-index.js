@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"AccessRule"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"AgencyType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"AgentType"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"AnyXMLListType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"AnyXMLType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"AppraisalRule"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"ArchiveDeliveryRequestReply"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"ArchiveTransfer"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","l":"ArchiveTransferToDiskExporter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","l":"ArchiveTransferToSIPExporter"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"ArchiveUnit"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"ArchiveUnitIdentifierKey"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","l":"ArchiveUnitProfile"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"ArchiveUnitRefList"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"BinaryDataObject"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"BooleanType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"ClassificationRule"},{"p":"fr.gouv.vitam.tools.sedalib.process","l":"Compactor"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"ComplexListMetadataKind"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"ComplexListMetadataMap"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"ComplexListType"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"CompressedFileToArchiveTransferImporter"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"CompressedXmlFragmentStore"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"CompressUtility"},{"p":"fr.gouv.vitam.tools.sedalib.droid","l":"ContainerDroidIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Content"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"ContentFragmentIndex"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Coverage"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"CSVMetadataFormatter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"CSVMetadataToDataObjectPackageImporter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"CSVTreeToDataObjectPackageImporter"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"CustodialHistory"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObject"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectGroup"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"DataObjectOrArchiveUnitReferenceType"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectPackage"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","l":"DataObjectPackageBinaryDeserializer"},{"p":"fr.gouv.vitam.tools.sedalib.core.binary","l":"DataObjectPackageBinarySerializer"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","l":"DataObjectPackageDeserializer"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectPackageElement"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectPackageIdElement"},{"p":"fr.gouv.vitam.tools.sedalib.core.json","l":"DataObjectPackageSerializer"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectPackageStreamHandler"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","l":"DataObjectPackageToCSVMetadataExporter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.exporter","l":"DataObjectPackageToDiskExporter"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"DataObjectReference"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"DataObjectRefList"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"DateTimeType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"DateType"},{"p":"fr.gouv.vitam.tools.sedalib.process","l":"DeCompactor"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"DescriptionLevel"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"DigestType"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"DIPToArchiveDeliveryRequestReplyImporter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"DiskToArchiveTransferImporter"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"DiskToDataObjectPackageImporter"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"DisseminationRule"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"Document"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"DocumentContainer"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"DocumentPack"},{"p":"fr.gouv.vitam.tools.sedalib.droid","l":"DroidIdentifier"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"TechnicalMetadataCache.Entry"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Event"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","l":"FileInfo"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"FileObject"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","l":"FormatIdentification"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"SEDAXMLFragmentPool.FragmentBuffer"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"GlobalMetadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Gps"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"HoldRule"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"IndentXMLTool"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"InnerIdentifierType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"IntegerType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Keyword"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"KeywordType"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"LazyFileExtractor"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"LinearDimensionType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"LinkingAgentIdentifierType"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"LocalDateTimeUtil"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"LogBook"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"Management"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","l":"ManagementMetadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","l":"Metadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"NamedTypeMetadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","l":"Operation"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"PhysicalDataObject"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","l":"PhysicalDimensions"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"PlaceType"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"SEDALibProgressLogger.ProgressLogFunc"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"RecordGrp"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"ReferencedObject"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"RelatedObjectReference"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"ReuseRule"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Rule"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"RuleMetadataKind"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"RuleType"},{"p":"fr.gouv.vitam.tools.sedalib.core","l":"SEDA2Version"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"SEDALibException"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"SEDALibJsonProcessingException"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"SEDALibProgressLogger"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","l":"SEDAMetadata"},{"p":"fr.gouv.vitam.tools.sedalib.metadata","l":"SEDAMetadataBinding"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"SEDAXMLEventReader"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"SEDAXMLFragmentPool"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"SEDAXMLStreamWriter"},{"p":"fr.gouv.vitam.tools.sedalib.xml","l":"SEDAXMLValidator"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Signature"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Signer"},{"p":"fr.gouv.vitam.tools.sedalib.droid","l":"SinglePassIdentificationRequest"},{"p":"fr.gouv.vitam.tools.sedalib.inout","l":"SIPBuilder"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"SIPInternalIDType"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"SIPToArchiveTransferImporter"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"StorageRule"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"StringType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.compacted","l":"SubDocument"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"TechnicalElementsExtractor"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"TechnicalMetadataCache"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.namedtype","l":"TextType"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.management","l":"UpdateOperation"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.content","l":"Validator"},{"p":"fr.gouv.vitam.tools.sedalib.metadata.data","l":"Weight"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"WindowsShortcut"},{"p":"fr.gouv.vitam.tools.sedalib.utils","l":"XmlFragmentStore"},{"p":"fr.gouv.vitam.tools.sedalib.inout.importer","l":"ZipEntryLazyFileExtractor"}];updateSearchResults();
\ No newline at end of file
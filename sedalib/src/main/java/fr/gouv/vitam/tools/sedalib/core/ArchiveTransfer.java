@@ -335,6 +335,40 @@ public class ArchiveTransfer {
         return archiveTransfer;
     }
 
+    /**
+     * Stream the whole structure from XML SEDA Manifest to a handler, without
+     * building the DataObjectPackage in memory, so that very big manifests can be
+     * processed in constant memory.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param rootDir               the directory where the BinaryDataObject files are
+     *                              exported
+     * @param handler               the handler receiving the streamed elements
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @return the read global metadata, header and footer
+     * @throws SEDALibException     if the XML can't be read or is not in expected form,
+     *                              or the handler failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    public static GlobalMetadata streamFromSedaXml(SEDAXMLEventReader xmlReader, String rootDir,
+                                                   DataObjectPackageStreamHandler handler,
+                                                   SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
+        ArchiveTransfer archiveTransfer;
+        importStartDocument(xmlReader);
+        archiveTransfer = new ArchiveTransfer();
+        archiveTransfer.setGlobalMetadata(new GlobalMetadata());
+        importHeader(xmlReader, archiveTransfer);
+        handler.handleGlobalMetadata(archiveTransfer.getGlobalMetadata());
+        DataObjectPackage.streamFromSedaXml(xmlReader, rootDir, handler, sedaLibProgressLogger);
+        importFooter(xmlReader, archiveTransfer);
+        importEndDocument(xmlReader);
+
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP,
+                "sedalib: ArchiveTransfer importé", null);
+
+        return archiveTransfer.getGlobalMetadata();
+    }
+
     // SEDA Validator
 
     public void sedaSchemaValidate(SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
@@ -31,19 +31,20 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import fr.gouv.vitam.tools.sedalib.metadata.ArchiveUnitProfile;
 import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
 import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
+import fr.gouv.vitam.tools.sedalib.metadata.content.ContentFragmentIndex;
 import fr.gouv.vitam.tools.sedalib.metadata.management.Management;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.lang.ref.SoftReference;
 import java.util.Map;
+import java.util.Objects;
 
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLog;
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogIfStep;
@@ -91,6 +92,69 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     @JsonIgnore
     private Content content;
 
+    /**
+     * The index of the Content xml element in String form, used to get simple metadata without decoding the whole
+     * Content, or null if not yet built.
+     */
+    @JsonIgnore
+    private transient ContentFragmentIndex contentFragmentIndex;
+
+    /**
+     * The xml fragment store keeping the xml elements in String form out of this ArchiveUnit, or null if they are
+     * kept in fields.
+     */
+    @JsonIgnore
+    private transient XmlFragmentStore xmlFragmentStore;
+
+    /**
+     * The handles of the xml elements in String form kept in the xml fragment store, or NO_FRAGMENT.
+     */
+    @JsonIgnore
+    private long archiveUnitProfileXmlHandle, managementXmlHandle, contentXmlHandle;
+
+    /**
+     * The ArchiveUnitProfile, Management and Content xml elements, as formatted for the last manifest export, or
+     * null if they have changed since. It's softly referenced, so that this second form of the metadata can be
+     * reclaimed when memory is needed.
+     */
+    @JsonIgnore
+    private transient SoftReference<ManifestMetadataCache> manifestMetadataCache;
+
+    /**
+     * The formatted manifest form of the metadata, with the xml form of the shared metadata objects it was made
+     * from.
+     */
+    private static class ManifestMetadataCache {
+        private final String formatted;
+        private final String sharedSource;
+
+        private ManifestMetadataCache(String formatted, String sharedSource) {
+            this.formatted = formatted;
+            this.sharedSource = sharedSource;
+        }
+    }
+
+    /**
+     * The flags of the ArchiveUnitProfile, Management and Content objects given to or by the ArchiveUnit, which may
+     * be modified out of the ArchiveUnit. While one of them is in this state, its current xml form is compared to
+     * the one the cached manifest form was made from, to detect in place modifications.
+     */
+    @JsonIgnore
+    private transient int sharedMetadataFlags;
+
+    /**
+     * The shared metadata flags values.
+     */
+    private static final int SHARED_ARCHIVE_UNIT_PROFILE = 1, SHARED_MANAGEMENT = 2, SHARED_CONTENT = 4;
+
+    /**
+     * The writer indent length, the writer depth and the DataObjectPackage manifest cache generation of the last
+     * manifest export, for which the cached manifest form is valid.
+     */
+    @JsonIgnore
+    private transient int manifestMetadataCacheIndentLength, manifestMetadataCacheDepth,
+            manifestMetadataCacheGeneration;
+
     // ArchiveUnitReferenceAbstract
     // - specify system ArchiveUnit to link as child, not supported by SEDALib
 
@@ -114,6 +178,12 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
         this.archiveUnitProfile = null;
         this.management = null;
         this.content = null;
+        this.contentFragmentIndex = null;
+        this.xmlFragmentStore = null;
+        this.archiveUnitProfileXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.managementXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.contentXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.manifestMetadataCache = null;
         this.childrenAuList = new ArchiveUnitRefList(null);
         this.dataObjectRefList = new DataObjectRefList(null);
     }
@@ -134,6 +204,12 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
         this.archiveUnitProfile = null;
         this.management = null;
         this.content = null;
+        this.contentFragmentIndex = null;
+        this.xmlFragmentStore = null;
+        this.archiveUnitProfileXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.managementXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.contentXmlHandle = XmlFragmentStore.NO_FRAGMENT;
+        this.manifestMetadataCache = null;
         this.childrenAuList = new ArchiveUnitRefList(dataObjectPackage);
         this.dataObjectRefList = new DataObjectRefList(dataObjectPackage);
         if (dataObjectPackage != null)
@@ -154,8 +230,13 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     public String getArchiveUnitProfileXmlData() {
         if (archiveUnitProfileXmlData != null)
             return archiveUnitProfileXmlData;
+        if (archiveUnitProfileXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            return xmlFragmentStore.load(archiveUnitProfileXmlHandle);
         if (archiveUnitProfile == null)
             return null;
+        // a shared object may be modified in place, so its String form is not kept
+        if ((sharedMetadataFlags & SHARED_ARCHIVE_UNIT_PROFILE) != 0)
+            return archiveUnitProfile.toString();
         archiveUnitProfileXmlData = archiveUnitProfile.toString();
         return archiveUnitProfileXmlData;
     }
@@ -166,8 +247,14 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @param archiveUnitProfileXmlData the archive unit profile xml data
      */
     public void setArchiveUnitProfileXmlData(String archiveUnitProfileXmlData) {
+        releaseFragment(this.archiveUnitProfileXmlHandle);
+        this.archiveUnitProfileXmlHandle = storeFragment(archiveUnitProfileXmlData);
+        if (this.archiveUnitProfileXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            archiveUnitProfileXmlData = null;
         this.archiveUnitProfileXmlData = archiveUnitProfileXmlData;
         this.archiveUnitProfile = null;
+        this.sharedMetadataFlags &= ~SHARED_ARCHIVE_UNIT_PROFILE;
+        this.manifestMetadataCache = null;
     }
 
     /**
@@ -177,16 +264,21 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @throws SEDALibException if raw xml data is not convenient
      */
     public ArchiveUnitProfile getArchiveUnitProfile() throws SEDALibException {
+        // the returned object may be modified, now or later
+        sharedMetadataFlags |= SHARED_ARCHIVE_UNIT_PROFILE;
         if (archiveUnitProfile != null) {
             archiveUnitProfileXmlData = null;
+            archiveUnitProfileXmlHandle = releaseFragment(archiveUnitProfileXmlHandle);
             return archiveUnitProfile;
         }
-        if (archiveUnitProfileXmlData == null)
+        String xmlData = getArchiveUnitProfileXmlData();
+        if (xmlData == null)
             return null;
-        archiveUnitProfile = (ArchiveUnitProfile) SEDAMetadata.fromString(archiveUnitProfileXmlData,
+        archiveUnitProfile = (ArchiveUnitProfile) SEDAMetadata.fromString(xmlData,
                 ArchiveUnitProfile.class);
         // as fromString function normalise ArchiveUnitProfile had to destroy approximate version archiveUnitProfileXmlData
         archiveUnitProfileXmlData = null;
+        archiveUnitProfileXmlHandle = releaseFragment(archiveUnitProfileXmlHandle);
         return archiveUnitProfile;
     }
 
@@ -197,7 +289,10 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      */
     public void setArchiveUnitProfile(ArchiveUnitProfile archiveUnitProfile) {
         this.archiveUnitProfileXmlData = null;
+        this.archiveUnitProfileXmlHandle = releaseFragment(archiveUnitProfileXmlHandle);
         this.archiveUnitProfile = archiveUnitProfile;
+        this.sharedMetadataFlags |= SHARED_ARCHIVE_UNIT_PROFILE;
+        this.manifestMetadataCache = null;
     }
 
     /**
@@ -208,8 +303,13 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     public String getManagementXmlData() {
         if (managementXmlData != null)
             return managementXmlData;
+        if (managementXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            return xmlFragmentStore.load(managementXmlHandle);
         if (management == null)
             return null;
+        // a shared object may be modified in place, so its String form is not kept
+        if ((sharedMetadataFlags & SHARED_MANAGEMENT) != 0)
+            return management.toString();
         managementXmlData = management.toString();
         return managementXmlData;
     }
@@ -220,8 +320,14 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @param managementXmlData the management xml data
      */
     public void setManagementXmlData(String managementXmlData) {
+        releaseFragment(this.managementXmlHandle);
+        this.managementXmlHandle = storeFragment(managementXmlData);
+        if (this.managementXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            managementXmlData = null;
         this.managementXmlData = managementXmlData;
         this.management = null;
+        this.sharedMetadataFlags &= ~SHARED_MANAGEMENT;
+        this.manifestMetadataCache = null;
     }
 
     /**
@@ -231,16 +337,21 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @throws SEDALibException if raw xml data is not convenient
      */
     public Management getManagement() throws SEDALibException {
+        // the returned object may be modified, now or later
+        sharedMetadataFlags |= SHARED_MANAGEMENT;
         if (management != null) {
             managementXmlData = null;
+            managementXmlHandle = releaseFragment(managementXmlHandle);
             return management;
         }
-        if (managementXmlData == null)
+        String xmlData = getManagementXmlData();
+        if (xmlData == null)
             return null;
-        management = (Management) SEDAMetadata.fromString(managementXmlData,
+        management = (Management) SEDAMetadata.fromString(xmlData,
                 Management.class);
         // as fromString function normalise Management had to destroy approximate version managementXmlData
         managementXmlData = null;
+        managementXmlHandle = releaseFragment(managementXmlHandle);
         return management;
     }
 
@@ -251,7 +362,10 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      */
     public void setManagement(Management management) {
         this.managementXmlData = null;
+        this.managementXmlHandle = releaseFragment(managementXmlHandle);
         this.management = management;
+        this.sharedMetadataFlags |= SHARED_MANAGEMENT;
+        this.manifestMetadataCache = null;
     }
 
     /**
@@ -262,8 +376,13 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     public String getContentXmlData() {
         if (contentXmlData != null)
             return contentXmlData;
+        if (contentXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            return xmlFragmentStore.load(contentXmlHandle);
         if (content == null)
             return null;
+        // a shared object may be modified in place, so its String form is not kept
+        if ((sharedMetadataFlags & SHARED_CONTENT) != 0)
+            return content.toString();
         contentXmlData = content.toString();
         return contentXmlData;
     }
@@ -277,12 +396,14 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     public boolean isContentSEDACompliant() {
         if (content != null)
             return true;
-        if (contentXmlData == null)
+        String xmlData = getContentXmlData();
+        if (xmlData == null)
             return false;
         try {
-            content = (Content) SEDAMetadata.fromString(contentXmlData,
+            content = (Content) SEDAMetadata.fromString(xmlData,
                     Content.class);
             contentXmlData = null;
+            contentXmlHandle = releaseFragment(contentXmlHandle);
         } catch (SEDALibException e) {
             return false;
         }
@@ -300,12 +421,14 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
             return getContentXmlData();
         if (content != null)
             return content.filteredToString(getDataObjectPackage().getExportMetadataList());
+        String xmlData = getContentXmlData();
         try {
-            content = (Content) SEDAMetadata.fromString(contentXmlData,
+            content = (Content) SEDAMetadata.fromString(xmlData,
                     Content.class);
             contentXmlData = null;
+            contentXmlHandle = releaseFragment(contentXmlHandle);
         } catch (SEDALibException e) {
-            return contentXmlData;
+            return xmlData;
         }
         return content.filteredToString(getDataObjectPackage().getExportMetadataList());
     }
@@ -316,8 +439,15 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @param contentXmlData the content xml data
      */
     public void setContentXmlData(String contentXmlData) {
+        releaseFragment(this.contentXmlHandle);
+        this.contentXmlHandle = storeFragment(contentXmlData);
+        if (this.contentXmlHandle != XmlFragmentStore.NO_FRAGMENT)
+            contentXmlData = null;
         this.contentXmlData = contentXmlData;
         this.content = null;
+        this.contentFragmentIndex = null;
+        this.sharedMetadataFlags &= ~SHARED_CONTENT;
+        this.manifestMetadataCache = null;
     }
 
     /**
@@ -327,16 +457,22 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      * @throws SEDALibException if raw xml data is not convenient
      */
     public Content getContent() throws SEDALibException {
+        // the returned object may be modified, now or later
+        sharedMetadataFlags |= SHARED_CONTENT;
         if (content != null) {
             contentXmlData = null;
+            contentXmlHandle = releaseFragment(contentXmlHandle);
             return content;
         }
-        if (contentXmlData == null)
+        String xmlData = getContentXmlData();
+        if (xmlData == null)
             return null;
-        content = (Content) SEDAMetadata.fromString(contentXmlData,
+        content = (Content) SEDAMetadata.fromString(xmlData,
                 Content.class);
         // as fromString function normalise Content had to destroy approximate version contentXmlData
         contentXmlData = null;
+        contentXmlHandle = releaseFragment(contentXmlHandle);
+        contentFragmentIndex = null;
         return content;
     }
 
@@ -347,11 +483,160 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      */
     public void setContent(Content content) {
         this.contentXmlData = null;
+        this.contentXmlHandle = releaseFragment(contentXmlHandle);
         this.content = content;
+        this.contentFragmentIndex = null;
+        this.sharedMetadataFlags |= SHARED_CONTENT;
+        this.manifestMetadataCache = null;
+    }
+
+    /**
+     * Gets content for read only uses, as exports. If the Content is still in String form, it's decoded but not kept
+     * in the ArchiveUnit, so that going through all ArchiveUnits doesn't keep all decoded Contents in memory.
+     * Modifications of the returned Content are not taken into account.
+     *
+     * @return the content
+     * @throws SEDALibException if raw xml data is not convenient
+     */
+    @JsonIgnore
+    public Content getReadOnlyContent() throws SEDALibException {
+        if (content != null)
+            return content;
+        String xmlData = getContentXmlData();
+        if (xmlData == null)
+            return null;
+        return (Content) SEDAMetadata.fromString(xmlData, Content.class);
+    }
+
+    /**
+     * Gets management for read only uses, as exports. If the Management is still in String form, it's decoded but
+     * not kept in the ArchiveUnit. Modifications of the returned Management are not taken into account.
+     *
+     * @return the management
+     * @throws SEDALibException if raw xml data is not convenient
+     */
+    @JsonIgnore
+    public Management getReadOnlyManagement() throws SEDALibException {
+        if (management != null)
+            return management;
+        String xmlData = getManagementXmlData();
+        if (xmlData == null)
+            return null;
+        return (Management) SEDAMetadata.fromString(xmlData, Management.class);
+    }
+
+    /**
+     * Checks if the ArchiveUnit has a Content, in String or metadata form.
+     *
+     * @return true, if there is a Content
+     */
+    @JsonIgnore
+    public boolean hasContent() {
+        return (content != null) || (contentXmlData != null) || (contentXmlHandle != XmlFragmentStore.NO_FRAGMENT);
+    }
+
+    /**
+     * Gets the value of a simple Content metadata (String, Text, DescriptionLevel or DateTime type), as
+     * getContent().getSimpleMetadata() does, but without decoding the whole Content if it's still in String form.
+     *
+     * @param metadataName the metadata name
+     * @return the value or null
+     * @throws SEDALibException if raw xml data is not convenient
+     */
+    @JsonIgnore
+    public String getContentSimpleMetadata(String metadataName) throws SEDALibException {
+        if (content != null)
+            return content.getSimpleMetadata(metadataName);
+        String xmlData = getContentXmlData();
+        if (xmlData == null)
+            return null;
+        try {
+            if (contentFragmentIndex == null)
+                contentFragmentIndex = new ContentFragmentIndex(xmlData);
+            return contentFragmentIndex.getSimpleMetadata(xmlData, metadataName);
+        } catch (SEDALibException e) {
+            // the element alone is not decodable, try with the whole Content
+            return getContent().getSimpleMetadata(metadataName);
+        }
+    }
+
+    /**
+     * Checks if the Content has at least one metadata with this name, without decoding the whole Content if it's
+     * still in String form.
+     *
+     * @param metadataName the metadata name
+     * @return true, if the Content contains the metadata
+     * @throws SEDALibException if raw xml data is not convenient
+     */
+    @JsonIgnore
+    public boolean containsContentMetadata(String metadataName) throws SEDALibException {
+        if (content != null)
+            return content.getFirstNamedMetadata(metadataName) != null;
+        String xmlData = getContentXmlData();
+        if (xmlData == null)
+            return false;
+        if (contentFragmentIndex == null)
+            contentFragmentIndex = new ContentFragmentIndex(xmlData);
+        return contentFragmentIndex.containsMetadata(metadataName);
     }
 
     // Methods
 
+    /**
+     * Store a xml fragment in the DataObjectPackage xml fragment store, if any.
+     *
+     * @param xmlData the xml fragment
+     * @return the handle of the stored fragment, or NO_FRAGMENT if not stored
+     */
+    private long storeFragment(String xmlData) {
+        if ((xmlData == null) || (getDataObjectPackage() == null)
+                || (getDataObjectPackage().getXmlFragmentStore() == null))
+            return XmlFragmentStore.NO_FRAGMENT;
+        xmlFragmentStore = getDataObjectPackage().getXmlFragmentStore();
+        return xmlFragmentStore.store(xmlData);
+    }
+
+    /**
+     * Release a xml fragment from the xml fragment store, if stored.
+     *
+     * @param handle the handle of the stored fragment, or NO_FRAGMENT
+     * @return NO_FRAGMENT
+     */
+    private long releaseFragment(long handle) {
+        if (handle != XmlFragmentStore.NO_FRAGMENT)
+            xmlFragmentStore.release(handle);
+        return XmlFragmentStore.NO_FRAGMENT;
+    }
+
+    /**
+     * Move the xml elements in String form to the DataObjectPackage xml fragment store, or back in fields if the
+     * DataObjectPackage has no store.
+     */
+    void moveXmlFragmentsToStore() {
+        XmlFragmentStore targetStore = (getDataObjectPackage() == null ? null :
+                getDataObjectPackage().getXmlFragmentStore());
+        if (xmlFragmentStore == targetStore)
+            return;
+        String archiveUnitProfileFragment = (archiveUnitProfileXmlHandle == XmlFragmentStore.NO_FRAGMENT ?
+                archiveUnitProfileXmlData : xmlFragmentStore.load(archiveUnitProfileXmlHandle));
+        String managementFragment = (managementXmlHandle == XmlFragmentStore.NO_FRAGMENT ?
+                managementXmlData : xmlFragmentStore.load(managementXmlHandle));
+        String contentFragment = (contentXmlHandle == XmlFragmentStore.NO_FRAGMENT ?
+                contentXmlData : xmlFragmentStore.load(contentXmlHandle));
+        archiveUnitProfileXmlHandle = releaseFragment(archiveUnitProfileXmlHandle);
+        managementXmlHandle = releaseFragment(managementXmlHandle);
+        contentXmlHandle = releaseFragment(contentXmlHandle);
+        xmlFragmentStore = targetStore;
+
+        archiveUnitProfileXmlHandle = storeFragment(archiveUnitProfileFragment);
+        archiveUnitProfileXmlData = (archiveUnitProfileXmlHandle == XmlFragmentStore.NO_FRAGMENT ?
+                archiveUnitProfileFragment : null);
+        managementXmlHandle = storeFragment(managementFragment);
+        managementXmlData = (managementXmlHandle == XmlFragmentStore.NO_FRAGMENT ? managementFragment : null);
+        contentXmlHandle = storeFragment(contentFragment);
+        contentXmlData = (contentXmlHandle == XmlFragmentStore.NO_FRAGMENT ? contentFragment : null);
+    }
+
     /**
      * Sets the Content xml element constructed with given title and description level.
      *
@@ -447,28 +732,19 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
             throws SEDALibException, InterruptedException {
         try {
             if (imbricateFlag) {
-                if (getDataObjectPackage().isTouchedInDataObjectPackageId(inDataPackageObjectId)) {
+                if (getDataObjectPackage().isTouchedInDataObjectPackageId(this)) {
                     xmlWriter.writeStartElement("ArchiveUnit");
                     xmlWriter.writeAttribute("id", getDataObjectPackage().getNextRefID());
                     xmlWriter.writeElementValue("ArchiveUnitRefId", inDataPackageObjectId);
                     xmlWriter.writeEndElement();
                     return;
                 } else
-                    getDataObjectPackage().addTouchedInDataObjectPackageId(inDataPackageObjectId);
+                    getDataObjectPackage().addTouchedInDataObjectPackageId(this);
             }
 
             xmlWriter.writeStartElement("ArchiveUnit");
             xmlWriter.writeAttribute("id", inDataPackageObjectId);
-            xmlWriter.writeRawXMLBlockIfNotEmpty(getArchiveUnitProfileXmlData());
-            xmlWriter.writeRawXMLBlockIfNotEmpty(getManagementXmlData());
-            if ((getDataObjectPackage().getExportMetadataList() != null) &&
-                    !isContentSEDACompliant()) {
-                doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL,
-                        "sedalib: l'ArchiveUnit [" + inDataPackageObjectId + "] ne peut être filtrée car son Content " +
-                                "n'est pas conforme SEDA. Le Content est écrit tel quel.", null);
-                xmlWriter.writeRawXMLBlockIfNotEmpty(getContentXmlData());
-            } else
-                xmlWriter.writeRawXMLBlockIfNotEmpty(getFilteredContentExportString());
+            xmlWriter.writeFormattedRawXMLBlockIfNotEmpty(getManifestMetadata(xmlWriter, sedaLibProgressLogger));
             for (ArchiveUnit au : childrenAuList.getArchiveUnitList()) {
                 if (!imbricateFlag) {
                     xmlWriter.writeStartElement("ArchiveUnit");
@@ -498,6 +774,79 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
                 "sedalib: " + counter + " métadonnées ArchiveUnit exportées");
     }
 
+    /**
+     * Gets the ArchiveUnitProfile, Management and Content xml elements formatted for the SEDA Manifest at the
+     * current writer depth.
+     * <p>
+     * This formatted form is kept and reused by next exports, as long as these metadata are not changed and the
+     * writer indent length and depth are the same. This way re-exporting a big DataObjectPackage after a few
+     * modifications only re-encodes the modified ArchiveUnits metadata. The metadata objects given to or by the
+     * ArchiveUnit can be modified in place, so for them the check is done on their current xml form, which saves
+     * the formatting and the export filtering but not the serialization. The cache is not used when the xml
+     * fragments are kept out of heap in a xml fragment store.
+     *
+     * @param xmlWriter             the SEDAXMLStreamWriter generating the SEDA manifest
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @return the formatted xml elements
+     * @throws InterruptedException if export process is interrupted
+     */
+    private String getManifestMetadata(SEDAXMLStreamWriter xmlWriter, SEDALibProgressLogger sedaLibProgressLogger)
+            throws InterruptedException {
+        DataObjectPackage dataObjectPackage = getDataObjectPackage();
+        boolean cacheable = (dataObjectPackage.getXmlFragmentStore() == null);
+        String sharedSource = (cacheable ? getSharedMetadataSource() : null);
+        ManifestMetadataCache cached = (manifestMetadataCache == null ? null : manifestMetadataCache.get());
+        if ((cached != null)
+                && (manifestMetadataCacheIndentLength == xmlWriter.getIndentLength())
+                && (manifestMetadataCacheDepth == xmlWriter.getDepth())
+                && (manifestMetadataCacheGeneration == dataObjectPackage.getManifestCacheGeneration())
+                && Objects.equals(cached.sharedSource, sharedSource))
+            return cached.formatted;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(xmlWriter.formatRawXMLBlock(getArchiveUnitProfileXmlData()));
+        sb.append(xmlWriter.formatRawXMLBlock(getManagementXmlData()));
+        if ((dataObjectPackage.getExportMetadataList() != null) &&
+                !isContentSEDACompliant()) {
+            doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL,
+                    "sedalib: l'ArchiveUnit [" + inDataPackageObjectId + "] ne peut être filtrée car son Content " +
+                            "n'est pas conforme SEDA. Le Content est écrit tel quel.", null);
+            sb.append(xmlWriter.formatRawXMLBlock(getContentXmlData()));
+            // not kept so that the warning is logged at each export
+            cacheable = false;
+        } else
+            sb.append(xmlWriter.formatRawXMLBlock(getFilteredContentExportString()));
+        String result = sb.toString();
+        if (cacheable) {
+            manifestMetadataCache = new SoftReference<>(new ManifestMetadataCache(result, sharedSource));
+            manifestMetadataCacheIndentLength = xmlWriter.getIndentLength();
+            manifestMetadataCacheDepth = xmlWriter.getDepth();
+            manifestMetadataCacheGeneration = dataObjectPackage.getManifestCacheGeneration();
+        } else
+            manifestMetadataCache = null;
+        return result;
+    }
+
+    /**
+     * Gets the current xml form of the shared metadata objects, or null if there is none.
+     *
+     * @return the xml form
+     */
+    private String getSharedMetadataSource() {
+        if (sharedMetadataFlags == 0)
+            return null;
+        StringBuilder sb = new StringBuilder();
+        if ((sharedMetadataFlags & SHARED_ARCHIVE_UNIT_PROFILE) != 0)
+            sb.append(getArchiveUnitProfileXmlData());
+        sb.append('\0');
+        if ((sharedMetadataFlags & SHARED_MANAGEMENT) != 0)
+            sb.append(getManagementXmlData());
+        sb.append('\0');
+        if ((sharedMetadataFlags & SHARED_CONTENT) != 0)
+            sb.append(getContentXmlData());
+        return sb.toString();
+    }
+
     /**
      * Export the elements of ArchiveUnit that can be edited without changing the
      * structure. This is in XML expected form for the SEDA Manifest but in String.
@@ -521,6 +870,32 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
 
     // SEDA XML importer
 
+    /**
+     * The action done on each ArchiveUnit read from the SEDA Manifest, after its
+     * contained ArchiveUnits.
+     */
+    private interface SedaXmlReadAction {
+
+        /**
+         * Check a DataObject reference, when it's read.
+         *
+         * @param referenceName the reference element name, DataObjectReferenceId or DataObjectGroupReferenceId
+         * @param referenceId   the referenced id
+         * @throws SEDALibException if the reference is wrong
+         */
+        default void checkDataObjectReference(String referenceName, String referenceId) throws SEDALibException {
+        }
+
+        /**
+         * Handle the read ArchiveUnit.
+         *
+         * @param au the ArchiveUnit
+         * @throws SEDALibException     if the handling failed
+         * @throws InterruptedException if the process is interrupted
+         */
+        void handleArchiveUnit(ArchiveUnit au) throws SEDALibException, InterruptedException;
+    }
+
     /**
      * Import the ArchiveUnit in XML expected form from the SEDA Manifest in the
      * ArchiveTransfer and return it's id in ArchiveTransfer.
@@ -534,8 +909,59 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      */
     public static String idFromSedaXml(SEDAXMLEventReader xmlReader, DataObjectPackage dataObjectPackage,
                                        SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
+        return fromSedaXml(xmlReader, dataObjectPackage, new SedaXmlReadAction() {
+            @Override
+            public void checkDataObjectReference(String referenceName, String referenceId) throws SEDALibException {
+                DataObject dataObject = dataObjectPackage.getDataObjectById(referenceId);
+                if (referenceName.equals("DataObjectGroupReferenceId") ? !(dataObject instanceof DataObjectGroup)
+                        : ((dataObject == null) || (dataObject instanceof DataObjectGroup)))
+                    throw new SEDALibException("Erreur de référence " + referenceName + " [" + referenceId + "]");
+            }
+
+            @Override
+            public void handleArchiveUnit(ArchiveUnit au) throws SEDALibException {
+                dataObjectPackage.addArchiveUnit(au);
+            }
+        }, sedaLibProgressLogger);
+    }
+
+    /**
+     * Stream the ArchiveUnit in XML expected form from the SEDA Manifest to a
+     * handler, and return it's id in ArchiveTransfer. Contained ArchiveUnits are
+     * streamed before this one, and the ArchiveUnit is not kept in a
+     * DataObjectPackage, so references are not verified.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param dataObjectPackage     the DataObjectPackage only used for progress counting
+     * @param handler               the handler receiving the streamed ArchiveUnits
+     * @param sedaLibProgressLogger the progress logger
+     * @return the inDataPackageObjectId of the read ArchiveUnit, or null if not an ArchiveUnit
+     * @throws SEDALibException     if the XML can't be read or the handler failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    public static String streamFromSedaXml(SEDAXMLEventReader xmlReader, DataObjectPackage dataObjectPackage,
+                                           DataObjectPackageStreamHandler handler,
+                                           SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
+        return fromSedaXml(xmlReader, dataObjectPackage, handler::handleArchiveUnit, sedaLibProgressLogger);
+    }
+
+    /**
+     * Read the ArchiveUnit in XML expected form from the SEDA Manifest, with its
+     * contained ArchiveUnits, and return it's id in ArchiveTransfer. The action is
+     * done on each read ArchiveUnit.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param dataObjectPackage     the DataObjectPackage used for progress counting
+     * @param action                the action done on each read ArchiveUnit
+     * @param sedaLibProgressLogger the progress logger
+     * @return the inDataPackageObjectId of the read ArchiveUnit, or null if not an ArchiveUnit
+     * @throws SEDALibException     if the XML can't be read or the action failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    private static String fromSedaXml(SEDAXMLEventReader xmlReader, DataObjectPackage dataObjectPackage,
+                                      SedaXmlReadAction action,
+                                      SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
         ArchiveUnit au = null;
-        DataObject dataObject;
         String tmp;
         try {
             tmp = xmlReader.peekAttributeBlockIfNamed("ArchiveUnit", "id");
@@ -545,59 +971,39 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
                     tmp = xmlReader.nextMandatoryValue("ArchiveUnitRefId");
                     xmlReader.endBlockNamed("ArchiveUnit");
                     return tmp;
-
-                } else {
-                    au = new ArchiveUnit();
-                    au.inDataPackageObjectId = tmp;
-                    dataObjectPackage.addArchiveUnit(au);
-                    au.setArchiveUnitProfileXmlData(xmlReader.nextBlockAsStringIfNamed("ArchiveUnitProfile"));
-                    au.setManagementXmlData(xmlReader.nextBlockAsStringIfNamed("Management"));
-                    au.setContentXmlData(xmlReader.nextBlockAsStringIfNamed("Content"));
-                    while (true) {
-                        tmp = xmlReader.peekName();
-                        if (tmp == null)
+                }
+                au = new ArchiveUnit();
+                au.inDataPackageObjectId = tmp;
+                au.setArchiveUnitProfileXmlData(xmlReader.nextBlockAsStringIfNamed("ArchiveUnitProfile"));
+                au.setManagementXmlData(xmlReader.nextBlockAsStringIfNamed("Management"));
+                au.setContentXmlData(xmlReader.nextBlockAsStringIfNamed("Content"));
+                while (true) {
+                    tmp = xmlReader.peekName();
+                    if (tmp == null)
+                        break;
+                    switch (tmp) {
+                        case "ArchiveUnit":
+                            au.addChildArchiveUnitById(fromSedaXml(xmlReader, dataObjectPackage, action,
+                                    sedaLibProgressLogger));
                             break;
-                        switch (tmp) {
-                            case "ArchiveUnit":
-                                String subAuId = idFromSedaXml(xmlReader, dataObjectPackage, sedaLibProgressLogger);
-                                au.addChildArchiveUnitById(subAuId);
+                        case "DataObjectReference":
+                            xmlReader.nextUsefullEvent();
+                            tmp = xmlReader.peekName();
+                            if (tmp == null)
                                 break;
-                            case "DataObjectReference":
-                                xmlReader.nextUsefullEvent();
-                                tmp = xmlReader.peekName();
-                                if (tmp == null)
-                                    break;
-                                switch (tmp) {
-                                    case "DataObjectReferenceId":
-                                        tmp = xmlReader.nextValueIfNamed("DataObjectReferenceId");
-                                        dataObject = dataObjectPackage.getDataObjectById(tmp);
-                                        if ((dataObject == null) || (dataObject instanceof DataObjectGroup))
-                                            throw new SEDALibException(
-                                                    "Erreur de référence DataObjectReferenceId [" + tmp + "]");
-                                        au.addDataObjectById(tmp);
-                                        break;
-                                    case "DataObjectGroupReferenceId":
-                                        tmp = xmlReader.nextValueIfNamed("DataObjectGroupReferenceId");
-                                        dataObject = dataObjectPackage.getDataObjectById(tmp);
-                                        if (!(dataObject instanceof DataObjectGroup))
-                                            throw new SEDALibException(
-                                                    "Erreur de référence DataObjectGroupReferenceId [" + tmp + "]");
-                                        au.addDataObjectById(tmp);
-                                        break;
-                                    default:
-                                        throw new SEDALibException("Element DataObjectReference mal formé");
-
-                                }
-                                xmlReader.endBlockNamed("DataObjectReference");
-                                break;
-                            default:
-                                throw new SEDALibException("Element ArchiveUnit [" + au.inDataPackageObjectId
-                                        + "] mal formé, élément [" + tmp + "] anormal");
-
-                        }
+                            if (!tmp.equals("DataObjectReferenceId") && !tmp.equals("DataObjectGroupReferenceId"))
+                                throw new SEDALibException("Element DataObjectReference mal formé");
+                            String referenceId = xmlReader.nextValueIfNamed(tmp);
+                            action.checkDataObjectReference(tmp, referenceId);
+                            au.addDataObjectById(referenceId);
+                            xmlReader.endBlockNamed("DataObjectReference");
+                            break;
+                        default:
+                            throw new SEDALibException("Element ArchiveUnit [" + au.inDataPackageObjectId
+                                    + "] mal formé, élément [" + tmp + "] anormal");
                     }
-                    xmlReader.endBlockNamed("ArchiveUnit");
                 }
+                xmlReader.endBlockNamed("ArchiveUnit");
             }
         } catch (XMLStreamException e) {
             throw new SEDALibException("Erreur de lecture XML de l'ArchiveUnit"
@@ -607,6 +1013,7 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
         if (au == null)
             return null;
 
+        action.handleArchiveUnit(au);
         int counter = dataObjectPackage.getNextInOutCounter();
         doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, counter, "sedalib: " + counter + " métadonnées ArchiveUnit importées");
 
@@ -623,8 +1030,7 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
     public void fromSedaXmlFragments(String fragments) throws SEDALibException {
         ArchiveUnit au = new ArchiveUnit();
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(fragments.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(fragments)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             au.setArchiveUnitProfileXmlData(xmlReader.nextBlockAsStringIfNamed("ArchiveUnitProfile"));
@@ -633,7 +1039,7 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
             XMLEvent event = xmlReader.xmlReader.peek();
             if (!event.isEndDocument())
                 throw new SEDALibException("Il y a des champs illégaux");
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException(
                     "Erreur de lecture XML de l'ArchiveUnit [" + inDataPackageObjectId + "]", e);
         }
@@ -652,14 +1058,14 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
      */
     public String toString() {
         String result = null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer();
+             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2)) {
             toSedaXml(xmlWriter, true, null);
             xmlWriter.flush();
-            result = baos.toString(StandardCharsets.UTF_8);
+            result = buffer.toString();
             if (result.startsWith("\n"))
                 result = result.substring(1);
-        } catch (XMLStreamException | IOException | SEDALibException e) {
+        } catch (XMLStreamException | SEDALibException e) {
                 result = super.toString();
         }
         catch (InterruptedException e){
@@ -761,6 +1167,8 @@ public class ArchiveUnit extends DataObjectPackageIdElement {
         super.setDataObjectPackage(dataObjectPackage);
         childrenAuList.setDataObjectPackage(dataObjectPackage);
         dataObjectRefList.setDataObjectPackage(dataObjectPackage);
+        // the cache validity is relative to the DataObjectPackage
+        this.manifestMetadataCache = null;
     }
 
 }
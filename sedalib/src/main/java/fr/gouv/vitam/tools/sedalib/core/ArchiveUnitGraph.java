@@ -0,0 +1,287 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.core;
+
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * The Class ArchiveUnitGraph.
+ * <p>
+ * Snapshot of the ArchiveUnits graph of a DataObjectPackage, used by the normalization and integrity checks. The
+ * ArchiveUnits reachable from the roots are numbered in depth first preorder, the order of a recursive walk, and the
+ * children links are kept in int arrays in compressed sparse row form (children of ArchiveUnit i are in children
+ * array from childStart[i] to childStart[i+1]). All walks are iterative, so that deep hierarchies can't overflow
+ * the thread stack.
+ */
+final class ArchiveUnitGraph {
+
+    /**
+     * The minimum number of elements by chunk for parallel checks.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * The white colour of not yet visited ArchiveUnit.
+     */
+    private static final byte WHITE = 0;
+
+    /**
+     * The grey colour of ArchiveUnit in the current walk path.
+     */
+    private static final byte GREY = 1;
+
+    /**
+     * The black colour of ArchiveUnit with all descendants visited.
+     */
+    private static final byte BLACK = 2;
+
+    /**
+     * The ArchiveUnits in depth first preorder.
+     */
+    private final ArchiveUnit[] archiveUnits;
+
+    /**
+     * The roots indexes.
+     */
+    private final int[] roots;
+
+    /**
+     * The start index of each ArchiveUnit children in children array, with one more final element.
+     */
+    private final int[] childStart;
+
+    /**
+     * The children indexes.
+     */
+    private final int[] children;
+
+    /**
+     * The DataObjectGroups indexes in reference counts array.
+     */
+    private Map<DataObjectGroup, Integer> dataObjectGroupIndexes;
+
+    /**
+     * The DataObjectGroups reference counts.
+     */
+    private int[] dataObjectGroupReferenceCounts;
+
+    /**
+     * Instantiates a new ArchiveUnit graph.
+     *
+     * @param archiveUnits the ArchiveUnits in depth first preorder
+     * @param roots        the roots indexes
+     * @param childStart   the children start indexes
+     * @param children     the children indexes
+     */
+    private ArchiveUnitGraph(ArchiveUnit[] archiveUnits, int[] roots, int[] childStart, int[] children) {
+        this.archiveUnits = archiveUnits;
+        this.roots = roots;
+        this.childStart = childStart;
+        this.children = children;
+    }
+
+    /**
+     * Build the graph of ArchiveUnits reachable from the roots list, only through ArchiveUnits accepted by the
+     * enter predicate.
+     *
+     * @param rootList the roots list
+     * @param enter    the predicate accepting the ArchiveUnits to walk through
+     * @return the ArchiveUnit graph
+     */
+    static ArchiveUnitGraph build(List<ArchiveUnit> rootList, Predicate<ArchiveUnit> enter) {
+        IdentityHashMap<ArchiveUnit, Integer> indexes = new IdentityHashMap<>();
+        List<ArchiveUnit> ordered = new ArrayList<>();
+        int[] stack = new int[64];
+        int[] cursor = new int[64];
+
+        for (ArchiveUnit root : rootList) {
+            if (indexes.containsKey(root) || !enter.test(root))
+                continue;
+            int top = 0;
+            indexes.put(root, ordered.size());
+            stack[0] = ordered.size();
+            cursor[0] = 0;
+            ordered.add(root);
+            while (top >= 0) {
+                List<ArchiveUnit> childList = ordered.get(stack[top]).getChildrenAuList().getArchiveUnitList();
+                if (cursor[top] < childList.size()) {
+                    ArchiveUnit child = childList.get(cursor[top]++);
+                    if (!indexes.containsKey(child) && enter.test(child)) {
+                        if (++top == stack.length) {
+                            stack = Arrays.copyOf(stack, 2 * top);
+                            cursor = Arrays.copyOf(cursor, 2 * top);
+                        }
+                        indexes.put(child, ordered.size());
+                        stack[top] = ordered.size();
+                        cursor[top] = 0;
+                        ordered.add(child);
+                    }
+                } else
+                    top--;
+            }
+        }
+
+        int[] roots = rootList.stream().map(indexes::get).filter(i -> i != null).mapToInt(i -> i).toArray();
+        int[] childStart = new int[ordered.size() + 1];
+        int count = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            childStart[i] = count;
+            for (ArchiveUnit child : ordered.get(i).getChildrenAuList().getArchiveUnitList())
+                if (indexes.containsKey(child))
+                    count++;
+        }
+        childStart[ordered.size()] = count;
+        int[] children = new int[count];
+        count = 0;
+        for (ArchiveUnit au : ordered) {
+            for (ArchiveUnit child : au.getChildrenAuList().getArchiveUnitList()) {
+                Integer index = indexes.get(child);
+                if (index != null)
+                    children[count++] = index;
+            }
+        }
+        return new ArchiveUnitGraph(ordered.toArray(new ArchiveUnit[0]), roots, childStart, children);
+    }
+
+    /**
+     * Gets the ArchiveUnits in depth first preorder.
+     *
+     * @return the ArchiveUnits array
+     */
+    ArchiveUnit[] getArchiveUnits() {
+        return archiveUnits;
+    }
+
+    /**
+     * Verify if there's a cycle in the ArchiveUnits graph, by colour marking.
+     *
+     * @throws SEDALibException if the graph is cyclic
+     */
+    void verifyAcyclic() throws SEDALibException {
+        byte[] colour = new byte[archiveUnits.length];
+        // a path can't be longer than the number of ArchiveUnits
+        int[] stack = new int[archiveUnits.length];
+        int[] cursor = new int[archiveUnits.length];
+
+        for (int root : roots) {
+            if (colour[root] != WHITE)
+                continue;
+            int top = 0;
+            stack[0] = root;
+            cursor[0] = childStart[root];
+            colour[root] = GREY;
+            while (top >= 0) {
+                int au = stack[top];
+                if (cursor[top] < childStart[au + 1]) {
+                    int child = children[cursor[top]++];
+                    if (colour[child] == GREY)
+                        throw new SEDALibException("Cycle détecté " + pathToString(stack, top)
+                                + archiveUnits[child].getInDataObjectPackageId());
+                    if (colour[child] == WHITE) {
+                        top++;
+                        stack[top] = child;
+                        cursor[top] = childStart[child];
+                        colour[child] = GREY;
+                    }
+                } else {
+                    colour[au] = BLACK;
+                    top--;
+                }
+            }
+        }
+    }
+
+    /**
+     * ArchiveUnits path from root to string.
+     *
+     * @param stack the walk stack
+     * @param top   the top of the walk stack
+     * @return the string representation
+     */
+    private String pathToString(int[] stack, int top) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i <= top; i++)
+            result.append(archiveUnits[stack[i]].getInDataObjectPackageId()).append("->");
+        return result.toString();
+    }
+
+    /**
+     * Count the number of references to each DataObjectGroup by the graph ArchiveUnits.
+     */
+    void countDataObjectGroupReferences() {
+        dataObjectGroupIndexes = new IdentityHashMap<>();
+        dataObjectGroupReferenceCounts = new int[Math.max(16, archiveUnits.length)];
+        for (ArchiveUnit au : archiveUnits) {
+            for (DataObject zdo : au.getDataObjectRefList().getDataObjectList()) {
+                if (zdo instanceof DataObjectGroup) {
+                    int index = dataObjectGroupIndexes.computeIfAbsent((DataObjectGroup) zdo,
+                            dog -> dataObjectGroupIndexes.size());
+                    if (index == dataObjectGroupReferenceCounts.length)
+                        dataObjectGroupReferenceCounts = Arrays.copyOf(dataObjectGroupReferenceCounts, 2 * index);
+                    dataObjectGroupReferenceCounts[index]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of references to a DataObjectGroup by the graph ArchiveUnits, after
+     * {@link #countDataObjectGroupReferences()}.
+     *
+     * @param dataObjectGroup the DataObjectGroup
+     * @return the references count
+     */
+    int getDataObjectGroupReferenceCount(DataObjectGroup dataObjectGroup) {
+        Integer index = dataObjectGroupIndexes.get(dataObjectGroup);
+        return (index == null ? 0 : dataObjectGroupReferenceCounts[index]);
+    }
+
+    /**
+     * Find the first index, from 0 to count excluded, matching the test. The test is done in parallel on the common
+     * fork join pool when count is big enough, so it has to be thread safe.
+     *
+     * @param count the count of indexes to test
+     * @param test  the test
+     * @return the first matching index, or -1 if none
+     */
+    static int findFirst(int count, IntPredicate test) {
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= 2 * CHUNK_SIZE)
+            indexes = indexes.parallel();
+        return indexes.filter(test).findFirst().orElse(-1);
+    }
+}
@@ -28,6 +28,7 @@
 package fr.gouv.vitam.tools.sedalib.core;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import fr.gouv.vitam.tools.sedalib.droid.DroidIdentifier;
 import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
 import fr.gouv.vitam.tools.sedalib.metadata.data.FileInfo;
@@ -39,14 +40,15 @@ import fr.gouv.vitam.tools.sedalib.metadata.namedtype.IntegerType;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 import uk.gov.nationalarchives.droid.core.interfaces.IdentificationResult;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
@@ -152,6 +154,12 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
     @JsonIgnore
     private DataObjectGroup dataObjectGroup;
 
+    /**
+     * The lazy extractor of the file to the on disk path, or null if the file is already on disk.
+     */
+    @JsonIgnore
+    private volatile LazyFileExtractor lazyFileExtractor;
+
     // Constructors
 
     /**
@@ -282,6 +290,41 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
         return i < 0 ? "seda" : fileName.substring(i + 1);
     }
 
+    /**
+     * Gets a new SHA-512 message digest.
+     *
+     * @return the message digest
+     * @throws SEDALibException if SHA-512 algorithm is not available
+     */
+    private static MessageDigest getSha512MessageDigest() throws SEDALibException {
+        try {
+            return MessageDigest.getInstance("SHA-512");
+        } catch (NoSuchAlgorithmException e1) {
+            throw new SEDALibException("Impossible de mobiliser l'algorithme de hashage SHA-512", e1);
+        }
+    }
+
+    /**
+     * Gets the hexadecimal form of a computed digest.
+     *
+     * @param messageDigest the message digest, fed with all the file content
+     * @param path          the path of the hashed file
+     * @return the hexadecimal digest
+     * @throws SEDALibException if unable to encode digest
+     */
+    public static String getHexDigest(MessageDigest messageDigest, Path path) throws SEDALibException {
+        // Convert the byte to hex format
+        try (Formatter formatter = new Formatter()) {
+            for (final byte b : messageDigest.digest()) {
+                formatter.format("%02x", b);
+            }
+            return formatter.toString();
+        } catch (Exception e) {
+            throw new SEDALibException(
+                    "Impossible d'encoder le hash du fichier [" + path.toString() + "]", e);
+        }
+    }
+
     /**
      * Gets the digest sha 512.
      *
@@ -290,12 +333,7 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
      * @throws SEDALibException if unable to get digest
      */
     public static String getDigestSha512(Path path) throws SEDALibException {
-        MessageDigest messageDigest;
-        try {
-            messageDigest = MessageDigest.getInstance("SHA-512");
-        } catch (NoSuchAlgorithmException e1) {
-            throw new SEDALibException("Impossible de mobiliser l'algorithme de hashage SHA-512", e1);
-        }
+        MessageDigest messageDigest = getSha512MessageDigest();
 
         try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
             final byte[] buffer = new byte[4096];
@@ -307,27 +345,35 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
                     "Impossible de calculer le hash du fichier [" + path.toString() + "]", e);
         }
 
-        // Convert the byte to hex format
-        try (Formatter formatter = new Formatter()) {
-            for (final byte b : messageDigest.digest()) {
-                formatter.format("%02x", b);
-            }
-            return formatter.toString();
-        } catch (Exception e) {
-            throw new SEDALibException(
-                    "Impossible d'encoder le hash du fichier [" + path.toString() + "]", e);
-        }
+        return getHexDigest(messageDigest, path);
     }
 
     /**
      * Extract technical elements (lastmodified date, size, format, digest...) from
      * file and complete the BinaryDataObject metadata.
+     * <p>
+     * The file is read only once, both for the digest and the DROID format identification.
      *
      * @param sedaLibProgressLogger the progress logger or null if no progress log expected
      * @throws SEDALibException if unable to get size or lastmodified date (probably
      *                          can't access file)
      */
     public void extractTechnicalElements(SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException {
+        extractTechnicalElements(null, sedaLibProgressLogger);
+    }
+
+    /**
+     * Extract technical elements (lastmodified date, size, format, digest...) from
+     * file and complete the BinaryDataObject metadata, using a technical metadata cache
+     * to avoid hashing and identifying again an unchanged file.
+     *
+     * @param technicalMetadataCache the technical metadata cache or null if no cache used
+     * @param sedaLibProgressLogger  the progress logger or null if no progress log expected
+     * @throws SEDALibException if unable to get size or lastmodified date (probably
+     *                          can't access file)
+     */
+    public void extractTechnicalElements(TechnicalMetadataCache technicalMetadataCache,
+                                         SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException {
         IdentificationResult ir = null;
         String lfilename = null;
         long lsize;
@@ -335,6 +381,7 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
 
         if (fileInfo != null)
             lfilename = fileInfo.getSimpleMetadata("Filename");
+        extractOnDisk();
         try {
             lsize = Files.size(onDiskPath);
             if (lfilename == null)
@@ -345,19 +392,39 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
                     + onDiskPath.toString() + "]", e);
         }
 
-        messageDigest = new DigestType("MessageDigest", getDigestSha512(onDiskPath), "SHA-512");
         size = new IntegerType("Size", lsize);
-
-        try {
-            ir = DroidIdentifier.getInstance().getIdentificationResult(onDiskPath);
-        } catch (SEDALibException e) {
-            doProgressLogWithoutInterruption(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_WARNINGS, "sedalib: impossible de faire l'identification Droid pour le fichier ["
-                    + onDiskPath.toString() + "]", e);
+        TechnicalMetadataCache.Entry cacheEntry = null;
+        if (technicalMetadataCache != null)
+            cacheEntry = technicalMetadataCache.get(onDiskPath);
+        if (cacheEntry != null) {
+            messageDigest = new DigestType("MessageDigest", cacheEntry.getDigest(), "SHA-512");
+            formatIdentification = new FormatIdentification(cacheEntry.getFormatName(), cacheEntry.getMimeType(),
+                    cacheEntry.getPuid(), null);
+        } else {
+            boolean identifiedFlag = true;
+            MessageDigest sha512 = getSha512MessageDigest();
+            try {
+                ir = DroidIdentifier.getInstance().getIdentificationResult(onDiskPath, sha512);
+            } catch (IOException e) {
+                throw new SEDALibException(
+                        "Impossible de calculer le hash du fichier [" + onDiskPath.toString() + "]", e);
+            } catch (SEDALibException e) {
+                identifiedFlag = false;
+                doProgressLogWithoutInterruption(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_WARNINGS, "sedalib: impossible de faire l'identification Droid pour le fichier ["
+                        + onDiskPath.toString() + "]", e);
+            }
+            messageDigest = new DigestType("MessageDigest", getHexDigest(sha512, onDiskPath), "SHA-512");
+            if (ir != null)
+                formatIdentification = new FormatIdentification(ir.getName(), ir.getMimeType(), ir.getPuid(), null);
+            else
+                formatIdentification = new FormatIdentification("Unknown", null, "UNKNOWN", null);
+            // identification failures are not cached, to be retried next time
+            if ((technicalMetadataCache != null) && identifiedFlag)
+                technicalMetadataCache.put(onDiskPath, lsize, llastModified.toMillis(), messageDigest.getValue(),
+                        formatIdentification.getSimpleMetadata("FormatId"),
+                        formatIdentification.getSimpleMetadata("MimeType"),
+                        formatIdentification.getSimpleMetadata("FormatLitteral"));
         }
-        if (ir != null)
-            formatIdentification = new FormatIdentification(ir.getName(), ir.getMimeType(), ir.getPuid(), null);
-        else
-            formatIdentification = new FormatIdentification("Unknown", null, "UNKNOWN", null);
 
         if (fileInfo == null)
             fileInfo = new FileInfo();
@@ -505,12 +572,12 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
     @Override
     public String toSedaXmlFragments() throws SEDALibException {
         String result;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            try (SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer()) {
+            try (SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2)) {
                 toSedaXml(xmlWriter, null);
             }
-            result = baos.toString("UTF-8");
-        } catch (SEDALibException | XMLStreamException | IOException e) {
+            result = buffer.toString();
+        } catch (SEDALibException | XMLStreamException e) {
             throw new SEDALibException("Erreur interne", e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -686,15 +753,14 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
     public void fromSedaXmlFragments(String fragments) throws SEDALibException {
         BinaryDataObject bdo = new BinaryDataObject();
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(fragments.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(fragments)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             bdo.setFromXmlContent(xmlReader);
             XMLEvent event = xmlReader.xmlReader.peek();
             if (!event.isEndDocument())
                 throw new SEDALibException("Il y a des champs illégaux");
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture du BinaryDataObject", e);
         }
 
@@ -716,6 +782,68 @@ public class BinaryDataObject extends DataObjectPackageIdElement implements Data
 
     // Getters and setters
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.core.DataObjectPackageIdElement#setOnDiskPath(java.nio.file.Path)
+     */
+    @Override
+    @JsonIgnore
+    public void setOnDiskPath(Path onDiskPath) {
+        super.setOnDiskPath(onDiskPath);
+        lazyFileExtractor = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.core.DataObjectPackageIdElement#setOnDiskPathFromString(java.lang.String)
+     */
+    @Override
+    @JsonSetter("onDiskPath")
+    public void setOnDiskPathFromString(String onDiskPathString) {
+        super.setOnDiskPathFromString(onDiskPathString);
+        lazyFileExtractor = null;
+    }
+
+    /**
+     * Sets the lazy extractor of the file, which will be called to put the file on the on disk path the first time
+     * it is needed.
+     *
+     * @param lazyFileExtractor the lazy file extractor, or null if the file is on disk
+     */
+    public void setLazyFileExtractor(LazyFileExtractor lazyFileExtractor) {
+        this.lazyFileExtractor = lazyFileExtractor;
+    }
+
+    /**
+     * Checks if the file is on disk, and not waiting for a lazy extraction.
+     *
+     * @return true, if the file is on disk
+     */
+    @JsonIgnore
+    public boolean isExtractedOnDisk() {
+        return lazyFileExtractor == null;
+    }
+
+    /**
+     * Extract the file on disk, if it is lazily extracted and not yet on disk. It has to be called before any access
+     * to the file content through the on disk path.
+     *
+     * @throws SEDALibException if the extraction failed, and then it will be tried again on next call
+     */
+    public void extractOnDisk() throws SEDALibException {
+        if (lazyFileExtractor == null)
+            return;
+        synchronized (this) {
+            LazyFileExtractor extractor = lazyFileExtractor;
+            if (extractor == null)
+                return;
+            extractor.extract(this, onDiskPath);
+            lazyFileExtractor = null;
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
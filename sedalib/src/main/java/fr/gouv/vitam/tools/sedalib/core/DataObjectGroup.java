@@ -33,13 +33,11 @@ import fr.gouv.vitam.tools.sedalib.metadata.management.LogBook;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -304,15 +302,14 @@ public class DataObjectGroup extends DataObjectPackageIdElement implements DataO
     public void fromSedaXmlFragments(String fragments) throws SEDALibException {
         DataObjectGroup dog = new DataObjectGroup();
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(fragments.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(fragments)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             String nextElementName = xmlReader.peekName();
             if ((nextElementName != null) && (nextElementName.equals("LogBook"))) {
                 dog.logBook = (LogBook) SEDAMetadata.fromSedaXml(xmlReader, LogBook.class);
             }
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture du DataObjectGroup", e);
         }
 
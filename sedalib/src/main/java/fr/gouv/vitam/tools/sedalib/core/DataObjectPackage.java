@@ -31,6 +31,7 @@ import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.IntegerType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
@@ -94,6 +95,16 @@ public class DataObjectPackage {
      */
     private List<String> exportMetadataList;
 
+    /**
+     * The store keeping the ArchiveUnits xml fragments out of heap, or null if they are kept in ArchiveUnits.
+     */
+    private XmlFragmentStore xmlFragmentStore;
+
+    /**
+     * The generation of the ArchiveUnits manifest cache, changed to invalidate all cached manifest forms.
+     */
+    private int manifestCacheGeneration;
+
     /**
      * The counter used to generate inDataObjectPackageIds.
      */
@@ -110,12 +121,28 @@ public class DataObjectPackage {
     private int inOutCounter;
 
     /**
-     * The map used to accumulate the touched ArchiveUnits or DataObjects
+     * The interned table of touched ArchiveUnits or DataObjects inDataObjectPackageIds, giving the index in the
+     * touched arrays.
+     */
+    private final InDataObjectPackageIdTable touchedIdTable;
+
+    /**
+     * The touched counts by id index, used to accumulate the touched ArchiveUnits or DataObjects
      * inDataObjectPackageIds during a treatment. It's useful to touch only one time
      * all ArchiveUnits or DataObjects in the graph, or to count the time they are
      * touched.
      */
-    private final HashMap<String, Integer> touchedInDataObjectPackageIdMap;
+    private int[] touchedCounts;
+
+    /**
+     * The touched generation by id index, a count being valid only if its generation is the current one.
+     */
+    private int[] touchedGenerations;
+
+    /**
+     * The current touched generation, incremented at each reset so that resetting is done in constant time.
+     */
+    private int touchedGeneration;
 
     /**
      * The Constant NORMALIZATION_STATUS_UNKNOWN.
@@ -158,10 +185,15 @@ public class DataObjectPackage {
         this.ghostRootAu.setDataObjectPackage(this);
 
         this.exportMetadataList = null;
+        this.xmlFragmentStore = null;
+        this.manifestCacheGeneration = 0;
         this.resetIdCounter();
         this.resetRefIdCounter();
         this.resetInOutCounter();
-        this.touchedInDataObjectPackageIdMap = new HashMap<>();
+        this.touchedIdTable = new InDataObjectPackageIdTable();
+        this.touchedCounts = new int[0];
+        this.touchedGenerations = new int[0];
+        this.touchedGeneration = 1;
         this.vitamNormalizationStatus = NORMALIZATION_STATUS_UNKNOWN;
     }
 
@@ -203,6 +235,7 @@ public class DataObjectPackage {
                     "Deux objets ne peuvent avoir la même référence [" + au.inDataPackageObjectId + "]");
         auInDataObjectPackageIdMap.put(au.inDataPackageObjectId, au);
         au.setDataObjectPackage(this);
+        au.moveXmlFragmentsToStore();
     }
 
     /**
@@ -275,7 +308,60 @@ public class DataObjectPackage {
      * Map is then empty and ready to use.
      */
     public void resetTouchedInDataObjectPackageIdMap() {
-        touchedInDataObjectPackageIdMap.clear();
+        // drop ids no more used when the table has grown far beyond the elements number
+        if (touchedIdTable.size() > 2 * (auInDataObjectPackageIdMap.size() + dogInDataObjectPackageIdMap.size()
+                + bdoInDataObjectPackageIdMap.size() + pdoInDataObjectPackageIdMap.size()) + 1024) {
+            touchedIdTable.clear();
+            touchedCounts = new int[0];
+            touchedGenerations = new int[0];
+            touchedGeneration = 1;
+        } else if (++touchedGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(touchedGenerations, 0);
+            touchedGeneration = 1;
+        }
+    }
+
+    /**
+     * Gets the touched arrays index of an element id, using the index kept in the element when still valid.
+     *
+     * @param element the ArchiveUnit or DataObject
+     * @return the index
+     */
+    private int getTouchedIndex(DataObjectPackageIdElement element) {
+        int index = element.inDataObjectPackageIdIndex;
+        if (!touchedIdTable.isIdAt(index, element.inDataPackageObjectId)) {
+            index = touchedIdTable.intern(element.inDataPackageObjectId);
+            element.inDataObjectPackageIdIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the touched count of an index since the last reset.
+     *
+     * @param index the index, or -1
+     * @return the count, 0 if not touched
+     */
+    private int getTouchedCount(int index) {
+        if ((index < 0) || (index >= touchedGenerations.length) || (touchedGenerations[index] != touchedGeneration))
+            return 0;
+        return touchedCounts[index];
+    }
+
+    /**
+     * Set the touched count of an index.
+     *
+     * @param index the index
+     * @param count the count
+     */
+    private void setTouchedCount(int index, int count) {
+        if (index >= touchedGenerations.length) {
+            int length = Math.max(1024, Math.max(index + 1, 2 * touchedGenerations.length));
+            touchedCounts = Arrays.copyOf(touchedCounts, length);
+            touchedGenerations = Arrays.copyOf(touchedGenerations, length);
+        }
+        touchedGenerations[index] = touchedGeneration;
+        touchedCounts[index] = count;
     }
 
     /**
@@ -286,7 +372,18 @@ public class DataObjectPackage {
      * @return true, if has been touched
      */
     public boolean isTouchedInDataObjectPackageId(String inDataObjectPackageId) {
-        return touchedInDataObjectPackageIdMap.containsKey(inDataObjectPackageId);
+        return getTouchedCount(touchedIdTable.indexOf(inDataObjectPackageId)) > 0;
+    }
+
+    /**
+     * Checks if the ArchiveUnit or DataObject has been touched, as
+     * {@link #isTouchedInDataObjectPackageId(String)} with its id.
+     *
+     * @param element the ArchiveUnit or DataObject
+     * @return true, if has been touched
+     */
+    public boolean isTouchedInDataObjectPackageId(DataObjectPackageIdElement element) {
+        return getTouchedCount(getTouchedIndex(element)) > 0;
     }
 
     /**
@@ -300,7 +397,17 @@ public class DataObjectPackage {
      * @param inDataObjectPackageId the id in DataObjectPackage
      */
     public void addTouchedInDataObjectPackageId(String inDataObjectPackageId) {
-        touchedInDataObjectPackageIdMap.put(inDataObjectPackageId, 1);
+        setTouchedCount(touchedIdTable.intern(inDataObjectPackageId), 1);
+    }
+
+    /**
+     * Adds the ArchiveUnit or DataObject in the touched map, as
+     * {@link #addTouchedInDataObjectPackageId(String)} with its id.
+     *
+     * @param element the ArchiveUnit or DataObject
+     */
+    public void addTouchedInDataObjectPackageId(DataObjectPackageIdElement element) {
+        setTouchedCount(getTouchedIndex(element), 1);
     }
 
     /**
@@ -310,11 +417,19 @@ public class DataObjectPackage {
      * @param inDataObjectPackageId the id in DataObjectPackage
      */
     public void incTouchedInDataObjectPackageId(String inDataObjectPackageId) {
-        Integer value = touchedInDataObjectPackageIdMap.get(inDataObjectPackageId);
-        if (value == null)
-            touchedInDataObjectPackageIdMap.put(inDataObjectPackageId, 1);
-        else
-            touchedInDataObjectPackageIdMap.put(inDataObjectPackageId, value + 1);
+        int index = touchedIdTable.intern(inDataObjectPackageId);
+        setTouchedCount(index, getTouchedCount(index) + 1);
+    }
+
+    /**
+     * Increment the ArchiveUnit or DataObject value in the touched map, as
+     * {@link #incTouchedInDataObjectPackageId(String)} with its id.
+     *
+     * @param element the ArchiveUnit or DataObject
+     */
+    public void incTouchedInDataObjectPackageId(DataObjectPackageIdElement element) {
+        int index = getTouchedIndex(element);
+        setTouchedCount(index, getTouchedCount(index) + 1);
     }
 
     /**
@@ -325,7 +440,8 @@ public class DataObjectPackage {
      * not touched
      */
     public Integer getTouchedInDataObjectPackageId(String inDataObjectPackageId) {
-        return touchedInDataObjectPackageIdMap.get(inDataObjectPackageId);
+        int count = getTouchedCount(touchedIdTable.indexOf(inDataObjectPackageId));
+        return (count == 0 ? null : count);
     }
 
     /**
@@ -588,38 +704,12 @@ public class DataObjectPackage {
     // Test and normalization methods
 
     /**
-     * ArchiveUnits path from root to string.
+     * Build the graph of ArchiveUnits reachable from the roots.
      *
-     * @param path the ArchiveUnits path
-     * @return the string representation
-     */
-    private String archiveUnitPathToString(List<ArchiveUnit> path) {
-        StringBuilder result = new StringBuilder();
-        if (path != null) {
-            for (ArchiveUnit au : path)
-                result.append(au.getInDataObjectPackageId()).append("->");
-        }
-        return result.toString();
-    }
-
-    /**
-     * Verify the ArchiveUnit is not in a cycle and recurse in his children
-     *
-     * @param au   the ArchiveUnit
-     * @param path the ArchiveUnits path
-     * @throws SEDALibException if the graph is cyclic
+     * @return the ArchiveUnit graph
      */
-    private void verifyAcyclicArchiveUnit(ArchiveUnit au, List<ArchiveUnit> path) throws SEDALibException {
-        if (path.contains(au))
-            throw new SEDALibException(
-                    "Cycle détecté " + archiveUnitPathToString(path) + au.getInDataObjectPackageId());
-        if (isTouchedInDataObjectPackageId(au.getInDataObjectPackageId()))
-            return;
-        path.add(au);
-        for (ArchiveUnit childAu : au.getChildrenAuList().getArchiveUnitList())
-            verifyAcyclicArchiveUnit(childAu, path);
-        path.remove(au);
-        addTouchedInDataObjectPackageId(au.getInDataObjectPackageId());
+    private ArchiveUnitGraph buildArchiveUnitGraph() {
+        return ArchiveUnitGraph.build(ghostRootAu.getChildrenAuList().getArchiveUnitList(), au -> true);
     }
 
     /**
@@ -628,57 +718,47 @@ public class DataObjectPackage {
      * @throws SEDALibException if the graph is cyclic
      */
     public void verifyAcyclic() throws SEDALibException {
-        List<ArchiveUnit> path = new ArrayList<>();
-        resetTouchedInDataObjectPackageIdMap();
-        for (ArchiveUnit childAu : ghostRootAu.getChildrenAuList().getArchiveUnitList())
-            verifyAcyclicArchiveUnit(childAu, path);
+        buildArchiveUnitGraph().verifyAcyclic();
     }
 
     /**
-     * Increment the number of references for each DataObjectGroup in this
-     * ArchiveUnit, and recurse in his children.
+     * Verify if all DataObject lists in ArchiveUnit can be reduced to one
+     * DataObjectGroup.
      *
-     * @param archiveUnit the ArchiveUnit
+     * @throws SEDALibException if one not reducible DataObject list is detected or
+     *                          a DataObjectGroup has a LogBook wrong format
      */
-    private void countDogReferencesArchiveUnit(ArchiveUnit archiveUnit) {
-        if (isTouchedInDataObjectPackageId(archiveUnit.getInDataObjectPackageId()))
-            return;
-        for (DataObject zdo : archiveUnit.getDataObjectRefList().getDataObjectList()) {
-            if (zdo instanceof DataObjectGroup) {
-                incTouchedInDataObjectPackageId(zdo.getInDataObjectPackageId());
-            }
-        }
-        for (ArchiveUnit childAu : archiveUnit.getChildrenAuList().getArchiveUnitList())
-            countDogReferencesArchiveUnit(childAu);
-        addTouchedInDataObjectPackageId(archiveUnit.getInDataObjectPackageId());
+    public void verifyDogUnicityCapacity() throws SEDALibException {
+        verifyDogUnicityCapacity(buildArchiveUnitGraph());
     }
 
     /**
      * Verify if all DataObject lists in ArchiveUnit can be reduced to one
-     * DataObjectGroup.
+     * DataObjectGroup, using an already built ArchiveUnit graph.
      *
-     * @throws SEDALibException if one not reducible DataObject list is detected or
-     *                          a DataObjectGroup has a LogBook wrong format
+     * @param graph the ArchiveUnit graph
+     * @throws SEDALibException if one not reducible DataObject list is detected
      */
-    public void verifyDogUnicityCapacity() throws SEDALibException {
-        resetTouchedInDataObjectPackageIdMap();
+    private void verifyDogUnicityCapacity(ArchiveUnitGraph graph) throws SEDALibException {
         // count all Dog declaration and reference
-        for (ArchiveUnit childAu : ghostRootAu.getChildrenAuList().getArchiveUnitList())
-            countDogReferencesArchiveUnit(childAu);
+        graph.countDataObjectGroupReferences();
         // verify that there is no Dog with reference (count>1) to merge with other
-        // elements in one ArchiveUnit
-        for (Entry<String, ArchiveUnit> pair : getAuInDataObjectPackageIdMap().entrySet()) {
-            DataObjectRefList dorl = pair.getValue().getDataObjectRefList();
-            boolean referencedDog = false;
+        // elements in one ArchiveUnit, each ArchiveUnit being independently checked
+        ArchiveUnit[] archiveUnits = getAuInDataObjectPackageIdMap().values().toArray(new ArchiveUnit[0]);
+        int first = ArchiveUnitGraph.findFirst(archiveUnits.length, i -> {
+            DataObjectRefList dorl = archiveUnits[i].getDataObjectRefList();
+            if (dorl.getCount() <= 1)
+                return false;
             for (DataObject zdo : dorl.getDataObjectList()) {
                 if ((zdo instanceof DataObjectGroup) &&
-                     (getTouchedInDataObjectPackageId(zdo.getInDataObjectPackageId()) > 1))
-                        referencedDog = true;
+                        (graph.getDataObjectGroupReferenceCount((DataObjectGroup) zdo) > 1))
+                    return true;
             }
-            if (referencedDog && (dorl.getCount() > 1))
-                throw new SEDALibException("Regroupement des références de DataObject impossible sur l'ArchiveUnit ["
-                        + pair.getValue().getInDataObjectPackageId() + "]");
-        }
+            return false;
+        });
+        if (first >= 0)
+            throw new SEDALibException("Regroupement des références de DataObject impossible sur l'ArchiveUnit ["
+                    + archiveUnits[first].getInDataObjectPackageId() + "]");
     }
 
     /**
@@ -709,7 +789,20 @@ public class DataObjectPackage {
      *                          in the DataObjectPackage.
      */
     public void normalizeUniqDataObjectGroup() throws SEDALibException {
-        verifyDogUnicityCapacity();
+        normalizeUniqDataObjectGroup(buildArchiveUnitGraph());
+    }
+
+    /**
+     * Normalize each ArchiveUnit to set a uniq DataObjectGroup with all the
+     * DataObjects inside, using an already built ArchiveUnit graph.
+     *
+     * @param graph the ArchiveUnit graph
+     * @throws SEDALibException if one not reducible DataObject list is detected or
+     *                          one DataObjectGroup can't be merge due to LogBook
+     *                          wrong format
+     */
+    private void normalizeUniqDataObjectGroup(ArchiveUnitGraph graph) throws SEDALibException {
+        verifyDogUnicityCapacity(graph);
 
         for (Entry<String, ArchiveUnit> pair : getAuInDataObjectPackageIdMap().entrySet()) {
             DataObjectRefList dorl = pair.getValue().getDataObjectRefList();
@@ -772,28 +865,6 @@ public class DataObjectPackage {
         }
     }
 
-    /**
-     * Regenerate ArchiveUnit id and maintain an ordered list of DataObjectGroup to
-     * reindex.
-     *
-     * @param archiveUnit                the archive unit
-     * @param orderedDataObjectGroupList the ordered data object group list
-     */
-    private void regenerateArchiveUnitId(ArchiveUnit archiveUnit, List<DataObjectGroup> orderedDataObjectGroupList) {
-        if (archiveUnit.inDataPackageObjectId == null) {
-            DataObjectGroup dog = archiveUnit.getDataObjectRefList().getNormalizedDataObjectGroup();
-            if (dog != null)
-                orderedDataObjectGroupList.add(dog);
-            try {
-                addArchiveUnit(archiveUnit);
-            } catch (SEDALibException ignored) {
-                // impossible
-            }
-            for (ArchiveUnit childAu : archiveUnit.getChildrenAuList().getArchiveUnitList())
-                regenerateArchiveUnitId(childAu, orderedDataObjectGroupList);
-        }
-    }
-
     /**
      * Regenerate DataObjectGroup id and all contained DataObjects.
      *
@@ -840,6 +911,7 @@ public class DataObjectPackage {
      * PhysicalDataObject in incremented IDxxx form.
      */
     public void regenerateContinuousIds() {
+        invalidateManifestCache();
         setAllReferencesByObjects();
         removeArchiveUnitAndDataObjectGroupId();
         resetIdCounter();
@@ -850,10 +922,20 @@ public class DataObjectPackage {
         pdoInDataObjectPackageIdMap = new HashMap<>();
 
         resetInOutCounter();
-        List<DataObjectGroup> orderedDataObjectGroupList = new ArrayList<>(
-                dogInDataObjectPackageIdMap.size());
-        for (ArchiveUnit root : ghostRootAu.getChildrenAuList().getArchiveUnitList())
-            regenerateArchiveUnitId(root, orderedDataObjectGroupList);
+        // the ArchiveUnits with an id, not known in the maps, are not renumbered nor walked through
+        ArchiveUnitGraph graph = ArchiveUnitGraph.build(ghostRootAu.getChildrenAuList().getArchiveUnitList(),
+                au -> au.inDataPackageObjectId == null);
+        List<DataObjectGroup> orderedDataObjectGroupList = new ArrayList<>(graph.getArchiveUnits().length);
+        for (ArchiveUnit archiveUnit : graph.getArchiveUnits()) {
+            DataObjectGroup dog = archiveUnit.getDataObjectRefList().getNormalizedDataObjectGroup();
+            if (dog != null)
+                orderedDataObjectGroupList.add(dog);
+            try {
+                addArchiveUnit(archiveUnit);
+            } catch (SEDALibException ignored) {
+                // impossible
+            }
+        }
 
         resetInOutCounter();
         for (DataObjectGroup zdo : orderedDataObjectGroupList)
@@ -881,23 +963,6 @@ public class DataObjectPackage {
         }
     }
 
-    /**
-     * Actualise ArchiveUnit in maps and maintain an ordered list of all DataObjects to
-     * reindex.
-     *
-     * @param archiveUnit           the archive unit
-     * @param orderedDataObjectList the ordered data object list
-     */
-    private void actualiseArchiveUnitId(ArchiveUnit archiveUnit, List<DataObject> orderedDataObjectList) {
-        if (!isTouchedInDataObjectPackageId(archiveUnit.inDataPackageObjectId)) {
-            addTouchedInDataObjectPackageId(archiveUnit.inDataPackageObjectId);
-            orderedDataObjectList.addAll(archiveUnit.getDataObjectRefList().getDataObjectList());
-            auInDataObjectPackageIdMap.put(archiveUnit.inDataPackageObjectId, archiveUnit);
-            for (ArchiveUnit childAu : archiveUnit.getChildrenAuList().getArchiveUnitList())
-                actualiseArchiveUnitId(childAu, orderedDataObjectList);
-        }
-    }
-
     /**
      * Actualise all maps used to reference oll ArchiveUnits, DataObjectGroup, BinaryDataObject and
      * PhysicalDataObject IDs.
@@ -917,8 +982,17 @@ public class DataObjectPackage {
         bdoInDataObjectPackageIdMap = new HashMap<>();
         pdoInDataObjectPackageIdMap = new HashMap<>();
 
-        for (ArchiveUnit root : ghostRootAu.getChildrenAuList().getArchiveUnitList())
-            actualiseArchiveUnitId(root, orderedDataObjectList);
+        ArchiveUnitGraph graph = ArchiveUnitGraph.build(ghostRootAu.getChildrenAuList().getArchiveUnitList(),
+                au -> {
+                    if (isTouchedInDataObjectPackageId(au))
+                        return false;
+                    addTouchedInDataObjectPackageId(au);
+                    return true;
+                });
+        for (ArchiveUnit archiveUnit : graph.getArchiveUnits()) {
+            orderedDataObjectList.addAll(archiveUnit.getDataObjectRefList().getDataObjectList());
+            auInDataObjectPackageIdMap.put(archiveUnit.inDataPackageObjectId, archiveUnit);
+        }
         for (DataObject dataObject : orderedDataObjectList)
             actualiseDataObjectId(dataObject);
     }
@@ -940,8 +1014,9 @@ public class DataObjectPackage {
      */
     public void vitamNormalize(SEDALibProgressLogger spl) throws SEDALibException, InterruptedException {
         vitamNormalizationStatus = NORMALIZATION_STATUS_KO;
-        verifyAcyclic();
-        normalizeUniqDataObjectGroup();
+        ArchiveUnitGraph graph = buildArchiveUnitGraph();
+        graph.verifyAcyclic();
+        normalizeUniqDataObjectGroup(graph);
         removeUnusedDataObjects(spl);
         vitamNormalizationStatus = NORMALIZATION_STATUS_OK;
     }
@@ -1010,9 +1085,9 @@ public class DataObjectPackage {
                 dog = dogInDataObjectPackageIdMap.get(s);
                 dog.toSedaXml(xmlWriter, sedaLibProgressLogger);
                 for (BinaryDataObject b : dog.getBinaryDataObjectList())
-                    addTouchedInDataObjectPackageId(b.inDataPackageObjectId);
+                    addTouchedInDataObjectPackageId(b);
                 for (PhysicalDataObject p : dog.getPhysicalDataObjectList())
-                    addTouchedInDataObjectPackageId(p.inDataPackageObjectId);
+                    addTouchedInDataObjectPackageId(p);
             }
 
             // then all alone BinaryDataObject
@@ -1021,7 +1096,7 @@ public class DataObjectPackage {
             Arrays.sort(tempArray);
             for (String s : tempArray) {
                 bdo = bdoInDataObjectPackageIdMap.get(s);
-                if (!isTouchedInDataObjectPackageId(bdo.inDataPackageObjectId))
+                if (!isTouchedInDataObjectPackageId(bdo))
                     bdo.toSedaXml(xmlWriter, sedaLibProgressLogger);
             }
 
@@ -1031,7 +1106,7 @@ public class DataObjectPackage {
             Arrays.sort(tempArray);
             for (String s : tempArray) {
                 pdo = pdoInDataObjectPackageIdMap.get(s);
-                if (!isTouchedInDataObjectPackageId(pdo.inDataPackageObjectId))
+                if (!isTouchedInDataObjectPackageId(pdo))
                     pdo.toSedaXml(xmlWriter, sedaLibProgressLogger);
             }
         } catch (XMLStreamException e) {
@@ -1236,7 +1311,7 @@ public class DataObjectPackage {
                 }
         }
         for (Map.Entry<String, ArchiveUnit> pair : dataObjectPackage.auInDataObjectPackageIdMap.entrySet())
-            if (!dataObjectPackage.isTouchedInDataObjectPackageId(pair.getValue().inDataPackageObjectId))
+            if (!dataObjectPackage.isTouchedInDataObjectPackageId(pair.getValue()))
                 dataObjectPackage
                         .addRootAu(dataObjectPackage.getArchiveUnitById(pair.getValue().inDataPackageObjectId));
 
@@ -1245,6 +1320,141 @@ public class DataObjectPackage {
         return dataObjectPackage;
     }
 
+    // SEDA XML streaming importer
+
+    /**
+     * Stream data object package, DataObjects part, of SEDA DataObjectPackage XML
+     * to a handler.
+     * <p>
+     * Each DataObjectGroup is released after being handled. Only the DataObjects
+     * of a SEDA 2.0 manifest, which can be referenced by later DataObjects, are
+     * kept until the end of the DataObjects part.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param rootDir               the directory of the BinaryDataObject files
+     * @param handler               the handler receiving the streamed elements
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @throws SEDALibException     if the XML can't be read or SEDA scheme is not
+     *                              respected, or the handler failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    private static void streamDataObjectPackageObjects(SEDAXMLEventReader xmlReader, String rootDir,
+                                                       DataObjectPackageStreamHandler handler,
+                                                       SEDALibProgressLogger sedaLibProgressLogger)
+            throws SEDALibException, InterruptedException {
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        DataObjectPackage seda20DataObjectPackage = null;
+        String tmp;
+        boolean inDataObjectObjects = true;
+        int counter = 0;
+
+        try {
+            if (!xmlReader.nextBlockIfNamed("DataObjectPackage"))
+                throw new SEDALibException("Pas d'élément DataObjectPackage");
+            while (inDataObjectObjects) {
+                tmp = xmlReader.peekName();
+                if (tmp == null)
+                    break;
+                switch (tmp) {
+                    case "DataObjectGroup":
+                        String dogId = DataObjectGroup.idFromSedaXml(xmlReader, dataObjectPackage, rootDir, sedaLibProgressLogger);
+                        DataObjectGroup dog = dataObjectPackage.getDataObjectGroupById(dogId);
+                        dataObjectPackage.dogInDataObjectPackageIdMap.clear();
+                        dataObjectPackage.bdoInDataObjectPackageIdMap.clear();
+                        dataObjectPackage.pdoInDataObjectPackageIdMap.clear();
+                        handler.handleDataObjectGroup(dog);
+                        counter++;
+                        break;
+                    case "BinaryDataObject":
+                        if (seda20DataObjectPackage == null)
+                            seda20DataObjectPackage = new DataObjectPackage();
+                        BinaryDataObject bdo = BinaryDataObject.fromSedaXml(xmlReader, seda20DataObjectPackage, sedaLibProgressLogger);
+                        //noinspection ConstantConditions
+                        bdo.setOnDiskPathFromString(rootDir + File.separator + bdo.uri.getValue());
+                        break;
+                    case "PhysicalDataObject":
+                        if (seda20DataObjectPackage == null)
+                            seda20DataObjectPackage = new DataObjectPackage();
+                        PhysicalDataObject.fromSedaXml(xmlReader, seda20DataObjectPackage, sedaLibProgressLogger);
+                        break;
+                    default:
+                        inDataObjectObjects = false;
+                }
+            }
+            if (seda20DataObjectPackage != null) {
+                for (DataObjectGroup dog : seda20DataObjectPackage.dogInDataObjectPackageIdMap.values()) {
+                    handler.handleDataObjectGroup(dog);
+                    counter++;
+                }
+                for (BinaryDataObject bdo : seda20DataObjectPackage.bdoInDataObjectPackageIdMap.values())
+                    if (bdo.getDataObjectGroup() == null)
+                        handler.handleDataObject(bdo);
+                for (PhysicalDataObject pdo : seda20DataObjectPackage.pdoInDataObjectPackageIdMap.values())
+                    if (pdo.getDataObjectGroup() == null)
+                        handler.handleDataObject(pdo);
+            }
+        } catch (XMLStreamException | SEDALibException e) {
+            throw new SEDALibException("Erreur de lecture des métadonnées des DataObjects", e);
+        }
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP,
+                "sedalib: " + counter + " DataObjectGroup importés depuis le DataObjectPackage", null);
+    }
+
+    /**
+     * Stream data object package, ArchiveUnits and management metadata part, of
+     * SEDA DataObjectPackage XML to a handler.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param handler               the handler receiving the streamed elements
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @throws SEDALibException     if the XML can't be read or SEDA scheme is not
+     *                              respected, or the handler failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    private static void streamDataObjectPackageMetadata(SEDAXMLEventReader xmlReader,
+                                                        DataObjectPackageStreamHandler handler,
+                                                        SEDALibProgressLogger sedaLibProgressLogger)
+            throws SEDALibException, InterruptedException {
+        // only used for progress counting
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+
+        try {
+            if (!xmlReader.nextBlockIfNamed("DescriptiveMetadata"))
+                throw new SEDALibException("Pas d'élément DescriptiveMetadata");
+            while ("ArchiveUnit".equals(xmlReader.peekName()))
+                ArchiveUnit.streamFromSedaXml(xmlReader, dataObjectPackage, handler, sedaLibProgressLogger);
+            xmlReader.endBlockNamed("DescriptiveMetadata");
+            handler.handleManagementMetadata(xmlReader.nextMandatoryBlockAsString("ManagementMetadata"));
+            xmlReader.endBlockNamed("DataObjectPackage");
+        } catch (XMLStreamException | SEDALibException e) {
+            throw new SEDALibException("Erreur de lecture des métadonnées des ArchiveUnits", e);
+        }
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP,
+                "sedalib: " + dataObjectPackage.getNextInOutCounter() + " métadonnées ArchiveUnit importées depuis le DataObjectPackage", null);
+    }
+
+    /**
+     * Stream the whole structure in XML SEDA Manifest to a handler, without
+     * building the DataObjectPackage in memory. References between elements are
+     * not verified.
+     *
+     * @param xmlReader             the SEDAXMLEventReader reading the SEDA manifest
+     * @param rootDir               the directory where the BinaryDataObject files are
+     *                              exported
+     * @param handler               the handler receiving the streamed elements
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @throws SEDALibException     if the XML can't be read or SEDA scheme is not
+     *                              respected, or the handler failed
+     * @throws InterruptedException if export process is interrupted
+     */
+    public static void streamFromSedaXml(SEDAXMLEventReader xmlReader, String rootDir,
+                                         DataObjectPackageStreamHandler handler,
+                                         SEDALibProgressLogger sedaLibProgressLogger) throws SEDALibException, InterruptedException {
+        streamDataObjectPackageObjects(xmlReader, rootDir, handler, sedaLibProgressLogger);
+        streamDataObjectPackageMetadata(xmlReader, handler, sedaLibProgressLogger);
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP, "sedalib: manifest importé", null);
+    }
+
     // Getters and setters
 
     /**
@@ -1462,5 +1672,51 @@ public class DataObjectPackage {
      */
     public void setExportMetadataList(List<String> exportMetadataList) {
         this.exportMetadataList = exportMetadataList;
+        invalidateManifestCache();
+    }
+
+    /**
+     * Gets the generation of the ArchiveUnits manifest cache.
+     *
+     * @return the manifest cache generation
+     */
+    public int getManifestCacheGeneration() {
+        return manifestCacheGeneration;
+    }
+
+    /**
+     * Invalidate all the ArchiveUnits cached manifest forms, so that the next manifest export re-encodes all
+     * metadata.
+     * <p>
+     * ArchiveUnits metadata changes through setters and metadata getters are automatically taken into account, this
+     * is only needed when a metadata object got before a manifest export is modified afterwards, or when the export
+     * metadata list is modified in place.
+     */
+    public void invalidateManifestCache() {
+        manifestCacheGeneration++;
+    }
+
+    /**
+     * Gets the ArchiveUnits xml fragment store.
+     *
+     * @return the xml fragment store, or null if fragments are kept in ArchiveUnits
+     */
+    public XmlFragmentStore getXmlFragmentStore() {
+        return xmlFragmentStore;
+    }
+
+    /**
+     * Sets the ArchiveUnits xml fragment store, and moves all the ArchiveUnits xml fragments in String form to this
+     * store, or back in ArchiveUnits if null.
+     * <p>
+     * The store has to be kept open as long as the DataObjectPackage is used, or until another store is set.
+     *
+     * @param xmlFragmentStore the xml fragment store, or null
+     */
+    public void setXmlFragmentStore(XmlFragmentStore xmlFragmentStore) {
+        this.xmlFragmentStore = xmlFragmentStore;
+        invalidateManifestCache();
+        for (ArchiveUnit au : auInDataObjectPackageIdMap.values())
+            au.moveXmlFragmentsToStore();
     }
-}
\ No newline at end of file
+}
@@ -49,6 +49,12 @@ public class DataObjectPackageIdElement extends DataObjectPackageElement {
      */
     protected String inDataPackageObjectId;
 
+    /**
+     * The last known index of the inDataPackageObjectId in the DataObjectPackage id table, or -1. It's checked
+     * against the table before use, so it doesn't have to follow id changes.
+     */
+    transient int inDataObjectPackageIdIndex;
+
     /**
      * The on disk path.
      */
@@ -69,6 +75,7 @@ public class DataObjectPackageIdElement extends DataObjectPackageElement {
     public DataObjectPackageIdElement(DataObjectPackage dataObjectPackage) {
         super(dataObjectPackage);
         inDataPackageObjectId = null;
+        inDataObjectPackageIdIndex = -1;
     }
 
     /**
@@ -0,0 +1,94 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.core;
+
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+
+/**
+ * The Interface DataObjectPackageStreamHandler.
+ * <p>
+ * Interface for the handler of a streamed SEDA manifest import, which receives each element as soon as it is parsed
+ * instead of building the whole DataObjectPackage in memory.
+ * <p>
+ * The elements are received in manifest order: the global metadata header, the DataObjectGroups, the ArchiveUnits
+ * and then the ManagementMetadata. An ArchiveUnit is received when its XML element is completely read, so the child
+ * ArchiveUnits of a nested manifest are received before their parent. The elements are not attached to a
+ * DataObjectPackage, and references between them are given only by ids.
+ */
+public interface DataObjectPackageStreamHandler {
+
+    /**
+     * Handle the global metadata of the manifest header, before any DataObjectPackage element. The metadata in the
+     * manifest footer are not yet defined.
+     *
+     * @param globalMetadata the global metadata
+     * @throws SEDALibException     if the handling failed, and the import has to be stopped
+     * @throws InterruptedException if the import process is interrupted
+     */
+    default void handleGlobalMetadata(GlobalMetadata globalMetadata) throws SEDALibException, InterruptedException {
+    }
+
+    /**
+     * Handle a DataObjectGroup, with all its BinaryDataObjects and PhysicalDataObjects.
+     *
+     * @param dataObjectGroup the DataObjectGroup
+     * @throws SEDALibException     if the handling failed, and the import has to be stopped
+     * @throws InterruptedException if the import process is interrupted
+     */
+    void handleDataObjectGroup(DataObjectGroup dataObjectGroup) throws SEDALibException, InterruptedException;
+
+    /**
+     * Handle a DataObject which is not in a DataObjectGroup. This is only possible in a SEDA 2.0 manifest.
+     *
+     * @param dataObject the BinaryDataObject or PhysicalDataObject
+     * @throws SEDALibException     if the handling failed, and the import has to be stopped
+     * @throws InterruptedException if the import process is interrupted
+     */
+    default void handleDataObject(DataObject dataObject) throws SEDALibException, InterruptedException {
+    }
+
+    /**
+     * Handle an ArchiveUnit, with children ArchiveUnits and DataObjects references defined by ids.
+     *
+     * @param archiveUnit the ArchiveUnit
+     * @throws SEDALibException     if the handling failed, and the import has to be stopped
+     * @throws InterruptedException if the import process is interrupted
+     */
+    void handleArchiveUnit(ArchiveUnit archiveUnit) throws SEDALibException, InterruptedException;
+
+    /**
+     * Handle the ManagementMetadata of the DataObjectPackage.
+     *
+     * @param managementMetadataXmlData the ManagementMetadata in XML String form
+     * @throws SEDALibException     if the handling failed, and the import has to be stopped
+     * @throws InterruptedException if the import process is interrupted
+     */
+    default void handleManagementMetadata(String managementMetadataXmlData)
+            throws SEDALibException, InterruptedException {
+    }
+}
@@ -29,14 +29,11 @@ package fr.gouv.vitam.tools.sedalib.core;
 
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * The Class GlobalMetadata.
@@ -162,8 +159,8 @@ public class GlobalMetadata {
      */
     public String toSedaXmlFragments() throws SEDALibException {
         String result;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2, true)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer();
+             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2, true)) {
             xmlWriter.writeElementValueIfNotEmpty("Comment", comment);
             if (!isNowFlag())
                 xmlWriter.writeElementValueIfNotEmpty("Date", date);
@@ -180,8 +177,8 @@ public class GlobalMetadata {
             xmlWriter.writeRawXMLBlockIfNotEmpty(transferringAgencyOrganizationDescriptiveMetadataXmlData);
             xmlWriter.writeEndElement();
             xmlWriter.close();
-            result = baos.toString(StandardCharsets.UTF_8);
-        } catch (SEDALibException | XMLStreamException | IOException e) {
+            result = buffer.toString();
+        } catch (SEDALibException | XMLStreamException e) {
             throw new SEDALibException("Erreur interne", e);
         }
         return result;
@@ -236,15 +233,14 @@ public class GlobalMetadata {
     public void fromSedaXmlFragments(String fragments) throws SEDALibException {
         GlobalMetadata gm = new GlobalMetadata();
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(fragments.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(fragments)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             gm.setFromXmlContent(xmlReader);
             XMLEvent event = xmlReader.xmlReader.peek();
             if (!event.isEndDocument())
                 throw new SEDALibException("Il y a des champs illégaux");
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture du GlobalMetadata", e);
         }
 
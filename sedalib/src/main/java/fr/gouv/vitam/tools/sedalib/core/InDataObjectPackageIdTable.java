@@ -0,0 +1,119 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The Class InDataObjectPackageIdTable.
+ * <p>
+ * Interned table of the inDataPackageObjectIds of a DataObjectPackage, giving to each id a dense int index. It is
+ * used to keep per id values in primitive arrays instead of String keyed maps. An index is never reused for another
+ * id, until the table is cleared.
+ * <p>
+ * Each DataObjectPackageIdElement keeps the last index found for its id, which is checked with
+ * {@link #isIdAt(int, String)} before use, so that elements walked several times are indexed without hashing.
+ */
+final class InDataObjectPackageIdTable {
+
+    /**
+     * The indexes by id.
+     */
+    private final HashMap<String, Integer> indexes;
+
+    /**
+     * The ids by index.
+     */
+    private final List<String> ids;
+
+    /**
+     * Instantiates a new empty id table.
+     */
+    InDataObjectPackageIdTable() {
+        this.indexes = new HashMap<>();
+        this.ids = new ArrayList<>();
+    }
+
+    /**
+     * Gets the index of an id.
+     *
+     * @param inDataObjectPackageId the id in DataObjectPackage
+     * @return the index, or -1 if the id is not in the table
+     */
+    int indexOf(String inDataObjectPackageId) {
+        Integer index = indexes.get(inDataObjectPackageId);
+        return (index == null ? -1 : index);
+    }
+
+    /**
+     * Gets the index of an id, adding it to the table if needed.
+     *
+     * @param inDataObjectPackageId the id in DataObjectPackage
+     * @return the index
+     */
+    int intern(String inDataObjectPackageId) {
+        Integer index = indexes.get(inDataObjectPackageId);
+        if (index == null) {
+            index = ids.size();
+            indexes.put(inDataObjectPackageId, index);
+            ids.add(inDataObjectPackageId);
+        }
+        return index;
+    }
+
+    /**
+     * Checks if an index is the one of an id.
+     *
+     * @param index                 the index
+     * @param inDataObjectPackageId the id in DataObjectPackage
+     * @return true, if the id is at this index in the table
+     */
+    boolean isIdAt(int index, String inDataObjectPackageId) {
+        return (index >= 0) && (index < ids.size()) && Objects.equals(ids.get(index), inDataObjectPackageId);
+    }
+
+    /**
+     * Gets the number of ids in the table.
+     *
+     * @return the size
+     */
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * Clear the table.
+     */
+    void clear() {
+        indexes.clear();
+        ids.clear();
+    }
+}
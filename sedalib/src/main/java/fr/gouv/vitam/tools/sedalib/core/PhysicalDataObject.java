@@ -35,14 +35,11 @@ import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -239,12 +236,12 @@ public class PhysicalDataObject extends DataObjectPackageIdElement implements Da
     @Override
     public String toSedaXmlFragments() throws SEDALibException {
         String result;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()){
-            try(SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer()) {
+            try (SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2)) {
                 toSedaXml(xmlWriter, null);
             }
-            result = baos.toString("UTF-8");
-        } catch (SEDALibException | XMLStreamException | IOException e) {
+            result = buffer.toString();
+        } catch (SEDALibException | XMLStreamException e) {
             throw new SEDALibException("Erreur interne", e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -400,15 +397,14 @@ public class PhysicalDataObject extends DataObjectPackageIdElement implements Da
     public void fromSedaXmlFragments(String fragments) throws SEDALibException {
         PhysicalDataObject pdo = new PhysicalDataObject();
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(fragments.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(fragments)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             pdo.setFromXmlContent(xmlReader);
             XMLEvent event = xmlReader.xmlReader.peek();
             if (!event.isEndDocument())
                 throw new SEDALibException("Il y a des champs illégaux");
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture du PhysicalDataObject", e);
         }
 
@@ -4,13 +4,12 @@ import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import fr.gouv.vitam.tools.sedalib.xml.IndentXMLTool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -138,11 +137,10 @@ public final class SEDA2Version {
         SEDALibProgressLogger.doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP,
                 "-> Prise en compte à partir de l'XML généré, vers la version Seda2." + toSeda2Version, null);
         setSeda2Version(toSeda2Version);
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlForm.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader ixer = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader ixer = SEDAXMLFragmentPool.newFragmentsReader(xmlForm)) {
             ixer.xmlReader.nextEvent(); // drop the StartDocument event
             result = DataObjectPackage.fromSedaXml(ixer, "unknown", sedaLibProgressLogger);
-        } catch (XMLStreamException | IOException e) {
+        } catch (XMLStreamException e) {
             setSeda2Version(originSeda2Version);
             throw new SEDALibException("Echec de conversion à travers XML du DataObjectPackage dans la version seda2." + toSeda2Version, e);
         }
@@ -0,0 +1,389 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.core.binary;
+
+import fr.gouv.vitam.tools.sedalib.core.*;
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.data.FileInfo;
+import fr.gouv.vitam.tools.sedalib.metadata.data.FormatIdentification;
+import fr.gouv.vitam.tools.sedalib.metadata.data.Metadata;
+import fr.gouv.vitam.tools.sedalib.metadata.data.PhysicalDimensions;
+import fr.gouv.vitam.tools.sedalib.metadata.management.LogBook;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.AnyXMLType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.DigestType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.IntegerType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static fr.gouv.vitam.tools.sedalib.core.binary.DataObjectPackageBinarySerializer.*;
+
+/**
+ * The Class DataObjectPackageBinaryDeserializer.
+ * <p>
+ * Class for a compact binary deserializer for DataObjectPackage written by {@link DataObjectPackageBinarySerializer}.
+ * <p>
+ * The file is read through memory mapped windows, and all the objects are created from the id table and put in the
+ * DataObjectPackage id maps at once, so that data and references are restored in one pass, without any object
+ * links fixing after the load.
+ */
+public class DataObjectPackageBinaryDeserializer {
+
+    /**
+     * The memory mapped window size.
+     */
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The memory mapping use flag. On Windows a mapped file can't be overwritten until the mapping is garbage
+     * collected, and work sessions are often saved in the file they were loaded from, so windows are read in heap.
+     */
+    private static final boolean USE_MEMORY_MAPPING = !System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * The file channel.
+     */
+    private FileChannel channel;
+
+    /**
+     * The current window, memory mapped or read in heap.
+     */
+    private ByteBuffer window;
+
+    /**
+     * The file position of the current window.
+     */
+    private long windowPosition;
+
+    /**
+     * The string table.
+     */
+    private List<String> stringTable;
+
+    /**
+     * The id table.
+     */
+    private DataObjectPackageIdElement[] idTable;
+
+    /**
+     * Instantiates a new DataObjectPackage binary deserializer.
+     */
+    private DataObjectPackageBinaryDeserializer(FileChannel channel, long offset) {
+        this.channel = channel;
+        this.window = null;
+        this.windowPosition = offset;
+        this.stringTable = new ArrayList<>();
+    }
+
+    /**
+     * Checks if a file contains a binary serialized DataObjectPackage at the given offset.
+     *
+     * @param path   the file path
+     * @param offset the offset of the serialized DataObjectPackage in the file
+     * @return true, if the magic bytes are found
+     */
+    public static boolean isBinarySerialized(Path path, long offset) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer bb = ByteBuffer.allocate(MAGIC.length);
+            while (bb.hasRemaining())
+                if (channel.read(bb, offset + bb.position()) < 0)
+                    return false;
+            return Arrays.equals(bb.array(), MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deserialize a DataObjectPackage from a file.
+     *
+     * @param path   the file path
+     * @param offset the offset of the serialized DataObjectPackage in the file
+     * @return the DataObjectPackage
+     * @throws SEDALibException if the file can't be read or is not in expected format
+     */
+    public static DataObjectPackage deserialize(Path path, long offset) throws SEDALibException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new DataObjectPackageBinaryDeserializer(channel, offset).readDataObjectPackage();
+        } catch (IOException | RuntimeException e) {
+            throw new SEDALibException("Erreur de lecture binaire du DataObjectPackage dans le fichier [" + path + "]",
+                    e);
+        }
+    }
+
+    private DataObjectPackage readDataObjectPackage() throws IOException, SEDALibException {
+        byte[] magic = new byte[MAGIC.length];
+        readBytes(magic);
+        if (!Arrays.equals(magic, MAGIC))
+            throw new SEDALibException("Ce n'est pas un DataObjectPackage sérialisé en binaire");
+        int version = readVarInt();
+        if (version != FORMAT_VERSION)
+            throw new SEDALibException("Version de sérialisation binaire [" + version + "] inconnue");
+
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        dataObjectPackage.setVitamNormalizationStatus(readVarInt());
+
+        idTable = new DataObjectPackageIdElement[readVarInt()];
+        for (int i = 0; i < idTable.length; i++) {
+            int kind = readByte();
+            String id = readString();
+            switch (kind) {
+                case KIND_ARCHIVE_UNIT:
+                    ArchiveUnit au = new ArchiveUnit();
+                    au.setInDataObjectPackageId(id);
+                    dataObjectPackage.addArchiveUnit(au);
+                    idTable[i] = au;
+                    break;
+                case KIND_DATA_OBJECT_GROUP:
+                    DataObjectGroup dog = new DataObjectGroup();
+                    dog.setInDataObjectPackageId(id);
+                    dataObjectPackage.addDataObjectGroup(dog);
+                    dog.setDataObjectPackage(dataObjectPackage);
+                    idTable[i] = dog;
+                    break;
+                case KIND_BINARY_DATA_OBJECT:
+                    BinaryDataObject bdo = new BinaryDataObject();
+                    bdo.setInDataObjectPackageId(id);
+                    dataObjectPackage.addBinaryDataObject(bdo);
+                    bdo.setDataObjectPackage(dataObjectPackage);
+                    idTable[i] = bdo;
+                    break;
+                case KIND_PHYSICAL_DATA_OBJECT:
+                    PhysicalDataObject pdo = new PhysicalDataObject();
+                    pdo.setInDataObjectPackageId(id);
+                    dataObjectPackage.addPhysicalDataObject(pdo);
+                    pdo.setDataObjectPackage(dataObjectPackage);
+                    idTable[i] = pdo;
+                    break;
+                default:
+                    throw new SEDALibException("Type d'objet [" + kind + "] inconnu");
+            }
+        }
+
+        for (DataObjectPackageIdElement e : idTable) {
+            if (e instanceof ArchiveUnit)
+                readArchiveUnit((ArchiveUnit) e);
+            else if (e instanceof DataObjectGroup)
+                readDataObjectGroup((DataObjectGroup) e);
+            else if (e instanceof BinaryDataObject)
+                readBinaryDataObject((BinaryDataObject) e);
+            else
+                readPhysicalDataObject((PhysicalDataObject) e);
+        }
+
+        dataObjectPackage.getGhostRootAu().getChildrenAuList().setInDataObjectPackageIdList(readReferences());
+        return dataObjectPackage;
+    }
+
+    private void readArchiveUnit(ArchiveUnit au) throws IOException {
+        au.setOnDiskPathFromString(readString());
+        au.setArchiveUnitProfileXmlData(readString());
+        au.setManagementXmlData(readString());
+        au.setContentXmlData(readString());
+        au.getChildrenAuList().setInDataObjectPackageIdList(readReferences());
+        au.getDataObjectRefList().setInDataObjectPackageIdList(readReferences());
+    }
+
+    private void readDataObjectGroup(DataObjectGroup dog) throws IOException, SEDALibException {
+        dog.setOnDiskPathFromString(readString());
+        dog.setLogBook(readMetadata(LogBook.class));
+        int count = readVarInt();
+        for (int i = 0; i < count; i++)
+            dog.addDataObject((DataObject) readReferencedObject());
+        count = readVarInt();
+        for (int i = 0; i < count; i++)
+            dog.addDataObject((DataObject) readReferencedObject());
+    }
+
+    private void readBinaryDataObject(BinaryDataObject bdo) throws IOException {
+        bdo.setOnDiskPathFromString(readString());
+        bdo.dataObjectProfile = readMetadata(StringType.class);
+        bdo.dataObjectSystemId = readMetadata(StringType.class);
+        bdo.dataObjectGroupSystemId = readMetadata(StringType.class);
+        bdo.relationshipsXmlData = readMetadataList(AnyXMLType.class);
+        bdo.dataObjectGroupReferenceId = readMetadata(StringType.class);
+        bdo.dataObjectGroupId = readMetadata(StringType.class);
+        bdo.dataObjectVersion = readMetadata(StringType.class);
+        bdo.uri = readMetadata(StringType.class);
+        bdo.messageDigest = readMetadata(DigestType.class);
+        bdo.size = readMetadata(IntegerType.class);
+        bdo.compressed = readMetadata(StringType.class);
+        bdo.formatIdentification = readMetadata(FormatIdentification.class);
+        bdo.fileInfo = readMetadata(FileInfo.class);
+        bdo.metadata = readMetadata(Metadata.class);
+    }
+
+    private void readPhysicalDataObject(PhysicalDataObject pdo) throws IOException {
+        pdo.setOnDiskPathFromString(readString());
+        pdo.dataObjectProfile = readMetadata(StringType.class);
+        pdo.dataObjectSystemId = readMetadata(StringType.class);
+        pdo.dataObjectGroupSystemId = readMetadata(StringType.class);
+        pdo.relationshipsXmlData = readMetadataList(AnyXMLType.class);
+        pdo.dataObjectGroupReferenceId = readMetadata(StringType.class);
+        pdo.dataObjectGroupId = readMetadata(StringType.class);
+        pdo.dataObjectVersion = readMetadata(StringType.class);
+        pdo.physicalId = readMetadata(StringType.class);
+        pdo.physicalDimensions = readMetadata(PhysicalDimensions.class);
+        pdo.otherDimensionsAbstractXml = readMetadataList(AnyXMLType.class);
+    }
+
+    private ArrayList<String> readReferences() throws IOException {
+        int count = readVarInt();
+        ArrayList<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = readVarInt();
+            result.add(index == 0 ? readString() : idTable[index - 1].getInDataObjectPackageId());
+        }
+        return result;
+    }
+
+    private DataObjectPackageIdElement readReferencedObject() throws IOException, SEDALibException {
+        int index = readVarInt();
+        if (index == 0)
+            throw new SEDALibException("DataObject [" + readString() + "] inconnu");
+        return idTable[index - 1];
+    }
+
+    private <T extends SEDAMetadata> List<T> readMetadataList(Class<T> metadataClass) throws IOException {
+        int code = readVarInt();
+        if (code == 0)
+            return null;
+        List<T> result = new ArrayList<>(code - 1);
+        for (int i = 0; i < code - 1; i++)
+            result.add(readMetadata(metadataClass));
+        return result;
+    }
+
+    private <T extends SEDAMetadata> T readMetadata(Class<T> metadataClass) throws IOException {
+        SEDAMetadata result;
+        int code = readByte();
+        switch (code) {
+            case METADATA_NULL:
+                return null;
+            case METADATA_STRING:
+                result = new StringType(readString(), readString());
+                break;
+            case METADATA_INTEGER:
+                String elementName = readString();
+                long value = readVarLong();
+                result = new IntegerType(elementName, value == 0 ? null : unZigZag(value - 1));
+                break;
+            case METADATA_DIGEST:
+                result = new DigestType(readString(), readString(), readString());
+                break;
+            case METADATA_ANYXML:
+                result = new AnyXMLType(readString(), readString());
+                break;
+            case METADATA_JSON:
+                byte[] bytes = new byte[readVarInt()];
+                readBytes(bytes);
+                // read as the expected class, as not all metadata types are known by the polymorphic deserializer
+                result = metadataMapper.readValue(bytes, metadataClass);
+                break;
+            default:
+                throw new IOException("Type de métadonnée [" + code + "] inconnu");
+        }
+        return metadataClass.cast(result);
+    }
+
+    private String readString() throws IOException {
+        int code = readVarInt();
+        if (code == STRING_NULL)
+            return null;
+        if (code != STRING_NEW)
+            return stringTable.get(code - STRING_FIRST_INDEX);
+        byte[] bytes = new byte[readVarInt()];
+        readBytes(bytes);
+        String result = new String(bytes, StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_INTERNED_LENGTH)
+            stringTable.add(result);
+        return result;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    private long readVarLong() throws IOException {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 63)
+                throw new IOException("Entier mal formé");
+            b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    // windowed reading
+
+    private void ensureAvailable(int length) throws IOException {
+        if ((window != null) && (window.remaining() >= length))
+            return;
+        long position = (window == null ? windowPosition : windowPosition + window.position());
+        long size = Math.min(Math.max(WINDOW_SIZE, length), channel.size() - position);
+        if (size < length)
+            throw new IOException("Fin de fichier inattendue");
+        if (USE_MEMORY_MAPPING)
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        else {
+            window = ByteBuffer.allocate((int) size);
+            while (window.hasRemaining())
+                if (channel.read(window, position + window.position()) < 0)
+                    throw new IOException("Fin de fichier inattendue");
+            window.flip();
+        }
+        windowPosition = position;
+    }
+
+    private int readByte() throws IOException {
+        ensureAvailable(1);
+        return window.get() & 0xFF;
+    }
+
+    private void readBytes(byte[] bytes) throws IOException {
+        ensureAvailable(bytes.length);
+        window.get(bytes);
+    }
+}
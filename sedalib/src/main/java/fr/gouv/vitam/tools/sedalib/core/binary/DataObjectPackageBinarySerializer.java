@@ -0,0 +1,341 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.core.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gouv.vitam.tools.sedalib.core.*;
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.AnyXMLType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.DigestType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.IntegerType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The Class DataObjectPackageBinarySerializer.
+ * <p>
+ * Class for a compact binary serializer for DataObjectPackage, read back by {@link DataObjectPackageBinaryDeserializer}.
+ * This is an alternative to the Jackson json serialization for big DataObjectPackages, as used in work sessions
+ * saves.
+ * <p>
+ * The format is:
+ * <ul>
+ * <li>the magic bytes and the format version,</li>
+ * <li>the vitam normalization status,</li>
+ * <li>the id table, with for each ArchiveUnit, DataObjectGroup, BinaryDataObject and PhysicalDataObject its kind and
+ * its inDataObjectPackageId, so that all the objects can be created and put in the DataObjectPackage id maps before
+ * reading any reference,</li>
+ * <li>the data of each object in the id table order, with references to other objects as index in the id table,
+ * DataObjectGroups keeping the ordered list of their DataObjects,</li>
+ * <li>the ghost root ArchiveUnit children references.</li>
+ * </ul>
+ * Integers are written in varint form. Strings are written in UTF-8 and interned: the short ones are written only
+ * the first time and then referenced by their index in the string table. ArchiveUnits metadata are written in their
+ * xml String form, the most common simple DataObject metadata are written by value and the others in their json
+ * form.
+ */
+public class DataObjectPackageBinarySerializer {
+
+    /**
+     * The format magic bytes.
+     */
+    static final byte[] MAGIC = "SEDALIBP".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The format version.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The kinds of objects in the id table.
+     */
+    static final int KIND_ARCHIVE_UNIT = 1;
+    static final int KIND_DATA_OBJECT_GROUP = 2;
+    static final int KIND_BINARY_DATA_OBJECT = 3;
+    static final int KIND_PHYSICAL_DATA_OBJECT = 4;
+
+    /**
+     * The string codes, others being the index in the string table plus STRING_FIRST_INDEX.
+     */
+    static final int STRING_NULL = 0;
+    static final int STRING_NEW = 1;
+    static final int STRING_FIRST_INDEX = 2;
+
+    /**
+     * The max UTF-8 length of strings kept in the string table.
+     */
+    static final int MAX_INTERNED_LENGTH = 256;
+
+    /**
+     * The metadata codes.
+     */
+    static final int METADATA_NULL = 0;
+    static final int METADATA_STRING = 1;
+    static final int METADATA_INTEGER = 2;
+    static final int METADATA_DIGEST = 3;
+    static final int METADATA_ANYXML = 4;
+    static final int METADATA_JSON = 5;
+
+    /**
+     * The Jackson mapper for the not simple metadata.
+     */
+    static final ObjectMapper metadataMapper = new ObjectMapper();
+
+    /**
+     * The output stream.
+     */
+    private OutputStream os;
+
+    /**
+     * The string table, by string.
+     */
+    private Map<String, Integer> stringTable;
+
+    /**
+     * The id table, by inDataObjectPackageId.
+     */
+    private Map<String, Integer> idTable;
+
+    /**
+     * Instantiates a new DataObjectPackage binary serializer.
+     *
+     * @param os the output stream, not closed by the serializer
+     */
+    public DataObjectPackageBinarySerializer(OutputStream os) {
+        this.os = new BufferedOutputStream(os, 65536);
+        this.stringTable = new HashMap<>();
+        this.idTable = new HashMap<>();
+    }
+
+    /**
+     * Serialize a DataObjectPackage.
+     *
+     * @param dataObjectPackage the DataObjectPackage
+     * @throws SEDALibException if writing fails
+     */
+    public void serialize(DataObjectPackage dataObjectPackage) throws SEDALibException {
+        try {
+            os.write(MAGIC);
+            writeVarInt(FORMAT_VERSION);
+            writeVarInt(dataObjectPackage.getVitamNormalizationStatus());
+
+            // sorted by ID as in json form
+            List<ArchiveUnit> auList = sortedValues(dataObjectPackage.getAuInDataObjectPackageIdMap());
+            List<DataObjectGroup> dogList = sortedValues(dataObjectPackage.getDogInDataObjectPackageIdMap());
+            List<BinaryDataObject> bdoList = sortedValues(dataObjectPackage.getBdoInDataObjectPackageIdMap());
+            List<PhysicalDataObject> pdoList = sortedValues(dataObjectPackage.getPdoInDataObjectPackageIdMap());
+
+            writeVarInt(auList.size() + dogList.size() + bdoList.size() + pdoList.size());
+            writeIds(auList, KIND_ARCHIVE_UNIT);
+            writeIds(dogList, KIND_DATA_OBJECT_GROUP);
+            writeIds(bdoList, KIND_BINARY_DATA_OBJECT);
+            writeIds(pdoList, KIND_PHYSICAL_DATA_OBJECT);
+
+            for (ArchiveUnit au : auList)
+                writeArchiveUnit(au);
+            for (DataObjectGroup dog : dogList)
+                writeDataObjectGroup(dog);
+            for (BinaryDataObject bdo : bdoList)
+                writeBinaryDataObject(bdo);
+            for (PhysicalDataObject pdo : pdoList)
+                writePhysicalDataObject(pdo);
+
+            writeReferences(dataObjectPackage.getGhostRootAu().getChildrenAuList().getInDataObjectPackageIdList());
+            os.flush();
+        } catch (IOException e) {
+            throw new SEDALibException("Erreur d'écriture binaire du DataObjectPackage", e);
+        }
+    }
+
+    private static <T extends DataObjectPackageIdElement> List<T> sortedValues(Map<String, T> map) {
+        String[] tempArray = map.keySet().toArray(new String[0]);
+        Arrays.sort(tempArray);
+        List<T> result = new ArrayList<>(tempArray.length);
+        for (String s : tempArray)
+            result.add(map.get(s));
+        return result;
+    }
+
+    private void writeIds(List<? extends DataObjectPackageIdElement> list, int kind) throws IOException {
+        for (DataObjectPackageIdElement e : list) {
+            os.write(kind);
+            writeString(e.getInDataObjectPackageId());
+            idTable.put(e.getInDataObjectPackageId(), idTable.size());
+        }
+    }
+
+    private void writeArchiveUnit(ArchiveUnit au) throws IOException {
+        writeString(au.getOnDiskPathToString());
+        writeString(au.getArchiveUnitProfileXmlData());
+        writeString(au.getManagementXmlData());
+        writeString(au.getContentXmlData());
+        writeReferences(au.getChildrenAuList().getInDataObjectPackageIdList());
+        writeReferences(au.getDataObjectRefList().getInDataObjectPackageIdList());
+    }
+
+    private void writeDataObjectGroup(DataObjectGroup dog) throws IOException {
+        writeString(dog.getOnDiskPathToString());
+        writeMetadata(dog.getLogBook());
+        writeVarInt(dog.getBinaryDataObjectList().size());
+        for (BinaryDataObject bdo : dog.getBinaryDataObjectList())
+            writeReference(bdo.getInDataObjectPackageId());
+        writeVarInt(dog.getPhysicalDataObjectList().size());
+        for (PhysicalDataObject pdo : dog.getPhysicalDataObjectList())
+            writeReference(pdo.getInDataObjectPackageId());
+    }
+
+    private void writeBinaryDataObject(BinaryDataObject bdo) throws IOException {
+        writeString(bdo.getOnDiskPathToString());
+        writeMetadata(bdo.dataObjectProfile);
+        writeMetadata(bdo.dataObjectSystemId);
+        writeMetadata(bdo.dataObjectGroupSystemId);
+        writeMetadataList(bdo.relationshipsXmlData);
+        writeMetadata(bdo.dataObjectGroupReferenceId);
+        writeMetadata(bdo.dataObjectGroupId);
+        writeMetadata(bdo.dataObjectVersion);
+        writeMetadata(bdo.uri);
+        writeMetadata(bdo.messageDigest);
+        writeMetadata(bdo.size);
+        writeMetadata(bdo.compressed);
+        writeMetadata(bdo.formatIdentification);
+        writeMetadata(bdo.fileInfo);
+        writeMetadata(bdo.metadata);
+    }
+
+    private void writePhysicalDataObject(PhysicalDataObject pdo) throws IOException {
+        writeString(pdo.getOnDiskPathToString());
+        writeMetadata(pdo.dataObjectProfile);
+        writeMetadata(pdo.dataObjectSystemId);
+        writeMetadata(pdo.dataObjectGroupSystemId);
+        writeMetadataList(pdo.relationshipsXmlData);
+        writeMetadata(pdo.dataObjectGroupReferenceId);
+        writeMetadata(pdo.dataObjectGroupId);
+        writeMetadata(pdo.dataObjectVersion);
+        writeMetadata(pdo.physicalId);
+        writeMetadata(pdo.physicalDimensions);
+        writeMetadataList(pdo.otherDimensionsAbstractXml);
+    }
+
+    private void writeReferences(List<String> ids) throws IOException {
+        writeVarInt(ids.size());
+        for (String id : ids)
+            writeReference(id);
+    }
+
+    // a reference is 0 followed by the id if not in the id table, or the index in the id table plus 1
+    private void writeReference(String id) throws IOException {
+        Integer index = (id == null ? null : idTable.get(id));
+        if (index == null) {
+            writeVarInt(0);
+            writeString(id);
+        } else
+            writeVarInt(index + 1);
+    }
+
+    private void writeMetadataList(List<? extends SEDAMetadata> list) throws IOException {
+        if (list == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(list.size() + 1);
+        for (SEDAMetadata sm : list)
+            writeMetadata(sm);
+    }
+
+    private void writeMetadata(SEDAMetadata sm) throws IOException {
+        if (sm == null)
+            os.write(METADATA_NULL);
+        else if (sm.getClass() == StringType.class) {
+            os.write(METADATA_STRING);
+            writeString(((StringType) sm).elementName);
+            writeString(((StringType) sm).getValue());
+        } else if (sm.getClass() == IntegerType.class) {
+            os.write(METADATA_INTEGER);
+            writeString(((IntegerType) sm).elementName);
+            Long value = ((IntegerType) sm).getValue();
+            if (value == null)
+                writeVarLong(0);
+            else
+                writeVarLong(zigZag(value) + 1);
+        } else if (sm.getClass() == DigestType.class) {
+            os.write(METADATA_DIGEST);
+            writeString(((DigestType) sm).elementName);
+            writeString(((DigestType) sm).getValue());
+            writeString(((DigestType) sm).getAlgorithm());
+        } else if (sm.getClass() == AnyXMLType.class) {
+            os.write(METADATA_ANYXML);
+            writeString(((AnyXMLType) sm).elementName);
+            writeString(((AnyXMLType) sm).getRawXml());
+        } else {
+            os.write(METADATA_JSON);
+            byte[] bytes = metadataMapper.writeValueAsBytes(sm);
+            writeVarInt(bytes.length);
+            os.write(bytes);
+        }
+    }
+
+    private void writeString(String s) throws IOException {
+        if (s == null) {
+            writeVarInt(STRING_NULL);
+            return;
+        }
+        Integer index = stringTable.get(s);
+        if (index != null) {
+            writeVarInt(index + STRING_FIRST_INDEX);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(STRING_NEW);
+        writeVarInt(bytes.length);
+        os.write(bytes);
+        if (bytes.length <= MAX_INTERNED_LENGTH)
+            stringTable.put(s, stringTable.size());
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            os.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        os.write((int) value);
+    }
+}
@@ -57,6 +57,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -358,7 +359,6 @@ public class DroidIdentifier {
      * @throws SEDALibException if the file can't be read
      */
     public IdentificationResult getIdentificationResult(Path path) throws SEDALibException {
-        List<IdentificationResult> irl;
         String filename = path.normalize().toString();
         FileSystemIdentificationRequest request=null;
 
@@ -379,6 +379,56 @@ public class DroidIdentifier {
             throw new SEDALibException("Impossible d'accéder au fichier [" + filename + "]");
         }
 
+        return getIdentificationResult(request, filename);
+    }
+
+    /**
+     * Gets the identification result, reading the file only once to also compute its digest.
+     * <p>
+     * The messageDigest is updated with the whole file content before any identification step, so when a
+     * SEDALibException is thrown the digest is complete, whereas when an IOException is thrown it is not.
+     *
+     * @param path          the path of file to identify
+     * @param messageDigest the message digest to update with the file content
+     * @return the identification result
+     * @throws IOException      if the file can't be read
+     * @throws SEDALibException if the identification failed
+     */
+    public IdentificationResult getIdentificationResult(Path path, MessageDigest messageDigest)
+            throws IOException, SEDALibException {
+        String filename = path.normalize().toString();
+        RequestMetaData metaData = new RequestMetaData(Files.size(path), Files.getLastModifiedTime(path).toMillis(),
+                filename);
+        RequestIdentifier identifier = new RequestIdentifier(path.toUri());
+        identifier.setParentId(1L);
+        SinglePassIdentificationRequest request = new SinglePassIdentificationRequest(metaData, identifier,
+                messageDigest);
+        try {
+            request.open(path);
+        } catch (IOException e) {
+            try {
+                request.close();
+            } catch (IOException e1) {
+                //ignored
+            }
+            throw e;
+        }
+
+        return getIdentificationResult(request, filename);
+    }
+
+    /**
+     * Gets the identification result of an open request, and close it.
+     *
+     * @param request  the open request
+     * @param filename the file name
+     * @return the identification result
+     * @throws SEDALibException if the identification failed
+     */
+    private IdentificationResult getIdentificationResult(@SuppressWarnings("rawtypes") IdentificationRequest request,
+                                                         String filename) throws SEDALibException {
+        List<IdentificationResult> irl;
+
         IdentificationResultCollection resultsSignatureCollection = getSignatureResults(request);
         IdentificationResultCollection resultsContainerCollection;
         try {
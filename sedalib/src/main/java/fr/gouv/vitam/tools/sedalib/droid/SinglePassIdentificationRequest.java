@@ -0,0 +1,302 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.droid;
+
+import net.byteseek.io.reader.AbstractReader;
+import net.byteseek.io.reader.ReaderInputStream;
+import net.byteseek.io.reader.WindowReader;
+import net.byteseek.io.reader.cache.LeastRecentlyUsedCache;
+import net.byteseek.io.reader.windows.HardWindow;
+import net.byteseek.io.reader.windows.Window;
+import uk.gov.nationalarchives.droid.core.interfaces.IdentificationRequest;
+import uk.gov.nationalarchives.droid.core.interfaces.RequestIdentifier;
+import uk.gov.nationalarchives.droid.core.interfaces.resource.RequestMetaData;
+import uk.gov.nationalarchives.droid.core.interfaces.resource.ResourceUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+/**
+ * The Class SinglePassIdentificationRequest.
+ * <p>
+ * DROID identification request which reads the file only once, through a large direct buffer, to update a
+ * MessageDigest while keeping the head and tail windows of the file in memory. DROID signatures are then matched
+ * on these windows, and only the rare accesses out of them (variable offset signatures in big files, container
+ * identification) go back to the file.
+ */
+public class SinglePassIdentificationRequest implements IdentificationRequest<Path> {
+
+    /**
+     * The read buffer size.
+     */
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The size of the kept head and tail windows.
+     */
+    private static final int TOP_TAIL_SIZE = 1024 * 1024;
+
+    /**
+     * The DROID window size.
+     */
+    private static final int WINDOW_SIZE = 4096;
+
+    /**
+     * The number of windows read from file, out of head and tail, kept in cache.
+     */
+    private static final int WINDOW_CACHE_SIZE = 32;
+
+    /**
+     * The read buffer, by thread.
+     */
+    private static final ThreadLocal<ByteBuffer> readBuffer =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+
+    /**
+     * The request metadata.
+     */
+    private final RequestMetaData requestMetaData;
+
+    /**
+     * The request identifier.
+     */
+    private final RequestIdentifier identifier;
+
+    /**
+     * The file name.
+     */
+    private final String fileName;
+
+    /**
+     * The extension.
+     */
+    private final String extension;
+
+    /**
+     * The message digest updated when reading the file.
+     */
+    private final MessageDigest messageDigest;
+
+    /**
+     * The file channel, open until request close.
+     */
+    private FileChannel channel;
+
+    /**
+     * The file head bytes.
+     */
+    private byte[] head;
+
+    /**
+     * The file tail bytes, as a ring buffer indexed by file position modulo its length.
+     */
+    private byte[] tail;
+
+    /**
+     * The read file length.
+     */
+    private long length;
+
+    /**
+     * The window reader.
+     */
+    private WindowReader reader;
+
+    /**
+     * Instantiates a new single pass identification request.
+     *
+     * @param requestMetaData the request metadata
+     * @param identifier      the request identifier
+     * @param messageDigest   the message digest to update with file content, or null if none
+     */
+    public SinglePassIdentificationRequest(RequestMetaData requestMetaData, RequestIdentifier identifier,
+                                           MessageDigest messageDigest) {
+        this.requestMetaData = requestMetaData;
+        this.identifier = identifier;
+        this.fileName = requestMetaData.getName();
+        this.extension = ResourceUtils.getExtension(fileName);
+        this.messageDigest = messageDigest;
+    }
+
+    /**
+     * Open the request by reading the whole file once, updating the digest and keeping head and tail windows.
+     *
+     * @param path the file path
+     * @throws IOException if the file can't be read
+     */
+    @Override
+    public void open(Path path) throws IOException {
+        long expectedSize = requestMetaData.getSize() == null ? 0 : requestMetaData.getSize();
+        head = new byte[(int) Math.min(TOP_TAIL_SIZE, expectedSize)];
+        tail = (expectedSize > TOP_TAIL_SIZE ? new byte[(int) Math.min(TOP_TAIL_SIZE, expectedSize - TOP_TAIL_SIZE)] : null);
+        length = 0;
+
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer buffer = readBuffer.get();
+        buffer.clear();
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            int read = buffer.remaining();
+            if (messageDigest != null)
+                messageDigest.update(buffer.duplicate());
+            keepTopAndTail(buffer, read);
+            length += read;
+            buffer.clear();
+        }
+        reader = new TopAndTailReader();
+    }
+
+    /**
+     * Keep the read bytes which are in head or tail windows.
+     *
+     * @param buffer the buffer, positioned on read bytes
+     * @param read   the number of read bytes
+     */
+    private void keepTopAndTail(ByteBuffer buffer, int read) {
+        if (length < head.length) {
+            int count = (int) Math.min(read, head.length - length);
+            buffer.duplicate().get(head, (int) length, count);
+        }
+        if (tail != null) {
+            // only the last tail.length bytes of the chunk can stay in the ring
+            int skip = Math.max(0, read - tail.length);
+            int index = (int) ((length + skip) % tail.length);
+            ByteBuffer src = buffer.duplicate();
+            src.position(src.position() + skip);
+            while (src.hasRemaining()) {
+                int count = Math.min(src.remaining(), tail.length - index);
+                src.get(tail, index, count);
+                index = (index + count) % tail.length;
+            }
+        }
+    }
+
+    @Override
+    public byte getByte(long position) throws IOException {
+        final int result = reader.readByte(position);
+        if (result < 0)
+            throw new IOException("No byte at position " + position);
+        return (byte) result;
+    }
+
+    @Override
+    public WindowReader getWindowReader() {
+        return reader;
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public long size() {
+        return length;
+    }
+
+    @Override
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public InputStream getSourceInputStream() throws IOException {
+        return new ReaderInputStream(reader, false);
+    }
+
+    @Override
+    public RequestMetaData getRequestMetaData() {
+        return requestMetaData;
+    }
+
+    @Override
+    public RequestIdentifier getIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public void close() throws IOException {
+        head = null;
+        tail = null;
+        if (reader != null)
+            reader.close();
+        if (channel != null)
+            channel.close();
+    }
+
+    /**
+     * The window reader serving windows from the kept head and tail, and reading the others from the file.
+     */
+    private class TopAndTailReader extends AbstractReader {
+
+        /**
+         * Instantiates a new top and tail reader.
+         */
+        TopAndTailReader() {
+            super(WINDOW_SIZE, new LeastRecentlyUsedCache(WINDOW_CACHE_SIZE));
+        }
+
+        @Override
+        protected Window createWindow(long windowStart) throws IOException {
+            if ((windowStart < 0) || (windowStart >= length))
+                return null;
+            int windowLength = (int) Math.min(windowSize, length - windowStart);
+            byte[] bytes = new byte[windowLength];
+            if (windowStart + windowLength <= head.length)
+                System.arraycopy(head, (int) windowStart, bytes, 0, windowLength);
+            else if ((tail != null) && (windowStart >= length - tail.length)) {
+                int index = (int) (windowStart % tail.length);
+                int count = Math.min(windowLength, tail.length - index);
+                System.arraycopy(tail, index, bytes, 0, count);
+                System.arraycopy(tail, 0, bytes, count, windowLength - count);
+            } else {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                long position = windowStart;
+                while (buffer.hasRemaining()) {
+                    int read = channel.read(buffer, position);
+                    if (read < 0)
+                        break;
+                    position += read;
+                }
+                if (buffer.hasRemaining())
+                    return new HardWindow(bytes, windowStart, buffer.position());
+            }
+            return new HardWindow(bytes, windowStart, windowLength);
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+    }
+}
@@ -40,6 +40,7 @@ import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
 import fr.gouv.vitam.tools.sedalib.metadata.management.Management;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -77,6 +78,11 @@ public class SIPBuilder implements AutoCloseable {
      */
     private String sipPathString;
 
+    /**
+     * The technical metadata cache, or null if no cache used.
+     */
+    private TechnicalMetadataCache technicalMetadataCache;
+
     /**
      * Instantiates a new SIP builder.
      *
@@ -118,6 +124,17 @@ public class SIPBuilder implements AutoCloseable {
         this.archiveTransfer.setGlobalMetadata(gm);
         this.sedaLibProgressLogger = sedaLibProgressLogger;
         this.managementMetadata = mm;
+        this.technicalMetadataCache = null;
+    }
+
+    /**
+     * Sets the technical metadata cache used, when adding files, to avoid hashing and identifying again unchanged
+     * files. The cache is not saved by the SIPBuilder.
+     *
+     * @param technicalMetadataCache the technical metadata cache or null if no cache used
+     */
+    public void setTechnicalMetadataCache(TechnicalMetadataCache technicalMetadataCache) {
+        this.technicalMetadataCache = technicalMetadataCache;
     }
 
     /**
@@ -377,7 +394,7 @@ public class SIPBuilder implements AutoCloseable {
         Path path = Paths.get(onDiskPath);
         bdo = new BinaryDataObject(archiveTransfer.getDataObjectPackage(), path, path.getFileName().toString(),
                 "BinaryMaster_1");
-        bdo.extractTechnicalElements(sedaLibProgressLogger);
+        bdo.extractTechnicalElements(technicalMetadataCache, sedaLibProgressLogger);
         au.addDataObjectById(bdo.getInDataObjectPackageId());
         doProgressLogWithoutInterruption(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS,
                 "sedalib: création d'une sous ArchiveUnit [" + childArchiveUnitID + "] de [" + archiveUnitID + "]", null);
@@ -426,6 +443,7 @@ public class SIPBuilder implements AutoCloseable {
 
         for (String ip : ignorePatterString)
             di.addIgnorePattern(ip);
+        di.setTechnicalMetadataCache(technicalMetadataCache);
         try {
             di.doImport();
         } catch (InterruptedException ignored) {
@@ -478,7 +496,7 @@ public class SIPBuilder implements AutoCloseable {
         Path path = Paths.get(onDiskPathString);
         String filename = path.getFileName().toString();
         BinaryDataObject bdo = new BinaryDataObject(archiveTransfer.getDataObjectPackage(), path, filename, usageVersion);
-        bdo.extractTechnicalElements(sedaLibProgressLogger);
+        bdo.extractTechnicalElements(technicalMetadataCache, sedaLibProgressLogger);
         au.addDataObjectById(bdo.getInDataObjectPackageId());
     }
 
@@ -510,7 +528,7 @@ public class SIPBuilder implements AutoCloseable {
     public ArchiveUnit findArchiveUnitBySimpleDescriptiveMetadata(String metadataName, String metadataValue) throws SEDALibException {
 
         for (ArchiveUnit au : archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values()) {
-            String auValue = au.getContent().getSimpleMetadata(metadataName);
+            String auValue = au.getContentSimpleMetadata(metadataName);
             if ((auValue != null) && (auValue.equals(metadataValue)))
                 return au;
         }
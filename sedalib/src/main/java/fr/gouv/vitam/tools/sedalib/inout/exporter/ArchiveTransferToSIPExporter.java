@@ -34,6 +34,10 @@ import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import fr.gouv.vitam.tools.sedalib.xml.IndentXMLTool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.InputStreamSupplier;
 import org.apache.commons.io.IOUtils;
 
 import javax.xml.stream.XMLStreamException;
@@ -41,13 +45,18 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DateFormat;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLog;
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogIfStep;
@@ -57,9 +66,39 @@ import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgress
  * <p>
  * Class for ArchiveTransfer object export in a SEDA Submission Information
  * Packet (SIP).
+ * <p>
+ * In a SIP, the manifest is always the first zip entry. The BinaryDataObject files are compressed in parallel on a
+ * pool of worker threads, while the manifest is generated, and then stitched in the zip file. The files in formats
+ * that are already fully compressed (zip, jpeg, mp4...) are stored without compression. Office documents formats are
+ * not in this list, as they often contain uncompressed parts.
+ * <p>
+ * If digest verification is asked for, the digest of each BinaryDataObject file is computed on the bytes copied in
+ * the SIP, without any other read pass, and compared to the MessageDigest of the manifest.
  */
 public class ArchiveTransferToSIPExporter {
 
+    /**
+     * The PUIDs of formats which are already compressed, and so are stored in the SIP without compression.
+     */
+    private static final Set<String> COMPRESSED_FORMAT_PUIDS = new HashSet<>(Arrays.asList(
+            // zip, gzip, bzip2, 7z, rar, jar
+            "x-fmt/263", "x-fmt/266", "x-fmt/268", "fmt/484", "x-fmt/264", "fmt/411", "fmt/613", "x-fmt/412",
+            // jpeg, jpeg2000, png, gif, webp
+            "fmt/41", "fmt/42", "fmt/43", "fmt/44", "fmt/645", "x-fmt/398", "x-fmt/390", "x-fmt/391", "x-fmt/392",
+            "fmt/11", "fmt/12", "fmt/13", "fmt/3", "fmt/4", "fmt/566",
+            // mp3, aac, ogg, flac, mpeg-4, quicktime, matroska, webm
+            "fmt/134", "fmt/199", "fmt/203", "fmt/279", "fmt/569", "fmt/573", "x-fmt/384", "fmt/938"));
+
+    /**
+     * The size of the buffer between the manifest XML writer and the output stream.
+     */
+    private static final int MANIFEST_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The worker threads counter, used for thread names.
+     */
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
     /** The archiveTransfer. */
     protected ArchiveTransfer archiveTransfer;
 
@@ -81,6 +120,12 @@ public class ArchiveTransferToSIPExporter {
     /** The export mode. */
     private boolean manifestOnly;
 
+    /** The number of threads used for BinaryDataObject files compression. */
+    private int compressionThreadCount = 1;
+
+    /** The flag for BinaryDataObject files digest verification during SIP export. */
+    private boolean digestVerificationFlag;
+
     /**
      * Instantiates a new ArchiveTransfer to SIP exporter.
      *
@@ -103,12 +148,18 @@ public class ArchiveTransferToSIPExporter {
      */
     public void exportManifestOutputStream(OutputStream os, boolean hierarchicalFlag, boolean indentedFlag)
             throws SEDALibException, InterruptedException {
-        try (SEDAXMLStreamWriter ixsw = new SEDAXMLStreamWriter(os, (indentedFlag ? IndentXMLTool.STANDARD_INDENT : 0))) {
+        BufferedOutputStream bos = new BufferedOutputStream(os, MANIFEST_BUFFER_SIZE);
+        try (SEDAXMLStreamWriter ixsw = new SEDAXMLStreamWriter(bos, (indentedFlag ? IndentXMLTool.STANDARD_INDENT : 0))) {
             xmlWriter = ixsw;
             archiveTransfer.toSedaXml(xmlWriter, hierarchicalFlag, sedaLibProgressLogger);
         } catch (XMLStreamException e) {
             throw new SEDALibException("Echec d'écriture XML du manifest", e);
         }
+        try {
+            bos.flush();
+        } catch (IOException e) {
+            throw new SEDALibException("Echec d'écriture XML du manifest", e);
+        }
     }
 
     /**
@@ -208,41 +259,195 @@ public class ArchiveTransferToSIPExporter {
         } catch (IOException e1) {
             throw new SEDALibException("Impossible de créer le répertoire [" + Paths.get(fileName).toAbsolutePath().getParent().toString() + "]", e1);
         }
-        try (ZipOutputStream zipout = new ZipOutputStream(new FileOutputStream(fileName))) {
-            ZipEntry e = new ZipEntry("manifest.xml");
+        List<BinaryDataObject> bdoList = new ArrayList<>();
+        if (archiveTransfer.getDataObjectPackage().getDataObjectGroupCount() > 0) {
+            for (Map.Entry<String, DataObjectGroup> pair : archiveTransfer.getDataObjectPackage()
+                    .getDogInDataObjectPackageIdMap().entrySet()) {
+                DataObjectGroup og = pair.getValue();
+                if (og.getBinaryDataObjectList() != null)
+                    bdoList.addAll(og.getBinaryDataObjectList());
+            }
+        }
+        for (BinaryDataObject bdo : bdoList)
+            bdo.extractOnDisk();
+        MessageDigest[] verificationDigests = new MessageDigest[bdoList.size()];
+        if (digestVerificationFlag) {
+            for (int i = 0; i < bdoList.size(); i++)
+                verificationDigests[i] = getVerificationDigest(bdoList.get(i));
+        }
+        ExecutorService executor = null;
+        try (ZipArchiveOutputStream zipout = new ZipArchiveOutputStream(new File(fileName))) {
+            ParallelScatterZipCreator scatterZipCreator = null;
+            if ((compressionThreadCount > 1) && (bdoList.size() > 1)) {
+                // all binary objects compressions are launched before the manifest generation
+                executor = Executors.newFixedThreadPool(compressionThreadCount, r -> {
+                    Thread t = new Thread(r, "sedalib-compressor-" + threadCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+                scatterZipCreator = new ParallelScatterZipCreator(executor);
+                for (int i = 0; i < bdoList.size(); i++) {
+                    Path path = bdoList.get(i).getOnDiskPath();
+                    MessageDigest verificationDigest = verificationDigests[i];
+                    InputStreamSupplier inputStreamSupplier = () -> {
+                        try {
+                            return getBinaryInputStream(path, verificationDigest);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    };
+                    scatterZipCreator.addArchiveEntry(createZipArchiveEntry(bdoList.get(i)), inputStreamSupplier);
+                }
+            }
             // manifest
-            zipout.putNextEntry(e);
+            ZipArchiveEntry e = new ZipArchiveEntry("manifest.xml");
+            e.setMethod(ZipEntry.DEFLATED);
+            e.setTime(System.currentTimeMillis());
+            zipout.putArchiveEntry(e);
             exportManifestOutputStream(zipout, hierarchicalFlag, indentedFlag);
-            zipout.closeEntry();
+            zipout.closeArchiveEntry();
             doProgressLog(sedaLibProgressLogger,SEDALibProgressLogger.GLOBAL, "sedalib: manifest exporté", null);
             // all binary objects
-            if (archiveTransfer.getDataObjectPackage().getDataObjectGroupCount() > 0) {
-                for (Map.Entry<String, DataObjectGroup> pair : archiveTransfer.getDataObjectPackage()
-                        .getDogInDataObjectPackageIdMap().entrySet()) {
-                    DataObjectGroup og = pair.getValue();
-                    if (og.getBinaryDataObjectList() != null) {
-                        for (BinaryDataObject bo : og.getBinaryDataObjectList()) {
-                            e = new ZipEntry(bo.uri.getValue());
-                            zipout.putNextEntry(e);
-                            try (FileInputStream fis = new FileInputStream(bo.getOnDiskPath().toFile())) {
-                                IOUtils.copy(fis, zipout);
-                            }
-                            zipout.closeEntry();
-                            counter++;
-                            doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, counter,
-                                    "sedalib: " + counter + " fichiers BinaryDataObject exportés");
-                        }
+            if (scatterZipCreator != null) {
+                scatterZipCreator.writeTo(zipout);
+                counter = bdoList.size();
+                doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP,
+                        "sedalib: " + counter + " fichiers BinaryDataObject exportés", null);
+            } else {
+                for (int i = 0; i < bdoList.size(); i++) {
+                    BinaryDataObject bo = bdoList.get(i);
+                    zipout.putArchiveEntry(createZipArchiveEntry(bo));
+                    try (InputStream is = getBinaryInputStream(bo.getOnDiskPath(), verificationDigests[i])) {
+                        IOUtils.copy(is, zipout);
                     }
+                    zipout.closeArchiveEntry();
+                    counter++;
+                    doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, counter,
+                            "sedalib: " + counter + " fichiers BinaryDataObject exportés");
                 }
             }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException)
+                cause = cause.getCause();
+            throw new SEDALibException("Echec de l'export du SIP dans le fichier [" + fileName + "]", cause);
         } catch (IOException | SEDALibException e) {
             throw new SEDALibException("Echec de l'export du SIP dans le fichier [" + fileName + "]", e);
+        } finally {
+            if (executor != null)
+                executor.shutdownNow();
         }
+        if (digestVerificationFlag)
+            verifyDigests(fileName, bdoList, verificationDigests);
 
         doProgressLog(sedaLibProgressLogger,SEDALibProgressLogger.GLOBAL, "sedalib: export d'un ArchiveTransfer dans un SIP terminé", null);
         end = Instant.now();
     }
 
+    /**
+     * Gets the input stream of a BinaryDataObject file, computing its digest on the way if needed.
+     *
+     * @param path               the file path
+     * @param verificationDigest the verification digest, or null if no verification
+     * @return the input stream
+     * @throws IOException if the file can't be opened
+     */
+    private static InputStream getBinaryInputStream(Path path, MessageDigest verificationDigest) throws IOException {
+        InputStream is = Files.newInputStream(path);
+        if (verificationDigest != null)
+            is = new DigestInputStream(is, verificationDigest);
+        return is;
+    }
+
+    /**
+     * Gets a new message digest, for the algorithm of the BinaryDataObject MessageDigest metadata.
+     *
+     * @param bo the BinaryDataObject
+     * @return the message digest, or null if there's no MessageDigest metadata to verify
+     * @throws SEDALibException if the digest algorithm is not available
+     */
+    private static MessageDigest getVerificationDigest(BinaryDataObject bo) throws SEDALibException {
+        if ((bo.messageDigest == null) || (bo.messageDigest.getValue() == null))
+            return null;
+        String algorithm = (bo.messageDigest.getAlgorithm() == null ? "SHA-512" : bo.messageDigest.getAlgorithm());
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SEDALibException("Impossible de mobiliser l'algorithme de hashage [" + algorithm
+                    + "] pour vérifier le BinaryDataObject [" + bo.getInDataObjectPackageId() + "]", e);
+        }
+    }
+
+    /**
+     * Verify that the digests computed during the export are the same as the MessageDigest metadata of the
+     * manifest.
+     *
+     * @param fileName            the SIP file name
+     * @param bdoList             the exported BinaryDataObjects list
+     * @param verificationDigests the verification digests, in the same order as BinaryDataObjects
+     * @throws SEDALibException     if at least one digest is different
+     * @throws InterruptedException if export process is interrupted
+     */
+    private void verifyDigests(String fileName, List<BinaryDataObject> bdoList, MessageDigest[] verificationDigests)
+            throws SEDALibException, InterruptedException {
+        int errorCount = 0;
+        for (int i = 0; i < bdoList.size(); i++) {
+            if (verificationDigests[i] == null)
+                continue;
+            BinaryDataObject bo = bdoList.get(i);
+            String digest = BinaryDataObject.getHexDigest(verificationDigests[i], bo.getOnDiskPath());
+            if (!digest.equalsIgnoreCase(bo.messageDigest.getValue())) {
+                errorCount++;
+                doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL,
+                        "sedalib: le hash du fichier [" + bo.getOnDiskPath() + "] exporté en [" + bo.uri.getValue()
+                                + "] ne correspond pas au manifest, calculé=" + digest + " attendu="
+                                + bo.messageDigest.getValue(), null);
+            }
+        }
+        if (errorCount > 0)
+            throw new SEDALibException("Echec de la vérification des hashs du SIP dans le fichier [" + fileName
+                    + "], " + errorCount + " fichiers BinaryDataObject ne correspondent pas au manifest");
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL,
+                "sedalib: hashs des fichiers BinaryDataObject exportés vérifiés", null);
+    }
+
+    /**
+     * Creates the zip entry of a BinaryDataObject, stored without compression if its format is already compressed.
+     *
+     * @param bo the BinaryDataObject
+     * @return the zip archive entry
+     */
+    private ZipArchiveEntry createZipArchiveEntry(BinaryDataObject bo) {
+        ZipArchiveEntry e = new ZipArchiveEntry(bo.uri.getValue());
+        if ((bo.formatIdentification != null)
+                && COMPRESSED_FORMAT_PUIDS.contains(bo.formatIdentification.getSimpleMetadata("FormatId")))
+            e.setMethod(ZipEntry.STORED);
+        else
+            e.setMethod(ZipEntry.DEFLATED);
+        e.setTime(System.currentTimeMillis());
+        return e;
+    }
+
+    /**
+     * Sets the number of threads used for BinaryDataObject files compression in SIP export. By default it's 1,
+     * and if 1 or less the compression is done on the exporting thread, without any thread pool.
+     *
+     * @param compressionThreadCount the compression thread count
+     */
+    public void setCompressionThreadCount(int compressionThreadCount) {
+        this.compressionThreadCount = compressionThreadCount;
+    }
+
+    /**
+     * Sets the flag for BinaryDataObject files digest verification during SIP export. If true, the digest of each
+     * file is computed while copying it in the SIP, and the export fails if it's not the same as in the manifest.
+     *
+     * @param digestVerificationFlag the digest verification flag
+     */
+    public void setDigestVerificationFlag(boolean digestVerificationFlag) {
+        this.digestVerificationFlag = digestVerificationFlag;
+    }
+
     /**
      * Gets the summary of the export process.
      *
@@ -35,9 +35,9 @@ import fr.gouv.vitam.tools.sedalib.metadata.namedtype.ComplexListType;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.RuleType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
-import org.apache.commons.io.FileUtils;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -171,9 +171,22 @@ public class DataObjectPackageToCSVMetadataExporter {
     private HashMap<ArchiveUnit, Path> auRelativePathMap;
     private HashSet<String> relativePathStringSet;
     private List<String> headerNames;
-    private ByteArrayOutputStream csvBAOS;
     private PrintStream csvPrintStream;
 
+    /**
+     * The csv rows spill file, where rows are written during ArchiveUnits export, as header ids and values pairs,
+     * before being written in the csv once all header names are known.
+     */
+    private Path csvSpillPath;
+    private DataOutputStream csvSpillStream;
+    private long csvSpillLineCount;
+
+    /**
+     * The header names discovered in exported ArchiveUnits, with their ids in the spill file.
+     */
+    private HashMap<String, Integer> headerIdMap;
+    private List<String> headerIdNames;
+
     /**
      * Instantiates a new DataObjectPackage to csv metadata exporter.
      *
@@ -307,17 +320,11 @@ public class DataObjectPackageToCSVMetadataExporter {
         return sortedHeaderNames;
     }
 
-    // determine the csv header line by extracting metadata names from all ArchiveUnits, sorting this list in SEDA order
-    // and simplifying the unnecessary .0
+    // determine the csv header line from metadata names discovered in all exported ArchiveUnits, sorting this list
+    // in SEDA order
     private void computeCsvHeader() throws SEDALibException {
-        Set<String> curHeaderNames = new HashSet<>();
+        Set<String> curHeaderNames = new HashSet<>(headerIdNames);
         List<String> sortedHeaderNames;
-        for (ArchiveUnit au : dataObjectPackage.getAuInDataObjectPackageIdMap().values()) {
-            Management management = au.getManagement();
-            if (management != null)
-                curHeaderNames.addAll(management.externToCsvList().keySet());
-            curHeaderNames.addAll(au.getContent().externToCsvList(dataObjectPackage.getExportMetadataList()).keySet());
-        }
         sortedHeaderNames = getSortedHeaderNames(new ArrayList<>(), curHeaderNames, "", "Content",
                 Content.class);
         sortedHeaderNames.addAll(getSortedHeaderNames(new ArrayList<>(), curHeaderNames, "", "Management",
@@ -384,22 +391,49 @@ public class DataObjectPackageToCSVMetadataExporter {
         return path.toString().replace("\"", "\"\"");
     }
 
-    // generate one ArchiveUnit line in the csv
+    // get the id of a header name in the spill file, registering it if discovered
+    private int getHeaderId(String headerName) {
+        Integer id = headerIdMap.get(headerName);
+        if (id == null) {
+            id = headerIdNames.size();
+            headerIdMap.put(headerName, id);
+            headerIdNames.add(headerName);
+        }
+        return id;
+    }
+
+    // write a String in the spill file
+    private void writeSpillString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        csvSpillStream.writeInt(bytes.length);
+        csvSpillStream.write(bytes);
+    }
+
+    // read a String from the spill file
+    private static String readSpillString(DataInputStream dis) throws IOException {
+        byte[] bytes = new byte[dis.readInt()];
+        dis.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // generate one ArchiveUnit line in the spill file, first the fixed columns already formatted and then the
+    // metadata header ids and values pairs
     private void generateCsvLine(ArchiveUnit au, ArchiveUnit parentAu, Path auRelativePath) throws SEDALibException {
         LinkedHashMap<String, String> contentMetadataHashMap;
         LinkedHashMap<String, String> managementMetadataHashMap = null;
+        StringBuilder fixedColumns = new StringBuilder();
         String value;
 
         if (extendedFormatFlag) {
-            csvPrintStream.print("\"" + au.getInDataObjectPackageId() + "\"" + separator);
-            if (parentAu == null) csvPrintStream.print("\"\"" + separator);
-            else csvPrintStream.print("\"" + parentAu.getInDataObjectPackageId() + "\"" + separator);
+            fixedColumns.append("\"").append(au.getInDataObjectPackageId()).append("\"").append(separator);
+            if (parentAu == null) fixedColumns.append("\"\"").append(separator);
+            else fixedColumns.append("\"").append(parentAu.getInDataObjectPackageId()).append("\"").append(separator);
         }
         if (fileExportFlag) {
             value = "\"" + auRelativePath.toString().replace("\"", "\"\"") + "\"";
-            csvPrintStream.print(value);
+            fixedColumns.append(value);
         } else {
-            csvPrintStream.print("\"" + getSimplifiedPath(au.getOnDiskPath()) + "\"");
+            fixedColumns.append("\"").append(getSimplifiedPath(au.getOnDiskPath())).append("\"");
         }
         if (extendedFormatFlag) {
             value = "";
@@ -420,19 +454,69 @@ public class DataObjectPackageToCSVMetadataExporter {
                     if (!value.isEmpty()) value = value.substring(1);
                 }
             }
-            csvPrintStream.print(separator + "\"" + value + "\"");
+            fixedColumns.append(separator).append("\"").append(value).append("\"");
         }
-        contentMetadataHashMap = au.getContent().externToCsvList(dataObjectPackage.getExportMetadataList());
-        Management management = au.getManagement();
+        // decoded metadata are not kept in ArchiveUnits, so that memory doesn't grow during export
+        contentMetadataHashMap = au.getReadOnlyContent().externToCsvList(dataObjectPackage.getExportMetadataList());
+        Management management = au.getReadOnlyManagement();
         if (management != null) managementMetadataHashMap = management.externToCsvList();
-        for (String header : headerNames) {
-            value = contentMetadataHashMap.get(header);
-            if ((value == null) && (managementMetadataHashMap != null)) value = managementMetadataHashMap.get(header);
-            if (value == null) value = "";
-            else value = "\"" + value.replace("\"", "\"\"") + "\"";
-            csvPrintStream.print(separator + value);
+        try {
+            writeSpillString(fixedColumns.toString());
+            int count = contentMetadataHashMap.size();
+            if (managementMetadataHashMap != null) {
+                for (String header : managementMetadataHashMap.keySet())
+                    if (!contentMetadataHashMap.containsKey(header)) count++;
+            }
+            csvSpillStream.writeInt(count);
+            for (Map.Entry<String, String> e : contentMetadataHashMap.entrySet()) {
+                csvSpillStream.writeInt(getHeaderId(e.getKey()));
+                writeSpillString(e.getValue() == null ? "" : e.getValue());
+            }
+            if (managementMetadataHashMap != null) {
+                for (Map.Entry<String, String> e : managementMetadataHashMap.entrySet()) {
+                    if (contentMetadataHashMap.containsKey(e.getKey())) continue;
+                    csvSpillStream.writeInt(getHeaderId(e.getKey()));
+                    writeSpillString(e.getValue() == null ? "" : e.getValue());
+                }
+            }
+            csvSpillLineCount++;
+        } catch (IOException e) {
+            throw new SEDALibException("Ecriture du fichier temporaire des lignes csv [" + csvSpillPath + "] impossible", e);
+        }
+    }
+
+    // write all the ArchiveUnits lines from the spill file in the csv, ordering values as the header line
+    private void printCsvLines() throws SEDALibException {
+        int[] columnOfHeaderId = new int[headerIdNames.size()];
+        Arrays.fill(columnOfHeaderId, -1);
+        for (int i = 0; i < headerNames.size(); i++) {
+            // a header can be generated from a longer one with the same prefix, and then have no value
+            Integer headerId = headerIdMap.get(headerNames.get(i));
+            if (headerId != null)
+                columnOfHeaderId[headerId] = i;
+        }
+        String[] values = new String[headerNames.size()];
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(csvSpillPath),
+                65536))) {
+            for (long line = 0; line < csvSpillLineCount; line++) {
+                csvPrintStream.print(readSpillString(dis));
+                Arrays.fill(values, null);
+                int count = dis.readInt();
+                for (int i = 0; i < count; i++) {
+                    int column = columnOfHeaderId[dis.readInt()];
+                    String value = readSpillString(dis);
+                    if ((column >= 0) && (values[column] == null)) values[column] = value;
+                }
+                for (String value : values) {
+                    if (value == null) value = "";
+                    else value = "\"" + value.replace("\"", "\"\"") + "\"";
+                    csvPrintStream.print(separator + value);
+                }
+                csvPrintStream.println();
+            }
+        } catch (IOException e) {
+            throw new SEDALibException("Lecture du fichier temporaire des lignes csv [" + csvSpillPath + "] impossible", e);
         }
-        csvPrintStream.println();
     }
 
     // get the best Usage_Version object in a list of objects. First find the best Usage and then find the first or
@@ -521,8 +605,8 @@ public class DataObjectPackageToCSVMetadataExporter {
     // Construct directory name for ArchiveUnit and insert id if already exists.
     private String constructArchiveUnitDirectoryName(Path auRrelativePath, ArchiveUnit au) throws SEDALibException {
         String dirName = "";
-        if (au.getContent() != null) {
-            dirName = au.getContent().getSimpleMetadata("Title");
+        if (au.hasContent()) {
+            dirName = au.getContentSimpleMetadata("Title");
             if (dirName == null)
                 dirName = "NoTitle";
             if ((maxNameSize > 0) && (dirName.length() > maxNameSize))
@@ -685,8 +769,10 @@ public class DataObjectPackageToCSVMetadataExporter {
         if ((objectList != null) && !objectList.isEmpty()) {
             for (BinaryDataObject bdo : objectList) {
                 filename = constructObjectFileName(auRelativePath, bdo, objectList.size() == 1, true);
-                if (fileExportFlag)
+                if (fileExportFlag) {
+                    bdo.extractOnDisk();
                     copyFile(bdo.getOnDiskPath(), auRelativePath.resolve(filename));
+                }
             }
         }
         return filename;
@@ -752,22 +838,58 @@ public class DataObjectPackageToCSVMetadataExporter {
             }
     }
 
-    private void createCsvBAOSPrintScream() throws SEDALibException {
+    private void createCsvSpillStream() throws SEDALibException {
         try {
-            csvBAOS = new ByteArrayOutputStream();
-            csvPrintStream = new PrintStream(csvBAOS, true, encoding);
-        } catch (UnsupportedEncodingException e) {
+            if (!Charset.isSupported(encoding))
+                throw new SEDALibException("Encodage [" + encoding + "] inconnu");
+        } catch (IllegalArgumentException e) {
             throw new SEDALibException("Encodage [" + encoding + "] inconnu", e);
         }
+        try {
+            csvSpillPath = Files.createTempFile("sedalib-csv", ".tmp");
+            csvSpillStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(csvSpillPath), 65536));
+        } catch (IOException e) {
+            throw new SEDALibException("Création du fichier temporaire des lignes csv impossible", e);
+        }
+        csvSpillLineCount = 0;
+        headerIdMap = new HashMap<>();
+        headerIdNames = new ArrayList<>();
+    }
+
+    private void closeCsvSpillStream() {
+        if (csvSpillStream != null)
+            try {
+                csvSpillStream.close();
+            } catch (IOException ignored) {
+                // too bad
+            }
+        csvSpillStream = null;
+        if (csvSpillPath != null)
+            try {
+                Files.deleteIfExists(csvSpillPath);
+            } catch (IOException e) {
+                csvSpillPath.toFile().deleteOnExit();
+            }
+        csvSpillPath = null;
     }
 
     private void finaliseWithCsvMetadataFile() throws SEDALibException {
-        csvPrintStream.flush();
+        try {
+            csvSpillStream.close();
+        } catch (IOException e) {
+            throw new SEDALibException("Ecriture du fichier temporaire des lignes csv [" + csvSpillPath + "] impossible", e);
+        }
+        computeCsvHeader();
         if (zipOS != null)
             try {
                 ZipEntry e = new ZipEntry(csvMetadataFileName);
                 zipOS.putNextEntry(e);
-                zipOS.write(csvBAOS.toByteArray());
+                csvPrintStream = new PrintStream(new BufferedOutputStream(zipOS, 65536), false, encoding);
+                printCsvHeader();
+                printCsvLines();
+                csvPrintStream.flush();
+                if (csvPrintStream.checkError())
+                    throw new IOException("Erreur d'écriture");
                 zipOS.closeEntry();
                 zipOS.close();
                 zipOS = null;
@@ -777,17 +899,21 @@ public class DataObjectPackageToCSVMetadataExporter {
                                 "] avec sauvegarde du fichier de métadonnées [" + csvMetadataFileName + "] impossible", e);
             }
         else {
-            try {
-                FileUtils.writeByteArrayToFile(rootPath.resolve(csvMetadataFileName).toFile(), csvBAOS.toByteArray());
+            try (OutputStream os = new BufferedOutputStream(
+                    Files.newOutputStream(rootPath.resolve(csvMetadataFileName)), 65536)) {
+                csvPrintStream = new PrintStream(os, false, encoding);
+                printCsvHeader();
+                printCsvLines();
+                csvPrintStream.flush();
+                if (csvPrintStream.checkError())
+                    throw new IOException("Erreur d'écriture");
             } catch (IOException e) {
                 throw new SEDALibException(
                         "Finalisation de l'export en [" + rootPath.toString() +
                                 "] avec sauvegarde du fichier de métadonnées [" + csvMetadataFileName + "] impossible", e);
             }
         }
-        csvPrintStream.close();
         csvPrintStream = null;
-        csvBAOS = null;
     }
 
     // inner utility function to export all disk representation, optionnaly in zip form, or only csv file
@@ -805,17 +931,18 @@ public class DataObjectPackageToCSVMetadataExporter {
 
         createDirectories(null);
         defineZipOutputStreamOrNull(rootPath, zipFileName);
-        createCsvBAOSPrintScream();
-
-        computeCsvHeader();
-        printCsvHeader();
+        try {
+            createCsvSpillStream();
 
-        dataObjectPackage.resetInOutCounter();
-        for (ArchiveUnit au : dataObjectPackage.getGhostRootAu().getChildrenAuList().getArchiveUnitList())
-            exportArchiveUnit(au, null, Paths.get(""));
-        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, "sedalib: " + dataObjectPackage.getInOutCounter() + " ArchiveUnit exportées", null);
+            dataObjectPackage.resetInOutCounter();
+            for (ArchiveUnit au : dataObjectPackage.getGhostRootAu().getChildrenAuList().getArchiveUnitList())
+                exportArchiveUnit(au, null, Paths.get(""));
+            doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, "sedalib: " + dataObjectPackage.getInOutCounter() + " ArchiveUnit exportées", null);
 
-        finaliseWithCsvMetadataFile();
+            finaliseWithCsvMetadataFile();
+        } finally {
+            closeCsvSpillStream();
+        }
 
         doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL, "sedalib: export csv simplifié terminé", null);
         end = Instant.now();
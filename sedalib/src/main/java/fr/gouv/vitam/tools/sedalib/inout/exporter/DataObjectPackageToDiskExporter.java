@@ -217,8 +217,8 @@ public class DataObjectPackageToDiskExporter {
      */
     private String constructDirectoryName(ArchiveUnit au) throws SEDALibException {
         String result = "";
-        if (au.getContent() != null) {
-            result = au.getContent().getSimpleMetadata("Title");
+        if (au.hasContent()) {
+            result = au.getContentSimpleMetadata("Title");
             if (result == null)
                 result = "NoTitle";
             else if (result.length() > 12)
@@ -282,10 +282,10 @@ public class DataObjectPackageToDiskExporter {
         for (DataObject zdo : archiveUnit.getDataObjectRefList().getDataObjectList()) {
             if (zdo instanceof DataObjectGroup) {
                 if (complexDataObjectRefList
-                        || (dataObjectPackage.isTouchedInDataObjectPackageId(zdo.getInDataObjectPackageId())))
+                        || (dataObjectPackage.isTouchedInDataObjectPackageId((DataObjectGroup) zdo)))
                     dogPathStringMap.put((DataObjectGroup) zdo, emptyPath);
                 else
-                    dataObjectPackage.addTouchedInDataObjectPackageId(zdo.getInDataObjectPackageId());
+                    dataObjectPackage.addTouchedInDataObjectPackageId((DataObjectGroup) zdo);
             }
         }
         for (ArchiveUnit childAu : archiveUnit.getChildrenAuList().getArchiveUnitList()) {
@@ -318,6 +318,7 @@ public class DataObjectPackageToDiskExporter {
             throw new SEDALibException("Collision de fichiers de représentation [" + targetOnDiskPath.toString()
                     + "] détectée sur le BinaryDataObject [" + bdo.getInDataObjectPackageId() + "]");
         filesPathSet.add(targetOnDiskPath);
+        bdo.extractOnDisk();
         try {
             Files.copy(bdo.getOnDiskPath(), targetOnDiskPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
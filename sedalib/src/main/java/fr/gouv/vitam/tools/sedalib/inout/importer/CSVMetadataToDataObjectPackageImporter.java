@@ -35,6 +35,9 @@ import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
 import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
 import fr.gouv.vitam.tools.sedalib.core.DataObjectGroup;
 import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
+import fr.gouv.vitam.tools.sedalib.metadata.management.Management;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 
@@ -49,6 +52,8 @@ import java.text.DateFormat;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLog;
 import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogIfStep;
@@ -94,6 +99,21 @@ import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgress
  */
 public class CSVMetadataToDataObjectPackageImporter {
 
+    /**
+     * The number of csv rows converted together by a worker thread.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * The number of converted chunks allowed to wait by worker thread, before the reading thread waits for them.
+     */
+    private static final int PENDING_CHUNKS_BY_THREAD = 4;
+
+    /**
+     * The worker threads counter, used for thread names.
+     */
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
     private class Line {
         /**
          * The Guid.
@@ -121,6 +141,34 @@ public class CSVMetadataToDataObjectPackageImporter {
          * The Management xml metadata.
          */
         String managementXMLMetadata;
+        /**
+         * The metadata decoded and files checked flag, set when done in parallel before the ArchiveUnit creation.
+         */
+        boolean prepared;
+        /**
+         * The Content decoded in parallel, or null if decoding failed.
+         */
+        Content content;
+        /**
+         * The Management decoded in parallel, or null if none or if decoding failed.
+         */
+        Management management;
+        /**
+         * The metadata decoding exception, thrown when the ArchiveUnit is created, or null.
+         */
+        SEDALibException decodingException;
+        /**
+         * The File is a regular file flag, checked in parallel.
+         */
+        boolean isRegularFile;
+        /**
+         * The File is a directory flag, checked in parallel.
+         */
+        boolean isDirectory;
+        /**
+         * The Object Files on disk checks, done in parallel.
+         */
+        boolean[] objectFileExists;
         /**
          * The Au.
          */
@@ -186,6 +234,11 @@ public class CSVMetadataToDataObjectPackageImporter {
 
     private Map<String, Line> linesMap;
 
+    /**
+     * The number of threads used for csv lines conversion and technical elements extraction.
+     */
+    private int threadCount;
+
     /**
      * The progress logger.
      */
@@ -211,10 +264,121 @@ public class CSVMetadataToDataObjectPackageImporter {
         this.sedaLibProgressLogger = sedaLibProgressLogger;
         this.encoding = encoding;
         this.separator = separator;
+        this.threadCount = 1;
+    }
+
+    /**
+     * Sets the number of threads used for csv lines conversion in metadata, files checks and BinaryDataObject
+     * technical elements extraction. By default it's 1, and if 1 or less all is done on the importing thread,
+     * without any thread pool.
+     *
+     * @param threadCount the thread count
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Convert a csv row in a line.
+     *
+     * @param metadataFormatter the metadata formatter
+     * @param row               the row
+     * @param lineNumber        the line number in the csv file
+     * @return the line
+     * @throws SEDALibException if the row is badly formatted
+     */
+    private Line convertRow(CSVMetadataFormatter metadataFormatter, String[] row, int lineNumber)
+            throws SEDALibException {
+        try {
+            return new Line(metadataFormatter.getGUID(row), metadataFormatter.getParentGUID(row), //NOSONAR
+                    metadataFormatter.getFile(row), metadataFormatter.getObjectFiles(row), metadataFormatter.doFormatAndExtractContentXML(row), metadataFormatter.extractManagementXML());
+        } catch (SEDALibException e) {
+            throw new SEDALibException("Erreur sur la ligne " + lineNumber, e);
+        }
+    }
+
+    /**
+     * Decode a line metadata and check its files on disk. A decoding exception is kept in the line, to be thrown
+     * when the ArchiveUnit is created.
+     *
+     * @param line the line
+     */
+    private void prepareLine(Line line) {
+        try {
+            line.content = (Content) SEDAMetadata.fromString(line.contentXMLMetadata, Content.class);
+            if (!line.managementXMLMetadata.isEmpty())
+                line.management = (Management) SEDAMetadata.fromString(line.managementXMLMetadata, Management.class);
+        } catch (SEDALibException e) {
+            line.decodingException = e;
+        }
+        Path path = getAbsolutePath(line.file);
+        line.isRegularFile = Files.isRegularFile(path);
+        line.isDirectory = !line.isRegularFile && Files.isDirectory(path);
+        line.objectFileExists = new boolean[line.objectFiles.size()];
+        if (isExtendedFormat) {
+            for (int i = 0; i < line.objectFiles.size(); i++)
+                line.objectFileExists[i] = Files.isRegularFile(getAbsolutePath(line.objectFiles.get(i)));
+        }
+        line.prepared = true;
+    }
+
+    /**
+     * Convert a chunk of csv rows in lines, with decoded metadata and files checks. This is done in parallel
+     * for different chunks, each with its own metadata formatter.
+     *
+     * @param metadataFormatter   the metadata formatter, only used by this conversion
+     * @param rows                the rows
+     * @param firstRowLineNumber  the line number in the csv file of the first row
+     * @return the lines
+     * @throws SEDALibException if a row is badly formatted
+     */
+    private List<Line> convertRows(CSVMetadataFormatter metadataFormatter, List<String[]> rows, int firstRowLineNumber)
+            throws SEDALibException {
+        List<Line> lines = new ArrayList<>(rows.size());
+        int lineNumber = firstRowLineNumber;
+        for (String[] row : rows) {
+            Line line = convertRow(metadataFormatter, row, lineNumber);
+            prepareLine(line);
+            lines.add(line);
+            lineNumber++;
+        }
+        return lines;
+    }
+
+    /**
+     * Collect a converted chunk of lines in the lines map, waiting for it if needed.
+     *
+     * @param future    the chunk conversion future
+     * @param lineCount the line count before this chunk
+     * @return the line count after this chunk
+     * @throws SEDALibException     if a row is badly formatted
+     * @throws InterruptedException if import process is interrupted
+     */
+    private int collectLines(Future<List<Line>> future, int lineCount) throws SEDALibException, InterruptedException {
+        List<Line> lines;
+        try {
+            lines = future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SEDALibException)
+                throw (SEDALibException) e.getCause();
+            throw new SEDALibException("Erreur dans l'interprétation du fichier csv [" + csvMetadataFileName + "]",
+                    e.getCause());
+        }
+        for (Line line : lines) {
+            linesMap.put(line.guid, line);
+            lineCount++;
+            doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, lineCount, "sedalib: " + lineCount + " lignes interprétées");
+        }
+        return lineCount;
     }
 
     /**
-     * Read csv file and construct the map with all parsed csv lines by GUID either ID or file name
+     * Read csv file and construct the map with all parsed csv lines by GUID either ID or file name.
+     * <p>
+     * The csv rows are read in order on the calling thread. With only one thread, each row is converted when read,
+     * and its metadata are decoded only when its ArchiveUnit is created. With more threads, rows are converted by
+     * chunks in parallel, with metadata decoding and files checks. Converted chunks are collected in order, so that
+     * the lines map and the first reported error are the same as in a serial conversion.
      *
      * @return the need ID regeneration flag
      * @throws SEDALibException     if csv file can't be accessed or is badly formatted
@@ -222,13 +386,24 @@ public class CSVMetadataToDataObjectPackageImporter {
      */
     private boolean readCSVFile() throws SEDALibException, InterruptedException {
         int lineCount = 0;
+        int collectedLineCount = 1;
+        String[] headerRow = null;
         CSVMetadataFormatter metadataFormatter = null;
-        Line currentLine;
+        List<String[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        int chunkFirstLineNumber = 2;
+        ArrayDeque<Future<List<Line>>> pendingChunks = new ArrayDeque<>();
+        ExecutorService executor = null;
 
         linesMap = new HashMap<>();
         CsvMapper mapper = new CsvMapper();
         CsvSchema schema = mapper.schemaFor(String[].class).withColumnSeparator(separator);
         mapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
+        if (threadCount > 1)
+            executor = Executors.newFixedThreadPool(threadCount, r -> {
+                Thread t = new Thread(r, "sedalib-csvimport-" + threadCounter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
         try (InputStreamReader isr = new InputStreamReader(new FileInputStream(csvMetadataFileName), encoding);
              MappingIterator<String[]> it = mapper.readerFor(String[].class).with(schema).readValues(isr)) {
             while (it.hasNext()) {
@@ -238,19 +413,36 @@ public class CSVMetadataToDataObjectPackageImporter {
                 if (lineCount == 1) {
                     metadataFormatter = new CSVMetadataFormatter(row, Paths.get(csvMetadataFileName).toAbsolutePath().getParent());
                     isExtendedFormat = metadataFormatter.isExtendedFormat();
+                    headerRow = row;
+                    continue;
+                }
+                if (executor == null) {
+                    Line line = convertRow(metadataFormatter, row, lineCount);
+                    linesMap.put(line.guid, line);
+                    doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, lineCount, "sedalib: " + lineCount + " lignes interprétées");
                     continue;
                 }
-                try {
-                    currentLine = new Line(metadataFormatter.getGUID(row), metadataFormatter.getParentGUID(row), //NOSONAR
-                            metadataFormatter.getFile(row), metadataFormatter.getObjectFiles(row), metadataFormatter.doFormatAndExtractContentXML(row), metadataFormatter.extractManagementXML());
-                } catch (SEDALibException e) {
-                    throw new SEDALibException("Erreur sur la ligne "+lineCount, e);
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    pendingChunks.add(submitRows(executor, headerRow, chunk, chunkFirstLineNumber));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    chunkFirstLineNumber = lineCount + 1;
+                    // limit the number of converted lines waiting in memory
+                    while (pendingChunks.size() > Math.max(1, threadCount) * PENDING_CHUNKS_BY_THREAD)
+                        collectedLineCount = collectLines(pendingChunks.poll(), collectedLineCount);
                 }
-                linesMap.put(metadataFormatter.getGUID(row), currentLine);
-                doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, lineCount, "sedalib: " + lineCount + " lignes interprétées");
+                if (Thread.currentThread().isInterrupted())
+                    throw new InterruptedException();
             }
+            if (!chunk.isEmpty())
+                pendingChunks.add(submitRows(executor, headerRow, chunk, chunkFirstLineNumber));
+            while (!pendingChunks.isEmpty())
+                collectedLineCount = collectLines(pendingChunks.poll(), collectedLineCount);
         } catch (IOException e) {
             throw new SEDALibException("Le fichier csv [" + csvMetadataFileName + "] n'est pas accessible");
+        } finally {
+            if (executor != null)
+                executor.shutdownNow();
         }
         if (metadataFormatter != null)
             return metadataFormatter.needIdRegeneration();
@@ -258,6 +450,22 @@ public class CSVMetadataToDataObjectPackageImporter {
             return false;
     }
 
+    /**
+     * Submit a chunk of csv rows conversion.
+     *
+     * @param executor             the executor
+     * @param headerRow            the header row
+     * @param rows                 the rows
+     * @param firstRowLineNumber   the line number in the csv file of the first row
+     * @return the chunk conversion future
+     */
+    private Future<List<Line>> submitRows(ExecutorService executor, String[] headerRow, List<String[]> rows,
+                                          int firstRowLineNumber) {
+        // metadata formatters are not thread safe, each chunk has its own
+        return executor.submit(() -> convertRows(new CSVMetadataFormatter(headerRow,
+                Paths.get(csvMetadataFileName).toAbsolutePath().getParent()), rows, firstRowLineNumber));
+    }
+
     private Path getAbsolutePath(String file) {
         Path path = Paths.get(file);
         if (!path.isAbsolute())
@@ -273,18 +481,20 @@ public class CSVMetadataToDataObjectPackageImporter {
         au.setInDataObjectPackageId("Import-" + line.guid);
         dataObjectPackage.addArchiveUnit(au);
 
-        au.setContentXmlData(line.contentXMLMetadata);
-        au.getContent();
-        if (!line.managementXMLMetadata.isEmpty()) {
-            au.setManagementXmlData(line.managementXMLMetadata);
-            au.getManagement();
-        }
+        if (!line.prepared)
+            prepareLine(line);
+        if (line.decodingException != null)
+            throw line.decodingException;
+        au.setContent(line.content);
+        if (line.management != null)
+            au.setManagement(line.management);
         Path path = getAbsolutePath(line.file);
         DataObjectGroup implicitDog = null;
         if (isExtendedFormat) {
-            for (String objectFile : line.objectFiles) {
+            for (int i = 0; i < line.objectFiles.size(); i++) {
+                String objectFile = line.objectFiles.get(i);
                 Path objectPath = getAbsolutePath(objectFile);
-                if (!Files.isRegularFile(objectPath)) {
+                if (!line.objectFileExists[i]) {
                     doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP,
                             "sedalib: la référence sur le disque du fichier objet [" + objectFile + "] n'est plus valable", null);
                     continue;
@@ -299,11 +509,11 @@ public class CSVMetadataToDataObjectPackageImporter {
                 }
             }
         } else {
-            if (Files.isRegularFile(path)) {
+            if (line.isRegularFile) {
                 bdo = new BinaryDataObject(dataObjectPackage, path, path.getFileName().toString(),
                         "BinaryMaster_1");
                 au.addDataObjectById(bdo.getInDataObjectPackageId());
-            } else if (Files.isDirectory(path)) {
+            } else if (line.isDirectory) {
                 try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
                     for (Path subPath : stream) {
                         if (Files.isRegularFile(subPath)) {
@@ -378,14 +588,14 @@ public class CSVMetadataToDataObjectPackageImporter {
         if (needIdRegeneration)
             dataObjectPackage.regenerateContinuousIds();
 
-        lineCount = 0;
-        for (Map.Entry<String, BinaryDataObject> pair : dataObjectPackage.getBdoInDataObjectPackageIdMap().entrySet()) {
-            if (pair.getValue().fileInfo.getSimpleMetadata("LastModified") == null)
-                pair.getValue().extractTechnicalElements(sedaLibProgressLogger);
-            lineCount++;
-            doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, lineCount, "sedalib: " + lineCount +
-                    " fichiers BinaryDataObject analysés");
+        try (TechnicalElementsExtractor extractor = new TechnicalElementsExtractor(threadCount, sedaLibProgressLogger)) {
+            for (Map.Entry<String, BinaryDataObject> pair : dataObjectPackage.getBdoInDataObjectPackageIdMap().entrySet()) {
+                if (pair.getValue().fileInfo.getSimpleMetadata("LastModified") == null)
+                    extractor.submit(pair.getValue());
+            }
+            extractor.waitForAll();
         }
+        lineCount = dataObjectPackage.getBdoInDataObjectPackageIdMap().size();
         doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP, "sedalib: " + lineCount + " fichiers BinaryDataObject analysés et importés dans le DataObjectPackage", null);
         end = Instant.now();
         doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL, "sedalib: import du fichier csv de métadonnées terminé", null);
@@ -31,6 +31,7 @@ import fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer;
 import fr.gouv.vitam.tools.sedalib.core.GlobalMetadata;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -225,6 +226,26 @@ public class DiskToArchiveTransferImporter {
         diskToDataObjectPackageImporter.addIgnorePattern(patternString);
     }
 
+    /**
+     * Sets the number of threads used for BinaryDataObject technical elements extraction.
+     *
+     * @param extractionThreadCount the extraction thread count
+     * @see DiskToDataObjectPackageImporter#setExtractionThreadCount(int)
+     */
+    public void setExtractionThreadCount(int extractionThreadCount) {
+        diskToDataObjectPackageImporter.setExtractionThreadCount(extractionThreadCount);
+    }
+
+    /**
+     * Sets the technical metadata cache used to avoid hashing and identifying again unchanged files.
+     *
+     * @param technicalMetadataCache the technical metadata cache or null if no cache used
+     * @see DiskToDataObjectPackageImporter#setTechnicalMetadataCache(TechnicalMetadataCache)
+     */
+    public void setTechnicalMetadataCache(TechnicalMetadataCache technicalMetadataCache) {
+        diskToDataObjectPackageImporter.setTechnicalMetadataCache(technicalMetadataCache);
+    }
+
     /**
      * Process the GlobalMetadata file.
      *
@@ -31,6 +31,7 @@ import fr.gouv.vitam.tools.sedalib.core.*;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
 
 import javax.xml.stream.XMLStreamException;
@@ -142,6 +143,8 @@ import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgress
  * <li>noLinkFlag: determine if the windows shortcut or windows/linux symbolic link are ignored (default false)</li>
  * <li>extractTitleFromFileNameFunction: define the function used to extract Title from file name (default simple copy)</li>
  * </ul>
+ * The BinaryDataObject technical elements (size, digest, format identification...) are extracted by a pool of
+ * threads, while the hierarchy walk goes on (see {@link TechnicalElementsExtractor}).
  */
 public class DiskToDataObjectPackageImporter {
 
@@ -211,6 +214,21 @@ public class DiskToDataObjectPackageImporter {
      */
     public static final Function<String, String> simpleCopy = s -> s;
 
+    /**
+     * The number of threads used for BinaryDataObject technical elements extraction.
+     */
+    private int extractionThreadCount;
+
+    /**
+     * The technical metadata cache, or null if no cache used.
+     */
+    private TechnicalMetadataCache technicalMetadataCache;
+
+    /**
+     * The technical elements extractor, only defined during import.
+     */
+    private TechnicalElementsExtractor technicalElementsExtractor;
+
     /**
      * The progress logger.
      */
@@ -232,6 +250,9 @@ public class DiskToDataObjectPackageImporter {
             this.extractTitleFromFileNameFunction = simpleCopy;
 
         this.inCounter = 0;
+        this.extractionThreadCount = 1;
+        this.technicalMetadataCache = null;
+        this.technicalElementsExtractor = null;
         this.sedaLibProgressLogger = sedaLibProgressLogger;
     }
 
@@ -323,6 +344,27 @@ public class DiskToDataObjectPackageImporter {
     }
 
 
+    /**
+     * Sets the number of threads used for BinaryDataObject technical elements extraction (digest, DROID
+     * identification...). By default it's 1, and if 1 or less the extraction is done on the importing thread,
+     * without any thread pool.
+     *
+     * @param extractionThreadCount the extraction thread count
+     */
+    public void setExtractionThreadCount(int extractionThreadCount) {
+        this.extractionThreadCount = extractionThreadCount;
+    }
+
+    /**
+     * Sets the technical metadata cache used to avoid hashing and identifying again unchanged files. The cache is
+     * not saved by the importer.
+     *
+     * @param technicalMetadataCache the technical metadata cache or null if no cache used
+     */
+    public void setTechnicalMetadataCache(TechnicalMetadataCache technicalMetadataCache) {
+        this.technicalMetadataCache = technicalMetadataCache;
+    }
+
     /**
      * Test if a file name is compliant to one of ignore patterns.
      *
@@ -798,6 +840,10 @@ public class DiskToDataObjectPackageImporter {
         dog.addDataObject(bdo);
         au.addDataObjectById(dog.getInDataObjectPackageId());
 
+        // no metadata file can be associated to this BinaryDataObject, so extraction can begin during the walk
+        if (technicalElementsExtractor != null)
+            technicalElementsExtractor.submit(bdo);
+
         return au;
     }
 
@@ -874,33 +920,38 @@ public class DiskToDataObjectPackageImporter {
         ArchiveUnit au;
         start = Instant.now();
 
-        try (Stream<Path> sp = onDiskRootPaths.stream()) {
-            inCounter=0;
-            pi = sp.iterator();
-            while (pi.hasNext()) {
-                nextPath = pi.next();
-                if (nextPath.getFileName().toString().equals("__ManagementMetadata.xml")) {
-                    dataObjectPackage.setManagementMetadataXmlData(processManagementMetadata(nextPath));
-                    continue;
+        try (TechnicalElementsExtractor extractor = new TechnicalElementsExtractor(extractionThreadCount,
+                technicalMetadataCache, sedaLibProgressLogger)) {
+            technicalElementsExtractor = extractor;
+            try (Stream<Path> sp = onDiskRootPaths.stream()) {
+                inCounter = 0;
+                pi = sp.iterator();
+                while (pi.hasNext()) {
+                    nextPath = pi.next();
+                    if (nextPath.getFileName().toString().equals("__ManagementMetadata.xml")) {
+                        dataObjectPackage.setManagementMetadataXmlData(processManagementMetadata(nextPath));
+                        continue;
+                    }
+                    au = processPath(nextPath);
+                    if (au != null)
+                        dataObjectPackage.addRootAu(au);
                 }
-                au = processPath(nextPath);
-                if (au != null)
-                    dataObjectPackage.addRootAu(au);
+                doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP, "sedalib: " + inCounter + " métadonnées ArchiveUnits importées dans le DataObjectPackage", null);
+            } catch (SEDALibException e) {
+                throw new SEDALibException("Impossible d'importer les ressources du répertoire ["
+                        + nextPath.toString() + "]", e);
             }
-            doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP, "sedalib: " + inCounter + " métadonnées ArchiveUnits importées dans le DataObjectPackage", null);
-        } catch (SEDALibException e) {
-            throw new SEDALibException("Impossible d'importer les ressources du répertoire ["
-                    + nextPath.toString() + "]",e);
-        }
 
-        inCounter = 0;
-        for (Map.Entry<String, BinaryDataObject> pair : dataObjectPackage.getBdoInDataObjectPackageIdMap().entrySet()) {
-            if (pair.getValue().fileInfo.getSimpleMetadata("LastModified") == null)
-                pair.getValue().extractTechnicalElements(sedaLibProgressLogger);
-            inCounter++;
-            doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, inCounter, "sedalib: " + inCounter +
-                        " fichiers BinaryDataObject analysés");
+            for (Map.Entry<String, BinaryDataObject> pair : dataObjectPackage.getBdoInDataObjectPackageIdMap().entrySet()) {
+                if (!extractor.isSubmitted(pair.getValue())
+                        && (pair.getValue().fileInfo.getSimpleMetadata("LastModified") == null))
+                    extractor.submit(pair.getValue());
+            }
+            extractor.waitForAll();
+        } finally {
+            technicalElementsExtractor = null;
         }
+        inCounter = dataObjectPackage.getBdoInDataObjectPackageIdMap().size();
         doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.STEP, "sedalib: "+ inCounter + " fichiers BinaryDataObject analysés et importés dans le DataObjectPackage", null);
         end = Instant.now();
     }
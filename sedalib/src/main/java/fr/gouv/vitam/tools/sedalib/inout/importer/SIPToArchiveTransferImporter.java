@@ -28,6 +28,7 @@
 package fr.gouv.vitam.tools.sedalib.inout.importer;
 
 import fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer;
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
@@ -40,6 +41,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -56,8 +58,13 @@ import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgress
  * <p>
  * Class for SEDA Submission Information Packet (SIP) import in
  * ArchiveTransfer object.
+ * <p>
+ * By default the SIP is fully uncompressed in the uncompress directory before the manifest is read. In lazy
+ * extraction mode, the manifest is read directly in the zip file and each BinaryDataObject file is only extracted in
+ * the uncompress directory when its content is needed. In this mode the importer has to be closed, when all needed
+ * files are extracted, to release the zip file.
  */
-public class SIPToArchiveTransferImporter {
+public class SIPToArchiveTransferImporter implements AutoCloseable {
 
     /**
      * The zip file.
@@ -84,6 +91,16 @@ public class SIPToArchiveTransferImporter {
      */
     private SEDALibProgressLogger sedaLibProgressLogger;
 
+    /**
+     * The lazy extraction mode flag.
+     */
+    private boolean lazyExtractionFlag;
+
+    /**
+     * The lazy file extractor, opened in lazy extraction mode.
+     */
+    private ZipEntryLazyFileExtractor lazyFileExtractor;
+
     /**
      * Unzip file.
      *
@@ -108,11 +125,9 @@ public class SIPToArchiveTransferImporter {
             // get the zipped file list entry
             ArchiveEntry ze;
             while ((ze = zais.getNextEntry()) != null) {
-                String fileName = ze.getName().trim();
                 // change any case ConTenT to lowercase content on import as in fromSEDA in
                 // BinaryDataObject
-                if (fileName.toLowerCase().startsWith("content"))
-                    fileName = "content" + fileName.substring(7);
+                String fileName = ZipEntryLazyFileExtractor.normalizeName(ze.getName());
 
                 Path newPath = Paths.get(outputFolder + File.separator + fileName);
 
@@ -120,7 +135,7 @@ public class SIPToArchiveTransferImporter {
                     if (!Files.exists(newPath))
                         Files.createDirectories(newPath);
                 } else {
-                    if (fileName.toLowerCase().matches("[^/\\\\]*manifest.*\\.xml")) {
+                    if (isManifestName(fileName)) {
                         if (manifest != null)
                             throw new SEDALibException("SIP mal formé, plusieurs fichiers manifest potentiels");
                         manifest = fileName;
@@ -152,6 +167,16 @@ public class SIPToArchiveTransferImporter {
         return manifest;
     }
 
+    /**
+     * Checks if a zip entry name is a potential manifest name (name has to begin by manifest in any case).
+     *
+     * @param fileName the zip entry file name
+     * @return true, if it's a potential manifest name
+     */
+    private static boolean isManifestName(String fileName) {
+        return fileName.toLowerCase().matches("[^/\\\\]*manifest.*\\.xml");
+    }
+
     /**
      * Instantiates a new SEDA SIP importer.
      *
@@ -198,6 +223,13 @@ public class SIPToArchiveTransferImporter {
         log += " date=" + DateFormat.getDateTimeInstance().format(d);
         doProgressLog(sedaLibProgressLogger,SEDALibProgressLogger.GLOBAL, log, null);
 
+        if (lazyExtractionFlag) {
+            importWithLazyExtraction();
+            end = Instant.now();
+            doProgressLog(sedaLibProgressLogger,SEDALibProgressLogger.GLOBAL, "sedalib: import du SIP terminé", null);
+            return;
+        }
+
         manifest = unZipSip(zipFile, unCompressDirectory);
 
         try (FileInputStream fis = new FileInputStream(unCompressDirectory + File.separator + manifest);
@@ -212,6 +244,82 @@ public class SIPToArchiveTransferImporter {
         doProgressLog(sedaLibProgressLogger,SEDALibProgressLogger.GLOBAL, "sedalib: import du SIP terminé", null);
     }
 
+    /**
+     * Import the SIP manifest directly from the zip file, and register the lazy extraction of all BinaryDataObject
+     * files.
+     *
+     * @throws SEDALibException     if the XML manifest can't be read or is not in expected form
+     * @throws InterruptedException if import process is interrupted
+     */
+    private void importWithLazyExtraction() throws SEDALibException, InterruptedException {
+        String manifest = null;
+        int counter = 0;
+
+        close();
+        lazyFileExtractor = new ZipEntryLazyFileExtractor(zipFile, sedaLibProgressLogger);
+        for (String fileName : lazyFileExtractor.getEntryNames()) {
+            if (isManifestName(fileName)) {
+                if (manifest != null)
+                    throw new SEDALibException("SIP mal formé, plusieurs fichiers manifest potentiels");
+                manifest = fileName;
+            }
+        }
+        if (manifest == null)
+            throw new SEDALibException("SIP mal formé, pas de manifest");
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS, "sedalib: lecture du manifest [" + manifest
+                + "] dans [" + zipFile + "]", null);
+
+        try (InputStream is = lazyFileExtractor.getInputStream(manifest);
+             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(is)) {
+            archiveTransfer = ArchiveTransfer.fromSedaXml(xmlReader, unCompressDirectory, sedaLibProgressLogger);
+        } catch (XMLStreamException | IOException e) {
+            throw new SEDALibException("Impossible d'importer le fichier [" + manifest
+                    + "] comme manifest du SIP", e);
+        }
+
+        for (BinaryDataObject bdo : archiveTransfer.getDataObjectPackage().getBdoInDataObjectPackageIdMap().values()) {
+            if (lazyFileExtractor.register(bdo))
+                counter++;
+        }
+        doProgressLog(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, "sedalib: " + counter +
+                " fichiers à extraire à la demande", null);
+    }
+
+    /**
+     * Sets the lazy extraction mode flag. In this mode, the BinaryDataObject files are only extracted from the SIP
+     * when their content is needed, and the importer has to be closed afterwards.
+     *
+     * @param lazyExtractionFlag the lazy extraction flag
+     */
+    public void setLazyExtractionFlag(boolean lazyExtractionFlag) {
+        this.lazyExtractionFlag = lazyExtractionFlag;
+    }
+
+    /**
+     * Close the SIP zip file, opened in lazy extraction mode. The BinaryDataObject files not yet extracted can't be
+     * extracted afterwards, and any later extraction try fails with an explicit error.
+     *
+     * @throws SEDALibException if the zip file can't be closed
+     */
+    @Override
+    public void close() throws SEDALibException {
+        if (lazyFileExtractor != null) {
+            ZipEntryLazyFileExtractor extractor = lazyFileExtractor;
+            lazyFileExtractor = null;
+            if (archiveTransfer != null) {
+                for (BinaryDataObject bdo : archiveTransfer.getDataObjectPackage().getBdoInDataObjectPackageIdMap()
+                        .values()) {
+                    if (!bdo.isExtractedOnDisk())
+                        bdo.setLazyFileExtractor((b, onDiskPath) -> {
+                            throw new SEDALibException("Le fichier du BinaryDataObject [" + b.getInDataObjectPackageId()
+                                    + "] n'a pas été extrait du SIP [" + zipFile + "] avant sa fermeture");
+                        });
+                }
+            }
+            extractor.close();
+        }
+    }
+
     /**
      * Gets the archive transfer.
      *
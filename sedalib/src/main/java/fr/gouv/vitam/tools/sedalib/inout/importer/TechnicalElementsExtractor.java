@@ -0,0 +1,248 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.inout.importer;
+
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.droid.DroidIdentifier;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import fr.gouv.vitam.tools.sedalib.utils.TechnicalMetadataCache;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogIfStep;
+
+/**
+ * The Class TechnicalElementsExtractor.
+ * <p>
+ * Class for extracting BinaryDataObject technical elements (size, last modified date, SHA-512 digest and DROID
+ * format identification) with a bounded pool of worker threads, so that this work can go on while the importer
+ * is still walking the disk hierarchy.
+ * <p>
+ * Each BinaryDataObject is only modified by the worker in charge of it, and the results are collected in
+ * submission order by the calling thread, so that the resulting DataObjectPackage, the progress counter and the
+ * first reported error are the same as in a serial extraction. When the thread count is 1 or less, extraction is
+ * done directly on the calling thread.
+ */
+public class TechnicalElementsExtractor implements AutoCloseable {
+
+    /**
+     * The number of waiting extractions allowed by worker thread, before the submitting thread does the work itself.
+     */
+    private static final int QUEUE_SIZE_BY_THREAD = 16;
+
+    /**
+     * The worker threads counter, used for thread names.
+     */
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    /**
+     * The executor, or null if extraction is done on the calling thread.
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * The pending extractions, in submission order.
+     */
+    private ArrayDeque<Future<Void>> pendingFutures;
+
+    /**
+     * The already submitted BinaryDataObjects.
+     */
+    private Set<BinaryDataObject> submittedSet;
+
+    /**
+     * The done extractions counter.
+     */
+    private int counter;
+
+    /**
+     * The technical metadata cache, or null if no cache used.
+     */
+    private TechnicalMetadataCache technicalMetadataCache;
+
+    /**
+     * The progress logger.
+     */
+    private SEDALibProgressLogger sedaLibProgressLogger;
+
+    /**
+     * Instantiates a new technical elements extractor.
+     *
+     * @param threadCount           the number of worker threads, if 1 or less extraction is done on the calling thread
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     */
+    public TechnicalElementsExtractor(int threadCount, SEDALibProgressLogger sedaLibProgressLogger) {
+        this(threadCount, null, sedaLibProgressLogger);
+    }
+
+    /**
+     * Instantiates a new technical elements extractor, using a technical metadata cache.
+     *
+     * @param threadCount            the number of worker threads, if 1 or less extraction is done on the calling
+     *                               thread
+     * @param technicalMetadataCache the technical metadata cache or null if no cache used
+     * @param sedaLibProgressLogger  the progress logger or null if no progress log expected
+     */
+    public TechnicalElementsExtractor(int threadCount, TechnicalMetadataCache technicalMetadataCache,
+                                      SEDALibProgressLogger sedaLibProgressLogger) {
+        this.technicalMetadataCache = technicalMetadataCache;
+        this.sedaLibProgressLogger = sedaLibProgressLogger;
+        this.pendingFutures = new ArrayDeque<>();
+        this.submittedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.counter = 0;
+        if (threadCount > 1) {
+            // the DROID singleton has to be initialised before being shared by workers
+            DroidIdentifier.getInstance();
+            this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(threadCount * QUEUE_SIZE_BY_THREAD),
+                    r -> {
+                        Thread t = new Thread(r, "sedalib-extractor-" + threadCounter.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        } else
+            this.executor = null;
+    }
+
+    /**
+     * Checks if a BinaryDataObject has already been submitted.
+     *
+     * @param bdo the BinaryDataObject
+     * @return true, if already submitted
+     */
+    public boolean isSubmitted(BinaryDataObject bdo) {
+        return submittedSet.contains(bdo);
+    }
+
+    /**
+     * Submit a BinaryDataObject for technical elements extraction.
+     * <p>
+     * When all workers are busy and the waiting queue is full, the extraction is done on the calling thread.
+     * Already done extractions are collected on the way, so an error can be thrown for a previously submitted
+     * BinaryDataObject.
+     *
+     * @param bdo the BinaryDataObject
+     * @throws SEDALibException     if a technical elements extraction failed
+     * @throws InterruptedException if the process is interrupted
+     */
+    public void submit(BinaryDataObject bdo) throws SEDALibException, InterruptedException {
+        if (!submittedSet.add(bdo))
+            return;
+        if (executor == null) {
+            bdo.extractTechnicalElements(technicalMetadataCache, sedaLibProgressLogger);
+            logDone();
+            return;
+        }
+        pendingFutures.add(executor.submit(() -> {
+            if (Thread.currentThread().isInterrupted())
+                throw new InterruptedException();
+            bdo.extractTechnicalElements(technicalMetadataCache, sedaLibProgressLogger);
+            return null;
+        }));
+        while (!pendingFutures.isEmpty() && pendingFutures.peek().isDone())
+            collect(pendingFutures.poll());
+    }
+
+    /**
+     * Wait for all submitted extractions to be done.
+     *
+     * @return the number of done extractions
+     * @throws SEDALibException     if a technical elements extraction failed
+     * @throws InterruptedException if the process is interrupted
+     */
+    public int waitForAll() throws SEDALibException, InterruptedException {
+        while (!pendingFutures.isEmpty())
+            collect(pendingFutures.poll());
+        return counter;
+    }
+
+    /**
+     * Collect an extraction result, waiting for it if needed.
+     *
+     * @param future the extraction future
+     * @throws SEDALibException     if the technical elements extraction failed
+     * @throws InterruptedException if the process is interrupted
+     */
+    private void collect(Future<Void> future) throws SEDALibException, InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SEDALibException)
+                throw (SEDALibException) e.getCause();
+            else if (e.getCause() instanceof InterruptedException)
+                throw (InterruptedException) e.getCause();
+            throw new SEDALibException("Erreur dans l'extraction des informations techniques", e.getCause());
+        }
+        logDone();
+    }
+
+    /**
+     * Count a done extraction and log progress if needed.
+     *
+     * @throws InterruptedException if the process is interrupted
+     */
+    private void logDone() throws InterruptedException {
+        counter++;
+        doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, counter, "sedalib: " + counter +
+                " fichiers BinaryDataObject analysés");
+    }
+
+    /**
+     * Gets the done extractions counter.
+     *
+     * @return the counter
+     */
+    public int getCounter() {
+        return counter;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        pendingFutures.clear();
+    }
+}
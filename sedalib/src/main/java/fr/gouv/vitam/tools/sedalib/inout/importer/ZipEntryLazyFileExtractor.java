@@ -0,0 +1,211 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.inout.importer;
+
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.core.LazyFileExtractor;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogWithoutInterruption;
+
+/**
+ * The Class ZipEntryLazyFileExtractor.
+ * <p>
+ * Class for the lazy extraction of BinaryDataObject files from a SIP zip file. The zip file is opened once, using
+ * its central directory, and each entry is only extracted on disk when the BinaryDataObject file content is needed.
+ */
+public class ZipEntryLazyFileExtractor implements LazyFileExtractor, AutoCloseable {
+
+    /**
+     * The zip file name.
+     */
+    private String zipFileName;
+
+    /**
+     * The opened zip file.
+     */
+    private ZipFile zipFile;
+
+    /**
+     * The file entries by normalized name.
+     */
+    private Map<String, ZipArchiveEntry> entriesMap;
+
+    /**
+     * The progress logger.
+     */
+    private SEDALibProgressLogger sedaLibProgressLogger;
+
+    /**
+     * Instantiates a new zip entry lazy file extractor, opening the zip file.
+     *
+     * @param zipFileName           the zip file name
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @throws SEDALibException if the zip file can't be opened
+     */
+    public ZipEntryLazyFileExtractor(String zipFileName, SEDALibProgressLogger sedaLibProgressLogger)
+            throws SEDALibException {
+        this.zipFileName = zipFileName;
+        this.sedaLibProgressLogger = sedaLibProgressLogger;
+        this.entriesMap = new HashMap<>();
+        try {
+            this.zipFile = new ZipFile(zipFileName);
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible d'ouvrir le fichier zip [" + zipFileName + "]", e);
+        }
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
+            if (!entry.isDirectory())
+                entriesMap.put(normalizeName(entry.getName()), entry);
+        }
+    }
+
+    /**
+     * Normalize a zip entry name or an uri, changing any case ConTenT to lowercase content, as in BinaryDataObject
+     * import.
+     *
+     * @param name the name
+     * @return the normalized name
+     */
+    public static String normalizeName(String name) {
+        String result = name.trim();
+        if (result.toLowerCase().startsWith("content"))
+            result = "content" + result.substring(7);
+        return result;
+    }
+
+    /**
+     * Gets the file entries normalized names.
+     *
+     * @return the names iterable
+     */
+    public Iterable<String> getEntryNames() {
+        return entriesMap.keySet();
+    }
+
+    /**
+     * Gets an input stream on a file entry content.
+     *
+     * @param name the entry name or uri
+     * @return the input stream
+     * @throws SEDALibException if the entry doesn't exist or can't be read
+     */
+    public InputStream getInputStream(String name) throws SEDALibException {
+        ZipArchiveEntry entry = entriesMap.get(normalizeName(name));
+        if (entry == null)
+            throw new SEDALibException("Pas de fichier [" + name + "] dans le fichier zip [" + zipFileName + "]");
+        try {
+            return zipFile.getInputStream(entry);
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible de lire le fichier [" + name + "] dans le fichier zip ["
+                    + zipFileName + "]", e);
+        }
+    }
+
+    /**
+     * Register the lazy extraction for the BinaryDataObject, if its uri designates a file entry. The entry is kept at
+     * registration, as the uri may be changed afterwards (for example by a manifest export).
+     *
+     * @param bdo the BinaryDataObject
+     * @return true, if registered
+     */
+    public boolean register(BinaryDataObject bdo) {
+        if ((bdo.uri == null) || (bdo.uri.getValue() == null) || (bdo.getOnDiskPathToString() == null))
+            return false;
+        ZipArchiveEntry entry = entriesMap.get(normalizeName(bdo.uri.getValue()));
+        if (entry == null)
+            return false;
+        bdo.setLazyFileExtractor((b, onDiskPath) -> extract(entry, b, onDiskPath));
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.core.LazyFileExtractor#extract(fr.gouv.vitam.tools.sedalib.core.BinaryDataObject, java.nio.file.Path)
+     */
+    @Override
+    public void extract(BinaryDataObject bdo, Path onDiskPath) throws SEDALibException {
+        ZipArchiveEntry entry = (bdo.uri == null ? null : entriesMap.get(normalizeName(bdo.uri.getValue())));
+        if (entry == null)
+            throw new SEDALibException("Pas de fichier pour le BinaryDataObject [" + bdo.getInDataObjectPackageId()
+                    + "] dans le fichier zip [" + zipFileName + "]");
+        extract(entry, bdo, onDiskPath);
+    }
+
+    /**
+     * Extract a file entry to the BinaryDataObject on disk path.
+     *
+     * @param entry      the zip file entry
+     * @param bdo        the BinaryDataObject
+     * @param onDiskPath the on disk path
+     * @throws SEDALibException if the extraction failed
+     */
+    private void extract(ZipArchiveEntry entry, BinaryDataObject bdo, Path onDiskPath) throws SEDALibException {
+        try (InputStream is = zipFile.getInputStream(entry)) {
+            Files.createDirectories(onDiskPath.getParent());
+            Files.copy(is, onDiskPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            SEDALibException se = new SEDALibException("Impossible d'extraire le fichier [" + entry.getName()
+                    + "] du fichier zip [" + zipFileName + "] en [" + onDiskPath + "]", e);
+            doProgressLogWithoutInterruption(sedaLibProgressLogger, SEDALibProgressLogger.GLOBAL,
+                    "sedalib: échec de l'extraction différée du BinaryDataObject [" + bdo.getInDataObjectPackageId()
+                            + "]", se);
+            throw se;
+        }
+        doProgressLogWithoutInterruption(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS,
+                "sedalib: extraction différée du fichier [" + entry.getName() + "]", null);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws SEDALibException {
+        try {
+            zipFile.close();
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible de fermer le fichier zip [" + zipFileName + "]", e);
+        }
+    }
+}
@@ -36,17 +36,11 @@ import fr.gouv.vitam.tools.sedalib.metadata.data.Weight;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.*;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
-import org.apache.commons.lang3.reflect.ConstructorUtils;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 
 /**
@@ -96,14 +90,14 @@ public abstract class SEDAMetadata {
      */
     public String toString() {
         String result = null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer();
+             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2)) {
             toSedaXml(xmlWriter);
             xmlWriter.flush();
-            result = baos.toString("UTF-8");
+            result = buffer.toString();
             if (result.startsWith("\n"))
                 result = result.substring(1);
-        } catch (XMLStreamException | IOException | SEDALibException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             if (result == null)
                 result = super.toString();
         }
@@ -129,26 +123,20 @@ public abstract class SEDAMetadata {
      * @throws SEDALibException if XML read exception or inappropriate sub-class
      */
     public static SEDAMetadata fromSedaXml(SEDAXMLEventReader xmlReader, Class<?> target) throws SEDALibException {
+        SEDAMetadataBinding binding = SEDAMetadataBinding.getBinding(target);
+        SEDAMetadata sm;
         try {
-            boolean needName = target.getName().contains(".namedtype.");
-            SEDAMetadata sm;
-            if (needName) {
+            if (binding.isNeedName()) {
                 XMLEvent event = xmlReader.peekUsefullEvent();
-                sm = (SEDAMetadata) ConstructorUtils.invokeConstructor(target, event.asStartElement().getName().getLocalPart());
+                sm = binding.newEmptyInstance(event.asStartElement().getName().getLocalPart());
             } else
-                sm = (SEDAMetadata) ConstructorUtils.invokeConstructor(target, (Object[])null);
-            if (sm.fillFromSedaXml(xmlReader))
-                return sm;
-            Method method = target.getMethod("fromSedaXml", SEDAXMLEventReader.class);
-            return (SEDAMetadata) method.invoke(null, xmlReader);
-        } catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
-                | SecurityException | InstantiationException e) {
-            throw new SEDALibException("Erreur de construction du " + target.getSimpleName(), e);
-        } catch (InvocationTargetException te) {
-            throw new SEDALibException("Erreur de construction du " + target.getSimpleName(), te.getTargetException());
+                sm = binding.newEmptyInstance(null);
         } catch (XMLStreamException e) {
             throw new SEDALibException("Erreur de lecture XML dans un élément de type "+target.getSimpleName(), e);
         }
+        if (sm.fillFromSedaXml(xmlReader))
+            return sm;
+        return binding.invokeFromSedaXml(xmlReader);
     }
 
     /**
@@ -162,15 +150,14 @@ public abstract class SEDAMetadata {
     public static SEDAMetadata fromString(String xmlData, Class<?> target) throws SEDALibException {
         SEDAMetadata result;
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlData.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(xmlData)) {
             // jump StartDocument
             xmlReader.nextUsefullEvent();
             result = fromSedaXml(xmlReader, target);
             XMLEvent event = xmlReader.xmlReader.peek();
             if (!event.isEndDocument())
                 throw new SEDALibException("Il y a des champs illégaux");
-        } catch (XMLStreamException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture de " + target.getSimpleName(), e);
         }
 
@@ -0,0 +1,276 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.metadata;
+
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.reflect.ConstructorUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Class SEDAMetadataBinding.
+ * <p>
+ * Class for the binding of a SEDAMetadata sub-class, keeping method handles on its constructors and on its static
+ * fromSedaXml method, so that XML parsing and metadata construction from args don't use reflection at each call.
+ * <p>
+ * Bindings are built once by class, when a ComplexListType sub-class metadata map is analysed for a SEDA version
+ * or on first use, and are then shared by all threads.
+ */
+public final class SEDAMetadataBinding {
+
+    /**
+     * The bindings by SEDAMetadata sub-class.
+     */
+    private static final ConcurrentHashMap<Class<?>, SEDAMetadataBinding> bindingMap = new ConcurrentHashMap<>();
+
+    /**
+     * The constructor from args interface.
+     */
+    @FunctionalInterface
+    private interface ArgsConstructor {
+        SEDAMetadata construct(String elementName, Object[] args) throws Throwable;
+    }
+
+    /**
+     * The metadata class.
+     */
+    private final Class<?> metadataClass;
+
+    /**
+     * The flag indicating if the element name is the first constructor arg, true for named types.
+     */
+    private final boolean needName;
+
+    /**
+     * The handle on the constructor with only element name, or without args, in (String)SEDAMetadata form, or null
+     * if there is no such public constructor.
+     */
+    private final MethodHandle emptyConstructor;
+
+    /**
+     * The handle on the static fromSedaXml method, in (SEDAXMLEventReader)SEDAMetadata form, or null if there is no
+     * such method.
+     */
+    private final MethodHandle fromSedaXmlMethod;
+
+    /**
+     * The constructors from args, by args classes list.
+     */
+    private final ConcurrentHashMap<List<Class<?>>, ArgsConstructor> argsConstructorMap;
+
+    /**
+     * Instantiates a new binding.
+     *
+     * @param metadataClass the metadata class
+     */
+    private SEDAMetadataBinding(Class<?> metadataClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle handle;
+
+        this.metadataClass = metadataClass;
+        this.needName = metadataClass.getName().contains(".namedtype.");
+        try {
+            if (needName)
+                handle = lookup.findConstructor(metadataClass, MethodType.methodType(void.class, String.class));
+            else
+                handle = MethodHandles.dropArguments(
+                        lookup.findConstructor(metadataClass, MethodType.methodType(void.class)), 0, String.class);
+            handle = handle.asType(MethodType.methodType(SEDAMetadata.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException | ClassCastException e) {
+            handle = null;
+        }
+        this.emptyConstructor = handle;
+        try {
+            Method method = metadataClass.getMethod("fromSedaXml", SEDAXMLEventReader.class);
+            handle = lookup.unreflect(method)
+                    .asType(MethodType.methodType(SEDAMetadata.class, SEDAXMLEventReader.class));
+        } catch (NoSuchMethodException | IllegalAccessException | ClassCastException e) {
+            handle = null;
+        }
+        this.fromSedaXmlMethod = handle;
+        this.argsConstructorMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the binding of a SEDAMetadata sub-class, building it if needed.
+     *
+     * @param metadataClass the metadata class
+     * @return the binding
+     */
+    public static SEDAMetadataBinding getBinding(Class<?> metadataClass) {
+        return bindingMap.computeIfAbsent(metadataClass, SEDAMetadataBinding::new);
+    }
+
+    /**
+     * Checks if the element name is the first constructor arg.
+     *
+     * @return true, if it is a named type
+     */
+    public boolean isNeedName() {
+        return needName;
+    }
+
+    /**
+     * Construct a new empty metadata, to be filled from XML.
+     *
+     * @param elementName the element name, only used for named types
+     * @return the SEDA metadata
+     * @throws SEDALibException if construction is not possible
+     */
+    public SEDAMetadata newEmptyInstance(String elementName) throws SEDALibException {
+        try {
+            if (emptyConstructor != null)
+                return (SEDAMetadata) emptyConstructor.invokeExact(elementName);
+            if (needName)
+                return (SEDAMetadata) ConstructorUtils.invokeConstructor(metadataClass, elementName);
+            return (SEDAMetadata) ConstructorUtils.invokeConstructor(metadataClass, (Object[]) null);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SEDALibException("Erreur de construction du " + metadataClass.getSimpleName(),
+                    (e instanceof InvocationTargetException ? ((InvocationTargetException) e).getTargetException() : e));
+        }
+    }
+
+    /**
+     * Read a new metadata with the static fromSedaXml method of the metadata class.
+     *
+     * @param xmlReader the xml reader
+     * @return the SEDA metadata
+     * @throws SEDALibException if the class has no fromSedaXml method or if read is not possible
+     */
+    public SEDAMetadata invokeFromSedaXml(SEDAXMLEventReader xmlReader) throws SEDALibException {
+        if (fromSedaXmlMethod == null)
+            throw new SEDALibException("Erreur de construction du " + metadataClass.getSimpleName(),
+                    new NoSuchMethodException(metadataClass.getName() + ".fromSedaXml"));
+        try {
+            return (SEDAMetadata) fromSedaXmlMethod.invokeExact(xmlReader);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SEDALibException("Erreur de construction du " + metadataClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Resolve the convenient constructor for args classes, as reflective construction would do.
+     *
+     * @param elementName the element name
+     * @param argsClasses the args classes, beginning with String for named types
+     * @return the constructor from args
+     * @throws SEDALibException             if there is no convenient constructor
+     * @throws ReflectiveOperationException if the constructor is not accessible
+     */
+    private ArgsConstructor resolveArgsConstructor(String elementName, Class<?>[] argsClasses)
+            throws SEDALibException, ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Constructor<?> theConstructor = ConstructorUtils.getMatchingAccessibleConstructor(metadataClass, argsClasses);
+        if (theConstructor == null) {
+            try {
+                if (needName) {
+                    MethodHandle handle = lookup.findConstructor(metadataClass,
+                                    MethodType.methodType(void.class, String.class, Object[].class))
+                            .asFixedArity()
+                            .asType(MethodType.methodType(SEDAMetadata.class, String.class, Object[].class));
+                    return (name, args) -> (SEDAMetadata) handle.invokeExact(name, args);
+                } else {
+                    MethodHandle handle = lookup.findConstructor(metadataClass,
+                                    MethodType.methodType(void.class, Object[].class))
+                            .asFixedArity()
+                            .asType(MethodType.methodType(SEDAMetadata.class, Object[].class));
+                    return (name, args) -> (SEDAMetadata) handle.invokeExact(args);
+                }
+            } catch (NoSuchMethodException e) {
+                throw new SEDALibException("Pas de constructeur de l'élément [" + elementName + "]", e);
+            }
+        }
+        Type[] types = theConstructor.getGenericParameterTypes();
+        MethodHandle constructorHandle = lookup.unreflectConstructor(theConstructor).asFixedArity();
+        if ((types.length == 1) && (types[0].equals(Object[].class))) {
+            MethodHandle handle = constructorHandle
+                    .asType(MethodType.methodType(SEDAMetadata.class, Object[].class));
+            return (name, args) -> (SEDAMetadata) handle.invokeExact(args);
+        }
+        MethodHandle handle = constructorHandle
+                .asType(MethodType.genericMethodType(types.length).changeReturnType(SEDAMetadata.class))
+                .asSpreader(Object[].class, types.length);
+        if (needName)
+            return (name, args) -> (SEDAMetadata) handle.invokeExact(prependName(name, args));
+        return (name, args) -> (SEDAMetadata) handle.invokeExact(args);
+    }
+
+    private static Object[] prependName(String elementName, Object[] args) {
+        Object[] newArgs = new Object[args.length + 1];
+        newArgs[0] = elementName;
+        System.arraycopy(args, 0, newArgs, 1, args.length);
+        return newArgs;
+    }
+
+    /**
+     * Construct a new metadata from args, with the constructor that reflective construction would choose for args
+     * classes. The chosen constructor is kept for next constructions with same args classes.
+     *
+     * @param elementName the element name
+     * @param args        the args
+     * @return the SEDA metadata
+     * @throws SEDALibException if construction is not possible
+     */
+    public SEDAMetadata newInstanceFromArgs(String elementName, Object[] args) throws SEDALibException {
+        if (args == null)
+            args = new Object[0];
+        Class<?>[] argsClasses = ClassUtils.toClass(needName ? prependName(elementName, args) : args);
+        List<Class<?>> key = Arrays.asList(argsClasses);
+        ArgsConstructor argsConstructor = argsConstructorMap.get(key);
+        if (argsConstructor == null) {
+            try {
+                argsConstructor = resolveArgsConstructor(elementName, argsClasses);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]", e);
+            }
+            argsConstructorMap.put(key, argsConstructor);
+        }
+        try {
+            return argsConstructor.construct(elementName, args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]", e);
+        }
+    }
+}
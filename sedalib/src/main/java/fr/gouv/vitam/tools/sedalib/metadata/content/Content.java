@@ -32,12 +32,10 @@ import fr.gouv.vitam.tools.sedalib.metadata.compacted.DocumentContainer;
 import fr.gouv.vitam.tools.sedalib.metadata.compacted.DocumentPack;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.*;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 
 import javax.xml.stream.XMLStreamException;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -193,8 +191,8 @@ public class Content extends ComplexListType {
      */
     public String filteredToString(List<String> keptMetadataList) {
         String result;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+        try (SEDAXMLFragmentPool.FragmentBuffer buffer = SEDAXMLFragmentPool.acquireBuffer();
+             SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(buffer, 2)) {
             xmlWriter.writeStartElement(elementName);
             for (SEDAMetadata sm : metadataList) {
                 if (keptMetadataList.contains(sm.getXmlElementName()))
@@ -202,10 +200,10 @@ public class Content extends ComplexListType {
             }
             xmlWriter.writeEndElement();
             xmlWriter.flush();
-            result = baos.toString(StandardCharsets.UTF_8);
+            result = buffer.toString();
             if (result.startsWith("\n"))
                 result = result.substring(1);
-        } catch (XMLStreamException | IOException | SEDALibException e) {
+        } catch (XMLStreamException | SEDALibException e) {
             result = super.toString();
         }
         return result;
@@ -0,0 +1,229 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.metadata.content;
+
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.AnyXMLType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.ComplexListMetadataKind;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.ComplexListType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.DateTimeType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
+import fr.gouv.vitam.tools.sedalib.metadata.namedtype.TextType;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class ContentFragmentIndex.
+ * <p>
+ * Lightweight indexed view over a Content xml fragment in String form. The offsets of the Content sub-elements are
+ * recorded in one scan of the fragment, without building metadata objects, and then a simple metadata is decoded
+ * only from its own elements. This is used to get titles, description levels or dates of ArchiveUnits without
+ * building the whole Content metadata tree, which is only done when the Content is edited.
+ * <p>
+ * The fragment itself is not kept, it has to be given again to decode metadata, and must be the one indexed.
+ */
+public class ContentFragmentIndex {
+
+    /** The sub-elements names, in fragment order. */
+    private String[] elementNames;
+
+    /** The sub-elements start offsets in the fragment. */
+    private int[] startOffsets;
+
+    /** The sub-elements end offsets in the fragment. */
+    private int[] endOffsets;
+
+    /** The sub-elements count. */
+    private int count;
+
+    /** The indexed fragment length. */
+    private final int fragmentLength;
+
+    /** The already decoded simple metadata values, by name. */
+    private final Map<String, String> decodedValueMap;
+
+    /**
+     * Instantiates a new Content fragment index, scanning the fragment.
+     *
+     * @param contentXmlData the Content xml fragment
+     * @throws SEDALibException if the fragment is not well formed XML
+     */
+    public ContentFragmentIndex(String contentXmlData) throws SEDALibException {
+        this.elementNames = new String[16];
+        this.startOffsets = new int[16];
+        this.endOffsets = new int[16];
+        this.count = 0;
+        this.fragmentLength = contentXmlData.length();
+        this.decodedValueMap = new HashMap<>();
+
+        XMLStreamReader xmlReader = SEDAXMLFragmentPool.newFragmentsStreamReader(contentXmlData);
+        try {
+            int depth = 0;
+            int pendingEnd = -1;
+            while (xmlReader.hasNext()) {
+                int eventType = xmlReader.next();
+                // the end of a sub-element is known at the start of the next event
+                if (pendingEnd >= 0) {
+                    endOffsets[pendingEnd] = xmlReader.getLocation().getCharacterOffset();
+                    pendingEnd = -1;
+                }
+                if (eventType == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2)
+                        addElement(xmlReader.getLocalName(), xmlReader.getLocation().getCharacterOffset());
+                } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2)
+                        pendingEnd = count - 1;
+                    depth--;
+                }
+            }
+            if (pendingEnd >= 0)
+                endOffsets[pendingEnd] = fragmentLength;
+        } catch (XMLStreamException e) {
+            throw new SEDALibException("Erreur d'indexation XML du Content", e);
+        } finally {
+            try {
+                xmlReader.close();
+            } catch (XMLStreamException ignored) {
+                // nothing to do
+            }
+        }
+    }
+
+    /**
+     * Add a sub-element to the index.
+     *
+     * @param elementName the element name
+     * @param startOffset the start offset
+     */
+    private void addElement(String elementName, int startOffset) {
+        if (count == elementNames.length) {
+            elementNames = Arrays.copyOf(elementNames, count * 2);
+            startOffsets = Arrays.copyOf(startOffsets, count * 2);
+            endOffsets = Arrays.copyOf(endOffsets, count * 2);
+        }
+        elementNames[count] = elementName;
+        startOffsets[count] = startOffset;
+        endOffsets[count] = -1;
+        count++;
+    }
+
+    /**
+     * Gets the Content sub-elements count.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Checks if the Content has at least one sub-element with this name.
+     *
+     * @param metadataName the metadata name
+     * @return true, if it contains the metadata
+     */
+    public boolean containsMetadata(String metadataName) {
+        for (int i = 0; i < count; i++)
+            if (elementNames[i].equals(metadataName))
+                return true;
+        return false;
+    }
+
+    /**
+     * Gets the xml fragments of all the sub-elements with this name, in fragment order.
+     *
+     * @param contentXmlData the indexed Content xml fragment
+     * @param metadataName   the metadata name
+     * @return the xml fragments list
+     * @throws SEDALibException if the fragment is not the indexed one
+     */
+    public List<String> getMetadataXmlData(String contentXmlData, String metadataName) throws SEDALibException {
+        if (contentXmlData.length() != fragmentLength)
+            throw new SEDALibException("Le fragment XML du Content ne correspond pas à son index");
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (elementNames[i].equals(metadataName)) {
+                int end = endOffsets[i];
+                while ((end > startOffsets[i]) && Character.isWhitespace(contentXmlData.charAt(end - 1)))
+                    end--;
+                result.add(contentXmlData.substring(startOffsets[i], end));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a metadata class can hold a simple metadata value.
+     *
+     * @param metadataClass the metadata class
+     * @return true, if it's a simple metadata class
+     */
+    private static boolean isSimpleMetadataClass(Class<?> metadataClass) {
+        return StringType.class.isAssignableFrom(metadataClass) || TextType.class.isAssignableFrom(metadataClass)
+                || DescriptionLevel.class.isAssignableFrom(metadataClass)
+                || DateTimeType.class.isAssignableFrom(metadataClass);
+    }
+
+    /**
+     * Gets the value of a simple metadata (String, Text, DescriptionLevel or DateTime type), with the same result
+     * as {@link Content#getSimpleMetadata(String)} on the whole decoded Content, but decoding only the elements
+     * with this name.
+     *
+     * @param contentXmlData the indexed Content xml fragment
+     * @param metadataName   the metadata name
+     * @return the value or null
+     * @throws SEDALibException if the fragment is not the indexed one or the elements can't be decoded
+     */
+    public String getSimpleMetadata(String contentXmlData, String metadataName) throws SEDALibException {
+        if (decodedValueMap.containsKey(metadataName))
+            return decodedValueMap.get(metadataName);
+
+        ComplexListMetadataKind metadataKind = ComplexListType.getMetadataMap(Content.class).get(metadataName);
+        Class<?> metadataClass = (metadataKind == null ? AnyXMLType.class : metadataKind.getMetadataClass());
+        String value;
+        if (isSimpleMetadataClass(metadataClass)) {
+            List<SEDAMetadata> metadataList = new ArrayList<>();
+            for (String xmlData : getMetadataXmlData(contentXmlData, metadataName))
+                metadataList.add(SEDAMetadata.fromString(xmlData, metadataClass));
+            value = ComplexListType.getSimpleMetadata(metadataList, metadataName);
+        } else
+            value = null;
+        decodedValueMap.put(metadataName, value);
+        return value;
+    }
+}
@@ -30,24 +30,17 @@ package fr.gouv.vitam.tools.sedalib.metadata.namedtype;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import fr.gouv.vitam.tools.sedalib.core.SEDA2Version;
 import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadataBinding;
 import fr.gouv.vitam.tools.sedalib.metadata.content.DescriptionLevel;
 import fr.gouv.vitam.tools.sedalib.metadata.content.Gps;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLFragmentPool;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
-import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
 import javax.xml.stream.XMLStreamException;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -100,52 +93,6 @@ public abstract class ComplexListType extends NamedTypeMetadata {
         this.metadataList = new ArrayList<>();
     }
 
-    /**
-     * Gets convenient constructor for args.
-     *
-     * @param metadataClass the metadata class
-     * @param args          the args
-     * @return the convenient constructor for args
-     * @throws SEDALibException the seda lib exception
-     */
-    private static SEDAMetadata getClassMemberConstructedFromArgs(Class<?> metadataClass, String elementName, Object[] args) throws SEDALibException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        Object[] newArgs;
-        boolean needName = metadataClass.getName().contains(".namedtype.");
-        SEDAMetadata sm;
-        args = ArrayUtils.nullToEmpty(args);
-        if (needName) {
-            newArgs = new Object[args.length + 1];
-            newArgs[0] = elementName;
-            System.arraycopy(args, 0, newArgs, 1, args.length);
-        } else
-            newArgs = args;
-        Class<?>[] parameterTypes = ClassUtils.toClass(newArgs);
-        Constructor<?> theConstructor = ConstructorUtils.getMatchingAccessibleConstructor(metadataClass, parameterTypes);
-        if (theConstructor == null) {
-            try {
-                if (metadataClass.getName().contains(".namedtype."))
-                    sm = (SEDAMetadata) metadataClass.getConstructor(String.class, Object[].class).newInstance(elementName, args);
-                else {
-                    newArgs = new Object[1];
-                    newArgs[0] = args;
-                    sm = (SEDAMetadata) metadataClass.getConstructor(Object[].class).newInstance(newArgs);
-                }
-            } catch (NoSuchMethodException e) {
-                throw new SEDALibException("Pas de constructeur de l'élément [" + elementName + "]", e);
-            }
-        } else {
-            Type[] types = theConstructor.getGenericParameterTypes();
-            if ((types.length != 1) || (!types[0].equals(Object[].class)))
-                sm = (SEDAMetadata) theConstructor.newInstance(newArgs);
-            else {
-                newArgs = new Object[1];
-                newArgs[0] = args;
-                sm = (SEDAMetadata) theConstructor.newInstance(newArgs);
-            }
-        }
-        return sm;
-    }
-
     /**
      * Construct a new SEDA metadata.
      *
@@ -156,22 +103,15 @@ public abstract class ComplexListType extends NamedTypeMetadata {
      */
     protected SEDAMetadata newSEDAMetadata(String elementName, Object[] args) throws SEDALibException {
         ComplexListMetadataKind mi = getMetadataMap().get(elementName);
-        try {
-            Class<?> metadataClass;
-            if (mi == null)
-                metadataClass = AnyXMLType.class;
-            else
-                metadataClass = mi.getMetadataClass();
-            SEDAMetadata sm = getClassMemberConstructedFromArgs(metadataClass, elementName, args);
-            if (sm == null)
-                throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]");
-            return sm;
-        } catch (SecurityException | InstantiationException | IllegalAccessException
-                 | IllegalArgumentException e) {
-            throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]", e);
-        } catch (InvocationTargetException te) {
-            throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]", te.getTargetException());
-        }
+        Class<?> metadataClass;
+        if (mi == null)
+            metadataClass = AnyXMLType.class;
+        else
+            metadataClass = mi.getMetadataClass();
+        SEDAMetadata sm = SEDAMetadataBinding.getBinding(metadataClass).newInstanceFromArgs(elementName, args);
+        if (sm == null)
+            throw new SEDALibException("Impossible de construire l'élément [" + elementName + "]");
+        return sm;
     }
 
     /**
@@ -413,8 +353,7 @@ public abstract class ComplexListType extends NamedTypeMetadata {
      */
     public void addSedaXmlFragments(String xmlData) throws SEDALibException {
         Class<?> metadataClass;
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlData.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(xmlData)) {
             // jump document start
             xmlReader.nextUsefullEvent();
             String tmp = xmlReader.peekName();
@@ -433,7 +372,7 @@ public abstract class ComplexListType extends NamedTypeMetadata {
                 addMetadata(sm);
                 tmp = xmlReader.peekName();
             }
-        } catch (XMLStreamException | IllegalArgumentException | SEDALibException | IOException e) {
+        } catch (XMLStreamException | IllegalArgumentException | SEDALibException e) {
             throw new SEDALibException("Erreur de lecture XML de fragments d'un élément Content", e);
         }
     }
@@ -469,6 +408,8 @@ public abstract class ComplexListType extends NamedTypeMetadata {
             subTypeMetadataMapMap[seda2Version + 1].put(subClass, metadataMap);
             subTypeMetadataOrderedListMap[seda2Version + 1].put(subClass, new ArrayList<>(metadataMap.keySet()));
             subTypeNotExpandableMap[seda2Version + 1].put(subClass, !isExpandable);
+            for (ComplexListMetadataKind complexListMetadataKind : metadataMap.values())
+                SEDAMetadataBinding.getBinding(complexListMetadataKind.getMetadataClass());
         }
         analyzedSubTypeMetadataSet.add(subClass);
     }
@@ -563,6 +504,18 @@ public abstract class ComplexListType extends NamedTypeMetadata {
      * @return the String formatted metadata value
      */
     public String getSimpleMetadata(String metadataName) {
+        return getSimpleMetadata(metadataList, metadataName);
+    }
+
+    /**
+     * Gets the value of a simple metadata (String, Text, DescriptionLevel or DateTime type) in a metadata list, as
+     * {@link #getSimpleMetadata(String)} does for a ComplexListType.
+     *
+     * @param metadataList the metadata list
+     * @param metadataName the metadata name
+     * @return the value or null
+     */
+    public static String getSimpleMetadata(List<SEDAMetadata> metadataList, String metadataName) {
         String langText = null;
         for (SEDAMetadata sm : metadataList) {
             if (sm.getXmlElementName().equals(metadataName)) {
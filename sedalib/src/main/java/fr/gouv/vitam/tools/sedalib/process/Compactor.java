@@ -346,6 +346,7 @@ public class Compactor {
             for (BinaryDataObject bdo : au.getTheDataObjectGroup().getBinaryDataObjectList()) {
                 String radical = bdo.dataObjectVersion.getValue().split("_")[0];
                 if (subDocumentObjectVersionFilter.contains(radical)) {
+                    bdo.extractOnDisk();
                     compactedFileURI = getExtendedCompactedFileName(auURI + "-" + bdo.dataObjectVersion.getValue(),
                             bdo.getOnDiskPath());
                     subDocument.addMetadata(new FileObject(bdo, compactedFileURI));
@@ -376,6 +377,7 @@ public class Compactor {
             for (BinaryDataObject bdo : au.getTheDataObjectGroup().getBinaryDataObjectList()) {
                 String radical = bdo.dataObjectVersion.getValue().split("_")[0];
                 if (documentObjectVersionFilter.contains(radical)) {
+                    bdo.extractOnDisk();
                     compactedFileURI = getExtendedCompactedFileName(auURI + "-" + bdo.dataObjectVersion.getValue(),
                             bdo.getOnDiskPath());
                     document.addMetadata(new FileObject(bdo, compactedFileURI));
@@ -407,9 +409,9 @@ public class Compactor {
     }
 
     private void recurseCompactArchiveUnit(ArchiveUnit au, RecordGrp parentRecordGrp) throws SEDALibException, InterruptedException {
-        if (dataObjectPackage.isTouchedInDataObjectPackageId(au.getInDataObjectPackageId()))
+        if (dataObjectPackage.isTouchedInDataObjectPackageId(au))
             return;
-        dataObjectPackage.addTouchedInDataObjectPackageId(au.getInDataObjectPackageId());
+        dataObjectPackage.addTouchedInDataObjectPackageId(au);
         String descriptionLevel = au.getContent().getSimpleMetadata(DESCRIPTION_LEVEL);
         if (!"Item".equals(descriptionLevel)) {
             treenodeCounter++;
@@ -400,7 +400,9 @@ public class DeCompactor {
                     (packAU.getTheDataObjectGroup().getBinaryDataObjectList().isEmpty()))
                 throw new SEDALibException(MODULE + "pas de fichier à décompresser dans l'ArchiveUnit du DocumentPack ["
                         + packAU.getInDataObjectPackageId() + "]");
-            CompressUtility compressUtility = new CompressUtility(packAU.getTheDataObjectGroup().getBinaryDataObjectList().get(0).getOnDiskPath(), packDirPath, "UTF-8", sedaLibProgressLogger);
+            BinaryDataObject packBdo = packAU.getTheDataObjectGroup().getBinaryDataObjectList().get(0);
+            packBdo.extractOnDisk();
+            CompressUtility compressUtility = new CompressUtility(packBdo.getOnDiskPath(), packDirPath, "UTF-8", sedaLibProgressLogger);
             compressUtility.unCompress();
         }
 
@@ -0,0 +1,353 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The Class CompressedXmlFragmentStore.
+ * <p>
+ * Class for XML fragments store, keeping fragments deflated in an append only arena made of big chunks, either
+ * allocated off heap or memory mapped in a spill file. A small cache of the most recently used fragments, in String
+ * form, avoids inflating again fragments that are often read.
+ * <p>
+ * Fragments are deflated and inflated out of any lock, with per thread Deflater and Inflater, and stored entries are
+ * never modified so that they are read without lock. Only the append position and the hot cache are shared under
+ * lock.
+ * <p>
+ * Released fragments space is not reused, it's only freed when the store is closed.
+ */
+public class CompressedXmlFragmentStore implements XmlFragmentStore, AutoCloseable {
+
+    /**
+     * The default chunk size.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The default hot cache size, in fragments number.
+     */
+    public static final int DEFAULT_HOT_CACHE_SIZE = 1024;
+
+    /**
+     * The minimum size of fragments to be deflated.
+     */
+    private static final int MIN_DEFLATE_SIZE = 64;
+
+    /**
+     * The size of the fragment header, stored length and raw length.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * The per thread deflater, reset before each use.
+     */
+    private static final ThreadLocal<Deflater> deflater = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    /**
+     * The per thread inflater, reset before each use.
+     */
+    private static final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * The chunk size.
+     */
+    private int chunkSize;
+
+    /**
+     * The chunks, the last one being the one appended. Their position is never changed, so that they can be
+     * duplicated to be read without lock.
+     */
+    private volatile ByteBuffer[] chunks;
+
+    /**
+     * The view of the last chunk used to append entries, only used under the append lock.
+     */
+    private ByteBuffer appendChunk;
+
+    /**
+     * The lock of the append position and of the chunks array growth.
+     */
+    private final Object appendLock;
+
+    /**
+     * The spill file channel, or null if chunks are allocated off heap.
+     */
+    private FileChannel spillFileChannel;
+
+    /**
+     * The spill file path, or null if chunks are allocated off heap.
+     */
+    private Path spillFilePath;
+
+    /**
+     * The spill file size, which is the sum of mapped chunks size.
+     */
+    private long spillFileSize;
+
+    /**
+     * The hot cache, in access order, used under its own lock.
+     */
+    private final LinkedHashMap<Long, String> hotCache;
+
+    /**
+     * The stored bytes counter, written after each entry append so that reading it makes the entry visible.
+     */
+    private volatile long storedBytes;
+
+    /**
+     * The released bytes counter, used under the append lock.
+     */
+    private long releasedBytes;
+
+    /**
+     * Instantiates a new compressed XML fragment store, with chunks allocated off heap.
+     *
+     * @param chunkSize    the chunk size
+     * @param hotCacheSize the hot cache size, in fragments number
+     */
+    public CompressedXmlFragmentStore(int chunkSize, int hotCacheSize) {
+        this.chunkSize = chunkSize;
+        this.chunks = new ByteBuffer[0];
+        this.appendLock = new Object();
+        this.hotCache = new LinkedHashMap<Long, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > hotCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Instantiates a new compressed XML fragment store, with default sizes and chunks allocated off heap.
+     */
+    public CompressedXmlFragmentStore() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_HOT_CACHE_SIZE);
+    }
+
+    /**
+     * Instantiates a new compressed XML fragment store, with chunks memory mapped in a spill file. The spill file
+     * is created, or truncated if it exists, and deleted when the store is closed.
+     *
+     * @param spillFilePath the spill file path
+     * @param chunkSize     the chunk size
+     * @param hotCacheSize  the hot cache size, in fragments number
+     * @throws SEDALibException if the spill file can't be created
+     */
+    public CompressedXmlFragmentStore(Path spillFilePath, int chunkSize, int hotCacheSize) throws SEDALibException {
+        this(chunkSize, hotCacheSize);
+        this.spillFilePath = spillFilePath;
+        try {
+            this.spillFileChannel = FileChannel.open(spillFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible de créer le fichier de débordement [" + spillFilePath + "]", e);
+        }
+    }
+
+    /**
+     * Allocate a new chunk, off heap or mapped in the spill file, and make it the append one. It has to be called
+     * under the append lock.
+     *
+     * @param size the chunk size
+     */
+    private void allocateChunk(int size) {
+        ByteBuffer chunk;
+        if (spillFileChannel == null)
+            chunk = ByteBuffer.allocateDirect(size);
+        else {
+            try {
+                chunk = spillFileChannel.map(FileChannel.MapMode.READ_WRITE, spillFileSize, size);
+            } catch (IOException e) {
+                throw new IllegalStateException("Impossible d'étendre le fichier de débordement [" + spillFilePath
+                        + "]", e);
+            }
+            spillFileSize += size;
+        }
+        ByteBuffer[] newChunks = Arrays.copyOf(chunks, chunks.length + 1);
+        newChunks[chunks.length] = chunk;
+        chunks = newChunks;
+        appendChunk = chunk.duplicate();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore#store(java.lang.String)
+     */
+    @Override
+    public long store(String fragment) {
+        byte[] raw = fragment.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = raw;
+        int storedLength = raw.length;
+        if (raw.length >= MIN_DEFLATE_SIZE) {
+            byte[] deflated = new byte[raw.length];
+            Deflater localDeflater = deflater.get();
+            localDeflater.reset();
+            localDeflater.setInput(raw);
+            localDeflater.finish();
+            int deflatedLength = localDeflater.deflate(deflated);
+            // if deflate doesn't save space, the fragment is stored raw
+            if (localDeflater.finished() && (deflatedLength < raw.length)) {
+                stored = deflated;
+                storedLength = deflatedLength;
+            }
+        }
+
+        int entrySize = HEADER_SIZE + storedLength;
+        synchronized (appendLock) {
+            if ((appendChunk == null) || (appendChunk.remaining() < entrySize))
+                allocateChunk(Math.max(chunkSize, entrySize));
+            long handle = (((long) (chunks.length - 1)) << 32) | appendChunk.position();
+            appendChunk.putInt(storedLength);
+            appendChunk.putInt(raw.length);
+            appendChunk.put(stored, 0, storedLength);
+            storedBytes += entrySize;
+            return handle;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore#load(long)
+     */
+    @Override
+    public String load(long handle) {
+        String result;
+        synchronized (hotCache) {
+            result = hotCache.get(handle);
+        }
+        if (result != null)
+            return result;
+
+        // the volatile read of stored bytes makes visible all entries appended before the handle was given
+        if (storedBytes == 0)
+            throw new IllegalStateException("Fragment XML inexistant dans le stockage");
+        ByteBuffer chunk = chunks[(int) (handle >>> 32)].duplicate();
+        chunk.position((int) handle);
+        int storedLength = chunk.getInt();
+        int rawLength = chunk.getInt();
+        byte[] stored = new byte[storedLength];
+        chunk.get(stored);
+        byte[] raw = stored;
+        if (storedLength != rawLength) {
+            raw = new byte[rawLength];
+            Inflater localInflater = inflater.get();
+            localInflater.reset();
+            localInflater.setInput(stored);
+            try {
+                if (localInflater.inflate(raw) != rawLength)
+                    throw new DataFormatException("taille inattendue");
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Fragment XML corrompu dans le stockage", e);
+            }
+        }
+        result = new String(raw, StandardCharsets.UTF_8);
+        synchronized (hotCache) {
+            hotCache.put(handle, result);
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see fr.gouv.vitam.tools.sedalib.utils.XmlFragmentStore#release(long)
+     */
+    @Override
+    public void release(long handle) {
+        synchronized (hotCache) {
+            hotCache.remove(handle);
+        }
+        int storedLength = chunks[(int) (handle >>> 32)].getInt((int) handle);
+        synchronized (appendLock) {
+            releasedBytes += HEADER_SIZE + storedLength;
+        }
+    }
+
+    /**
+     * Gets the number of bytes used by stored fragments, released or not.
+     *
+     * @return the stored bytes
+     */
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * Gets the number of bytes used by released fragments, which are not reclaimed until the store is closed.
+     *
+     * @return the released bytes
+     */
+    public long getReleasedBytes() {
+        synchronized (appendLock) {
+            return releasedBytes;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws SEDALibException {
+        synchronized (hotCache) {
+            hotCache.clear();
+        }
+        synchronized (appendLock) {
+            chunks = new ByteBuffer[0];
+            appendChunk = null;
+            if (spillFileChannel != null) {
+                try {
+                    spillFileChannel.close();
+                    // mapped chunks are only unmapped when garbage collected, so deletion may have to wait for exit
+                    if (!spillFilePath.toFile().delete())
+                        spillFilePath.toFile().deleteOnExit();
+                } catch (IOException e) {
+                    throw new SEDALibException("Impossible de fermer le fichier de débordement [" + spillFilePath + "]", e);
+                } finally {
+                    spillFileChannel = null;
+                }
+            }
+        }
+    }
+}
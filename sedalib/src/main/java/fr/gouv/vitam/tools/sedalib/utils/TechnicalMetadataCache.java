@@ -0,0 +1,356 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The Class TechnicalMetadataCache.
+ * <p>
+ * Persistent cache of the technical metadata extracted from files (SHA-512 digest, PUID, MIME type and format
+ * name), so that re-importing the same files doesn't need to hash and identify them again.
+ * <p>
+ * An entry is keyed by the file canonical path and is only used if the file size, last modified time and file key
+ * (inode on Unix systems, when available) are still the same. The least recently used entries are evicted when the
+ * cache exceeds its maximum number of entries. The cache is loaded from its file at creation, if it exists, and
+ * saved in it when closed. It can be shared by concurrent extraction threads.
+ */
+public class TechnicalMetadataCache implements AutoCloseable {
+
+    /**
+     * The cache file format header.
+     */
+    private static final String FILE_HEADER = "SEDALibTechnicalMetadataCache-1";
+
+    /**
+     * The default maximum number of entries.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000000;
+
+    /**
+     * The Class Entry.
+     * <p>
+     * Technical metadata of one file, with the file attributes used to validate it.
+     */
+    public static class Entry {
+
+        /** The file size. */
+        private final long size;
+
+        /** The file last modified time in milliseconds. */
+        private final long lastModified;
+
+        /** The file key, or empty string if not available. */
+        private final String fileKey;
+
+        /** The SHA-512 digest. */
+        private final String digest;
+
+        /** The format PUID. */
+        private final String puid;
+
+        /** The MIME type, or null. */
+        private final String mimeType;
+
+        /** The format name. */
+        private final String formatName;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param size         the file size
+         * @param lastModified the file last modified time in milliseconds
+         * @param fileKey      the file key, or empty string
+         * @param digest       the SHA-512 digest
+         * @param puid         the format PUID
+         * @param mimeType     the MIME type, or null
+         * @param formatName   the format name
+         */
+        Entry(long size, long lastModified, String fileKey, String digest, String puid, String mimeType,
+              String formatName) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+            this.digest = digest;
+            this.puid = puid;
+            this.mimeType = mimeType;
+            this.formatName = formatName;
+        }
+
+        /**
+         * Gets the SHA-512 digest.
+         *
+         * @return the digest
+         */
+        public String getDigest() {
+            return digest;
+        }
+
+        /**
+         * Gets the format PUID.
+         *
+         * @return the PUID
+         */
+        public String getPuid() {
+            return puid;
+        }
+
+        /**
+         * Gets the MIME type.
+         *
+         * @return the MIME type, or null
+         */
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        /**
+         * Gets the format name.
+         *
+         * @return the format name
+         */
+        public String getFormatName() {
+            return formatName;
+        }
+    }
+
+    /**
+     * The cache file path.
+     */
+    private Path cacheFilePath;
+
+    /**
+     * The maximum number of entries.
+     */
+    private int maxEntries;
+
+    /**
+     * The entries by canonical path, in access order.
+     */
+    private LinkedHashMap<String, Entry> entries;
+
+    /**
+     * The modified flag, true if entries have to be saved.
+     */
+    private boolean modifiedFlag;
+
+    /**
+     * Instantiates a new technical metadata cache with default maximum number of entries.
+     *
+     * @param cacheFilePath the cache file path
+     * @throws SEDALibException if the existing cache file can't be read
+     */
+    public TechnicalMetadataCache(Path cacheFilePath) throws SEDALibException {
+        this(cacheFilePath, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Instantiates a new technical metadata cache.
+     *
+     * @param cacheFilePath the cache file path
+     * @param maxEntries    the maximum number of entries
+     * @throws SEDALibException if the existing cache file can't be read
+     */
+    public TechnicalMetadataCache(Path cacheFilePath, int maxEntries) throws SEDALibException {
+        this.cacheFilePath = cacheFilePath;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > TechnicalMetadataCache.this.maxEntries;
+            }
+        };
+        this.modifiedFlag = false;
+        if (Files.isRegularFile(cacheFilePath))
+            load();
+    }
+
+    /**
+     * Load the entries from the cache file.
+     *
+     * @throws SEDALibException if the cache file can't be read
+     */
+    private void load() throws SEDALibException {
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(cacheFilePath))))) {
+            if (!FILE_HEADER.equals(dis.readUTF()))
+                throw new SEDALibException("Le fichier [" + cacheFilePath + "] n'est pas un cache de métadonnées techniques");
+            int count = dis.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = dis.readUTF();
+                long size = dis.readLong();
+                long lastModified = dis.readLong();
+                String fileKey = dis.readUTF();
+                String digest = dis.readUTF();
+                String puid = dis.readUTF();
+                String mimeType = dis.readUTF();
+                String formatName = dis.readUTF();
+                entries.put(path, new Entry(size, lastModified, fileKey, digest, puid,
+                        mimeType.isEmpty() ? null : mimeType, formatName));
+            }
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible de lire le cache de métadonnées techniques [" + cacheFilePath + "]", e);
+        }
+    }
+
+    /**
+     * Save the entries in the cache file, if modified.
+     *
+     * @throws SEDALibException if the cache file can't be written
+     */
+    public synchronized void save() throws SEDALibException {
+        if (!modifiedFlag)
+            return;
+        Path tmpPath = cacheFilePath.resolveSibling(cacheFilePath.getFileName() + ".tmp");
+        try {
+            if (cacheFilePath.toAbsolutePath().getParent() != null)
+                Files.createDirectories(cacheFilePath.toAbsolutePath().getParent());
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmpPath))))) {
+                dos.writeUTF(FILE_HEADER);
+                dos.writeInt(entries.size());
+                // written from least to most recently used, so that the order is kept when loaded
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    Entry entry = e.getValue();
+                    dos.writeUTF(e.getKey());
+                    dos.writeLong(entry.size);
+                    dos.writeLong(entry.lastModified);
+                    dos.writeUTF(entry.fileKey);
+                    dos.writeUTF(entry.digest);
+                    dos.writeUTF(entry.puid);
+                    dos.writeUTF(entry.mimeType == null ? "" : entry.mimeType);
+                    dos.writeUTF(entry.formatName);
+                }
+            }
+            Files.move(tmpPath, cacheFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible d'écrire le cache de métadonnées techniques [" + cacheFilePath + "]", e);
+        }
+        modifiedFlag = false;
+    }
+
+    /**
+     * Gets the file key, inode on Unix systems, or empty string if not available.
+     *
+     * @param attributes the file attributes
+     * @return the file key string
+     */
+    private static String getFileKey(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        return fileKey == null ? "" : fileKey.toString();
+    }
+
+    /**
+     * Gets the technical metadata of a file, if cached and still valid.
+     *
+     * @param path the file path
+     * @return the entry, or null if not cached or if the file has changed
+     */
+    public Entry get(Path path) {
+        String canonicalPath;
+        BasicFileAttributes attributes;
+        try {
+            canonicalPath = path.toRealPath().toString();
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(canonicalPath);
+        }
+        if ((entry == null) || (entry.size != attributes.size())
+                || (entry.lastModified != attributes.lastModifiedTime().toMillis())
+                || !entry.fileKey.equals(getFileKey(attributes)))
+            return null;
+        return entry;
+    }
+
+    /**
+     * Puts the technical metadata of a file in cache.
+     * <p>
+     * The size and last modified time have to be read before the extraction of the technical metadata, so that a
+     * file modified during extraction is not cached with its new attributes.
+     *
+     * @param path         the file path
+     * @param size         the file size
+     * @param lastModified the file last modified time in milliseconds
+     * @param digest       the SHA-512 digest
+     * @param puid         the format PUID
+     * @param mimeType     the MIME type, or null
+     * @param formatName   the format name
+     */
+    public void put(Path path, long size, long lastModified, String digest, String puid, String mimeType,
+                    String formatName) {
+        String canonicalPath;
+        BasicFileAttributes attributes;
+        try {
+            canonicalPath = path.toRealPath().toString();
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return;
+        }
+        Entry entry = new Entry(size, lastModified, getFileKey(attributes),
+                digest, puid == null ? "" : puid, mimeType, formatName == null ? "" : formatName);
+        synchronized (this) {
+            entries.put(canonicalPath, entry);
+            modifiedFlag = true;
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Save the cache if modified.
+     *
+     * @throws SEDALibException if the cache file can't be written
+     */
+    @Override
+    public void close() throws SEDALibException {
+        save();
+    }
+}
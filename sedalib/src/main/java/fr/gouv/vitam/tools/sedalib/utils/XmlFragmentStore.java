@@ -0,0 +1,71 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.utils;
+
+/**
+ * The Interface XmlFragmentStore.
+ * <p>
+ * Interface for stores keeping XML fragments, as ArchiveUnit Content or Management, out of the java heap objects. A
+ * stored fragment is designated by a handle, and is materialised again in String form on demand.
+ * <p>
+ * Implementations have to be thread safe.
+ * <p>
+ * As handles are kept by their users, stored fragments are never moved. So the space of released fragments may not
+ * be reclaimed before the store end of use, and a store where fragments are often replaced grows with the total
+ * size of all the fragments stored, not only with the size of the live ones.
+ */
+public interface XmlFragmentStore {
+
+    /**
+     * The handle value meaning that there is no stored fragment.
+     */
+    long NO_FRAGMENT = -1;
+
+    /**
+     * Store a fragment.
+     *
+     * @param fragment the fragment, not null
+     * @return the handle of the stored fragment
+     */
+    long store(String fragment);
+
+    /**
+     * Load a stored fragment.
+     *
+     * @param handle the handle of the stored fragment
+     * @return the fragment
+     */
+    String load(long handle);
+
+    /**
+     * Release a stored fragment, which will not be loaded any more. Its space is not necessarily reclaimed.
+     *
+     * @param handle the handle of the stored fragment
+     */
+    void release(long handle);
+}
@@ -38,6 +38,9 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -51,13 +54,23 @@ import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.TreeMap;
 
 /**
  * The Class IndentXMLTool.
  * <p>
  * Utility class used to indent any XML string representing XML fragments (multi
  * root) without reallocating all parsing objects each time.
+ * <p>
+ * The XML is re-indented in one streaming pass, which produces the same result as the DOM transformation. When
+ * the XML contains constructions where the two could differ (mixed content, comments, processing instructions,
+ * CDATA, control characters...), the DOM transformation is used.
  */
 public class IndentXMLTool {
 
@@ -148,8 +161,6 @@ public class IndentXMLTool {
      * @throws SEDALibException if XML is badly formed
      */
     public String indentString(String xml) throws SEDALibException {
-        String result;
-
         xml=xml.trim();
         if (xml.isEmpty())
             return "";
@@ -157,6 +168,267 @@ public class IndentXMLTool {
         if (appTransformer == null)
             return xml;
 
+        String result = null;
+        if ((indentLength > 0) && !xml.startsWith("<?"))
+            result = streamIndentString(xml);
+        if (result == null)
+            result = domIndentString(xml);
+        return result;
+    }
+
+    /**
+     * Split a string in lines, the same way as a {@link Scanner}.
+     *
+     * @param text the text
+     * @return the lines list
+     */
+    public static List<String> splitLines(String text) {
+        List<String> result = new ArrayList<>();
+        if (StringUtils.containsAny(text, '\r', '\u0085', '\u2028', '\u2029')) {
+            try (Scanner s = new Scanner(text)) {
+                while (s.hasNextLine())
+                    result.add(s.nextLine());
+            }
+            return result;
+        }
+        int start = 0;
+        int end;
+        while ((end = text.indexOf('\n', start)) >= 0) {
+            result.add(text.substring(start, end));
+            start = end + 1;
+        }
+        if (start < text.length())
+            result.add(text.substring(start));
+        return result;
+    }
+
+    /**
+     * Check if a char can't be kept as is by the streaming indentation.
+     *
+     * @param c the char
+     * @return true, if the DOM transformation has to be used
+     */
+    private static boolean isSpecialChar(char c) {
+        return ((c < ' ') && (c != '\n') && (c != '\t')) || ((c >= 0x7F) && (c <= 0x9F)) || (c == '\u2028')
+                || (c == '\u2029');
+    }
+
+    /**
+     * Append escaped text.
+     *
+     * @param sb          the StringBuilder
+     * @param text        the text
+     * @param inAttribute true if the text is an attribute value
+     * @return false if the text contains chars that are not handled by the streaming indentation
+     */
+    private static boolean appendEscaped(StringBuilder sb, CharSequence text, boolean inAttribute) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSpecialChar(c) || (inAttribute && ((c == '\n') || (c == '\t') || (c == '>'))))
+                return false;
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    if (inAttribute)
+                        sb.append("&quot;");
+                    else
+                        sb.append(c);
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the qualified name.
+     *
+     * @param prefix    the prefix, may be null or empty
+     * @param localName the local name
+     * @return the qualified name
+     */
+    private static String getQualifiedName(String prefix, String localName) {
+        if ((prefix == null) || prefix.isEmpty())
+            return localName;
+        return prefix + ":" + localName;
+    }
+
+    /**
+     * Append attributes sorted by qualified name.
+     *
+     * @param sb         the StringBuilder
+     * @param attributes the attributes by qualified name
+     * @return false if an attribute value is not handled by the streaming indentation
+     */
+    private static boolean appendAttributes(StringBuilder sb, Map<String, String> attributes) {
+        for (Map.Entry<String, String> e : attributes.entrySet()) {
+            sb.append(' ').append(e.getKey()).append("=\"");
+            if (!appendEscaped(sb, e.getValue(), true))
+                return false;
+            sb.append('"');
+        }
+        return true;
+    }
+
+    /**
+     * Append the current start element, with namespace declarations and then attributes sorted by qualified name,
+     * as in the DOM transformation.
+     *
+     * @param sb            the StringBuilder
+     * @param xsr           the XMLStreamReader on a START_ELEMENT
+     * @param qualifiedName the element qualified name
+     * @return false if the element is not handled by the streaming indentation
+     */
+    private static boolean appendStartElement(StringBuilder sb, XMLStreamReader xsr, String qualifiedName) {
+        sb.append('<').append(qualifiedName);
+        if (xsr.getNamespaceCount() > 0) {
+            TreeMap<String, String> namespaces = new TreeMap<>();
+            for (int i = 0; i < xsr.getNamespaceCount(); i++) {
+                String prefix = xsr.getNamespacePrefix(i);
+                namespaces.put(((prefix == null) || prefix.isEmpty() ? "xmlns" : "xmlns:" + prefix),
+                        (xsr.getNamespaceURI(i) == null ? "" : xsr.getNamespaceURI(i)));
+            }
+            if (!appendAttributes(sb, namespaces))
+                return false;
+        }
+        if (xsr.getAttributeCount() > 0) {
+            TreeMap<String, String> attributes = new TreeMap<>();
+            for (int i = 0; i < xsr.getAttributeCount(); i++)
+                attributes.put(getQualifiedName(xsr.getAttributePrefix(i), xsr.getAttributeLocalName(i)),
+                        xsr.getAttributeValue(i));
+            return appendAttributes(sb, attributes);
+        }
+        return true;
+    }
+
+    /**
+     * Append the text only content of an element and its end tag. The continuation lines are handled as in the DOM
+     * transformation result.
+     *
+     * @param sb            the StringBuilder
+     * @param text          the text
+     * @param qualifiedName the element qualified name
+     * @return false if the text is not handled by the streaming indentation
+     */
+    private boolean appendTextAndEndElement(StringBuilder sb, CharSequence text, String qualifiedName) {
+        int start = sb.length();
+        sb.append('>');
+        if (!appendEscaped(sb, text, false))
+            return false;
+        sb.append("</").append(qualifiedName).append('>');
+        int lineStart = sb.indexOf("\n", start);
+        while (lineStart >= 0) {
+            lineStart++;
+            int lineEnd = sb.indexOf("\n", lineStart);
+            String line = sb.substring(lineStart, (lineEnd < 0 ? sb.length() : lineEnd));
+            if (line.startsWith(indentElement) && line.trim().startsWith("<")) {
+                sb.delete(lineStart, lineStart + indentLength);
+                lineEnd = (lineEnd < 0 ? -1 : lineEnd - indentLength);
+            }
+            lineStart = lineEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Indent string in one streaming pass.
+     *
+     * @param xml the trimmed xml
+     * @return the string in xml indented form, or null if the XML has to be indented by the DOM transformation
+     */
+    private String streamIndentString(String xml) {
+        StringBuilder sb = new StringBuilder(xml.length() + (xml.length() >> 2));
+        StringBuilder text = new StringBuilder();
+        Deque<String> names = new ArrayDeque<>();
+        Deque<Boolean> hasChildren = new ArrayDeque<>();
+        boolean startTagOpen = false;
+        XMLStreamReader xsr = null;
+        try {
+            xsr = SEDAXMLFragmentPool.newFragmentsStreamReader(xml);
+            while (xsr.hasNext()) {
+                switch (xsr.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        if (!StringUtils.isBlank(text))
+                            return null;
+                        text.setLength(0);
+                        if (startTagOpen)
+                            sb.append('>');
+                        if (!hasChildren.isEmpty()) {
+                            hasChildren.pop();
+                            hasChildren.push(Boolean.TRUE);
+                        }
+                        if (sb.length() > 0)
+                            sb.append('\n').append(StringUtils.repeat(indentElement, names.size()));
+                        String qualifiedName = getQualifiedName(xsr.getPrefix(), xsr.getLocalName());
+                        if (!appendStartElement(sb, xsr, qualifiedName))
+                            return null;
+                        names.push(qualifiedName);
+                        hasChildren.push(Boolean.FALSE);
+                        startTagOpen = true;
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        String name = names.pop();
+                        boolean blankText = StringUtils.isBlank(text);
+                        if (hasChildren.pop()) {
+                            if (!blankText)
+                                return null;
+                            sb.append('\n').append(StringUtils.repeat(indentElement, names.size()))
+                                    .append("</").append(name).append('>');
+                        } else if (blankText)
+                            sb.append("/>");
+                        else if (!appendTextAndEndElement(sb, text, name))
+                            return null;
+                        text.setLength(0);
+                        startTagOpen = false;
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        text.append(xsr.getTextCharacters(), xsr.getTextStart(), xsr.getTextLength());
+                        if (names.isEmpty() && !StringUtils.isBlank(text))
+                            return null;
+                        break;
+                    case XMLStreamConstants.END_DOCUMENT:
+                        break;
+                    default:
+                        // comments, processing instructions, CDATA, DTD... are left to the DOM transformation
+                        return null;
+                }
+            }
+        } catch (XMLStreamException | SEDALibException | RuntimeException e) {
+            return null;
+        } finally {
+            if (xsr != null) {
+                try {
+                    xsr.close();
+                } catch (XMLStreamException ignored) {
+                    // nothing to do
+                }
+            }
+        }
+        if (!names.isEmpty())
+            return null;
+        return sb.toString();
+    }
+
+    /**
+     * Indent string with the DOM transformation.
+     *
+     * @param xml the trimmed xml
+     * @return the string in xml indented form
+     * @throws SEDALibException if XML is badly formed
+     */
+    String domIndentString(String xml) throws SEDALibException {
+        String result;
+
         DocumentBuilder appDocumentBuilder;
         try {
             appDocumentBuilder = dbf.newDocumentBuilder(); // NOSONAR no Doctype risk as all is encapsulated in a <INDENT> tag
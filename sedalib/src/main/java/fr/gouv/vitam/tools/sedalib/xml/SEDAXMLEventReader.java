@@ -99,8 +99,7 @@ public class SEDAXMLEventReader implements AutoCloseable {
     public static String extractNamedElement(String elementName, String xmlString) {
         String result = null;
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlString.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(xmlString)) {
 
             XMLEvent event = xmlReader.nextUsefullEvent();
             while (true) {
@@ -126,8 +125,7 @@ public class SEDAXMLEventReader implements AutoCloseable {
      */
     public static String extractFragments(String elementName, String xmlData) {
         StringWriter sw = new StringWriter();
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(xmlData.getBytes(StandardCharsets.UTF_8));
-             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(bais, true)) {
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(xmlData)) {
             XMLEvent event = xmlReader.nextUsefullEvent();
             while (true) {
                 if (event.isStartElement() && event.asStartElement().getName().getLocalPart().equals(elementName)) {
@@ -197,6 +195,34 @@ public class SEDAXMLEventReader implements AutoCloseable {
         }
     }
 
+    /**
+     * Instantiates a new SEDAXML event reader.
+     *
+     * @param reader        the Reader
+     * @param isForElements true, if the reader must be able to read fragements
+     *                      (multi root)
+     * @throws SEDALibException if impossible to open the stream
+     */
+    public SEDAXMLEventReader(Reader reader, boolean isForElements) throws SEDALibException {
+        try {
+            if (isForElements)
+                xmlReader = xmlifFragments.createXMLEventReader(reader);
+            else
+                xmlReader = xmlif.createXMLEventReader(reader);
+        } catch (Exception e) {
+            throw new SEDALibException("Impossible d'ouvrir un flux de lecture XML", e);
+        }
+    }
+
+    /**
+     * Instantiates a new SEDAXML event reader on an already created XMLEventReader.
+     *
+     * @param xmlReader the XMLEventReader
+     */
+    SEDAXMLEventReader(XMLEventReader xmlReader) {
+        this.xmlReader = xmlReader;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -0,0 +1,267 @@
+/**
+ * Copyright French Prime minister Office/DINSIC/Vitam Program (2015-2019)
+ * <p>
+ * contact.vitam@programmevitam.fr
+ * <p>
+ * This software is developed as a validation helper tool, for constructing Submission Information Packages (archives
+ * sets) in the Vitam program whose purpose is to implement a digital archiving back-office system managing high
+ * volumetry securely and efficiently.
+ * <p>
+ * This software is governed by the CeCILL 2.1 license under French law and abiding by the rules of distribution of free
+ * software. You can use, modify and/ or redistribute the software under the terms of the CeCILL 2.1 license as
+ * circulated by CEA, CNRS and INRIA archiveTransfer the following URL "http://www.cecill.info".
+ * <p>
+ * As a counterpart to the access to the source code and rights to copy, modify and redistribute granted by the license,
+ * users are provided only with a limited warranty and the software's author, the holder of the economic rights, and the
+ * successive licensors have only limited liability.
+ * <p>
+ * In this respect, the user's attention is drawn to the risks associated with loading, using, modifying and/or
+ * developing or reproducing the software by the user in light of its specific status of free software, that may mean
+ * that it is complicated to manipulate, and that also therefore means that it is reserved for developers and
+ * experienced professionals having in-depth computer knowledge. Users are therefore encouraged to load and test the
+ * software's suitability as regards their requirements in conditions enabling the security of their systems and/or data
+ * to be ensured and, more generally, to use and operate it in the same conditions as regards security.
+ * <p>
+ * The fact that you are presently reading this means that you have had knowledge of the CeCILL 2.1 license and that you
+ * accept its terms.
+ */
+package fr.gouv.vitam.tools.sedalib.xml;
+
+import com.ctc.wstx.api.WstxInputProperties;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.codehaus.stax2.XMLInputFactory2;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+
+/**
+ * The Class SEDAXMLFragmentPool.
+ * <p>
+ * Thread-confined pool of the objects used to parse and serialize the many small XML fragments handled in metadata
+ * edition (ArchiveUnit parts, SEDAMetadata String forms...). Fragments are read directly from chars, without UTF-8
+ * encoding and decoding, by a Woodstox factory owned by the thread, so that its configuration and symbol table are
+ * reused from fragment to fragment without synchronization between threads. Fragments are written in char buffers
+ * reused by the thread.
+ */
+public final class SEDAXMLFragmentPool {
+
+    /** The max capacity of a buffer kept in the pool, bigger ones are left to the garbage collector. */
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 1024 * 1024;
+
+    /** The max number of buffers kept in the pool of a thread. */
+    private static final int MAX_POOLED_BUFFERS = 8;
+
+    /** The fragments XMLInputFactory of each thread. */
+    private static final ThreadLocal<XMLInputFactory> fragmentsInputFactory =
+            ThreadLocal.withInitial(SEDAXMLFragmentPool::createFragmentsInputFactory);
+
+    /** The free buffers of each thread. */
+    private static final ThreadLocal<ArrayDeque<FragmentBuffer>> freeBuffers = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * The Class FragmentBuffer.
+     * <p>
+     * Writer in a reusable char buffer, given back to the thread pool when closed. It's not thread safe and has to be
+     * used and closed by the thread that acquired it.
+     */
+    public static final class FragmentBuffer extends Writer {
+
+        /** The chars. */
+        private final StringBuilder chars = new StringBuilder(1024);
+
+        /** The released flag. */
+        private boolean released;
+
+        /**
+         * Instantiates a new fragment buffer.
+         */
+        private FragmentBuffer() {
+            this.released = false;
+        }
+
+        @Override
+        public void write(int c) {
+            chars.append((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            chars.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            chars.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            chars.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+            // nothing to do, chars are directly in the buffer
+        }
+
+        /**
+         * Gets the number of written chars.
+         *
+         * @return the length
+         */
+        public int length() {
+            return chars.length();
+        }
+
+        /**
+         * Give back the buffer to the thread pool.
+         */
+        @Override
+        public void close() {
+            if (released)
+                return;
+            released = true;
+            ArrayDeque<FragmentBuffer> pool = freeBuffers.get();
+            if ((chars.capacity() <= MAX_POOLED_BUFFER_CAPACITY) && (pool.size() < MAX_POOLED_BUFFERS)) {
+                chars.setLength(0);
+                pool.push(this);
+            }
+        }
+
+        /**
+         * Gets the written chars as a String.
+         *
+         * @return the String
+         */
+        @Override
+        public String toString() {
+            return chars.toString();
+        }
+    }
+
+    /**
+     * The Class CharSequenceReader.
+     * <p>
+     * Reader on any CharSequence, without copy.
+     */
+    private static final class CharSequenceReader extends Reader {
+
+        /** The chars. */
+        private final CharSequence chars;
+
+        /** The position. */
+        private int position;
+
+        /**
+         * Instantiates a new char sequence reader.
+         *
+         * @param chars the chars
+         */
+        CharSequenceReader(CharSequence chars) {
+            this.chars = chars;
+            this.position = 0;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (position >= chars.length())
+                return -1;
+            int count = Math.min(len, chars.length() - position);
+            for (int i = 0; i < count; i++)
+                cbuf[off + i] = chars.charAt(position++);
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // nothing to do
+        }
+    }
+
+    /**
+     * Instantiates a new pool, not used.
+     */
+    private SEDAXMLFragmentPool() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Create the fragments XMLInputFactory of the current thread.
+     *
+     * @return the XMLInputFactory
+     */
+    private static XMLInputFactory createFragmentsInputFactory() {
+        XMLInputFactory result = XMLInputFactory2.newInstance();
+        // Warning it's a Woodstox specific mode
+        result.setProperty(WstxInputProperties.P_INPUT_PARSING_MODE, WstxInputProperties.PARSING_MODE_FRAGMENT);
+        return result;
+    }
+
+    /**
+     * Gets a new SEDAXMLEventReader able to read XML fragments (multi root) from chars.
+     *
+     * @param xmlData the XML fragments chars
+     * @return the SEDAXMLEventReader
+     * @throws SEDALibException if impossible to open the stream
+     */
+    public static SEDAXMLEventReader newFragmentsReader(CharSequence xmlData) throws SEDALibException {
+        if (xmlData instanceof String)
+            return newFragmentsReader(new StringReader((String) xmlData));
+        return newFragmentsReader(new CharSequenceReader(xmlData));
+    }
+
+    /**
+     * Gets a new SEDAXMLEventReader able to read XML fragments (multi root) from a Reader.
+     *
+     * @param reader the reader
+     * @return the SEDAXMLEventReader
+     * @throws SEDALibException if impossible to open the stream
+     */
+    public static SEDAXMLEventReader newFragmentsReader(Reader reader) throws SEDALibException {
+        XMLEventReader xmlEventReader;
+        try {
+            xmlEventReader = fragmentsInputFactory.get().createXMLEventReader(reader);
+        } catch (Exception e) {
+            throw new SEDALibException("Impossible d'ouvrir un flux de lecture XML", e);
+        }
+        return new SEDAXMLEventReader(xmlEventReader);
+    }
+
+    /**
+     * Gets a new low level XMLStreamReader able to read XML fragments (multi root) from chars, for scans that don't
+     * need XML events objects.
+     *
+     * @param xmlData the XML fragments chars
+     * @return the XMLStreamReader
+     * @throws SEDALibException if impossible to open the stream
+     */
+    public static XMLStreamReader newFragmentsStreamReader(CharSequence xmlData) throws SEDALibException {
+        Reader reader = (xmlData instanceof String ? new StringReader((String) xmlData) :
+                new CharSequenceReader(xmlData));
+        try {
+            return fragmentsInputFactory.get().createXMLStreamReader(reader);
+        } catch (Exception e) {
+            throw new SEDALibException("Impossible d'ouvrir un flux de lecture XML", e);
+        }
+    }
+
+    /**
+     * Acquire a fragment buffer from the current thread pool. It has to be closed, by the same thread, to be given
+     * back to the pool.
+     *
+     * @return the fragment buffer
+     */
+    public static FragmentBuffer acquireBuffer() {
+        FragmentBuffer result = freeBuffers.get().poll();
+        if (result == null)
+            result = new FragmentBuffer();
+        result.released = false;
+        return result;
+    }
+}
@@ -31,22 +31,20 @@ import com.ctc.wstx.api.WstxOutputProperties;
 import fr.gouv.vitam.tools.sedalib.utils.LocalDateTimeUtil;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import org.apache.commons.lang3.StringUtils;
+import org.codehaus.stax2.XMLStreamWriter2;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.TransformerFactoryConfigurationError;
-import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 
 import static java.time.format.DateTimeFormatter.ISO_DATE;
 
@@ -76,15 +74,10 @@ public class SEDAXMLStreamWriter implements AutoCloseable {
      */
     private static XMLOutputFactory xmlofFragments;
 
-    /**
-     * The raw writer.
-     */
-    private Writer rawWriter;
-
     /**
      * The xml writer.
      */
-    private XMLStreamWriter xmlWriter;
+    private XMLStreamWriter2 xmlWriter;
 
     /**
      * The depth.
@@ -155,20 +148,58 @@ public class SEDAXMLStreamWriter implements AutoCloseable {
      * @throws SEDALibException the SEDALibException
      */
     public SEDAXMLStreamWriter(OutputStream os, int indentLength, boolean isForElements) throws SEDALibException {
+        // Woodstox directly encodes in its own buffer, flushed to the stream only when full or on demand
         try {
-            // for xml raw writing
-            rawWriter = new OutputStreamWriter(os, StandardCharsets.UTF_8);
-            // for xml indentend structured writing
             if (isForElements)
-                xmlWriter = xmlofFragments.createXMLStreamWriter(rawWriter);
+                xmlWriter = (XMLStreamWriter2) xmlofFragments.createXMLStreamWriter(os, StandardCharsets.UTF_8.name());
             else
-                xmlWriter = xmlof.createXMLStreamWriter(rawWriter);
+                xmlWriter = (XMLStreamWriter2) xmlof.createXMLStreamWriter(os, StandardCharsets.UTF_8.name());
         } catch (Exception e) {
             throw new SEDALibException("Impossible d'ouvrir un flux d'écriture XML", e);
         }
+        this.hasChildElement = new HashMap<>();
+        init(indentLength);
+    }
 
-        this.depth = 0;
+    /**
+     * Instantiates a new SEDAXML stream writer.
+     *
+     * @param writer       the writer
+     * @param indentLength the indent length
+     * @throws SEDALibException the SEDALibException
+     */
+    public SEDAXMLStreamWriter(Writer writer, int indentLength) throws SEDALibException {
+        this(writer, indentLength, false);
+    }
+
+    /**
+     * Instantiates a new SEDAXML stream writer.
+     *
+     * @param writer        the writer
+     * @param indentLength  the indent length
+     * @param isForElements the is for elements
+     * @throws SEDALibException the SEDALibException
+     */
+    public SEDAXMLStreamWriter(Writer writer, int indentLength, boolean isForElements) throws SEDALibException {
+        try {
+            if (isForElements)
+                xmlWriter = (XMLStreamWriter2) xmlofFragments.createXMLStreamWriter(writer);
+            else
+                xmlWriter = (XMLStreamWriter2) xmlof.createXMLStreamWriter(writer);
+        } catch (Exception e) {
+            throw new SEDALibException("Impossible d'ouvrir un flux d'écriture XML", e);
+        }
         this.hasChildElement = new HashMap<>();
+        init(indentLength);
+    }
+
+    /**
+     * Init the indentation state.
+     *
+     * @param indentLength the indent length
+     */
+    private void init(int indentLength) {
+        this.depth = 0;
         this.indentElement = StringUtils.repeat(' ', indentLength);
         this.indentLength = indentLength;
         this.indentFlag = (indentLength > 0);
@@ -321,46 +352,76 @@ public class SEDAXMLStreamWriter implements AutoCloseable {
      * @throws XMLStreamException the XML stream exception
      */
     public void writeRawXMLBlockIfNotEmpty(String rawXml) throws XMLStreamException {
-        if ((rawXml != null) && !rawXml.isEmpty()) {
-            xmlWriter.writeCharacters("");
-            xmlWriter.flush();
-
-            try {
-
-                String identXml;
-                if (indentFlag) {
-                    // indent line by line the raw block
-                    try {
-                        identXml = IndentXMLTool.getInstance(indentLength).indentString(rawXml);
-                        Scanner s = new Scanner(identXml);
-                        StringBuilder sb = new StringBuilder();
-                        String line;
-                        while (s.hasNextLine()) {
-                            line = s.nextLine();
-                            if (line.trim().startsWith("<"))
-                                sb.append(StringUtils.repeat(indentElement, depth));
-                            sb.append(line).append('\n');
-                        }
-                        s.close();
-                        if (sb.length() > 1)
-                            sb.setLength(sb.length() - 1);
-                        identXml = "\n" + sb.toString();
-                    } catch (Exception e) {
-                        identXml = "\n" + rawXml;
-                    }
-                } else
-                    identXml = rawXml;
-
-                rawWriter.write(identXml);
-                rawWriter.flush();
-                if ((indentFlag) && (depth > 0))
-                    hasChildElement.put(depth - 1, true);
-            } catch (IOException e) {
-                throw new XMLStreamException("Erreur d'écriture d'un bloc Raw XML", e);
+        writeFormattedRawXMLBlockIfNotEmpty(formatRawXMLBlock(rawXml));
+    }
+
+    /**
+     * Format a raw xml string as it would be written at the current depth by
+     * {@link #writeRawXMLBlockIfNotEmpty(String)}. The result can be kept and
+     * written later with {@link #writeFormattedRawXMLBlockIfNotEmpty(String)} at
+     * the same depth, in a writer with the same indent length.
+     *
+     * @param rawXml the raw xml
+     * @return the formatted raw xml, or an empty String if the raw xml is null or empty
+     */
+    public String formatRawXMLBlock(String rawXml) {
+        if ((rawXml == null) || rawXml.isEmpty())
+            return "";
+        if (!indentFlag)
+            return rawXml;
+        // indent line by line the raw block
+        try {
+            String identXml = IndentXMLTool.getInstance(indentLength).indentString(rawXml);
+            String depthIndent = StringUtils.repeat(indentElement, depth);
+            StringBuilder sb = new StringBuilder(identXml.length() + 64);
+            sb.append('\n');
+            for (String line : IndentXMLTool.splitLines(identXml)) {
+                if (line.trim().startsWith("<"))
+                    sb.append(depthIndent);
+                sb.append(line).append('\n');
             }
+            if (sb.length() > 1)
+                sb.setLength(sb.length() - 1);
+            return sb.toString();
+        } catch (Exception e) {
+            return "\n" + rawXml;
+        }
+    }
+
+    /**
+     * Write a raw xml string already formatted by {@link #formatRawXMLBlock(String)}.
+     *
+     * @param formattedXml the formatted raw xml
+     * @throws XMLStreamException the XML stream exception
+     */
+    public void writeFormattedRawXMLBlockIfNotEmpty(String formattedXml) throws XMLStreamException {
+        if ((formattedXml != null) && !formattedXml.isEmpty()) {
+            // close the pending start tag, then copy the already well formed block through the writer buffer
+            xmlWriter.writeCharacters("");
+            xmlWriter.writeRaw(formattedXml);
+            if ((indentFlag) && (depth > 0))
+                hasChildElement.put(depth - 1, true);
         }
     }
 
+    /**
+     * Gets the current element depth.
+     *
+     * @return the depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the indent length, 0 if not indented.
+     *
+     * @return the indent length
+     */
+    public int getIndentLength() {
+        return indentLength;
+    }
+
     /**
      * Gets the xml writer.
      *
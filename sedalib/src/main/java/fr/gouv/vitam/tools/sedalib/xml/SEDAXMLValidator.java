@@ -1,8 +1,12 @@
 package fr.gouv.vitam.tools.sedalib.xml;
 
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
 import fr.gouv.vitam.tools.sedalib.core.SEDA2Version;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger;
 import org.apache.xerces.util.XMLCatalogResolver;
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
@@ -15,12 +19,28 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static fr.gouv.vitam.tools.sedalib.utils.SEDALibProgressLogger.doProgressLogIfStep;
 
 public class SEDAXMLValidator {
 
@@ -34,6 +54,8 @@ public class SEDAXMLValidator {
     private static Schema sedaSchema = null;
     private static int sedaVersion = 0;
 
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
     public static Schema getSEDASchema() throws SEDALibException {
         if ((sedaSchema == null) || (sedaVersion != SEDA2Version.getSeda2Version())) {
             switch (SEDA2Version.getSeda2Version()) {
@@ -108,11 +130,14 @@ public class SEDAXMLValidator {
         }
     }
 
-    private String getContextualErrorMessage(String manifest, SAXParseException e) {
+    private String getContextualErrorMessage(Scanner scanner, SAXParseException e) {
         int i = 0;
         String line = "", inArchiveUnit = "", result;
 
-        Scanner scanner = new Scanner(manifest);
+        if (scanner == null)
+            return "Contexte de l'erreur: inconnu\n" +
+                    "position de l'erreur identifiée: ligne " + e.getLineNumber() + ", colonne " + e.getColumnNumber() + "\n" +
+                    "erreur brute: " + e.getMessage();
         while (scanner.hasNextLine() && (i < e.getLineNumber())) {
             line = scanner.nextLine();
             if (line.trim().startsWith("<ArchiveUnit "))
@@ -127,21 +152,35 @@ public class SEDAXMLValidator {
         return result;
     }
 
+    private String getContextualErrorMessage(String manifest, SAXParseException e) {
+        return getContextualErrorMessage(new Scanner(manifest), e);
+    }
+
+    private String getContextualErrorMessage(Path manifestPath, SAXParseException e) {
+        try {
+            return getContextualErrorMessage(new Scanner(manifestPath, StandardCharsets.UTF_8), e);
+        } catch (IOException ignored) {
+            return getContextualErrorMessage((Scanner) null, e);
+        }
+    }
+
     /**
-     * Check with xsd schema.
+     * Check with xsd schema a XML stream, the contextual error message being computed only if needed.
      *
-     * @param manifest  the XML manifest
-     * @param xmlSchema the xml schema
+     * @param manifestStream the XML manifest stream
+     * @param xmlSchema      the xml schema
+     * @param errorContext   the function giving the contextual error message
      * @return true if validated
      * @throws SEDALibException the seda lib exception
      */
-    public boolean checkWithXSDSchema(String manifest, Schema xmlSchema) throws SEDALibException {
+    private boolean checkWithXSDSchema(InputStream manifestStream, Schema xmlSchema,
+                                       Function<SAXParseException, String> errorContext) throws SEDALibException {
         XMLInputFactory xmlInputFactory;
         XMLStreamReader xmlStreamReader = null;
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8))) {
+        try {
             xmlInputFactory = XMLInputFactory.newInstance();
             xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(bais, "UTF-8");
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(manifestStream, "UTF-8");
 
             final Validator validator = xmlSchema.newValidator();
             validator.validate(new StAXSource(xmlStreamReader));
@@ -152,7 +191,7 @@ public class SEDAXMLValidator {
             throw new SEDALibException("Impossible d'ouvrir le flux XML", e);
         } catch (SAXParseException e) {
             throw new SEDALibException("Le flux XML n'est pas conforme\n-> "
-                    + getContextualErrorMessage(manifest, e));
+                    + errorContext.apply(e));
         } catch (SAXException e) {
             throw new SEDALibException("Le flux XML n'est pas conforme", e);
         } finally {
@@ -167,25 +206,247 @@ public class SEDAXMLValidator {
     }
 
     /**
-     * Check with rng schema.
+     * Check with xsd schema.
      *
      * @param manifest  the XML manifest
-     * @param rngSchema the rng schema
+     * @param xmlSchema the xml schema
      * @return true if validated
      * @throws SEDALibException the seda lib exception
      */
-    public boolean checkWithRNGSchema(String manifest, Schema rngSchema) throws SEDALibException {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8))) {
+    public boolean checkWithXSDSchema(String manifest, Schema xmlSchema) throws SEDALibException {
+        return checkWithXSDSchema(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), xmlSchema,
+                e -> getContextualErrorMessage(manifest, e));
+    }
+
+    /**
+     * Check with xsd schema a XML manifest file, which is streamed and not loaded in memory.
+     *
+     * @param manifestPath the XML manifest file path
+     * @param xmlSchema    the xml schema
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    public boolean checkWithXSDSchema(Path manifestPath, Schema xmlSchema) throws SEDALibException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(manifestPath))) {
+            return checkWithXSDSchema(is, xmlSchema, e -> getContextualErrorMessage(manifestPath, e));
+        } catch (IOException e) {
+            throw new SEDALibException("Erreur d'accès au fichier XML [" + manifestPath + "]", e);
+        }
+    }
+
+    /**
+     * Check with xsd schema a XML manifest stream. As the stream can't be read again, the error message only
+     * gives the error position.
+     *
+     * @param manifestStream the XML manifest stream
+     * @param xmlSchema      the xml schema
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    public boolean checkWithXSDSchema(InputStream manifestStream, Schema xmlSchema) throws SEDALibException {
+        return checkWithXSDSchema(manifestStream, xmlSchema, e -> getContextualErrorMessage((Scanner) null, e));
+    }
+
+    /**
+     * Check with rng schema a XML stream, the contextual error message being computed only if needed.
+     *
+     * @param manifestStream the XML manifest stream
+     * @param rngSchema      the rng schema
+     * @param errorContext   the function giving the contextual error message
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    private boolean checkWithRNGSchema(InputStream manifestStream, Schema rngSchema,
+                                       Function<SAXParseException, String> errorContext) throws SEDALibException {
+        try {
             final Validator validator = rngSchema.newValidator();
-            validator.validate(new StreamSource(bais));
+            validator.validate(new StreamSource(manifestStream));
             return true;
         } catch (SAXParseException e) {
             throw new SEDALibException("Le flux XML n'est pas conforme\n-> "
-                    + getContextualErrorMessage(manifest, e));
+                    + errorContext.apply(e));
         } catch (SAXException e) {
             throw new SEDALibException("Le flux XML n'est pas conforme", e);
         } catch (IOException e) {
             throw new SEDALibException("Erreur d'accès au flux XML", e);
         }
     }
+
+    /**
+     * Check with rng schema.
+     *
+     * @param manifest  the XML manifest
+     * @param rngSchema the rng schema
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    public boolean checkWithRNGSchema(String manifest, Schema rngSchema) throws SEDALibException {
+        return checkWithRNGSchema(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), rngSchema,
+                e -> getContextualErrorMessage(manifest, e));
+    }
+
+    /**
+     * Check with rng schema a XML manifest file, which is streamed and not loaded in memory.
+     *
+     * @param manifestPath the XML manifest file path
+     * @param rngSchema    the rng schema
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    public boolean checkWithRNGSchema(Path manifestPath, Schema rngSchema) throws SEDALibException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(manifestPath))) {
+            return checkWithRNGSchema(is, rngSchema, e -> getContextualErrorMessage(manifestPath, e));
+        } catch (IOException e) {
+            throw new SEDALibException("Erreur d'accès au fichier XML [" + manifestPath + "]", e);
+        }
+    }
+
+    /**
+     * Check with rng schema a XML manifest stream. As the stream can't be read again, the error message only
+     * gives the error position.
+     *
+     * @param manifestStream the XML manifest stream
+     * @param rngSchema      the rng schema
+     * @return true if validated
+     * @throws SEDALibException the seda lib exception
+     */
+    public boolean checkWithRNGSchema(InputStream manifestStream, Schema rngSchema) throws SEDALibException {
+        return checkWithRNGSchema(manifestStream, rngSchema, e -> getContextualErrorMessage((Scanner) null, e));
+    }
+
+    /**
+     * Gets the minimal ArchiveTransfer manifest embedding only one ArchiveUnit metadata, used to validate this
+     * ArchiveUnit alone.
+     *
+     * @param archiveUnit the ArchiveUnit
+     * @return the manifest
+     */
+    private static String getArchiveUnitManifest(ArchiveUnit archiveUnit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<ArchiveTransfer xmlns=\"fr:gouv:culture:archivesdefrance:seda:v2.")
+                .append(SEDA2Version.getSeda2Version())
+                .append("\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" xmlns:pr=\"info:lc/xmlns/premis-v2\">\n")
+                .append("<Date>2000-01-01T00:00:00</Date>\n")
+                .append("<MessageIdentifier>ArchiveUnitValidation</MessageIdentifier>\n")
+                .append("<CodeListVersions/>\n")
+                .append("<DataObjectPackage>\n<DescriptiveMetadata>\n<ArchiveUnit id=\"")
+                .append(archiveUnit.getInDataObjectPackageId())
+                .append("\">\n");
+        appendIfNotNull(sb, archiveUnit.getArchiveUnitProfileXmlData());
+        appendIfNotNull(sb, archiveUnit.getManagementXmlData());
+        appendIfNotNull(sb, archiveUnit.getContentXmlData());
+        sb.append("</ArchiveUnit>\n</DescriptiveMetadata>\n<ManagementMetadata/>\n</DataObjectPackage>\n")
+                .append("<ArchivalAgency><Identifier>ArchiveUnitValidation</Identifier></ArchivalAgency>\n")
+                .append("<TransferringAgency><Identifier>ArchiveUnitValidation</Identifier></TransferringAgency>\n")
+                .append("</ArchiveTransfer>");
+        return sb.toString();
+    }
+
+    private static void appendIfNotNull(StringBuilder sb, String xmlData) {
+        if (xmlData != null)
+            sb.append(xmlData).append('\n');
+    }
+
+    /**
+     * Check with xsd schema one ArchiveUnit metadata, all errors being collected.
+     *
+     * @param archiveUnitManifest the minimal manifest embedding the ArchiveUnit
+     * @param validator           the validator
+     * @return the errors list, empty if validated
+     */
+    private static List<String> checkArchiveUnitWithXSDSchema(String archiveUnitManifest, Validator validator) {
+        List<String> errors = new ArrayList<>();
+        validator.setErrorHandler(new ErrorHandler() {
+            @Override
+            public void warning(SAXParseException e) {
+                // ignored
+            }
+
+            @Override
+            public void error(SAXParseException e) {
+                errors.add(e.getMessage());
+            }
+
+            @Override
+            public void fatalError(SAXParseException e) throws SAXException {
+                throw e;
+            }
+        });
+        try {
+            validator.validate(new StreamSource(new StringReader(archiveUnitManifest)));
+        } catch (SAXException e) {
+            errors.add(e.getMessage());
+        } catch (IOException e) {
+            errors.add("erreur d'accès au flux XML " + e.getMessage());
+        } finally {
+            validator.reset();
+        }
+        return errors;
+    }
+
+    /**
+     * Check with xsd schema, in parallel, each ArchiveUnit Content, Management and ArchiveUnitProfile metadata of
+     * a DataObjectPackage, without generating the whole manifest.
+     * <p>
+     * Each ArchiveUnit is validated alone in a minimal manifest, so only its metadata are checked and not the
+     * references between ArchiveUnits and DataObjects. Minimal manifests are generated in the calling thread, and
+     * only a few of them by thread are waiting for validation. All the errors are aggregated with the ArchiveUnit
+     * ids.
+     *
+     * @param dataObjectPackage     the DataObjectPackage
+     * @param xmlSchema             the xml schema
+     * @param threadCount           the number of validation threads
+     * @param sedaLibProgressLogger the progress logger or null if no progress log expected
+     * @return true if validated
+     * @throws SEDALibException     if at least one ArchiveUnit is not validated
+     * @throws InterruptedException if validation process is interrupted
+     */
+    public boolean checkArchiveUnitsWithXSDSchema(DataObjectPackage dataObjectPackage, Schema xmlSchema,
+                                                  int threadCount, SEDALibProgressLogger sedaLibProgressLogger)
+            throws SEDALibException, InterruptedException {
+        List<ArchiveUnit> archiveUnits = new ArrayList<>(dataObjectPackage.getAuInDataObjectPackageIdMap().values());
+        archiveUnits.sort(Comparator.comparing(ArchiveUnit::getInDataObjectPackageId));
+        ThreadLocal<Validator> validators = ThreadLocal.withInitial(xmlSchema::newValidator);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threadCount), r -> {
+            Thread t = new Thread(r, "sedalib-validator-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        int window = 4 * Math.max(1, threadCount);
+        StringBuilder errorMessage = new StringBuilder();
+        int errorCount = 0;
+        int counter = 0;
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>(archiveUnits.size());
+            for (int i = 0; i <= archiveUnits.size(); i++) {
+                if (i < archiveUnits.size()) {
+                    String archiveUnitManifest = getArchiveUnitManifest(archiveUnits.get(i));
+                    futures.add(executor.submit(() -> checkArchiveUnitWithXSDSchema(archiveUnitManifest,
+                            validators.get())));
+                }
+                while ((counter < futures.size()) && ((i == archiveUnits.size()) || (futures.size() - counter >= window))) {
+                    List<String> errors = futures.get(counter).get();
+                    futures.set(counter, null);
+                    if (!errors.isEmpty()) {
+                        errorCount++;
+                        errorMessage.append("\n-> ArchiveUnit [").append(archiveUnits.get(counter).getInDataObjectPackageId())
+                                .append("]");
+                        for (String error : errors)
+                            errorMessage.append("\n   erreur brute: ").append(error);
+                    }
+                    counter++;
+                    doProgressLogIfStep(sedaLibProgressLogger, SEDALibProgressLogger.OBJECTS_GROUP, counter,
+                            "sedalib: " + counter + " ArchiveUnit validées");
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new SEDALibException("Erreur de validation des ArchiveUnit", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        if (errorCount > 0)
+            throw new SEDALibException("Le flux XML n'est pas conforme pour " + errorCount + " ArchiveUnit"
+                    + errorMessage);
+        return true;
+    }
 }
@@ -6,14 +6,19 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import fr.gouv.vitam.tools.sedalib.TestUtilities;
 import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageDeserializer;
 import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageSerializer;
+import fr.gouv.vitam.tools.sedalib.droid.DroidIdentifier;
 import fr.gouv.vitam.tools.sedalib.inout.importer.SIPToArchiveTransferImporter;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
 import fr.gouv.vitam.tools.sedalib.utils.ResourceUtils;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import org.junit.jupiter.api.Test;
+import uk.gov.nationalarchives.droid.core.interfaces.IdentificationResult;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -206,4 +211,28 @@ class BinaryDataObjectTest {
         assertThat(bdoNextOut).isEqualToIgnoringWhitespace(ResourceUtils.getResourceAsString("import/binary_data_object_ID7_with_profile.xml"));
         SEDA2Version.setSeda2Version(1);
     }
+
+    @Test
+    void testSinglePassIdentification() throws Exception {
+        // Given files under, over and largely over the kept head and tail windows, and a zip container
+        String[] files = {"src/test/resources/PacketSamples/SampleWithLinksModelV2/Root/Node 2/Node 2.1 - AU with BO/__TextContent_1__20160429-tuleap.pdf.txt",
+                "src/test/resources/PacketSamples/SampleWithLinksModelV2/Root/Node 2/Node 2.1 - AU with BO/__BinaryMaster_1__20160429-tuleap.pdf",
+                "src/test/resources/PacketSamples/TestSip.zip"};
+
+        for (String file : files) {
+            Path path = Paths.get(file);
+
+            // When identified and hashed in one read
+            MessageDigest md = MessageDigest.getInstance("SHA-512");
+            IdentificationResult singlePassIr = DroidIdentifier.getInstance().getIdentificationResult(path, md);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : md.digest())
+                sb.append(String.format("%02x", b));
+
+            // Then same results as separate reads
+            IdentificationResult ir = DroidIdentifier.getInstance().getIdentificationResult(path);
+            assertThat(singlePassIr.getPuid()).isEqualTo(ir.getPuid());
+            assertThat(sb.toString()).isEqualTo(BinaryDataObject.getDigestSha512(path));
+        }
+    }
 }
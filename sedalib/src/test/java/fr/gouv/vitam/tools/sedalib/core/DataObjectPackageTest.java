@@ -616,4 +616,140 @@ class DataObjectPackageTest {
         String sau = mapper.writeValueAsString(au);
         assertThat(sau).isEqualToNormalizingNewlines(testau);
     }
+
+    @Test
+    void testDeepHierarchyNormalisation() throws SEDALibException, InterruptedException {
+        // Given a very deep ArchiveUnit chain, each one with a BinaryDataObject
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        ArchiveUnit parent = new ArchiveUnit(dataObjectPackage);
+        dataObjectPackage.addRootAu(parent);
+        ArchiveUnit deepest = parent;
+        for (int i = 0; i < 100000; i++) {
+            ArchiveUnit child = new ArchiveUnit(dataObjectPackage);
+            child.addDataObjectById(new BinaryDataObject(dataObjectPackage).getInDataObjectPackageId());
+            deepest.addChildArchiveUnit(child);
+            deepest = child;
+        }
+
+        // When normalized and renumbered
+        dataObjectPackage.vitamNormalize(null);
+        dataObjectPackage.regenerateContinuousIds();
+
+        // Then each ArchiveUnit has its DataObjectGroup, and ids follow the hierarchy
+        assertThat(dataObjectPackage.getVitamNormalizationStatus())
+                .isEqualTo(DataObjectPackage.NORMALIZATION_STATUS_OK);
+        assertThat(dataObjectPackage.getDataObjectGroupCount()).isEqualTo(100000);
+        assertThat(parent.getInDataObjectPackageId()).isEqualTo("ID10");
+        assertThat(deepest.getInDataObjectPackageId()).isEqualTo("ID100010");
+        assertThat(deepest.getDataObjectRefList().getNormalizedDataObjectGroup()).isNotNull();
+
+        // When a cycle is added at the bottom, then it is detected
+        deepest.addChildArchiveUnit(parent);
+        assertThatThrownBy(dataObjectPackage::verifyAcyclic)
+                .hasMessageStartingWith("Cycle détecté ID10->ID11->")
+                .hasMessageEndingWith("->ID100010->ID10");
+    }
+
+    @Test
+    void testTouchedInDataObjectPackageIds() {
+        // Given a DataObjectPackage with touched ids
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        dataObjectPackage.resetTouchedInDataObjectPackageIdMap();
+        dataObjectPackage.addTouchedInDataObjectPackageId("ID10");
+        dataObjectPackage.incTouchedInDataObjectPackageId("ID10");
+        dataObjectPackage.incTouchedInDataObjectPackageId("ID11");
+
+        // When read, then counts are kept by id
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId("ID10")).isTrue();
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("ID10")).isEqualTo(2);
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("ID11")).isEqualTo(1);
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("ID12")).isNull();
+
+        // When reset, then nothing is touched any more
+        dataObjectPackage.resetTouchedInDataObjectPackageIdMap();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId("ID10")).isFalse();
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("ID11")).isNull();
+        dataObjectPackage.incTouchedInDataObjectPackageId("ID11");
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("ID11")).isEqualTo(1);
+    }
+
+    @Test
+    void testTouchedArchiveUnits() {
+        // Given ArchiveUnits touched as elements or by id
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        ArchiveUnit au1 = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit au2 = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit au3 = new ArchiveUnit(dataObjectPackage);
+        dataObjectPackage.resetTouchedInDataObjectPackageIdMap();
+        dataObjectPackage.addTouchedInDataObjectPackageId(au1);
+        dataObjectPackage.incTouchedInDataObjectPackageId(au2);
+        dataObjectPackage.incTouchedInDataObjectPackageId(au2);
+        dataObjectPackage.addTouchedInDataObjectPackageId(au3.getInDataObjectPackageId());
+
+        // When read as elements or by id, then it's the same marking
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au1.getInDataObjectPackageId())).isTrue();
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId(au2.getInDataObjectPackageId())).isEqualTo(2);
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au3)).isTrue();
+        dataObjectPackage.incTouchedInDataObjectPackageId(au3.getInDataObjectPackageId());
+        dataObjectPackage.incTouchedInDataObjectPackageId(au3);
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId(au3.getInDataObjectPackageId())).isEqualTo(3);
+
+        // When the id table is cleared, as far more ids than elements have been touched, then the indexes kept
+        // in elements are not used for other ids
+        for (int i = 0; i < 5000; i++)
+            dataObjectPackage.addTouchedInDataObjectPackageId("Other" + i);
+        dataObjectPackage.resetTouchedInDataObjectPackageIdMap();
+        dataObjectPackage.addTouchedInDataObjectPackageId("Other0");
+        dataObjectPackage.addTouchedInDataObjectPackageId("Other1");
+        dataObjectPackage.addTouchedInDataObjectPackageId("Other2");
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au1)).isFalse();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au2)).isFalse();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au3)).isFalse();
+        dataObjectPackage.addTouchedInDataObjectPackageId(au2);
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au2.getInDataObjectPackageId())).isTrue();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId("Other1")).isTrue();
+
+        // When an element id changes, then it's touched by its new id
+        String oldId = au2.getInDataObjectPackageId();
+        au2.setInDataObjectPackageId("Renamed");
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au2)).isFalse();
+        dataObjectPackage.addTouchedInDataObjectPackageId(au2);
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId("Renamed")).isTrue();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(oldId)).isTrue();
+
+        // When reset, then nothing is touched any more
+        dataObjectPackage.resetTouchedInDataObjectPackageIdMap();
+        assertThat(dataObjectPackage.isTouchedInDataObjectPackageId(au2)).isFalse();
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("Renamed")).isNull();
+        assertThat(dataObjectPackage.getTouchedInDataObjectPackageId("Other1")).isNull();
+    }
+
+    @Test
+    void testArchiveUnitGraph() throws SEDALibException {
+        // Given a root ArchiveUnit with two children sharing a child
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        ArchiveUnit root = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit left = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit right = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit shared = new ArchiveUnit(dataObjectPackage);
+        ArchiveUnit leaf = new ArchiveUnit(dataObjectPackage);
+        dataObjectPackage.addRootAu(root);
+        root.addChildArchiveUnit(left);
+        root.addChildArchiveUnit(right);
+        left.addChildArchiveUnit(shared);
+        right.addChildArchiveUnit(shared);
+        shared.addChildArchiveUnit(leaf);
+
+        // When the graph is built, then ArchiveUnits are numbered once in depth first preorder, and the shared
+        // child is not a cycle
+        ArchiveUnitGraph graph = ArchiveUnitGraph.build(
+                dataObjectPackage.getGhostRootAu().getChildrenAuList().getArchiveUnitList(), au -> true);
+        assertThat(graph.getArchiveUnits()).containsExactly(root, left, shared, leaf, right);
+        graph.verifyAcyclic();
+
+        // When an ArchiveUnit is not entered, then its descendants are reached only through other parents
+        graph = ArchiveUnitGraph.build(dataObjectPackage.getGhostRootAu().getChildrenAuList().getArchiveUnitList(),
+                au -> au != left);
+        assertThat(graph.getArchiveUnits()).containsExactly(root, right, shared, leaf);
+    }
 }
@@ -0,0 +1,106 @@
+package fr.gouv.vitam.tools.sedalib.core.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import fr.gouv.vitam.tools.sedalib.UseTestFiles;
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
+import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageDeserializer;
+import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageSerializer;
+import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
+import fr.gouv.vitam.tools.sedalib.inout.importer.SIPToArchiveTransferImporter;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataObjectPackageBinarySerDeserializerTest implements UseTestFiles {
+
+	private static ObjectMapper getJsonMapper() {
+		ObjectMapper mapper = new ObjectMapper();
+		SimpleModule module = new SimpleModule();
+		module.addSerializer(DataObjectPackage.class, new DataObjectPackageSerializer());
+		module.addDeserializer(DataObjectPackage.class, new DataObjectPackageDeserializer());
+		mapper.registerModule(module);
+		mapper.enable(SerializationFeature.INDENT_OUTPUT);
+		return mapper;
+	}
+
+	private static DataObjectPackage serializeDeserialize(DataObjectPackage dataObjectPackage, String prefix)
+			throws Exception {
+		Path path = Paths.get("target/tmpJunit/binary-" + prefix.length() + ".bin");
+		Files.createDirectories(path.getParent());
+		try (OutputStream os = new FileOutputStream(path.toFile())) {
+			os.write(prefix.getBytes(StandardCharsets.UTF_8));
+			new DataObjectPackageBinarySerializer(os).serialize(dataObjectPackage);
+		}
+		assertThat(DataObjectPackageBinaryDeserializer.isBinarySerialized(path, prefix.length())).isTrue();
+		return DataObjectPackageBinaryDeserializer.deserialize(path, prefix.length());
+	}
+
+	@Test
+	void testDiskImportSerializationDeserialization() throws Exception {
+		// Given
+		DiskToArchiveTransferImporter di = new DiskToArchiveTransferImporter(
+				"src/test/resources/PacketSamples/SampleWithLinksModelV2", null);
+		di.addIgnorePattern("Thumbs.db");
+		di.addIgnorePattern("pagefile.sys");
+		di.doImport();
+		DataObjectPackage dataObjectPackage = di.getArchiveTransfer().getDataObjectPackage();
+		ObjectMapper mapper = getJsonMapper();
+
+		// When
+		DataObjectPackage loaded = serializeDeserialize(dataObjectPackage, "");
+
+		// Then same json form and restored links
+		assertThat(mapper.writeValueAsString(loaded)).isEqualTo(mapper.writeValueAsString(dataObjectPackage));
+		for (ArchiveUnit au : loaded.getAuInDataObjectPackageIdMap().values())
+			assertThat(au.getDataObjectPackage()).isSameAs(loaded);
+		for (BinaryDataObject bdo : loaded.getBdoInDataObjectPackageIdMap().values()) {
+			assertThat(bdo.getDataObjectPackage()).isSameAs(loaded);
+			assertThat(bdo.getDataObjectGroup().getBinaryDataObjectList()).contains(bdo);
+		}
+		assertThat(loaded.getGhostRootAu().getChildrenAuList().getArchiveUnitList())
+				.hasSameSizeAs(dataObjectPackage.getGhostRootAu().getChildrenAuList().getArchiveUnitList());
+	}
+
+	@Test
+	void testSIPImportSerializationDeserializationWithOffset() throws Exception {
+		// Given
+		SIPToArchiveTransferImporter si = new SIPToArchiveTransferImporter(
+				"src/test/resources/PacketSamples/TestSipDogMerge.zip",
+				"target/tmpJunit/TestSipDogMerge.zip-tmpdir", null);
+		si.doImport();
+		DataObjectPackage dataObjectPackage = si.getArchiveTransfer().getDataObjectPackage();
+		ObjectMapper mapper = getJsonMapper();
+
+		// When
+		DataObjectPackage loaded = serializeDeserialize(dataObjectPackage, "some header");
+
+		// Then
+		assertThat(mapper.writeValueAsString(loaded)).isEqualTo(mapper.writeValueAsString(dataObjectPackage));
+	}
+
+	@Test
+	void testDeserializationKO() throws Exception {
+		// Given
+		Path path = Paths.get("target/tmpJunit/binary-ko.bin");
+		Files.createDirectories(path.getParent());
+		Files.write(path, "{Toto}".getBytes(StandardCharsets.UTF_8));
+
+		// When loaded, Then
+		assertThat(DataObjectPackageBinaryDeserializer.isBinarySerialized(path, 0)).isFalse();
+		assertThatThrownBy(() -> DataObjectPackageBinaryDeserializer.deserialize(path, 0))
+				.isInstanceOf(SEDALibException.class);
+	}
+}
@@ -1,18 +1,27 @@
 package fr.gouv.vitam.tools.sedalib.inout;
 
 import fr.gouv.vitam.tools.sedalib.UseTestFiles;
-import fr.gouv.vitam.tools.sedalib.core.GlobalMetadata;
+import fr.gouv.vitam.tools.sedalib.core.*;
 import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
+import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
 import org.junit.jupiter.api.Test;
 
 import javax.xml.stream.XMLStreamException;
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -93,4 +102,145 @@ class ArchiveTransferToFromXmlTest implements UseTestFiles {
 //WARNING: if Git is not set to respect LF this test will fail
 		assertThat(generatedHierarchicalManifest).isEqualToNormalizingNewlines(fileManifest);
     }
+
+    private static ArchiveTransfer importManifest(String path) throws Exception {
+        try (FileInputStream fis = new FileInputStream(path);
+             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(fis)) {
+            return ArchiveTransfer.fromSedaXml(xmlReader, "target/tmpJunit", null);
+        }
+    }
+
+    private static String exportManifest(ArchiveTransfer archiveTransfer, boolean hierarchicalFlag) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+            archiveTransfer.toSedaXml(xmlWriter, hierarchicalFlag, null);
+        }
+        // export date is not significant
+        return baos.toString(StandardCharsets.UTF_8).replaceAll("<Date>.*</Date>", "");
+    }
+
+    @Test
+    void testReExportAfterModification() throws Exception {
+        // Given
+        ArchiveTransfer archiveTransfer = importManifest("src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml");
+        String firstHierarchicalManifest = exportManifest(archiveTransfer, true);
+        String firstFlatManifest = exportManifest(archiveTransfer, false);
+
+        // When re-exported without and with a modification
+        String secondHierarchicalManifest = exportManifest(archiveTransfer, true);
+        ArchiveUnit au = archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values().iterator().next();
+        au.setContentXmlData("<Content><DescriptionLevel>Item</DescriptionLevel><Title>Modified Title</Title></Content>");
+        String modifiedFlatManifest = exportManifest(archiveTransfer, false);
+        String modifiedHierarchicalManifest = exportManifest(archiveTransfer, true);
+        archiveTransfer.getDataObjectPackage().invalidateManifestCache();
+
+        // Then cached forms are only reused for not modified ArchiveUnits
+        assertThat(secondHierarchicalManifest).isEqualTo(firstHierarchicalManifest);
+        assertThat(modifiedFlatManifest).isNotEqualTo(firstFlatManifest).contains("Modified Title")
+                .isEqualTo(exportManifest(archiveTransfer, false));
+        assertThat(modifiedHierarchicalManifest).contains("Modified Title")
+                .isEqualTo(exportManifest(archiveTransfer, true));
+    }
+
+    @Test
+    void testReExportAfterInPlaceModification() throws Exception {
+        // Given a Content fetched before an export
+        ArchiveTransfer archiveTransfer = importManifest("src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml");
+        ArchiveUnit au = archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values().iterator().next();
+        Content content = au.getContent();
+        exportManifest(archiveTransfer, true);
+        exportManifest(archiveTransfer, true);
+
+        // When the fetched Content is modified in place after the export
+        content.addNewMetadata("Description", "Description ajoutée après export");
+
+        // Then the next export takes the modification into account
+        assertThat(exportManifest(archiveTransfer, true)).contains("Description ajoutée après export");
+    }
+
+    // the cached manifest form of an ArchiveUnit metadata, if any
+    private static Object cachedManifestMetadata(ArchiveUnit au) throws Exception {
+        Field field = ArchiveUnit.class.getDeclaredField("manifestMetadataCache");
+        field.setAccessible(true);
+        SoftReference<?> cache = (SoftReference<?>) field.get(au);
+        return (cache == null ? null : cache.get());
+    }
+
+    @Test
+    void testReExportAfterContentRead() throws Exception {
+        // Given all the Contents fetched without modification, as tree and csv exporters do
+        ArchiveTransfer archiveTransfer = importManifest("src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml");
+        for (ArchiveUnit au : archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values())
+            au.getContent();
+
+        // When exported twice
+        String firstManifest = exportManifest(archiveTransfer, true);
+        List<Object> firstCaches = new ArrayList<>();
+        for (ArchiveUnit au : archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values())
+            firstCaches.add(cachedManifestMetadata(au));
+        String secondManifest = exportManifest(archiveTransfer, true);
+
+        // Then the cached forms are kept and reused
+        assertThat(firstCaches).doesNotContainNull();
+        List<Object> secondCaches = new ArrayList<>();
+        for (ArchiveUnit au : archiveTransfer.getDataObjectPackage().getAuInDataObjectPackageIdMap().values())
+            secondCaches.add(cachedManifestMetadata(au));
+        assertThat(secondCaches).usingElementComparator((a, b) -> (a == b ? 0 : 1)).isEqualTo(firstCaches);
+        assertThat(secondManifest).isEqualTo(firstManifest);
+    }
+
+    @Test
+    void testStreamFromSedaXml() throws Exception {
+        for (String path : new String[]{"src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml",
+                "src/test/resources/PacketSamples/SampleWithLinkHierarchicalManifest.xml"}) {
+            // Given the manifest imported in memory
+            ArchiveTransfer archiveTransfer = importManifest(path);
+            DataObjectPackage dataObjectPackage = archiveTransfer.getDataObjectPackage();
+
+            // When streamed
+            Map<String, ArchiveUnit> streamedAuMap = new HashMap<>();
+            Map<String, DataObjectGroup> streamedDogMap = new HashMap<>();
+            List<String> streamedManagementMetadata = new ArrayList<>();
+            GlobalMetadata globalMetadata;
+            try (FileInputStream fis = new FileInputStream(path);
+                 SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(fis)) {
+                globalMetadata = ArchiveTransfer.streamFromSedaXml(xmlReader, "target/tmpJunit",
+                        new DataObjectPackageStreamHandler() {
+                            @Override
+                            public void handleDataObjectGroup(DataObjectGroup dataObjectGroup) {
+                                streamedDogMap.put(dataObjectGroup.getInDataObjectPackageId(), dataObjectGroup);
+                            }
+
+                            @Override
+                            public void handleArchiveUnit(ArchiveUnit archiveUnit) {
+                                streamedAuMap.put(archiveUnit.getInDataObjectPackageId(), archiveUnit);
+                            }
+
+                            @Override
+                            public void handleManagementMetadata(String managementMetadataXmlData) {
+                                streamedManagementMetadata.add(managementMetadataXmlData);
+                            }
+                        }, null);
+            }
+
+            // Then the same elements are received
+            assertThat(streamedAuMap.keySet()).isEqualTo(dataObjectPackage.getAuInDataObjectPackageIdMap().keySet());
+            for (ArchiveUnit au : dataObjectPackage.getAuInDataObjectPackageIdMap().values()) {
+                ArchiveUnit streamedAu = streamedAuMap.get(au.getInDataObjectPackageId());
+                assertThat(streamedAu.getContentXmlData()).isEqualTo(au.getContentXmlData());
+                assertThat(streamedAu.getChildrenAuList().getInDataObjectPackageIdList())
+                        .isEqualTo(au.getChildrenAuList().getInDataObjectPackageIdList());
+                assertThat(streamedAu.getDataObjectRefList().getInDataObjectPackageIdList())
+                        .isEqualTo(au.getDataObjectRefList().getInDataObjectPackageIdList());
+            }
+            assertThat(streamedDogMap.keySet()).isEqualTo(dataObjectPackage.getDogInDataObjectPackageIdMap().keySet());
+            for (DataObjectGroup dog : dataObjectPackage.getDogInDataObjectPackageIdMap().values())
+                assertThat(streamedDogMap.get(dog.getInDataObjectPackageId()).getBinaryDataObjectList().size())
+                        .isEqualTo(dog.getBinaryDataObjectList().size());
+            assertThat(streamedManagementMetadata).containsExactly(dataObjectPackage.getManagementMetadataXmlData());
+            assertThat(globalMetadata.toSedaXmlFragments())
+                    .isEqualTo(archiveTransfer.getGlobalMetadata().toSedaXmlFragments());
+        }
+    }
 }
+
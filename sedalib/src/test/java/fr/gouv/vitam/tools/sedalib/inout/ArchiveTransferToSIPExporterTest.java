@@ -0,0 +1,100 @@
+package fr.gouv.vitam.tools.sedalib.inout;
+
+import fr.gouv.vitam.tools.sedalib.UseTestFiles;
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.core.GlobalMetadata;
+import fr.gouv.vitam.tools.sedalib.inout.exporter.ArchiveTransferToSIPExporter;
+import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveTransferToSIPExporterTest implements UseTestFiles {
+
+    @Test
+    void TestSIPExportWithParallelCompression() throws Exception {
+
+        // do import of test directory
+        DiskToArchiveTransferImporter di = new DiskToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SampleWithoutLinksModelV1", null);
+        di.addIgnorePattern("Thumbs.db");
+        di.addIgnorePattern("pagefile.sys");
+        di.doImport();
+        di.getArchiveTransfer().setGlobalMetadata(new GlobalMetadata());
+
+        // do export with one and with four compression threads
+        ArchiveTransferToSIPExporter attse = new ArchiveTransferToSIPExporter(di.getArchiveTransfer(), null);
+        attse.setCompressionThreadCount(1);
+        attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-1.zip", true, true);
+        attse.setCompressionThreadCount(4);
+        attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-4.zip", true, true);
+
+        // assert manifest is first, already compressed formats are stored and contents are the same
+        try (ZipFile zf1 = new ZipFile("target/tmpJunit/SampleWithoutLinksModelV1-1.zip");
+             ZipFile zf4 = new ZipFile("target/tmpJunit/SampleWithoutLinksModelV1-4.zip")) {
+            assertEquals("manifest.xml", zf1.entries().nextElement().getName());
+            assertEquals("manifest.xml", zf4.entries().nextElement().getName());
+            assertEquals(zf1.size(), zf4.size());
+            assertEquals(di.getArchiveTransfer().getDataObjectPackage().getBdoInDataObjectPackageIdMap().size() + 1,
+                    zf4.size());
+            int storedCount = 0;
+            Enumeration<? extends ZipEntry> entries = zf4.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry e4 = entries.nextElement();
+                ZipEntry e1 = zf1.getEntry(e4.getName());
+                assertEquals(e1.getMethod(), e4.getMethod());
+                if (e4.getMethod() == ZipEntry.STORED) {
+                    storedCount++;
+                    assertEquals(e4.getSize(), e4.getCompressedSize());
+                }
+                if (!e4.getName().equals("manifest.xml")) {
+                    assertEquals(e1.getCrc(), e4.getCrc());
+                    assertTrue(IOUtils.contentEquals(zf1.getInputStream(e1), zf4.getInputStream(e4)));
+                }
+            }
+            assertThat(storedCount).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    void TestSIPExportWithDigestVerification() throws Exception {
+
+        // do import of test directory
+        DiskToArchiveTransferImporter di = new DiskToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SampleWithoutLinksModelV1", null);
+        di.addIgnorePattern("Thumbs.db");
+        di.addIgnorePattern("pagefile.sys");
+        di.doImport();
+        di.getArchiveTransfer().setGlobalMetadata(new GlobalMetadata());
+
+        // do export with verification, sequentially and in parallel
+        ArchiveTransferToSIPExporter attse = new ArchiveTransferToSIPExporter(di.getArchiveTransfer(), null);
+        attse.setDigestVerificationFlag(true);
+        attse.setCompressionThreadCount(1);
+        attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-verified-1.zip", true, true);
+        attse.setCompressionThreadCount(4);
+        attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-verified-4.zip", true, true);
+
+        // when a manifest digest is wrong
+        BinaryDataObject bdo = di.getArchiveTransfer().getDataObjectPackage().getBdoInDataObjectPackageIdMap()
+                .values().iterator().next();
+        bdo.messageDigest.setValue(bdo.messageDigest.getValue().replaceAll(".$", "x"));
+
+        // then the export fails, sequentially and in parallel
+        attse.setCompressionThreadCount(1);
+        assertThatThrownBy(() -> attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-verified-1.zip",
+                true, true)).isInstanceOf(SEDALibException.class).hasMessageContaining("1 fichiers BinaryDataObject");
+        attse.setCompressionThreadCount(4);
+        assertThatThrownBy(() -> attse.doExportToSEDASIP("target/tmpJunit/SampleWithoutLinksModelV1-verified-4.zip",
+                true, true)).isInstanceOf(SEDALibException.class).hasMessageContaining("1 fichiers BinaryDataObject");
+    }
+}
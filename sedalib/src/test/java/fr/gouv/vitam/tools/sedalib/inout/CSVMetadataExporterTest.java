@@ -1,6 +1,8 @@
 package fr.gouv.vitam.tools.sedalib.inout;
 
 import fr.gouv.vitam.tools.sedalib.TestUtilities;
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
 import fr.gouv.vitam.tools.sedalib.inout.exporter.DataObjectPackageToCSVMetadataExporter;
 import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
 import fr.gouv.vitam.tools.sedalib.inout.importer.WindowsShortcut;
@@ -13,8 +15,10 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -252,4 +256,37 @@ class CSVMetadataExporterTest {
                 Paths.get("target/tmpJunit/CSVMetadataExporterZIP/unzip"))).isTrue();
     }
 
+    @Test
+    void exportCSVWithPrefixSharingHeaders() throws SEDALibException, InterruptedException, IOException {
+        // Given a package where a unit has only OriginatingSystemIdReplyTo, which shares the
+        // OriginatingSystemId prefix of another unit, and other units with different metadata sets
+        DataObjectPackage dataObjectPackage = new DataObjectPackage();
+        ArchiveUnit replyAu = new ArchiveUnit(dataObjectPackage);
+        replyAu.setContentXmlData("<Content><DescriptionLevel>Item</DescriptionLevel><Title>Réponse</Title>" +
+                "<OriginatingSystemIdReplyTo>ReplyId</OriginatingSystemIdReplyTo></Content>");
+        dataObjectPackage.addRootAu(replyAu);
+        ArchiveUnit originAu = new ArchiveUnit(dataObjectPackage);
+        originAu.setContentXmlData("<Content><DescriptionLevel>Item</DescriptionLevel><Title>Origine</Title>" +
+                "<OriginatingSystemId>OriginId</OriginatingSystemId></Content>");
+        dataObjectPackage.addRootAu(originAu);
+        ArchiveUnit describedAu = new ArchiveUnit(dataObjectPackage);
+        describedAu.setContentXmlData("<Content><DescriptionLevel>Item</DescriptionLevel><Title>Décrit</Title>" +
+                "<Description>Une \"description\"</Description></Content>");
+        dataObjectPackage.addRootAu(describedAu);
+
+        // When exported in csv
+        eraseAll("target/tmpJunit/CSVMetadataExporterCSV");
+        DataObjectPackageToCSVMetadataExporter csvMetadataExporter = new DataObjectPackageToCSVMetadataExporter(
+                dataObjectPackage, "UTF8", ';', ALL_DATAOBJECTS, false, 0, null);
+        csvMetadataExporter.doExportToCSVMetadataFile(TEMPORARY_FILE);
+
+        // Then each value spilled during the export is printed in its header column
+        List<String> lines = Files.readAllLines(Paths.get(TEMPORARY_FILE), StandardCharsets.UTF_8);
+        assertThat(lines.toArray(new String[0])).containsExactly(
+                "File;Content.DescriptionLevel;Content.Title;Content.OriginatingSystemId;Content.Description;" +
+                        "Content.OriginatingSystemIdReplyTo",
+                "\"\";\"Item\";\"Réponse\";;;\"ReplyId\"",
+                "\"\";\"Item\";\"Origine\";\"OriginId\";;",
+                "\"\";\"Item\";\"Décrit\";;\"Une \"\"description\"\"\";");
+    }
 }
@@ -121,6 +121,36 @@ class CSVMetadataToDataObjectPackageImporterTest {
 		assertThat(sau).isEqualToNormalizingNewlines(ResourceUtils.getResourceAsString("import/AU_Import_01.json"));
 	}
 
+	@Test
+	void importOKCSV3columnWithManagementSerialAndParallel() throws SEDALibException, InterruptedException, JsonProcessingException {
+		// Given
+		ObjectMapper mapper = new ObjectMapper();
+		SimpleModule module = new SimpleModule();
+		module.addSerializer(DataObjectPackage.class, new DataObjectPackageSerializer());
+		module.addDeserializer(DataObjectPackage.class, new DataObjectPackageDeserializer());
+		mapper.registerModule(module);
+		mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+		CSVMetadataToDataObjectPackageImporter serialCmi, parallelCmi;
+
+		// When loaded with the csv OK test file on the calling thread and with worker threads
+		serialCmi = new CSVMetadataToDataObjectPackageImporter(
+				"src/test/resources/PacketSamples/MetadataTestManagementOK3col.csv", "windows-1252", ';', null);
+		serialCmi.setThreadCount(1);
+		serialCmi.doImport();
+		parallelCmi = new CSVMetadataToDataObjectPackageImporter(
+				"src/test/resources/PacketSamples/MetadataTestManagementOK3col.csv", "windows-1252", ';', null);
+		parallelCmi.setThreadCount(4);
+		parallelCmi.doImport();
+
+		// Then
+		assertThat(parallelCmi.getDataObjectPackage().getAuInDataObjectPackageIdMap().keySet())
+				.isEqualTo(serialCmi.getDataObjectPackage().getAuInDataObjectPackageIdMap().keySet());
+		for (String id : serialCmi.getDataObjectPackage().getAuInDataObjectPackageIdMap().keySet())
+			assertThat(mapper.writeValueAsString(parallelCmi.getDataObjectPackage().getArchiveUnitById(id)))
+					.isEqualTo(mapper.writeValueAsString(serialCmi.getDataObjectPackage().getArchiveUnitById(id)));
+	}
+
 	@Test
 	void importTagKOCSV() throws SEDALibException {
 		// Given
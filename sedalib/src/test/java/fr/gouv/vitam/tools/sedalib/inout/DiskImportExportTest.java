@@ -397,4 +397,36 @@ class DiskImportExportTest implements UseTestFiles {
 
         assertThat(sau).isEqualToNormalizingNewlines(testau);
     }
+
+    @Test
+    void TestDiskImportWithParallelExtraction() throws Exception {
+
+        // do import of test directory, with serial and parallel technical elements extraction
+        DiskToArchiveTransferImporter serialDi = new DiskToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SampleWithLinksModelV2", null);
+        serialDi.addIgnorePattern("Thumbs.db");
+        serialDi.addIgnorePattern("pagefile.sys");
+        serialDi.setExtractionThreadCount(1);
+        serialDi.doImport();
+
+        DiskToArchiveTransferImporter parallelDi = new DiskToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SampleWithLinksModelV2", null);
+        parallelDi.addIgnorePattern("Thumbs.db");
+        parallelDi.addIgnorePattern("pagefile.sys");
+        parallelDi.setExtractionThreadCount(4);
+        parallelDi.doImport();
+
+        // create jackson object mapper
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(DataObjectPackage.class, new DataObjectPackageSerializer());
+        module.addDeserializer(DataObjectPackage.class, new DataObjectPackageDeserializer());
+        mapper.registerModule(module);
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        // assert same result
+        String serialDop = mapper.writeValueAsString(serialDi.getArchiveTransfer().getDataObjectPackage());
+        String parallelDop = mapper.writeValueAsString(parallelDi.getArchiveTransfer().getDataObjectPackage());
+        assertThat(parallelDop).isEqualTo(serialDop);
+    }
 }
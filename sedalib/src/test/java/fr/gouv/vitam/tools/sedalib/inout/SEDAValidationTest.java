@@ -4,6 +4,7 @@ import fr.gouv.vitam.tools.sedalib.TestUtilities;
 import fr.gouv.vitam.tools.sedalib.UseTestFiles;
 import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
 import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
+import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
 import fr.gouv.vitam.tools.sedalib.core.GlobalMetadata;
 import fr.gouv.vitam.tools.sedalib.core.SEDA2Version;
 import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
@@ -11,12 +12,18 @@ import fr.gouv.vitam.tools.sedalib.inout.importer.SIPToArchiveTransferImporter;
 import fr.gouv.vitam.tools.sedalib.metadata.namedtype.StringType;
 import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLValidator;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.junit.jupiter.api.Test;
 
 import javax.xml.stream.XMLStreamException;
+import javax.xml.validation.Schema;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -215,4 +222,113 @@ class SEDAValidationTest implements UseTestFiles {
 	}
 
     // TODO testWithXSD
-}
\ No newline at end of file
+
+	@Test
+	void testSedaXmlStreamingValidation() throws Exception {
+		// given a valid manifest file and an invalid copy
+		Path manifestPath = Paths.get("src/test/resources/PacketSamples/SampleWithLinkHierarchicalManifest.xml");
+		Path koManifestPath = Paths.get("target/tmpJunit/SampleWithLinkHierarchicalManifestKO.xml");
+		Files.createDirectories(koManifestPath.getParent());
+		Files.write(koManifestPath, new String(Files.readAllBytes(manifestPath), StandardCharsets.UTF_8)
+				.replaceFirst("<DescriptionLevel>", "<DescriptionLevelKO>")
+				.replaceFirst("</DescriptionLevel>", "</DescriptionLevelKO>").getBytes(StandardCharsets.UTF_8));
+		SEDAXMLValidator sedaXMLValidator = new SEDAXMLValidator();
+		Schema sedaSchema = SEDAXMLValidator.getSEDASchema();
+
+		// when validate from file then no exception
+		assertThat(sedaXMLValidator.checkWithXSDSchema(manifestPath, sedaSchema)).isTrue();
+
+		// when validate invalid file or stream then contextual error
+		assertThatThrownBy(() -> sedaXMLValidator.checkWithXSDSchema(koManifestPath, sedaSchema))
+				.hasMessageContaining("Contexte de l'erreur: <ArchiveUnit id=")
+				.hasMessageContaining("ligne: ");
+		try (InputStream is = Files.newInputStream(koManifestPath)) {
+			assertThatThrownBy(() -> sedaXMLValidator.checkWithXSDSchema(is, sedaSchema))
+					.hasMessageContaining("Contexte de l'erreur: inconnu")
+					.hasMessageContaining("position de l'erreur identifiée: ligne ");
+		}
+	}
+
+	@Test
+	void testSedaXmlParallelArchiveUnitsValidation()
+			throws IllegalArgumentException, SEDALibException, InterruptedException {
+		// given imported test directory
+		DiskToArchiveTransferImporter di = new DiskToArchiveTransferImporter(
+				"src/test/resources/PacketSamples/SampleWithLinksModelV2", null);
+		di.addIgnorePattern("Thumbs.db");
+		di.addIgnorePattern("pagefile.sys");
+		di.doImport();
+		SEDAXMLValidator sedaXMLValidator = new SEDAXMLValidator();
+		Schema sedaSchema = SEDAXMLValidator.getSEDASchema();
+
+		// when validate all ArchiveUnits then no exception
+		assertThat(sedaXMLValidator.checkArchiveUnitsWithXSDSchema(di.getArchiveTransfer().getDataObjectPackage(),
+				sedaSchema, 4, null)).isTrue();
+
+		// when two ArchiveUnits are invalid then errors are aggregated with their ids
+		di.getArchiveTransfer().getDataObjectPackage().getArchiveUnitById("ID38").setContentXmlData("");
+		di.getArchiveTransfer().getDataObjectPackage().getArchiveUnitById("ID11")
+				.setContentXmlData("<Content><DescriptionLevel>KO</DescriptionLevel><Title>Test</Title></Content>");
+		assertThatThrownBy(() -> sedaXMLValidator.checkArchiveUnitsWithXSDSchema(
+				di.getArchiveTransfer().getDataObjectPackage(), sedaSchema, 4, null))
+				.hasMessageContaining("pour 2 ArchiveUnit")
+				.hasMessageContaining("ArchiveUnit [ID38]")
+				.hasMessageContaining("ArchiveUnit [ID11]")
+				.hasMessageContaining("DescriptionLevel");
+	}
+
+	private static DataObjectPackage createArchiveUnitsPackage(String... contentXmlDataArray) throws SEDALibException {
+		DataObjectPackage dataObjectPackage = new DataObjectPackage();
+		for (String contentXmlData : contentXmlDataArray) {
+			ArchiveUnit au = new ArchiveUnit(dataObjectPackage);
+			au.setContentXmlData(contentXmlData);
+			dataObjectPackage.addRootAu(au);
+		}
+		return dataObjectPackage;
+	}
+
+	@Test
+	void testSedaXmlParallelArchiveUnitsValidationBySedaVersion()
+			throws IllegalArgumentException, SEDALibException, InterruptedException {
+		try {
+			// given the schema of each version
+			Schema[] sedaSchemas = new Schema[SEDA2Version.MAX_SUPPORTED_VERSION + 1];
+			for (int version = SEDA2Version.SEDA2_1; version <= SEDA2Version.MAX_SUPPORTED_VERSION; version++) {
+				SEDA2Version.setSeda2Version(version);
+				sedaSchemas[version] = SEDAXMLValidator.getSEDASchema();
+			}
+
+			for (int version = SEDA2Version.SEDA2_1; version <= SEDA2Version.MAX_SUPPORTED_VERSION; version++) {
+				// given ArchiveUnits valid in all versions
+				SEDA2Version.setSeda2Version(version);
+				DataObjectPackage dataObjectPackage = createArchiveUnitsPackage(
+						"<Content><DescriptionLevel>RecordGrp</DescriptionLevel><Title>Dossier</Title></Content>",
+						"<Content><DescriptionLevel>Item</DescriptionLevel><Title>Document</Title>"
+								+ "<StartDate>2020-01-01T00:00:00</StartDate><EndDate>2020-12-31T00:00:00</EndDate></Content>");
+				dataObjectPackage.getArchiveUnitById("ID11").setManagementXmlData("<Management><AccessRule>"
+						+ "<Rule>ACC-00001</Rule><StartDate>2020-01-01</StartDate></AccessRule></Management>");
+				SEDAXMLValidator sedaXMLValidator = new SEDAXMLValidator();
+
+				// when validate all ArchiveUnits with the version schema then no exception
+				assertThat(sedaXMLValidator.checkArchiveUnitsWithXSDSchema(dataObjectPackage, sedaSchemas[version],
+						2, null)).as(SEDA2Version.getSeda2VersionString()).isTrue();
+
+				// when validate with the schema of another version then the envelopes, in the current version
+				// namespace, are rejected
+				for (int otherVersion = SEDA2Version.SEDA2_1; otherVersion <= SEDA2Version.MAX_SUPPORTED_VERSION;
+				     otherVersion++) {
+					if (otherVersion == version)
+						continue;
+					Schema otherSedaSchema = sedaSchemas[otherVersion];
+					assertThatThrownBy(() -> sedaXMLValidator.checkArchiveUnitsWithXSDSchema(dataObjectPackage,
+							otherSedaSchema, 2, null))
+							.hasMessageContaining("pour 2 ArchiveUnit")
+							.hasMessageContaining("ArchiveUnit [ID10]")
+							.hasMessageContaining("ArchiveTransfer");
+				}
+			}
+		} finally {
+			SEDA2Version.setSeda2Version(SEDA2Version.SEDA2_1);
+		}
+	}
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import fr.gouv.vitam.tools.sedalib.TestUtilities;
 import fr.gouv.vitam.tools.sedalib.UseTestFiles;
 import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.core.BinaryDataObject;
 import fr.gouv.vitam.tools.sedalib.core.DataObjectGroup;
 import fr.gouv.vitam.tools.sedalib.core.DataObjectPackage;
 import fr.gouv.vitam.tools.sedalib.core.json.DataObjectPackageDeserializer;
@@ -16,14 +17,20 @@ import fr.gouv.vitam.tools.sedalib.inout.exporter.ArchiveTransferToSIPExporter;
 import fr.gouv.vitam.tools.sedalib.inout.importer.DiskToArchiveTransferImporter;
 import fr.gouv.vitam.tools.sedalib.inout.importer.SIPToArchiveTransferImporter;
 import fr.gouv.vitam.tools.sedalib.utils.ResourceUtils;
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.ZipFile;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -324,4 +331,53 @@ class SIPImportTest implements UseTestFiles {
 
         assertTrue(FileUtils.contentEquals(new File("target/tmpJunit/SWLMV2.1.xml"), new File("target/tmpJunit/SWLMV2.xml")));
     }
+
+    @Test
+    void TestSIPImportWithLazyExtraction() throws Exception {
+
+        // do import of test SIP, fully uncompressed and with lazy extraction
+        TestUtilities.eraseAll("target/tmpJunit/SipOK.zip-fulltmpdir");
+        SIPToArchiveTransferImporter si = new SIPToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SIP_OK.zip", "target/tmpJunit/SipOK.zip-fulltmpdir", null);
+        si.doImport();
+        TestUtilities.eraseAll("target/tmpJunit/SipOK.zip-lazytmpdir");
+        BinaryDataObject notExtractedBdo;
+        try (SIPToArchiveTransferImporter lsi = new SIPToArchiveTransferImporter(
+                "src/test/resources/PacketSamples/SIP_OK.zip", "target/tmpJunit/SipOK.zip-lazytmpdir", null)) {
+            lsi.setLazyExtractionFlag(true);
+            lsi.doImport();
+
+            // assert same manifest
+            si.getArchiveTransfer().getGlobalMetadata().date = "2018-09-30T14:33:24";
+            si.getArchiveTransfer().getGlobalMetadata().setNowFlag(false);
+            lsi.getArchiveTransfer().getGlobalMetadata().date = "2018-09-30T14:33:24";
+            lsi.getArchiveTransfer().getGlobalMetadata().setNowFlag(false);
+            String manifest = new ArchiveTransferToSIPExporter(si.getArchiveTransfer(), null)
+                    .getSEDAXMLManifest(true, true);
+            String lazyManifest = new ArchiveTransferToSIPExporter(lsi.getArchiveTransfer(), null)
+                    .getSEDAXMLManifest(true, true);
+            assertEquals(manifest, lazyManifest);
+
+            // assert files are only extracted when needed, with the same content
+            BinaryDataObject bdo = (BinaryDataObject) lsi.getArchiveTransfer().getDataObjectPackage()
+                    .getDataObjectById("ID13");
+            assertThat(bdo.isExtractedOnDisk()).isFalse();
+            assertThat(bdo.getOnDiskPath().toFile()).doesNotExist();
+            bdo.extractOnDisk();
+            assertThat(bdo.getOnDiskPath().toFile()).exists();
+            assertThat(bdo.isExtractedOnDisk()).isTrue();
+            try (ZipFile zf = new ZipFile("src/test/resources/PacketSamples/SIP_OK.zip");
+                 InputStream is = Files.newInputStream(bdo.getOnDiskPath())) {
+                assertTrue(IOUtils.contentEquals(zf.getInputStream(zf.getEntry("Content/ID13.txt")), is));
+            }
+            notExtractedBdo = (BinaryDataObject) lsi.getArchiveTransfer().getDataObjectPackage()
+                    .getDataObjectById("ID35");
+        }
+
+        // assert files not extracted before the importer closing can't be extracted afterwards
+        assertThat(notExtractedBdo.isExtractedOnDisk()).isFalse();
+        assertThatThrownBy(notExtractedBdo::extractOnDisk).isInstanceOf(SEDALibException.class)
+                .hasMessageContaining("avant sa fermeture");
+        assertThat(notExtractedBdo.getOnDiskPath().toFile()).doesNotExist();
+    }
 }
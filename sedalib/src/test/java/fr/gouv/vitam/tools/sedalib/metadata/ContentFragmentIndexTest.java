@@ -0,0 +1,68 @@
+package fr.gouv.vitam.tools.sedalib.metadata;
+
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
+import fr.gouv.vitam.tools.sedalib.metadata.content.ContentFragmentIndex;
+import fr.gouv.vitam.tools.sedalib.utils.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentFragmentIndexTest {
+
+    private static final List<String> CHECKED_METADATA = Arrays.asList("DescriptionLevel", "Title", "Description",
+            "OriginatingSystemId", "StartDate", "EndDate", "CreatedDate", "RegisteredDate", "CustodialHistory", "Keyword", "Unknown");
+
+    @Test
+    void testSameSimpleMetadataAsDecodedContent() throws Exception {
+        for (String resource : Arrays.asList("metadata/content_01.xml", "metadata/content_02.xml",
+                "metadata/content_03.xml")) {
+            // Given a Content fragment, with Windows end of lines
+            String contentXmlData = ResourceUtils.getResourceAsString(resource).replace("\n", "\r\n");
+            Content content = (Content) SEDAMetadata.fromString(contentXmlData, Content.class);
+
+            // When indexed
+            ContentFragmentIndex index = new ContentFragmentIndex(contentXmlData);
+
+            // Then simple metadata are the same as in the decoded Content
+            assertThat(index.getCount()).isPositive();
+            for (String metadataName : CHECKED_METADATA) {
+                assertThat(index.getSimpleMetadata(contentXmlData, metadataName))
+                        .as(resource + " " + metadataName).isEqualTo(content.getSimpleMetadata(metadataName));
+                assertThat(index.containsMetadata(metadataName))
+                        .isEqualTo(content.getFirstNamedMetadata(metadataName) != null);
+            }
+        }
+    }
+
+    @Test
+    void testArchiveUnitContentKeptInStringForm() throws Exception {
+        // Given an ArchiveUnit with a Content in String form, with many titles
+        ArchiveUnit au = new ArchiveUnit();
+        au.setContentXmlData("<Content><DescriptionLevel>Item</DescriptionLevel>" +
+                "<Title xml:lang=\"en\">Title</Title><Title xml:lang=\"fr\">Titre</Title>" +
+                "<Keyword><KeywordContent>Mot</KeywordContent></Keyword><StartDate>2020-01-01T10:00:00</StartDate>" +
+                "</Content>");
+
+        // When simple metadata are read
+        String title = au.getContentSimpleMetadata("Title");
+        String startDate = au.getContentSimpleMetadata("StartDate");
+        boolean hasKeyword = au.containsContentMetadata("Keyword");
+
+        // Then values are the decoded ones and the Content is not decoded
+        assertThat(title).isEqualTo("Titre");
+        assertThat(startDate).isEqualTo(au.getContent().getSimpleMetadata("StartDate"));
+        assertThat(hasKeyword).isTrue();
+        assertThat(au.containsContentMetadata("Description")).isFalse();
+
+        // When the Content is changed
+        au.setContentXmlData("<Content><DescriptionLevel>File</DescriptionLevel><Title>Nouveau</Title></Content>");
+
+        // Then the index is rebuilt
+        assertThat(au.getContentSimpleMetadata("Title")).isEqualTo("Nouveau");
+        assertThat(au.getContentSimpleMetadata("DescriptionLevel")).isEqualTo("File");
+    }
+}
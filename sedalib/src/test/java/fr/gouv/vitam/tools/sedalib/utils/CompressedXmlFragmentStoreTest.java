@@ -0,0 +1,147 @@
+package fr.gouv.vitam.tools.sedalib.utils;
+
+import fr.gouv.vitam.tools.sedalib.core.ArchiveTransfer;
+import fr.gouv.vitam.tools.sedalib.core.ArchiveUnit;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLEventReader;
+import fr.gouv.vitam.tools.sedalib.xml.SEDAXMLStreamWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedXmlFragmentStoreTest {
+
+    private static List<String> buildFragments() {
+        List<String> fragments = new ArrayList<>();
+        fragments.add("<Short/>");
+        fragments.add("");
+        StringBuilder sb = new StringBuilder("<Content>");
+        for (int i = 0; i < 2000; i++)
+            sb.append("<Title>Titre répété n°").append(i).append("</Title>");
+        sb.append("</Content>");
+        fragments.add(sb.toString());
+        for (int i = 0; i < 500; i++)
+            fragments.add("<Content><Title>Unité " + i + "</Title><DescriptionLevel>Item</DescriptionLevel></Content>");
+        return fragments;
+    }
+
+    private static void checkStoreAndLoad(CompressedXmlFragmentStore store) {
+        List<String> fragments = buildFragments();
+        List<Long> handles = new ArrayList<>();
+        for (String fragment : fragments)
+            handles.add(store.store(fragment));
+        for (int i = fragments.size() - 1; i >= 0; i--)
+            assertThat(store.load(handles.get(i))).isEqualTo(fragments.get(i));
+        // the big repetitive fragment is stored deflated
+        assertThat(store.getStoredBytes()).isLessThan(fragments.get(2).length());
+        store.release(handles.get(2));
+        assertThat(store.getReleasedBytes()).isPositive();
+    }
+
+    @Test
+    void testOffHeapStoreAndLoad() throws Exception {
+        // small chunks to force chunk allocation and an oversized entry, small cache to force eviction
+        try (CompressedXmlFragmentStore store = new CompressedXmlFragmentStore(1024, 4)) {
+            checkStoreAndLoad(store);
+        }
+    }
+
+    @Test
+    void testSpillFileStoreAndLoad() throws Exception {
+        Path dir = Paths.get("target/tmpJunit/CompressedXmlFragmentStore");
+        Files.createDirectories(dir);
+        Path spillFile = dir.resolve("fragments.bin");
+        try (CompressedXmlFragmentStore store = new CompressedXmlFragmentStore(spillFile, 4096, 4)) {
+            checkStoreAndLoad(store);
+            assertThat(Files.size(spillFile)).isPositive();
+        }
+    }
+
+    @Test
+    void testConcurrentStoreAndLoad() throws Exception {
+        // Given a store shared by threads, with small chunks and cache
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (CompressedXmlFragmentStore store = new CompressedXmlFragmentStore(4096, 4)) {
+            // When each thread stores, loads and releases its own fragments
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    List<String> fragments = buildFragments();
+                    fragments.replaceAll(f -> f.replace("Titre", "Titre " + thread));
+                    List<Long> handles = new ArrayList<>();
+                    for (String fragment : fragments)
+                        handles.add(store.store(fragment));
+                    boolean same = true;
+                    for (int i = 0; i < fragments.size(); i++) {
+                        same &= store.load(handles.get(i)).equals(fragments.get(i));
+                        store.release(handles.get(i));
+                    }
+                    return same;
+                }));
+            }
+
+            // Then all fragments are read back as stored
+            for (Future<Boolean> result : results)
+                assertThat(result.get()).isTrue();
+            assertThat(store.getReleasedBytes()).isEqualTo(store.getStoredBytes());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String exportManifest(ArchiveTransfer archiveTransfer) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (SEDAXMLStreamWriter xmlWriter = new SEDAXMLStreamWriter(baos, 2)) {
+            archiveTransfer.toSedaXml(xmlWriter, false, null);
+        }
+        return baos.toString(StandardCharsets.UTF_8).replaceAll("<Date>.*</Date>", "");
+    }
+
+    @Test
+    void testArchiveUnitFragmentsInStore() throws Exception {
+        // Given a manifest imported in memory
+        ArchiveTransfer archiveTransfer;
+        try (FileInputStream fis = new FileInputStream("src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml");
+             SEDAXMLEventReader xmlReader = new SEDAXMLEventReader(fis)) {
+            archiveTransfer = ArchiveTransfer.fromSedaXml(xmlReader, "target/tmpJunit", null);
+        }
+        String inHeapManifest = exportManifest(archiveTransfer);
+
+        try (CompressedXmlFragmentStore store = new CompressedXmlFragmentStore()) {
+            // When fragments are moved to the store
+            archiveTransfer.getDataObjectPackage().setXmlFragmentStore(store);
+
+            // Then the export is the same and fragments are materialised on demand
+            assertThat(store.getStoredBytes()).isPositive();
+            assertThat(exportManifest(archiveTransfer)).isEqualTo(inHeapManifest);
+            ArchiveUnit au = archiveTransfer.getDataObjectPackage().getArchiveUnitById("ID11");
+            String contentXmlData = au.getContentXmlData();
+            assertThat(au.getContent().getSimpleMetadata("Title")).isNotNull();
+            assertThat(store.getReleasedBytes()).isPositive();
+
+            // When a new ArchiveUnit is added, Then its fragments go to the store
+            long storedBytes = store.getStoredBytes();
+            ArchiveUnit newAu = new ArchiveUnit(archiveTransfer.getDataObjectPackage());
+            newAu.setContentXmlData(contentXmlData);
+            assertThat(store.getStoredBytes()).isGreaterThan(storedBytes);
+            assertThat(newAu.getContentXmlData()).isEqualTo(contentXmlData);
+
+            // When the store is removed, Then fragments are back in ArchiveUnits
+            archiveTransfer.getDataObjectPackage().setXmlFragmentStore(null);
+        }
+        assertThat(archiveTransfer.getDataObjectPackage().getArchiveUnitById("ID10").getContentXmlData())
+                .contains("<Content>");
+    }
+}
@@ -0,0 +1,50 @@
+package fr.gouv.vitam.tools.sedalib.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TechnicalMetadataCacheTest {
+
+    @Test
+    void testCacheValidationPersistenceAndEviction() throws Exception {
+        // Given
+        Path dir = Paths.get("target/tmpJunit/TechnicalMetadataCache");
+        Files.createDirectories(dir);
+        Path cacheFile = dir.resolve("cache.bin");
+        Files.deleteIfExists(cacheFile);
+        Path file1 = Files.write(dir.resolve("file1.txt"), "one".getBytes(StandardCharsets.UTF_8));
+        Path file2 = Files.write(dir.resolve("file2.txt"), "two".getBytes(StandardCharsets.UTF_8));
+        Path file3 = Files.write(dir.resolve("file3.txt"), "three".getBytes(StandardCharsets.UTF_8));
+
+        // When cached, saved and reloaded
+        try (TechnicalMetadataCache cache = new TechnicalMetadataCache(cacheFile, 2)) {
+            cache.put(file1, Files.size(file1), Files.getLastModifiedTime(file1).toMillis(), "d1", "x-fmt/111", "text/plain", "Plain Text File");
+            cache.put(file2, Files.size(file2), Files.getLastModifiedTime(file2).toMillis(), "d2", "x-fmt/111", null, "Plain Text File");
+        }
+        TechnicalMetadataCache cache = new TechnicalMetadataCache(cacheFile, 2);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(file1).getDigest()).isEqualTo("d1");
+        assertThat(cache.get(file1).getMimeType()).isEqualTo("text/plain");
+        assertThat(cache.get(file2).getMimeType()).isNull();
+
+        // When a file is modified, Then its entry is no more valid
+        Files.setLastModifiedTime(file2, FileTime.fromMillis(Files.getLastModifiedTime(file2).toMillis() - 10000));
+        assertThat(cache.get(file2)).isNull();
+
+        // When more entries than the maximum, Then the least recently used is evicted
+        cache.get(file1);
+        cache.put(file3, Files.size(file3), Files.getLastModifiedTime(file3).toMillis(), "d3", "x-fmt/111", "text/plain", "Plain Text File");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(file1)).isNotNull();
+        assertThat(cache.get(file3)).isNotNull();
+    }
+}
@@ -0,0 +1,69 @@
+package fr.gouv.vitam.tools.sedalib.xml;
+
+import fr.gouv.vitam.tools.sedalib.utils.SEDALibException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndentXMLToolTest {
+
+    private static final String[] FRAGMENTS = {
+            "<Title>Titre é</Title><Description>Texte</Description>",
+            "<Content><DescriptionLevel>Item</DescriptionLevel>   <Title xml:lang=\"fr\">Titre</Title>\n" +
+                    "<Empty/><Blank>  </Blank><Tree><Leaf>a &amp; b &lt; c &gt; d \"e\" 'f'</Leaf></Tree></Content>",
+            "<a z=\"1\" b=\"x &amp; &lt; &quot;y&quot; '\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+                    "xsi:type=\"t\" xmlns=\"fr:gouv:culture:archivesdefrance:seda:v2.1\"><b>1</b></a>",
+            "<Description>Ligne 1\nLigne 2\n    </Description><Text>  avant\taprès  </Text>",
+            "<Root><Child><Grand>deep</Grand><Grand/></Child>\n\n<Child>  x  </Child></Root>",
+            "<Mixed>texte <b>gras</b> fin</Mixed>",
+            "<Comment><!-- commentaire --><a>1</a></Comment>",
+            "<CData><![CDATA[<a>]]></CData>",
+            "<Cr>a&#13;b</Cr>",
+            "<Attr v=\"a&#10;b\"/>",
+            "<Undeclared:a>1</Undeclared:a>"
+    };
+
+    @Test
+    void testStreamIndentAsDomIndent() throws SEDALibException {
+        // Given an indent tool
+        IndentXMLTool indentXMLTool = IndentXMLTool.getInstance(IndentXMLTool.STANDARD_INDENT);
+
+        // When indenting various fragments
+        for (String fragment : FRAGMENTS) {
+            // Then the result is the same as the DOM transformation one
+            assertThat(indentXMLTool.indentString(fragment)).as(fragment)
+                    .isEqualTo(indentXMLTool.domIndentString(fragment.trim()));
+        }
+    }
+
+    @Test
+    void testStreamIndentManifestAsDomIndent() throws Exception {
+        // Given a SEDA manifest without the XML declaration
+        String manifest = new String(Files.readAllBytes(
+                Paths.get("src/test/resources/PacketSamples/SampleWithLinkFlatManifest.xml")), StandardCharsets.UTF_8);
+        manifest = manifest.substring(manifest.indexOf("?>") + 2);
+        IndentXMLTool indentXMLTool = IndentXMLTool.getInstance(IndentXMLTool.STANDARD_INDENT);
+
+        // When indented
+        String result = indentXMLTool.indentString(manifest);
+
+        // Then the result is the same as the DOM transformation one
+        assertThat(result).isEqualTo(indentXMLTool.domIndentString(manifest.trim()));
+    }
+
+    @Test
+    void testBadlyFormedXml() {
+        // Given an indent tool
+        IndentXMLTool indentXMLTool = IndentXMLTool.getInstance(IndentXMLTool.STANDARD_INDENT);
+
+        // When indenting badly formed XML, then it fails
+        assertThatThrownBy(() -> indentXMLTool.indentString("<a><b></a>"))
+                .isInstanceOf(SEDALibException.class)
+                .hasMessageContaining("XML mal formé");
+    }
+}
@@ -0,0 +1,78 @@
+package fr.gouv.vitam.tools.sedalib.xml;
+
+import fr.gouv.vitam.tools.sedalib.metadata.SEDAMetadata;
+import fr.gouv.vitam.tools.sedalib.metadata.content.Content;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.events.XMLEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SEDAXMLFragmentPoolTest {
+
+    @Test
+    void testReadFragmentsFromCharSequence() throws Exception {
+        // Given a multi root fragment in a StringBuilder
+        StringBuilder sb = new StringBuilder("<Title>Titre é</Title><Description>Texte</Description>");
+
+        // When read as fragments
+        List<String> names = new ArrayList<>();
+        try (SEDAXMLEventReader xmlReader = SEDAXMLFragmentPool.newFragmentsReader(sb)) {
+            XMLEvent event = xmlReader.nextUsefullEvent();
+            while (!event.isEndDocument()) {
+                if (event.isStartElement())
+                    names.add(event.asStartElement().getName().getLocalPart());
+                event = xmlReader.nextUsefullEvent();
+            }
+        }
+
+        // Then all roots are read
+        assertThat(names).containsExactly("Title", "Description");
+        assertThat(SEDAXMLEventReader.extractNamedElement("Title", sb.toString())).isEqualTo("Titre é");
+    }
+
+    @Test
+    void testBufferReuseAndNesting() throws Exception {
+        // Given a buffer used and given back
+        SEDAXMLFragmentPool.FragmentBuffer first = SEDAXMLFragmentPool.acquireBuffer();
+        first.write("<Title>A</Title>");
+        assertThat(first.toString()).isEqualTo("<Title>A</Title>");
+        first.close();
+
+        // When acquired again, while another one is in use
+        SEDAXMLFragmentPool.FragmentBuffer second = SEDAXMLFragmentPool.acquireBuffer();
+        SEDAXMLFragmentPool.FragmentBuffer nested = SEDAXMLFragmentPool.acquireBuffer();
+
+        // Then the free one is reused empty and the nested one is distinct
+        assertThat(second).isSameAs(first);
+        assertThat(second.length()).isZero();
+        assertThat(nested).isNotSameAs(second);
+        nested.close();
+        second.close();
+    }
+
+    @Test
+    void testConcurrentMetadataRoundTrip() throws Exception {
+        // Given a Content fragment
+        String contentXmlData = "<Content>\n  <DescriptionLevel>Item</DescriptionLevel>\n" +
+                "  <Title>Titre</Title>\n  <Description>Texte é</Description>\n</Content>";
+
+        // When parsed and serialized again in many threads
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++)
+                results.add(executor.submit(() -> SEDAMetadata.fromString(contentXmlData, Content.class).toString()));
+            // Then all round trips give the same XML
+            for (Future<String> result : results)
+                assertThat(result.get()).isEqualTo(contentXmlData);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -81,14 +81,14 @@ public class TestSipGeneratorApp {
 
     static int uniqNodeID = 0;
 
-    static int contentType = ZERO_CONTENT;
-    static int depth = 1;
-    static int number = 0;
-    static int size = 100;
-    static int bigNumber = 0;
-    static int bigSize = 1024;
-    static String out = "out.zip";
-    static String word = "Titre";
+    static int contentType;
+    static int depth;
+    static int number;
+    static int size;
+    static int bigNumber;
+    static int bigSize;
+    static String out;
+    static String word;
     static List<String> generatedMetadatas = new ArrayList<>();
 
     static Path onDiskStandardPath;
@@ -176,78 +176,77 @@ public class TestSipGeneratorApp {
     }
 
     /**
-     * Get the int value for option or exit with error status
+     * Get the int value for option
      *
      * @param option the option string
-     * @return int or exit
+     * @param min    the minimum value
+     * @param max    the maximum value
+     * @return int
+     * @throws IllegalArgumentException if the value is not an int or is out of bounds
      */
-    static int getIntOrExit(String option) {
-        int result = 0;
+    static int getInt(String option, long min, long max) {
+        int result;
         try {
             result = Integer.parseInt(cmd.getOptionValue(option));
         } catch (NumberFormatException e) {
-            System.out.println("Argument entier attendu pour l'option " + option);
-            exitHelp(1);
+            throw new IllegalArgumentException("Argument entier attendu pour l'option " + option);
         }
+        if ((result < min) || (result > max))
+            throw new IllegalArgumentException("Argument hors des limites pour l'option " + option);
+        return result;
+    }
+
+    /**
+     * Get the value for option
+     *
+     * @param option the option string
+     * @return the value
+     * @throws IllegalArgumentException if there is no value
+     */
+    static String getString(String option) {
+        String result = cmd.getOptionValue(option);
+        if (result == null)
+            throw new IllegalArgumentException("Argument attendu pour l'option " + option);
         return result;
     }
 
     /**
-     * Extract all options values from args
+     * Extract all options values from args, starting from default values
+     *
+     * @param args the arguments
+     * @throws IllegalArgumentException if the arguments are not valid
      */
-    private static void extractOptionsOrExit(String[] args) {
+    private static void extractOptions(String[] args) {
+        if (options == null)
+            options = createOptions();
         try {
             cmd = parser.parse(options, args);
         } catch (ParseException e) {
-            exitHelp(1);
-        }
-        if (cmd.hasOption("help"))
-            exitHelp(0);
-        if (cmd.hasOption("depth")) {
-            depth = getIntOrExit("depth");
-            if ((depth < 1) || (depth > 128)) {
-                System.out.println("Argument hors des limites pour l'option depth");
-                exitHelp(1);
-            }
-        }
-        if (cmd.hasOption("number")) {
-            number = getIntOrExit("number");
-            if ((number < 0) || (number > 1000000)) {
-                System.out.println("Argument hors des limites pour l'option number");
-                exitHelp(1);
-            }
-        }
-        if (cmd.hasOption("size")) {
-            size = getIntOrExit("size");
-            if ((size < 1) || (size > 1024 * 1024 * 1024)) {
-                System.out.println("Argument hors des limites pour l'option size");
-                exitHelp(1);
-            }
-        }
-        if (cmd.hasOption("Number")) {
-            bigNumber = getIntOrExit("Number");
-            if ((bigNumber < 0) || (bigNumber > 100)) {
-                System.out.println("Argument hors des limites pour l'option Number");
-                exitHelp(1);
-            }
-        }
-        if (cmd.hasOption("Size")) {
-            bigSize = getIntOrExit("Size");
-            if ((bigSize < 1) || (bigSize > (long) 1024 * 1024 * 1024)) {
-                System.out.println("Argument hors des limites pour l'option Size");
-                exitHelp(1);
-            }
-        }
-        if (cmd.hasOption("out")) {
-            out = cmd.getOptionValue("out");
-            if (out == null)
-                exitHelp(1);
-        }
-        if (cmd.hasOption("word")) {
-            word = cmd.getOptionValue("word");
-            if (word == null)
-                exitHelp(1);
+            throw new IllegalArgumentException("Arguments invalides\n->" + e.getMessage(), e);
         }
+        contentType = ZERO_CONTENT;
+        depth = 1;
+        number = 0;
+        size = 100;
+        bigNumber = 0;
+        bigSize = 1024;
+        out = "out.zip";
+        word = "Titre";
+        generatedMetadatas.clear();
+        if (cmd.hasOption("depth"))
+            depth = getInt("depth", 1, 128);
+        if (cmd.hasOption("number"))
+            number = getInt("number", 0, 1000000);
+        if (cmd.hasOption("size"))
+            size = getInt("size", 1, 1024 * 1024 * 1024);
+        if (cmd.hasOption("Number"))
+            bigNumber = getInt("Number", 0, 100);
+        if (cmd.hasOption("Size"))
+            bigSize = getInt("Size", 1, (long) 1024 * 1024 * 1024);
+        if (cmd.hasOption("out"))
+            out = getString("out");
+        if (cmd.hasOption("word"))
+            word = getString("word");
         if (cmd.hasOption("text"))
             contentType = TEXT_CONTENT;
         if (cmd.hasOption("random"))
@@ -276,14 +275,15 @@ public class TestSipGeneratorApp {
      * @param blockSize   the block size
      * @param contentType the content type (zero, text or random)
      * @return the file SHA-512 digest
+     * @throws SEDALibException if the file can't be generated
      */
-    static String generateFile(Path onDiskPath, int blockNumber, int blockSize, int contentType) {
-        MessageDigest messageDigest = null;
+    static String generateFile(Path onDiskPath, int blockNumber, int blockSize, int contentType)
+            throws SEDALibException {
+        MessageDigest messageDigest;
         try {
             messageDigest = MessageDigest.getInstance("SHA-512");
-        } catch (NoSuchAlgorithmException var33) {
-            System.out.println("Impossible de mobiliser l'algorithme de hashage SHA-512");
-            System.exit(1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SEDALibException("Impossible de mobiliser l'algorithme de hashage SHA-512", e);
         }
         try (FileOutputStream fos = new FileOutputStream(onDiskPath.toFile())) {
             byte[] content = new byte[blockSize];
@@ -308,7 +308,7 @@ public class TestSipGeneratorApp {
                 messageDigest.update(content, 0, blockSize);
             }
         } catch (IOException e) {
-            System.out.println("Impossible de créer le fichier temporaire " + onDiskPath.toString());
+            throw new SEDALibException("Impossible de créer le fichier temporaire " + onDiskPath.toString(), e);
         }
         // Convert the byte to hex format
         try (Formatter formatter = new Formatter()) {
@@ -316,11 +316,7 @@ public class TestSipGeneratorApp {
                 formatter.format("%02x", b);
             }
             return formatter.toString();
-        } catch (Exception e) {
-            System.out.println("Impossible d'encoder le hash du fichier [" + onDiskPath.toString() + "]->" + e.getMessage());
-            System.exit(1);
         }
-        return null;
     }
 
     /**
@@ -437,14 +433,28 @@ public class TestSipGeneratorApp {
     }
 
     /**
-     * The main method for command execution.
+     * Delete the intermediate files.
      *
-     * @param args the arguments
+     * @throws SEDALibException if a file can't be deleted
      */
-    public static void main(String[] args) {
-        options = createOptions();
+    static void deleteIntermediateFiles() throws SEDALibException {
+        try {
+            Files.deleteIfExists(onDiskStandardPath);
+            Files.deleteIfExists(onDiskBigPath);
+        } catch (IOException e) {
+            throw new SEDALibException("Impossible d'effacer les fichiers intermédiaires", e);
+        }
+    }
 
-        extractOptionsOrExit(args);
+    /**
+     * Generate a test SIP, with the same arguments as the command, without exiting the process on error.
+     *
+     * @param args the arguments
+     * @throws IllegalArgumentException if the arguments are not valid
+     * @throws SEDALibException         if the SIP can't be generated
+     */
+    public static void generateSIP(String[] args) throws SEDALibException {
+        extractOptions(args);
 
         Path outPath = Paths.get(out).toAbsolutePath().normalize();
         Path dirPath = outPath.getParent();
@@ -453,30 +463,52 @@ public class TestSipGeneratorApp {
         onDiskStandardPath = dirPath.resolve("standardfile.tmp");
         onDiskBigPath = dirPath.resolve("bigfile.tmp");
 
-        standardFileDigest = generateFile(onDiskStandardPath, size, 1024, contentType);
-        bigFileDigest = generateFile(onDiskBigPath, bigSize, 1024 * 1024, contentType);
-
-        SEDALibProgressLogger spl = new SEDALibProgressLogger(LoggerFactory.getLogger("fr/gouv/vitam/tools/testsipgenerator"), SEDALibProgressLogger.OBJECTS_GROUP, null, 100);
-        try (SIPBuilder sb = new SIPBuilder(outPath.toString(), spl)) {
-            sb.setAgencies("FRAN_NP_000001", "FRAN_NP_000010", "FRAN_NP_000015", "FRAN_NP_000019");
-            sb.setArchivalAgreement("Accepte_les_objets_non_identifies");
-            sb.createRootArchiveUnit("Root", "Subseries", "TestSIPRoot-" + word,
-                    "Racine du SIP de test généré avec les arguments [" + String.join(" ", args) + "]");
-            generateTree(sb, "Root", number, bigNumber, depth - 1);
-            sb.generateSIP();
+        try {
+            standardFileDigest = generateFile(onDiskStandardPath, size, 1024, contentType);
+            bigFileDigest = generateFile(onDiskBigPath, bigSize, 1024 * 1024, contentType);
+
+            SEDALibProgressLogger spl = new SEDALibProgressLogger(LoggerFactory.getLogger("fr/gouv/vitam/tools/testsipgenerator"), SEDALibProgressLogger.OBJECTS_GROUP, null, 100);
+            try (SIPBuilder sb = new SIPBuilder(outPath.toString(), spl)) {
+                sb.setAgencies("FRAN_NP_000001", "FRAN_NP_000010", "FRAN_NP_000015", "FRAN_NP_000019");
+                sb.setArchivalAgreement("Accepte_les_objets_non_identifies");
+                sb.createRootArchiveUnit("Root", "Subseries", "TestSIPRoot-" + word,
+                        "Racine du SIP de test généré avec les arguments [" + String.join(" ", args) + "]");
+                generateTree(sb, "Root", number, bigNumber, depth - 1);
+                sb.generateSIP();
+            }
+        } catch (SEDALibException | RuntimeException e) {
+            try {
+                deleteIntermediateFiles();
+            } catch (SEDALibException de) {
+                e.addSuppressed(de);
+            }
+            throw e;
+        }
+        deleteIntermediateFiles();
+    }
+
+    /**
+     * The main method for command execution.
+     *
+     * @param args the arguments
+     */
+    public static void main(String[] args) {
+        options = createOptions();
+        try {
+            extractOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            exitHelp(1);
+        }
+        if (cmd.hasOption("help"))
+            exitHelp(0);
+
+        try {
+            generateSIP(args);
         } catch (SEDALibException e) {
             System.out.println("Erreur de traitement du SIP");
             e.printStackTrace();
             System.exit(1);
-        } finally {
-            try {
-                Files.delete(onDiskStandardPath);
-                Files.delete(onDiskBigPath);
-            } catch (IOException e) {
-                System.out.println("Impossible d'effacer les fichiers intermédiaires");
-                e.printStackTrace();
-                System.exit(1);
-            }
         }
     }
 }